@@ -0,0 +1,357 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.dom;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
+import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
+import org.eclipse.e4.ui.css.core.impl.sac.AbstractAttributeCondition;
+import org.eclipse.e4.ui.css.core.impl.sac.AbstractDescendantSelector;
+import org.eclipse.e4.ui.css.core.impl.sac.AbstractSiblingSelector;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSAndConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSChildSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSClassConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSConditionalSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSDescendantSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSElementSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSIdConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
+import org.w3c.css.sac.Condition;
+import org.w3c.css.sac.Selector;
+import org.w3c.css.sac.SelectorList;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.css.CSSRule;
+import org.w3c.dom.css.CSSStyleDeclaration;
+import org.w3c.dom.css.CSSStyleRule;
+
+/**
+ * Buckets the selectors of a list of CSS rules by the id, class or element
+ * name their rightmost simple selector requires, so that only the selectors
+ * which can possibly match an element need to be tested against it.
+ * Selectors which require none of these go to the universal bucket, which is
+ * tested for every element.
+ * <p>
+ * The index also keeps the computed styles of elements whose candidate
+ * selectors only depend on element names, ids and classes, so that siblings
+ * which look the same to these selectors share one computed style.
+ * </p>
+ */
+final class RuleIndex {
+
+	/**
+	 * A selector of a style rule, together with its position among all the
+	 * selectors of the indexed rules.
+	 */
+	static final class Candidate {
+
+		final CSSStyleRule rule;
+
+		final ExtendedSelector selector;
+
+		final int order;
+
+		/**
+		 * Whether the selector only depends on the element names, ids and
+		 * classes of the element and its ancestors.
+		 */
+		final boolean shareable;
+
+		Candidate(CSSStyleRule rule, ExtendedSelector selector, int order) {
+			this.rule = rule;
+			this.selector = selector;
+			this.order = order;
+			this.shareable = isShareable(selector);
+		}
+	}
+
+	private static final Candidate[] NO_CANDIDATES = new Candidate[0];
+
+	private static final int MAX_SHARED_STYLES = 1024;
+
+	private static final char SEPARATOR = '\u0001';
+
+	private final Map<String, List<Candidate>> byId = new HashMap<>();
+
+	private final Map<String, List<Candidate>> byClass = new HashMap<>();
+
+	private final Map<String, List<Candidate>> byType = new HashMap<>();
+
+	private final List<Candidate> universal = new ArrayList<>();
+
+	/**
+	 * Computed styles by sharing key. Elements with the same key get the
+	 * same style, e.g. the items of a tool bar.
+	 */
+	private final Map<String, CSSStyleDeclaration> sharedStyles = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CSSStyleDeclaration> eldest) {
+			return size() > MAX_SHARED_STYLES;
+		}
+	};
+
+	RuleIndex(List<CSSRule> ruleList) {
+		int order = 0;
+		for (CSSRule rule : ruleList) {
+			if (rule.getType() != CSSRule.STYLE_RULE || (!(rule instanceof ExtendedCSSRule))) {
+				continue;
+			}
+			SelectorList selectorList = ((ExtendedCSSRule) rule).getSelectorList();
+			int l = selectorList.getLength();
+			for (int j = 0; j < l; j++) {
+				Selector selector = selectorList.item(j);
+				if (selector instanceof ExtendedSelector) {
+					add(new Candidate((CSSStyleRule) rule, (ExtendedSelector) selector, order++));
+				}
+			}
+		}
+	}
+
+	private void add(Candidate candidate) {
+		Selector subject = getSubject(candidate.selector);
+		String id = findCondition(subject, CSSIdConditionImpl.class);
+		if (id != null) {
+			byId.computeIfAbsent(id, k -> new ArrayList<>()).add(candidate);
+			return;
+		}
+		String cssClass = findCondition(subject, CSSClassConditionImpl.class);
+		if (cssClass != null && !cssClass.isEmpty() && !containsSpace(cssClass)) {
+			byClass.computeIfAbsent(cssClass, k -> new ArrayList<>()).add(candidate);
+			return;
+		}
+		String type = getElementName(subject);
+		if (type != null) {
+			byType.computeIfAbsent(type, k -> new ArrayList<>()).add(candidate);
+			return;
+		}
+		universal.add(candidate);
+	}
+
+	/**
+	 * Returns the selectors which may match the given element, ordered as
+	 * they appear in the indexed rules.
+	 */
+	Candidate[] getCandidates(Element elt) {
+		List<List<Candidate>> buckets = new ArrayList<>();
+		addBucket(buckets, universal);
+
+		String eName = elt.getPrefix() == null ? elt.getNodeName() : elt.getLocalName();
+		if (eName != null) {
+			addBucket(buckets, byType.get(eName));
+		}
+
+		String id = getId(elt);
+		if (id != null) {
+			addBucket(buckets, byId.get(id));
+		}
+
+		String cssClass = getCSSClass(elt);
+		if (cssClass != null && !byClass.isEmpty()) {
+			List<String> seen = new ArrayList<>();
+			int length = cssClass.length();
+			int start = 0;
+			for (int i = 0; i <= length; i++) {
+				if (i == length || Character.isSpaceChar(cssClass.charAt(i))) {
+					if (i > start) {
+						String token = cssClass.substring(start, i);
+						if (!seen.contains(token)) {
+							seen.add(token);
+							addBucket(buckets, byClass.get(token));
+						}
+					}
+					start = i + 1;
+				}
+			}
+		}
+		return merge(buckets);
+	}
+
+	/**
+	 * Returns the key under which the computed style of an element can be
+	 * shared with other elements, or <code>null</code> if one of the
+	 * candidates depends on more than the element names, ids and classes of
+	 * the element and its ancestors. The key is made of exactly these, so
+	 * changing the class or id of an element changes its key.
+	 */
+	String getSharingKey(Element elt, String pseudoElt, Candidate[] candidates) {
+		for (Candidate candidate : candidates) {
+			if (!candidate.shareable) {
+				return null;
+			}
+		}
+		StringBuilder key = new StringBuilder();
+		if (pseudoElt != null) {
+			key.append(pseudoElt);
+		}
+		for (Node n = elt; n != null; n = n.getParentNode()) {
+			key.append(SEPARATOR);
+			if (n.getNodeType() != Node.ELEMENT_NODE) {
+				key.append(n.getNodeType());
+				continue;
+			}
+			Element e = (Element) n;
+			key.append(e.getPrefix() == null ? e.getNodeName() : e.getLocalName());
+			key.append(SEPARATOR).append(e.getNamespaceURI());
+			key.append(SEPARATOR).append(getId(e));
+			key.append(SEPARATOR).append(getCSSClass(e));
+		}
+		return key.toString();
+	}
+
+	boolean isShared(String key) {
+		return sharedStyles.containsKey(key);
+	}
+
+	CSSStyleDeclaration getSharedStyle(String key) {
+		return sharedStyles.get(key);
+	}
+
+	void share(String key, CSSStyleDeclaration style) {
+		sharedStyles.put(key, style);
+	}
+
+	private static String getId(Element elt) {
+		return elt instanceof CSSStylableElement ? ((CSSStylableElement) elt).getCSSId()
+				: elt.getAttribute("id"); //$NON-NLS-1$
+	}
+
+	private static String getCSSClass(Element elt) {
+		return elt instanceof CSSStylableElement ? ((CSSStylableElement) elt).getCSSClass()
+				: elt.getAttribute("class"); //$NON-NLS-1$
+	}
+
+	private static void addBucket(List<List<Candidate>> buckets, List<Candidate> bucket) {
+		if (bucket != null && !bucket.isEmpty()) {
+			buckets.add(bucket);
+		}
+	}
+
+	/**
+	 * Merges the buckets, each of which is sorted by order and no two of
+	 * which share a candidate, into a single array sorted by order.
+	 */
+	private static Candidate[] merge(List<List<Candidate>> buckets) {
+		int size = 0;
+		for (List<Candidate> bucket : buckets) {
+			size += bucket.size();
+		}
+		if (size == 0) {
+			return NO_CANDIDATES;
+		}
+		Candidate[] result = new Candidate[size];
+		if (buckets.size() == 1) {
+			return buckets.get(0).toArray(result);
+		}
+		int[] next = new int[buckets.size()];
+		for (int i = 0; i < size; i++) {
+			int lowest = -1;
+			for (int b = 0; b < next.length; b++) {
+				List<Candidate> bucket = buckets.get(b);
+				if (next[b] < bucket.size() && (lowest == -1
+						|| bucket.get(next[b]).order < buckets.get(lowest).get(next[lowest]).order)) {
+					lowest = b;
+				}
+			}
+			result[i] = buckets.get(lowest).get(next[lowest]++);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the simple selector which has to match the element itself.
+	 */
+	private static Selector getSubject(Selector selector) {
+		if (selector instanceof AbstractDescendantSelector) {
+			return ((AbstractDescendantSelector) selector).getSimpleSelector();
+		}
+		if (selector instanceof AbstractSiblingSelector) {
+			return ((AbstractSiblingSelector) selector).getSiblingSelector();
+		}
+		return selector;
+	}
+
+	private static String findCondition(Selector selector, Class<?> type) {
+		if (selector instanceof CSSConditionalSelectorImpl) {
+			CSSConditionalSelectorImpl conditional = (CSSConditionalSelectorImpl) selector;
+			String value = findCondition(conditional.getCondition(), type);
+			return value != null ? value : findCondition(conditional.getSimpleSelector(), type);
+		}
+		return null;
+	}
+
+	private static String findCondition(Condition condition, Class<?> type) {
+		if (condition != null && condition.getClass() == type) {
+			return ((AbstractAttributeCondition) condition).getValue();
+		}
+		if (condition != null && condition.getClass() == CSSAndConditionImpl.class) {
+			CSSAndConditionImpl and = (CSSAndConditionImpl) condition;
+			String value = findCondition(and.getFirstCondition(), type);
+			return value != null ? value : findCondition(and.getSecondCondition(), type);
+		}
+		return null;
+	}
+
+	private static String getElementName(Selector selector) {
+		if (selector instanceof CSSConditionalSelectorImpl) {
+			return getElementName(((CSSConditionalSelectorImpl) selector).getSimpleSelector());
+		}
+		if (selector != null && selector.getClass() == CSSElementSelectorImpl.class) {
+			return ((CSSElementSelectorImpl) selector).getLocalName();
+		}
+		return null;
+	}
+
+	private static boolean isShareable(Selector selector) {
+		Class<?> type = selector.getClass();
+		if (type == CSSElementSelectorImpl.class) {
+			return true;
+		}
+		if (type == CSSConditionalSelectorImpl.class) {
+			CSSConditionalSelectorImpl conditional = (CSSConditionalSelectorImpl) selector;
+			return isShareable(conditional.getSimpleSelector()) && isShareable(conditional.getCondition());
+		}
+		if (type == CSSDescendantSelectorImpl.class || type == CSSChildSelectorImpl.class) {
+			AbstractDescendantSelector descendant = (AbstractDescendantSelector) selector;
+			return isShareable(descendant.getAncestorSelector()) && isShareable(descendant.getSimpleSelector());
+		}
+		return false;
+	}
+
+	private static boolean isShareable(Condition condition) {
+		Class<?> type = condition.getClass();
+		if (type == CSSIdConditionImpl.class || type == CSSClassConditionImpl.class) {
+			return true;
+		}
+		if (type == CSSAndConditionImpl.class) {
+			CSSAndConditionImpl and = (CSSAndConditionImpl) condition;
+			return isShareable(and.getFirstCondition()) && isShareable(and.getSecondCondition());
+		}
+		return false;
+	}
+
+	private static boolean containsSpace(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (Character.isSpaceChar(value.charAt(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -47,6 +47,8 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	private boolean ruleCachingEnabled;
 	/** Cached state of combined CSS rules for the current stylesheets */
 	private List<CSSRule> currentCombinedRules;
+	/** Cached index of the selectors of {@link #currentCombinedRules} */
+	private RuleIndex currentRuleIndex;
 
 	/**
 	 * Creates a new ViewCSS.
@@ -73,9 +75,26 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	 */
 	@Override
 	public CSSStyleDeclaration getComputedStyle(Element elt, String pseudoElt) {
+		if (this.ruleCachingEnabled) {
+			return getComputedStyle(getRuleIndex(), elt, pseudoElt);
+		}
 		return getComputedStyle(getCombinedRules(), elt, pseudoElt);
 	}
 
+	/**
+	 * Retrieves the index of the selectors of all current stylesheets, built
+	 * from {@link #getCombinedRules()} and cached along with it.
+	 *
+	 * @return the selector index for all style sheets
+	 */
+	private RuleIndex getRuleIndex() {
+		List<CSSRule> cssRules = getCombinedRules();
+		if (this.currentRuleIndex == null) {
+			this.currentRuleIndex = new RuleIndex(cssRules);
+		}
+		return this.currentRuleIndex;
+	}
+
 	/**
 	 * Retrieves the combined list of CSS rules for all current stylesheets. This
 	 * method returns a cached state when the stylesheets are the same as on its
@@ -111,7 +130,62 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 		return cssRules;
 	}
 
-	private CSSStyleDeclaration getComputedStyle(List<CSSRule> ruleList, Element elt, String pseudoElt) {
+	/**
+	 * Computes the style declaration of an element, only testing the selectors
+	 * the index returns as candidates for it. As the candidates come in rule
+	 * order, positions and so the precedence of the matching declarations are
+	 * the same as when testing every selector. Elements with the same sharing
+	 * key get the same computed style instance.
+	 */
+	private CSSStyleDeclaration getComputedStyle(RuleIndex index, Element elt, String pseudoElt) {
+		RuleIndex.Candidate[] candidates = index.getCandidates(elt);
+		if (candidates.length == 0) {
+			return null;
+		}
+		String sharingKey = index.getSharingKey(elt, pseudoElt, candidates);
+		if (sharingKey != null && index.isShared(sharingKey)) {
+			return index.getSharedStyle(sharingKey);
+		}
+		CSSStyleDeclaration style = getComputedStyle(candidates, elt, pseudoElt);
+		if (sharingKey != null) {
+			index.share(sharingKey, style);
+		}
+		return style;
+	}
+
+	private CSSStyleDeclaration getComputedStyle(RuleIndex.Candidate[] candidates, Element elt, String pseudoElt) {
+		Node[] hierarchy = getHierarchy(elt);
+
+		List<StyleWrapper> styleDeclarations = null;
+		StyleWrapper firstStyleDeclaration = null;
+		int position = 0;
+		for (RuleIndex.Candidate candidate : candidates) {
+			ExtendedSelector extendedSelector = candidate.selector;
+			if (extendedSelector.match(elt, hierarchy, 0, pseudoElt)) {
+				CSSStyleDeclaration style = candidate.rule.getStyle();
+				int specificity = extendedSelector.getSpecificity();
+				StyleWrapper wrapper = new StyleWrapper(style, specificity, position++);
+				if (firstStyleDeclaration == null) {
+					firstStyleDeclaration = wrapper;
+				} else {
+					if (styleDeclarations == null) {
+						styleDeclarations = new ArrayList<>();
+						styleDeclarations.add(firstStyleDeclaration);
+					}
+					styleDeclarations.add(wrapper);
+				}
+			}
+		}
+		if (styleDeclarations != null) {
+			return new CSSComputedStyleImpl(styleDeclarations);
+		}
+		if (firstStyleDeclaration != null) {
+			return firstStyleDeclaration.style;
+		}
+		return null;
+	}
+
+	private static Node[] getHierarchy(Element elt) {
 		Node parent = elt.getParentNode();
 
 		Node[] hierarchy = null;
@@ -122,6 +196,11 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 			}
 			hierarchy = hierarchyList.toArray(new Node[hierarchyList.size()]);
 		}
+		return hierarchy;
+	}
+
+	private CSSStyleDeclaration getComputedStyle(List<CSSRule> ruleList, Element elt, String pseudoElt) {
+		Node[] hierarchy = getHierarchy(elt);
 
 		List<StyleWrapper> styleDeclarations = null;
 		StyleWrapper firstStyleDeclaration = null;
@@ -172,10 +251,12 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	@Override
 	public void styleSheetAdded(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentRuleIndex = null;
 	}
 
 	@Override
 	public void styleSheetRemoved(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentRuleIndex = null;
 	}
 }
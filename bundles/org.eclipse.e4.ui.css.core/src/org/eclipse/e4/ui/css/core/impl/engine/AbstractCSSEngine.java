@@ -155,6 +155,8 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 
 	private int parseImport;
 
+	private final List<URL> importedStyleSheets = new ArrayList<>();
+
 	private ResourceRegistryKeyFactory keyFactory;
 
 	public AbstractCSSEngine() {
@@ -187,6 +189,9 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 	public StyleSheet parseStyleSheet(InputSource source) throws IOException {
 		// Check that CharacterStream or ByteStream is not null
 		checkInputSource(source);
+		if (parseImport == 0) {
+			importedStyleSheets.clear();
+		}
 		CSSParser parser = makeCSSParser();
 		CSSStyleSheet styleSheet = parser.parseStyleSheet(source);
 
@@ -220,6 +225,7 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 					}
 				}
 			}
+			importedStyleSheets.add(url);
 			try (InputStream stream = url.openStream()) {
 				InputSource tempStream = new InputSource();
 				tempStream.setURI(url.toString());
@@ -251,6 +257,17 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		return s;
 	}
 
+	/**
+	 * Return the URLs of the style sheets imported, directly or indirectly, by
+	 * the style sheet parsed last. This is not API, it is used by the theme
+	 * engine to tell when a parsed style sheet is out of date.
+	 *
+	 * @return the resolved URLs of the imported style sheets
+	 */
+	public List<URL> getImportedStyleSheets() {
+		return new ArrayList<>(importedStyleSheets);
+	}
+
 	private void processNodeList(NodeList nodes, BiConsumer<Node, Boolean> consumer, boolean applyStylesToChildNodes) {
 		if (nodes instanceof IStreamingNodeList) {
 			((IStreamingNodeList) nodes).stream().forEach(child -> {
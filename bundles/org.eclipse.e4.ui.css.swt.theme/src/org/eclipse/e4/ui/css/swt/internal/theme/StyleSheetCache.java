@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.swt.internal.theme;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.e4.ui.css.core.dom.ExtendedDocumentCSS;
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.core.impl.engine.AbstractCSSEngine;
+import org.eclipse.e4.ui.css.core.util.resources.IResourceLocator;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+import org.w3c.dom.stylesheets.StyleSheet;
+
+/**
+ * Keeps the style sheets parsed by the CSS engines of a theme engine, so that
+ * switching back to a theme, resetting it or adding another engine does not
+ * parse the same style sheets again. The parsed form includes the rules of
+ * imported style sheets.
+ * <p>
+ * A style sheet is reused as long as the last modification stamps of its
+ * resolved URL and of the URLs of the style sheets it imports are unchanged.
+ * Files are stamped with their last modification time, style sheets in
+ * bundles with the last modification time of the bundle. Style sheets whose
+ * stamp cannot be determined, or parsed by engines which do not tell the style
+ * sheets they import, are never cached. As imports may be resolved
+ * through the resource locators of a theme, a style sheet is only reused
+ * with the same resource locators. Parsed style sheets are only shared
+ * between engines of the same type, which use the same parser.
+ * </p>
+ * <p>
+ * The cache is kept in memory only: the parsed style sheets are CSS DOM
+ * objects which cannot be written to disk. It does not make the first
+ * activation of a theme in a session, e.g. at startup, any cheaper.
+ * </p>
+ */
+final class StyleSheetCache {
+
+	private static final class Key {
+		private final Class<?> engineType;
+		private final String styleSheet;
+		private final List<IResourceLocator> locators;
+
+		Key(CSSEngine engine, String styleSheet, List<IResourceLocator> locators) {
+			this.engineType = engine.getClass();
+			this.styleSheet = styleSheet;
+			this.locators = locators;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(engineType, styleSheet, locators);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return engineType == other.engineType && styleSheet.equals(other.styleSheet)
+					&& locators.equals(other.locators);
+		}
+	}
+
+	private static final class Entry {
+		private final URL[] urls;
+		private final long[] stamps;
+		private final StyleSheet styleSheet;
+
+		Entry(URL[] urls, long[] stamps, StyleSheet styleSheet) {
+			this.urls = urls;
+			this.stamps = stamps;
+			this.styleSheet = styleSheet;
+		}
+
+		boolean isCurrent() {
+			for (int i = 0; i < urls.length; i++) {
+				if (getStamp(urls[i]) != stamps[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private final Map<Key, Entry> entries = new HashMap<>();
+
+	/**
+	 * Adds the cached, parsed form of the style sheet to the engine.
+	 *
+	 * @param engine
+	 *            the engine to add the style sheet to
+	 * @param styleSheet
+	 *            the style sheet as registered with the theme engine
+	 * @param locators
+	 *            the resource locators registered with the engine
+	 * @return <code>true</code> if a cached style sheet was added,
+	 *         <code>false</code> if the style sheet has to be parsed
+	 */
+	boolean addTo(CSSEngine engine, String styleSheet, List<IResourceLocator> locators) {
+		if (!(engine.getDocumentCSS() instanceof ExtendedDocumentCSS)) {
+			return false;
+		}
+		Entry entry = entries.get(new Key(engine, styleSheet, locators));
+		if (entry == null || !entry.isCurrent()) {
+			return false;
+		}
+		((ExtendedDocumentCSS) engine.getDocumentCSS()).addStyleSheet(entry.styleSheet);
+		return true;
+	}
+
+	/**
+	 * Remembers a style sheet the engine has parsed.
+	 *
+	 * @param engine
+	 *            the engine which parsed the style sheet
+	 * @param styleSheet
+	 *            the style sheet as registered with the theme engine
+	 * @param locators
+	 *            the resource locators registered with the engine
+	 * @param url
+	 *            the resolved URL of the style sheet
+	 * @param parsed
+	 *            the parsed style sheet
+	 */
+	void put(CSSEngine engine, String styleSheet, List<IResourceLocator> locators, URL url,
+			StyleSheet parsed) {
+		Key key = new Key(engine, styleSheet, locators);
+		if (!(engine instanceof AbstractCSSEngine)) {
+			entries.remove(key);
+			return;
+		}
+		List<URL> imports = ((AbstractCSSEngine) engine).getImportedStyleSheets();
+		URL[] urls = new URL[imports.size() + 1];
+		long[] stamps = new long[urls.length];
+		urls[0] = url;
+		for (int i = 0; i < urls.length; i++) {
+			if (i > 0) {
+				urls[i] = imports.get(i - 1);
+			}
+			stamps[i] = getStamp(urls[i]);
+			if (stamps[i] == 0) {
+				parsed = null;
+				break;
+			}
+		}
+		if (parsed == null) {
+			entries.remove(key);
+		} else {
+			entries.put(key, new Entry(urls, stamps, parsed));
+		}
+	}
+
+	void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * @return the last modification time of the URL's content, or 0 if
+	 *         unknown
+	 */
+	static long getStamp(URL url) {
+		switch (url.getProtocol()) {
+		case "file": //$NON-NLS-1$
+			try {
+				return new File(url.toURI()).lastModified();
+			} catch (URISyntaxException | IllegalArgumentException e) {
+				return new File(url.getFile()).lastModified();
+			}
+		case "jar": //$NON-NLS-1$
+			// the archive changes with any of its entries
+			String path = url.getPath();
+			int separator = path.indexOf("!/"); //$NON-NLS-1$
+			if (separator < 0) {
+				return 0;
+			}
+			try {
+				return getStamp(new URL(path.substring(0, separator)));
+			} catch (MalformedURLException e) {
+				return 0;
+			}
+		case "platform": //$NON-NLS-1$
+			String[] segments = url.getPath().split("/"); //$NON-NLS-1$
+			// platform:/plugin/<symbolic name>/...
+			if (segments.length < 3 || !"plugin".equals(segments[1])) { //$NON-NLS-1$
+				return 0;
+			}
+			return getBundleStamp(Platform.getBundle(segments[2]));
+		case "bundleentry": //$NON-NLS-1$
+		case "bundleresource": //$NON-NLS-1$
+			// the host is the bundle id, followed by the framework's id
+			String host = url.getHost();
+			int dot = host.indexOf('.');
+			Bundle self = FrameworkUtil.getBundle(StyleSheetCache.class);
+			BundleContext context = self != null ? self.getBundleContext() : null;
+			if (context == null) {
+				return 0;
+			}
+			try {
+				return getBundleStamp(context.getBundle(Long.parseLong(dot < 0 ? host : host.substring(0, dot))));
+			} catch (NumberFormatException e) {
+				return 0;
+			}
+		default:
+			return 0;
+		}
+	}
+
+	private static long getBundleStamp(Bundle bundle) {
+		return bundle != null ? bundle.getLastModified() : 0;
+	}
+}
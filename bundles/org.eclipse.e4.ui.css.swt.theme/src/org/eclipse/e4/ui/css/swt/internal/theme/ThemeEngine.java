@@ -62,6 +62,7 @@ import org.osgi.service.prefs.BackingStoreException;
 import org.w3c.css.sac.InputSource;
 import org.w3c.dom.Element;
 import org.w3c.dom.css.CSSStyleDeclaration;
+import org.w3c.dom.stylesheets.StyleSheet;
 
 public class ThemeEngine implements IThemeEngine {
 	private List<Theme> themes = new ArrayList<>();
@@ -80,6 +81,8 @@ public class ThemeEngine implements IThemeEngine {
 	private HashMap<String, List<String>> modifiedStylesheets = new HashMap<>();
 	private HashMap<String, List<IResourceLocator>> sourceLocators = new HashMap<>();
 
+	private final StyleSheetCache styleSheetCache = new StyleSheetCache();
+
 	private static final String THEMEID_KEY = "themeid";
 
 	public static final String THEME_PLUGIN_ID = "org.eclipse.e4.ui.css.swt.theme";
@@ -454,7 +457,8 @@ public class ThemeEngine implements IThemeEngine {
 				engine.reset();
 			}
 
-			for (IResourceLocator l : getResourceLocators(theme.getId())) {
+			List<IResourceLocator> locators = getResourceLocators(theme.getId());
+			for (IResourceLocator l : locators) {
 				for (CSSEngine engine : cssEngines) {
 					engine.getResourcesLocatorManager()
 					.registerResourceLocator(l);
@@ -466,12 +470,16 @@ public class ThemeEngine implements IThemeEngine {
 				try {
 					url = FileLocator.resolve(new URL(stylesheet));
 					for (CSSEngine engine : cssEngines) {
+						if (styleSheetCache.addTo(engine, stylesheet, locators)) {
+							continue;
+						}
 						try {
 							stream = url.openStream();
 							InputSource source = new InputSource();
 							source.setByteStream(stream);
 							source.setURI(url.toString());
-							engine.parseStyleSheet(source);
+							StyleSheet parsed = engine.parseStyleSheet(source);
+							styleSheetCache.put(engine, stylesheet, locators, url, parsed);
 						} catch (IOException e) {
 							ThemeEngineManager.logError(e.getMessage(), e);
 						} finally {
@@ -670,5 +678,8 @@ public class ThemeEngine implements IThemeEngine {
 	@Override
 	public void removeCSSEngine(CSSEngine cssEngine) {
 		cssEngines.remove(cssEngine);
+		if (cssEngines.isEmpty()) {
+			styleSheetCache.clear();
+		}
 	}
 }
@@ -14,6 +14,9 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.css.swt.engine;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
 import org.eclipse.e4.ui.css.core.engine.CSSElementContext;
 import org.eclipse.e4.ui.css.core.impl.engine.CSSEngineImpl;
@@ -28,7 +31,15 @@ import org.eclipse.e4.ui.css.swt.properties.converters.CSSValueSWTImageConverter
 import org.eclipse.e4.ui.css.swt.properties.converters.CSSValueSWTRGBConverterImpl;
 import org.eclipse.e4.ui.css.swt.resources.SWTResourceRegistryKeyFactory;
 import org.eclipse.e4.ui.css.swt.resources.SWTResourcesRegistry;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.CTabFolder;
+import org.eclipse.swt.custom.CTabItem;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.TabFolder;
+import org.eclipse.swt.widgets.TabItem;
 import org.eclipse.swt.widgets.Widget;
 import org.w3c.dom.Element;
 
@@ -40,6 +51,21 @@ public abstract class AbstractCSSSWTEngineImpl extends CSSEngineImpl {
 
 	protected Display display;
 
+	private boolean deferHiddenStyling = Boolean.getBoolean("org.eclipse.e4.ui.css.deferHiddenStyling"); //$NON-NLS-1$
+
+	/**
+	 * The control currently styled because it is being shown, which is
+	 * considered visible although {@link Control#getVisible()} may not
+	 * report it yet.
+	 */
+	private Control showing;
+
+	/**
+	 * The listeners of the hidden controls whose styling waits for them to be
+	 * shown. May only be accessed in the UI thread.
+	 */
+	private final Map<Control, Listener> deferredStyling = new HashMap<>();
+
 	public AbstractCSSSWTEngineImpl(Display display) {
 		this(display, false);
 	}
@@ -117,6 +143,127 @@ public abstract class AbstractCSSSWTEngineImpl extends CSSEngineImpl {
 			&& !Boolean.TRUE.equals(widget.getData("org.eclipse.e4.ui.css.disabled")); //$NON-NLS-1$
 	}
 
+	/**
+	 * Set whether styling of controls that are hidden, or have a hidden
+	 * parent, is deferred until they are shown. When enabled, a hidden
+	 * control and all of its children are styled once the control receives
+	 * {@link SWT#Show}. The content of tab items is still styled right away,
+	 * as it is not sure to receive {@link SWT#Show} when its tab is selected.
+	 * Defaults to the value of the system property
+	 * <code>org.eclipse.e4.ui.css.deferHiddenStyling</code>.
+	 *
+	 * @param deferHiddenStyling
+	 *            <code>true</code> to defer styling of hidden controls
+	 */
+	public void setDeferHiddenStyling(boolean deferHiddenStyling) {
+		this.deferHiddenStyling = deferHiddenStyling;
+	}
+
+	/**
+	 * @return <code>true</code> if styling of hidden controls is deferred
+	 *         until they are shown
+	 * @see #setDeferHiddenStyling(boolean)
+	 */
+	public boolean isDeferHiddenStyling() {
+		return deferHiddenStyling;
+	}
+
+	@Override
+	protected boolean isVisible(Element elt) {
+		if (!super.isVisible(elt)) {
+			return false;
+		}
+		if (!deferHiddenStyling || !(elt instanceof CSSStylableElement)) {
+			return true;
+		}
+		Object widget = ((CSSStylableElement) elt).getNativeWidget();
+		if (!(widget instanceof Control)) {
+			return true;
+		}
+		Control hidden = findHiddenControl((Control) widget);
+		if (hidden == null) {
+			return true;
+		}
+		deferStyling(hidden);
+		return false;
+	}
+
+	/**
+	 * @return the outermost hidden control among the control and its parents
+	 *         up to its shell, or <code>null</code> if none is hidden
+	 */
+	private Control findHiddenControl(Control control) {
+		// shells are not visible until opened, so they are not taken into
+		// account
+		Control hidden = null;
+		for (Control current = control; current != null && !(current instanceof Shell); current = current
+				.getParent()) {
+			if (current != showing && !current.isDisposed() && !current.getVisible() && !isTabContent(current)) {
+				hidden = current;
+			}
+		}
+		return hidden;
+	}
+
+	/**
+	 * @return whether the control is the content of an item of a tab folder,
+	 *         which is hidden while another tab is selected
+	 */
+	private static boolean isTabContent(Control control) {
+		Control parent = control.getParent();
+		if (parent instanceof CTabFolder) {
+			for (CTabItem item : ((CTabFolder) parent).getItems()) {
+				if (item.getControl() == control) {
+					return true;
+				}
+			}
+		} else if (parent instanceof TabFolder) {
+			for (TabItem item : ((TabFolder) parent).getItems()) {
+				if (item.getControl() == control) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private void deferStyling(Control hidden) {
+		if (deferredStyling.containsKey(hidden)) {
+			return;
+		}
+		Listener listener = event -> {
+			stopDeferring(hidden);
+			if (event.type == SWT.Show) {
+				Control previous = showing;
+				showing = hidden;
+				try {
+					applyStyles(hidden, true);
+				} finally {
+					showing = previous;
+				}
+			}
+		};
+		deferredStyling.put(hidden, listener);
+		hidden.addListener(SWT.Show, listener);
+		hidden.addListener(SWT.Dispose, listener);
+	}
+
+	private void stopDeferring(Control control) {
+		Listener listener = deferredStyling.remove(control);
+		if (listener != null && !control.isDisposed()) {
+			control.removeListener(SWT.Show, listener);
+			control.removeListener(SWT.Dispose, listener);
+		}
+	}
+
+	@Override
+	public void dispose() {
+		for (Control control : new ArrayList<>(deferredStyling.keySet())) {
+			stopDeferring(control);
+		}
+		super.dispose();
+	}
+
 	@Override
 	public void reset() {
 		for (CSSElementContext elementContext : getElementsContext().values()) {
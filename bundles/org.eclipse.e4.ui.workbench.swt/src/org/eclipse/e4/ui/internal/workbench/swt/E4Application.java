@@ -62,6 +62,7 @@ import org.eclipse.e4.ui.internal.workbench.ReflectionContributionFactory;
 import org.eclipse.e4.ui.internal.workbench.ResourceHandler;
 import org.eclipse.e4.ui.internal.workbench.SelectionAggregator;
 import org.eclipse.e4.ui.internal.workbench.SelectionServiceImpl;
+import org.eclipse.e4.ui.internal.workbench.StartupTimeline;
 import org.eclipse.e4.ui.internal.workbench.URIHelper;
 import org.eclipse.e4.ui.internal.workbench.WorkbenchLogger;
 import org.eclipse.e4.ui.model.application.MAddon;
@@ -272,9 +273,12 @@ public class E4Application implements IApplication {
 		// Create the addons
 		IEclipseContext addonStaticContext = EclipseContextFactory.create();
 		for (MAddon addon : appModel.getAddons()) {
-			addonStaticContext.set(MAddon.class, addon);
-			Object obj = factory.create(addon.getContributionURI(), appContext, addonStaticContext);
-			addon.setObject(obj);
+			try (StartupTimeline.Span span = StartupTimeline.begin("Create addon", StartupTimeline.WORKBENCH)) { //$NON-NLS-1$
+				span.arg("uri", addon.getContributionURI()); //$NON-NLS-1$
+				addonStaticContext.set(MAddon.class, addon);
+				Object obj = factory.create(addon.getContributionURI(), appContext, addonStaticContext);
+				addon.setObject(obj);
+			}
 		}
 
 		// Parse out parameters from both the command line and/or the product
@@ -22,12 +22,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.WeakHashMap;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -64,6 +66,7 @@ import org.eclipse.e4.ui.di.Focus;
 import org.eclipse.e4.ui.di.PersistState;
 import org.eclipse.e4.ui.internal.workbench.Activator;
 import org.eclipse.e4.ui.internal.workbench.E4Workbench;
+import org.eclipse.e4.ui.internal.workbench.StartupTimeline;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.MApplicationElement;
 import org.eclipse.e4.ui.model.application.MContribution;
@@ -74,6 +77,7 @@ import org.eclipse.e4.ui.model.application.ui.MUIElement;
 import org.eclipse.e4.ui.model.application.ui.advanced.MPerspective;
 import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
 import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartSashContainer;
 import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
 import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
@@ -123,6 +127,14 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 	public static final String ENABLED_THEME_KEY = "themeEnabled";
 
+	/**
+	 * Preference of the renderers bundle which, when set to <code>true</code>,
+	 * defers rendering the hidden children of sash containers and perspectives
+	 * until they are shown for the first time. Minimized elements are rendered
+	 * as before, as their trim stacks need their widgets.
+	 */
+	public static final String DEFER_HIDDEN_RENDERING_KEY = "deferHiddenRendering";
+
 	private String factoryUrl;
 
 	IRendererFactory curFactory = null;
@@ -207,6 +219,14 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 		// Re-parent the control based on the visible state
 		if (changedElement.isVisible()) {
+			if (changedElement.getWidget() == null && deferredElements.remove(changedElement)) {
+				// render it now that it is shown, if its parent is rendered already;
+				// otherwise it is rendered along with its parent
+				if (changedElement.isToBeRendered() && parent.getWidget() != null) {
+					createGui(changedElement);
+				}
+				return;
+			}
 			if (changedElement.isToBeRendered()) {
 				if (changedElement.getWidget() instanceof Control && //
 						renderer.getUIContainer(changedElement) instanceof Composite) {
@@ -397,6 +417,18 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 	private MUIElement removeRoot = null;
 
+	private final boolean deferHiddenRendering;
+
+	/**
+	 * The container whose contents are being rendered
+	 */
+	private MElementContainer<MUIElement> processedContainer;
+
+	/**
+	 * Hidden elements whose rendering was deferred until they are shown
+	 */
+	private final Set<MUIElement> deferredElements = Collections.newSetFromMap(new WeakHashMap<>());
+
 	@Inject
 	@Optional
 	IEventBroker eventBroker;
@@ -410,6 +442,8 @@ public class PartRenderingEngine implements IPresentationEngine {
 			factoryUrl = defaultFactoryUrl;
 		}
 		this.factoryUrl = factoryUrl;
+		this.deferHiddenRendering = Platform.getPreferencesService()
+				.getBoolean("org.eclipse.e4.ui.workbench.renderers.swt", DEFER_HIDDEN_RENDERING_KEY, false, null);
 	}
 
 	protected void fixZOrder(MUIElement element) {
@@ -670,7 +704,13 @@ public class PartRenderingEngine implements IPresentationEngine {
 			if (element instanceof MElementContainer) {
 				@SuppressWarnings("unchecked")
 				MElementContainer<MUIElement> container = (MElementContainer<MUIElement>) element;
-				renderer.processContents(container);
+				MElementContainer<MUIElement> outerContainer = processedContainer;
+				processedContainer = container;
+				try {
+					renderer.processContents(container);
+				} finally {
+					processedContainer = outerContainer;
+				}
 			}
 
 			// Allow a final chance to set up
@@ -732,8 +772,23 @@ public class PartRenderingEngine implements IPresentationEngine {
 	}
 
 	private Object safeCreateGui(MUIElement element) {
+		if (isDeferred(element)) {
+			deferredElements.add(element);
+			return null;
+		}
+		deferredElements.remove(element);
+
 		// Obtain the necessary parent widget
 		Object parent = null;
+		MUIElement deferredAncestor = getDeferredAncestor(element);
+		if (deferredAncestor != null) {
+			// an ancestor is hidden and was not rendered yet, render it along
+			// with its contents first
+			safeCreateGui(deferredAncestor);
+			if (element.getWidget() != null) {
+				return element.getWidget();
+			}
+		}
 		MUIElement parentME = element.getParent();
 		if (parentME == null)
 			parentME = (MUIElement) ((EObject) element).eContainer();
@@ -763,6 +818,38 @@ public class PartRenderingEngine implements IPresentationEngine {
 		return safeCreateGui(element, parent, parentContext);
 	}
 
+	/**
+	 * @return the nearest ancestor of the element whose rendering was deferred
+	 *         and which is still not rendered, or <code>null</code>
+	 */
+	private MUIElement getDeferredAncestor(MUIElement element) {
+		if (deferredElements.isEmpty()) {
+			return null;
+		}
+		for (MUIElement ancestor = element.getParent(); ancestor != null
+				&& ancestor.getWidget() == null; ancestor = ancestor.getParent()) {
+			if (deferredElements.contains(ancestor)) {
+				return ancestor;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return <code>true</code> if the element is hidden and rendered as part of
+	 *         the contents of a sash container or perspective, and rendering
+	 *         hidden elements is deferred
+	 */
+	private boolean isDeferred(MUIElement element) {
+		if (!deferHiddenRendering || element.isVisible() || element.getWidget() != null) {
+			return false;
+		}
+		MElementContainer<MUIElement> parent = element.getParent();
+		return parent != null && parent == processedContainer
+				&& (parent instanceof MPartSashContainer || parent instanceof MPerspective)
+				&& !element.getTags().contains(MINIMIZED);
+	}
+
 	@Override
 	public void focusGui(MUIElement element) {
 		AbstractPartRenderer renderer = (AbstractPartRenderer) element
@@ -992,10 +1079,14 @@ public class PartRenderingEngine implements IPresentationEngine {
 		if (renderer != null) {
 			// Remember which renderer is responsible for this widget
 			element.setRenderer(renderer);
-			Object newWidget = renderer.createWidget(element, parent);
-			if (newWidget != null) {
-				renderer.bindWidget(element, newWidget);
-				return newWidget;
+			try (StartupTimeline.Span span = StartupTimeline.begin(renderer.getClass().getSimpleName(),
+					StartupTimeline.RENDERER)) {
+				span.arg("element", element.getElementId()); //$NON-NLS-1$
+				Object newWidget = renderer.createWidget(element, parent);
+				if (newWidget != null) {
+					renderer.bindWidget(element, newWidget);
+					return newWidget;
+				}
 			}
 		}
 
@@ -1047,7 +1138,9 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 			@Override
 			public void run() {
-				initializeStyling(display, runContext);
+				try (StartupTimeline.Span span = StartupTimeline.begin("Initialize styling", StartupTimeline.THEME)) { //$NON-NLS-1$
+					initializeStyling(display, runContext);
+				}
 
 				// Register an SWT resource handler
 				runContext.set(IResourceUtilities.class, new ResourceUtility());
@@ -1080,7 +1173,11 @@ public class PartRenderingEngine implements IPresentationEngine {
 					theApp = (MApplication) uiRoot;
 					// long startTime = System.currentTimeMillis();
 					for (MWindow window : theApp.getChildren()) {
-						createGui(window);
+						try (StartupTimeline.Span span = StartupTimeline.begin("Render window", //$NON-NLS-1$
+								StartupTimeline.WORKBENCH)) {
+							span.arg("id", window.getElementId()); //$NON-NLS-1$
+							createGui(window);
+						}
 					}
 
 					// long endTime = System.currentTimeMillis();
@@ -1096,6 +1193,13 @@ public class PartRenderingEngine implements IPresentationEngine {
 									theApp);
 						}
 					}
+					try {
+						StartupTimeline.complete();
+					} catch (IOException e) {
+						if (logger != null) {
+							logger.error(e, "Could not write the startup timeline"); //$NON-NLS-1$
+						}
+					}
 				} else if (uiRoot instanceof MUIElement) {
 					if (uiRoot instanceof MWindow) {
 						testShell = (Shell) createGui((MUIElement) uiRoot);
@@ -28,6 +28,9 @@ import static org.eclipse.e4.ui.internal.workbench.Policy.DEBUG_MENUS;
 import static org.eclipse.e4.ui.internal.workbench.Policy.DEBUG_MENUS_FLAG;
 import static org.eclipse.e4.ui.internal.workbench.Policy.DEBUG_RENDERER;
 import static org.eclipse.e4.ui.internal.workbench.Policy.DEBUG_RENDERER_FLAG;
+import static org.eclipse.e4.ui.internal.workbench.Policy.DEBUG_STARTUP;
+import static org.eclipse.e4.ui.internal.workbench.Policy.DEBUG_STARTUP_FILE_OPTION;
+import static org.eclipse.e4.ui.internal.workbench.Policy.DEBUG_STARTUP_FLAG;
 import static org.eclipse.e4.ui.internal.workbench.Policy.DEBUG_WORKBENCH;
 import static org.eclipse.e4.ui.internal.workbench.Policy.DEBUG_WORKBENCH_FLAG;
 import static org.eclipse.e4.ui.internal.workbench.Policy.TRACE;
@@ -68,6 +71,8 @@ public class Activator implements BundleActivator, DebugOptionsListener {
 
 	private DebugTrace trace;
 
+	private EventHandlerTopics eventHandlerTopics;
+
 	/**
 	 * Get the default activator.
 	 *
@@ -109,6 +114,12 @@ public class Activator implements BundleActivator, DebugOptionsListener {
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		synchronized (this) {
+			if (eventHandlerTopics != null) {
+				eventHandlerTopics.close();
+				eventHandlerTopics = null;
+			}
+		}
 		if (logTracker != null) {
 			logTracker.close();
 			logTracker = null;
@@ -132,6 +143,8 @@ public class Activator implements BundleActivator, DebugOptionsListener {
 		DEBUG_MENUS = options.getBooleanOption(PI_WORKBENCH + DEBUG_MENUS_FLAG, false);
 		DEBUG_RENDERER = options.getBooleanOption(PI_WORKBENCH + DEBUG_RENDERER_FLAG, false);
 		DEBUG_WORKBENCH = options.getBooleanOption(PI_WORKBENCH + DEBUG_WORKBENCH_FLAG, false);
+		DEBUG_STARTUP = options.getBooleanOption(PI_WORKBENCH + DEBUG_STARTUP_FLAG, false);
+		StartupTimeline.setDebugOption(DEBUG_STARTUP, options.getOption(PI_WORKBENCH + DEBUG_STARTUP_FILE_OPTION));
 	}
 
 	public DebugTrace getTrace() {
@@ -142,6 +155,21 @@ public class Activator implements BundleActivator, DebugOptionsListener {
 		activator.getTrace().trace(option, msg, error);
 	}
 
+	/**
+	 * @return the tracker of the topics event handlers subscribe to, or
+	 *         <code>null</code> if the bundle is not started
+	 */
+	synchronized EventHandlerTopics getEventHandlerTopics() {
+		if (eventHandlerTopics == null && context != null) {
+			try {
+				eventHandlerTopics = new EventHandlerTopics(context);
+			} catch (IllegalStateException e) {
+				// the bundle has been stopped
+			}
+		}
+		return eventHandlerTopics;
+	}
+
 	public LogService getLogService() {
 		LogService logService = null;
 		if (logTracker != null) {
@@ -164,9 +164,12 @@ public class E4Workbench implements IWorkbench {
 		if (renderer == null) {
 			String presentationURI = (String) appContext.get(IWorkbench.PRESENTATION_URI_ARG);
 			if (presentationURI != null) {
-				IContributionFactory factory = appContext.get(IContributionFactory.class);
-				renderer = (IPresentationEngine) factory.create(presentationURI, appContext);
-				appContext.set(IPresentationEngine.class, renderer);
+				try (StartupTimeline.Span span = StartupTimeline.begin("Create presentation engine", //$NON-NLS-1$
+						StartupTimeline.WORKBENCH)) {
+					IContributionFactory factory = appContext.get(IContributionFactory.class);
+					renderer = (IPresentationEngine) factory.create(presentationURI, appContext);
+					appContext.set(IPresentationEngine.class, renderer);
+				}
 			}
 			if (renderer == null) {
 				Logger logger = appContext.get(Logger.class);
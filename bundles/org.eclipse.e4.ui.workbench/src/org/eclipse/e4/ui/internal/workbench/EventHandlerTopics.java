@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * Tracks the topics the registered {@link EventHandler} services subscribe to,
+ * so that events nobody is interested in need not be constructed. Handlers
+ * registered through the event broker are OSGi services as well.
+ * <p>
+ * Topic filters follow the Event Admin rules: a filter either names a topic
+ * exactly, or ends with <code>*</code> to match all topics below a prefix.
+ * Event filters of handlers are not evaluated.
+ * </p>
+ */
+final class EventHandlerTopics implements ServiceListener {
+
+	private static final String HANDLER_FILTER = "(" + Constants.OBJECTCLASS + "=" + EventHandler.class.getName() //$NON-NLS-1$ //$NON-NLS-2$
+			+ ")"; //$NON-NLS-1$
+
+	/**
+	 * The topic filters of the handlers registered at one point in time, along
+	 * with the topics looked up since.
+	 */
+	private static final class Snapshot {
+		private final boolean all;
+		private final List<String> topics = new ArrayList<>();
+		private final List<String> prefixes = new ArrayList<>();
+		private final Map<String, Boolean> handled = new ConcurrentHashMap<>();
+
+		Snapshot(Collection<String> filters) {
+			boolean matchesAll = false;
+			for (String filter : filters) {
+				if (filter.equals("*")) { //$NON-NLS-1$
+					matchesAll = true;
+				} else if (filter.endsWith("/*")) { //$NON-NLS-1$
+					prefixes.add(filter.substring(0, filter.length() - 1));
+				} else {
+					topics.add(filter);
+				}
+			}
+			all = matchesAll;
+		}
+
+		boolean hasHandler(String topic) {
+			if (all) {
+				return true;
+			}
+			return handled.computeIfAbsent(topic, this::matches).booleanValue();
+		}
+
+		private Boolean matches(String topic) {
+			if (topics.contains(topic)) {
+				return Boolean.TRUE;
+			}
+			for (String prefix : prefixes) {
+				if (topic.startsWith(prefix)) {
+					return Boolean.TRUE;
+				}
+			}
+			return Boolean.FALSE;
+		}
+	}
+
+	private final BundleContext context;
+
+	private volatile Snapshot snapshot;
+
+	private volatile boolean closed;
+
+	/**
+	 * @param context the context used to track the event handler services
+	 */
+	EventHandlerTopics(BundleContext context) {
+		this.context = context;
+		try {
+			context.addServiceListener(this, HANDLER_FILTER);
+		} catch (InvalidSyntaxException e) {
+			// the filter is constant
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @param topic the event topic
+	 * @return <code>false</code> if no registered handler subscribes to the
+	 *         topic, <code>true</code> if one might
+	 */
+	boolean hasHandler(String topic) {
+		if (closed) {
+			return true;
+		}
+		Snapshot current = snapshot;
+		if (current == null) {
+			synchronized (this) {
+				if (snapshot == null) {
+					snapshot = new Snapshot(getTopicFilters());
+				}
+				current = snapshot;
+			}
+		}
+		return current.hasHandler(topic);
+	}
+
+	/**
+	 * Stops tracking the event handlers. Afterwards every topic is considered
+	 * to have handlers.
+	 */
+	void close() {
+		closed = true;
+		context.removeServiceListener(this);
+	}
+
+	@Override
+	public synchronized void serviceChanged(ServiceEvent event) {
+		snapshot = null;
+	}
+
+	private List<String> getTopicFilters() {
+		List<String> filters = new ArrayList<>();
+		ServiceReference<?>[] references;
+		try {
+			references = context.getAllServiceReferences(EventHandler.class.getName(), null);
+		} catch (InvalidSyntaxException | IllegalStateException e) {
+			filters.add("*"); //$NON-NLS-1$
+			return filters;
+		}
+		if (references == null) {
+			return filters;
+		}
+		for (ServiceReference<?> reference : references) {
+			Object topics = reference.getProperty(EventConstants.EVENT_TOPIC);
+			if (topics instanceof String) {
+				filters.add((String) topics);
+			} else if (topics instanceof String[]) {
+				for (String topic : (String[]) topics) {
+					filters.add(topic);
+				}
+			} else if (topics instanceof Collection<?>) {
+				for (Object topic : (Collection<?>) topics) {
+					if (topic instanceof String) {
+						filters.add((String) topic);
+					}
+				}
+			}
+		}
+		return filters;
+	}
+}
@@ -19,11 +19,15 @@
 
 package org.eclipse.e4.ui.internal.workbench;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Dictionary;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -35,6 +39,7 @@ import java.util.TreeSet;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -53,7 +58,6 @@ import org.eclipse.e4.ui.model.application.ui.MUIElement;
 import org.eclipse.e4.ui.model.fragment.MModelFragment;
 import org.eclipse.e4.ui.model.fragment.MModelFragments;
 import org.eclipse.e4.ui.model.fragment.MStringModelFragment;
-import org.eclipse.e4.ui.model.fragment.impl.FragmentPackageImpl;
 import org.eclipse.e4.ui.model.internal.ModelUtils;
 import org.eclipse.e4.ui.workbench.modeling.IModelProcessorContribution;
 import org.eclipse.e4.ui.workbench.modeling.IModelProcessorContribution.ModelElement;
@@ -61,10 +65,16 @@ import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EFactory;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.resource.impl.ExtensibleURIConverterImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.Diagnostician;
 import org.eclipse.emf.ecore.util.EContentsEList;
 import org.eclipse.emf.ecore.util.EcoreUtil;
@@ -126,7 +136,10 @@ public class ModelAssembler {
 				// we skip direct processing in case the startup model processing is not done
 				// yet
 				if (processModelExecuted) {
-					uiSync.asyncExec(() -> processFragmentWrappers(wrappers));
+					uiSync.asyncExec(() -> {
+						invalidateMergedFragments();
+						processFragmentWrappers(wrappers);
+					});
 				}
 
 				return mappings;
@@ -144,6 +157,10 @@ public class ModelAssembler {
 			// remove fragment elements from application model
 			uiSync.asyncExec(() -> {
 				if (mappings != null) {
+					// no event when the tracker is closed on shutdown
+					if (event != null) {
+						invalidateMergedFragments();
+					}
 					mappings.stream().flatMap(m -> m.elements.stream()).forEach(appElement -> {
 						// TODO implement removal of contributions, e.g. MenuContributions
 
@@ -210,6 +227,13 @@ public class ModelAssembler {
 	private static final String INITIAL = "initial"; //$NON-NLS-1$
 	private static final String NOTEXISTS = "notexists"; //$NON-NLS-1$
 
+	/**
+	 * The key of the persisted state of the application which holds the key of
+	 * the fragments merged into the model, see
+	 * {@link #computeFragmentsKey(IExtension[])}.
+	 */
+	static final String MERGED_FRAGMENTS_KEY = "org.eclipse.e4.ui.workbench.mergedFragments"; //$NON-NLS-1$
+
 	LoggerFactory factory;
 	Logger logger;
 
@@ -315,15 +339,17 @@ public class ModelAssembler {
 
 		IExtensionRegistry extReg = this.registry.get();
 		if (extReg != null) {
-			IExtensionPoint extPoint = extReg.getExtensionPoint(EXTENSION_POINT_ID);
-			IExtension[] extensions = new ExtensionsSort().sort(extPoint.getExtensions());
-
-			// run processors which are marked to run before fragments
-			runProcessors(extensions, initial, false);
-			// process fragments (and resolve imports)
-			processFragments(extensions, initial);
-			// run processors which are marked to run after fragments
-			runProcessors(extensions, initial, true);
+			try (StartupTimeline.Span span = StartupTimeline.begin("Process model", StartupTimeline.MODEL)) { //$NON-NLS-1$
+				IExtensionPoint extPoint = extReg.getExtensionPoint(EXTENSION_POINT_ID);
+				IExtension[] extensions = new ExtensionsSort().sort(extPoint.getExtensions());
+
+				// run processors which are marked to run before fragments
+				runProcessors(extensions, initial, false);
+				// process fragments (and resolve imports)
+				processFragments(extensions, initial);
+				// run processors which are marked to run after fragments
+				runProcessors(extensions, initial, true);
+			}
 		}
 
 		// once we are done, any further handling in the tracker can't be initial
@@ -335,12 +361,25 @@ public class ModelAssembler {
 	/**
 	 * Adds the {@link MApplicationElement model elements} contributed by the
 	 * {@link IExtension extensions} to the {@link MApplication application model}.
+	 * <p>
+	 * A persisted model already contains the fragments of the extensions merged
+	 * into it before it was saved. If these come from the same bundles, in the
+	 * same versions, they are neither loaded nor merged again. The fragments of
+	 * the bundles with a Model-Fragment header are always merged.
+	 * </p>
 	 *
 	 * @param extensions the list of {@link IExtension} extension elements
 	 * @param initial    <code>true</code> if running from a non-persisted state
 	 *
 	 */
 	private void processFragments(IExtension[] extensions, boolean initial) {
+		String fragmentsKey = computeFragmentsKey(extensions);
+		if (!initial && fragmentsKey != null
+				&& fragmentsKey.equals(application.getPersistedState().get(MERGED_FRAGMENTS_KEY))) {
+			extensions = new IExtension[0];
+		}
+		loadFragmentResources(extensions, initial);
+
 		List<ModelFragmentWrapper> wrappers = new ArrayList<>();
 		for (IExtension extension : extensions) {
 			IConfigurationElement[] ces = extension.getConfigurationElements();
@@ -377,6 +416,218 @@ public class ModelAssembler {
 		}
 
 		processFragmentWrappers(wrappers);
+
+		if (fragmentsKey != null) {
+			application.getPersistedState().put(MERGED_FRAGMENTS_KEY, fragmentsKey);
+		} else {
+			invalidateMergedFragments();
+		}
+	}
+
+	/**
+	 * Computes the key of the fragments contributed by the given extensions: a
+	 * digest of their locations and of the symbolic names, versions and
+	 * modification stamps of the bundles contributing them.
+	 *
+	 * @param extensions the list of {@link IExtension} extension elements
+	 * @return the key, or <code>null</code> if a contributing bundle cannot be
+	 *         found
+	 */
+	private String computeFragmentsKey(IExtension[] extensions) {
+		BundleContext bundles = this.bundleContext;
+		if (bundles == null) {
+			Bundle bundle = FrameworkUtil.getBundle(ModelAssembler.class);
+			bundles = bundle == null ? null : bundle.getBundleContext();
+			if (bundles == null) {
+				return null;
+			}
+		}
+		Map<String, List<Bundle>> bundlesByName = new HashMap<>();
+		for (Bundle bundle : bundles.getBundles()) {
+			if (bundle.getSymbolicName() != null) {
+				bundlesByName.computeIfAbsent(bundle.getSymbolicName(), name -> new ArrayList<>()).add(bundle);
+			}
+		}
+
+		SortedSet<String> fragments = new TreeSet<>();
+		for (IExtension extension : extensions) {
+			for (IConfigurationElement ce : extension.getConfigurationElements()) {
+				if ("fragment".equals(ce.getName())) { //$NON-NLS-1$
+					String contributorName = ce.getContributor().getName();
+					List<Bundle> contributors = bundlesByName.get(contributorName);
+					if (contributors == null) {
+						return null;
+					}
+					StringBuilder fragment = new StringBuilder();
+					fragment.append(contributorName).append('|').append(ce.getAttribute("uri")) //$NON-NLS-1$
+							.append('|').append(ce.getAttribute("apply")); //$NON-NLS-1$
+					for (Bundle contributor : contributors) {
+						fragment.append('|').append(contributor.getVersion()).append('@')
+								.append(contributor.getLastModified());
+					}
+					fragments.add(fragment.toString());
+				}
+			}
+		}
+
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			for (String fragment : fragments) {
+				digest.update(fragment.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '\n');
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Forgets that the fragments of the extensions are merged into the model, as
+	 * the fragments of a bundle were added to it or removed from it while running.
+	 * The next start from the persisted model merges them again.
+	 */
+	private void invalidateMergedFragments() {
+		if (application != null) {
+			application.getPersistedState().remove(MERGED_FRAGMENTS_KEY);
+		}
+	}
+
+	/**
+	 * Loads the resources of the fragments contributed by the given extensions and
+	 * by the bundles with a Model-Fragment header in parallel. The fragments are
+	 * still processed one after the other, in their order, but no longer wait for
+	 * their resources to be parsed. Resources which fail to load are left to the
+	 * processing of the fragments, which reports the failure.
+	 * <p>
+	 * Each resource is loaded in its own resource set, with its own URI converter
+	 * and a package registry which looks up the packages of the application's
+	 * resource set one thread at a time. Everything is set up before loading
+	 * starts, so the loading threads share nothing they modify.
+	 * </p>
+	 *
+	 * @param extensions the list of {@link IExtension} extension elements
+	 * @param initial    <code>true</code> if running from a non-persisted state
+	 */
+	private void loadFragmentResources(IExtension[] extensions, boolean initial) {
+		Resource applicationResource = ((EObject) application).eResource();
+		ResourceSet resourceSet = applicationResource == null ? null : applicationResource.getResourceSet();
+		if (resourceSet == null) {
+			return;
+		}
+
+		Set<URI> uris = new LinkedHashSet<>();
+		for (IExtension extension : extensions) {
+			for (IConfigurationElement ce : extension.getConfigurationElements()) {
+				if ("fragment".equals(ce.getName()) && (initial || !INITIAL.equals(ce.getAttribute("apply")))) { //$NON-NLS-1$ //$NON-NLS-2$
+					addFragmentURI(uris, ce.getAttribute("uri"), ce.getContributor().getName()); //$NON-NLS-1$
+				}
+			}
+		}
+		if (this.tracker != null) {
+			for (Bundle bundle : bundleContext.getBundles()) {
+				if ((bundle.getState() & (Bundle.STARTING | Bundle.ACTIVE | Bundle.STOPPING)) != 0) {
+					String fragmentHeader = bundle.getHeaders("").get(MODEL_FRAGMENT_HEADER); //$NON-NLS-1$
+					if (fragmentHeader != null) {
+						String[] fr = fragmentHeader.split(";"); //$NON-NLS-1$
+						String apply = fr.length > 1 ? fr[1].split("=")[1] : ALWAYS; //$NON-NLS-1$
+						if (fr.length > 0 && (initial || !INITIAL.equals(apply))) {
+							addFragmentURI(uris, fr[0], bundle.getSymbolicName());
+						}
+					}
+				}
+			}
+		}
+		uris.removeIf(uri -> resourceSet.getResource(uri, false) != null);
+		if (uris.size() < 2) {
+			return;
+		}
+
+		List<ResourceSet> loadingSets = new ArrayList<>(uris.size());
+		for (URI uri : uris) {
+			// resolves the factory descriptors of the shared registry
+			resourceSet.getResourceFactoryRegistry().getFactory(uri);
+			loadingSets.add(createLoadingSet(resourceSet));
+		}
+		List<URI> uriList = new ArrayList<>(uris);
+		List<Resource> resources = IntStream.range(0, uriList.size()).parallel()
+				.mapToObj(i -> loadFragmentResource(loadingSets.get(i), uriList.get(i))).collect(Collectors.toList());
+		for (Resource resource : resources) {
+			if (resource != null && resource.getErrors().isEmpty()) {
+				resourceSet.getResources().add(resource);
+			}
+		}
+	}
+
+	private static void addFragmentURI(Set<URI> uris, String attrURI, String bundleName) {
+		if (attrURI == null || attrURI.isEmpty()) {
+			return;
+		}
+		try {
+			if (URIHelper.isPlatformURI(attrURI)) {
+				uris.add(URI.createURI(attrURI));
+			} else {
+				uris.add(URI.createPlatformPluginURI(bundleName + '/' + attrURI, false));
+			}
+		} catch (RuntimeException e) {
+			// reported when the fragment is processed
+		}
+	}
+
+	private static ResourceSet createLoadingSet(ResourceSet resourceSet) {
+		ResourceSetImpl loadingSet = new ResourceSetImpl();
+		loadingSet.setPackageRegistry(new SerializedPackageRegistry(resourceSet.getPackageRegistry()));
+		loadingSet.setResourceFactoryRegistry(resourceSet.getResourceFactoryRegistry());
+		URIConverter uriConverter = resourceSet.getURIConverter();
+		ExtensibleURIConverterImpl loadingConverter = new ExtensibleURIConverterImpl(uriConverter.getURIHandlers(),
+				uriConverter.getContentHandlers());
+		loadingConverter.getURIMap().putAll(uriConverter.getURIMap());
+		loadingSet.setURIConverter(loadingConverter);
+		loadingSet.getLoadOptions().putAll(resourceSet.getLoadOptions());
+		return loadingSet;
+	}
+
+	/**
+	 * A package registry which looks up the packages of its delegate one thread at
+	 * a time, as resolving a package descriptor replaces it in the delegate.
+	 */
+	private static class SerializedPackageRegistry extends EPackageRegistryImpl {
+		private static final long serialVersionUID = 1L;
+
+		SerializedPackageRegistry(EPackage.Registry delegateRegistry) {
+			super(delegateRegistry);
+		}
+
+		@Override
+		protected EPackage delegatedGetEPackage(String nsURI) {
+			synchronized (delegateRegistry) {
+				return super.delegatedGetEPackage(nsURI);
+			}
+		}
+
+		@Override
+		protected EFactory delegatedGetEFactory(String nsURI) {
+			synchronized (delegateRegistry) {
+				return super.delegatedGetEFactory(nsURI);
+			}
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			synchronized (delegateRegistry) {
+				return super.containsKey(key);
+			}
+		}
+	}
+
+	private static Resource loadFragmentResource(ResourceSet loadingSet, URI uri) {
+		try (StartupTimeline.Span span = StartupTimeline.begin("Load fragment", StartupTimeline.MODEL)) { //$NON-NLS-1$
+			span.arg("uri", uri); //$NON-NLS-1$
+			return loadingSet.getResource(uri, true);
+		} catch (RuntimeException e) {
+			// reported when the fragment is processed
+			return null;
+		}
 	}
 
 	private List<ModelFragmentWrapper> getModelFragmentWrapperFromBundle(Bundle bundle, boolean initial) {
@@ -479,9 +730,12 @@ public class ModelAssembler {
 
 	public void processFragments(Collection<ModelFragmentWrapper> fragmentList) {
 		for (ModelFragmentWrapper fragmentWrapper : fragmentList) {
-			processFragment(fragmentWrapper.getFragmentContainer(), fragmentWrapper.getModelFragment(),
-					fragmentWrapper.getContributorName(), fragmentWrapper.getContributorURI(),
-					fragmentWrapper.isCheckExists());
+			try (StartupTimeline.Span span = StartupTimeline.begin("Merge fragment", StartupTimeline.MODEL)) { //$NON-NLS-1$
+				span.arg("bundle", fragmentWrapper.getContributorName()); //$NON-NLS-1$
+				processFragment(fragmentWrapper.getFragmentContainer(), fragmentWrapper.getModelFragment(),
+						fragmentWrapper.getContributorName(), fragmentWrapper.getContributorURI(),
+						fragmentWrapper.isCheckExists());
+			}
 		}
 	}
 
@@ -704,7 +958,8 @@ public class ModelAssembler {
 			localContext.set(key, el);
 		}
 
-		try {
+		try (StartupTimeline.Span span = StartupTimeline.begin("Run processor", StartupTimeline.MODEL)) { //$NON-NLS-1$
+			span.arg("bundle", ce.getContributor().getName()).arg("class", ce.getAttribute("class")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 			Object o = factory.create("bundleclass://" + ce.getContributor().getName() + "/" + ce.getAttribute("class"), //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
 					context, localContext);
 			if (o == null) {
@@ -742,7 +997,9 @@ public class ModelAssembler {
 			localContext.set(key, el);
 		}
 
-		try {
+		try (StartupTimeline.Span span = StartupTimeline.begin("Run processor", StartupTimeline.MODEL)) { //$NON-NLS-1$
+			span.arg("class", (processor.getProcessorClass() != null ? processor.getProcessorClass() //$NON-NLS-1$
+					: processor.getClass()).getName());
 			Object o = null;
 			if (processor.getProcessorClass() != null) {
 				o = ContextInjectionFactory.make(processor.getProcessorClass(), localContext);
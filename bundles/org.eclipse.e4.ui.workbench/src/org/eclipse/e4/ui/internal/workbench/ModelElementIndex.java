@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.impl.ApplicationPackageImpl;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
+import org.eclipse.e4.ui.model.application.ui.advanced.impl.AdvancedPackageImpl;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Index over the elements contained in an {@link MApplication}, kept up to
+ * date as the model changes. It maps element ids to the elements carrying
+ * them, and shared elements to the placeholders referencing them.
+ */
+final class ModelElementIndex extends EContentAdapter {
+
+	private final Map<String, List<MApplicationElement>> elementsById = new HashMap<>();
+
+	private final Map<MUIElement, List<MPlaceholder>> placeholdersByRef = new HashMap<>();
+
+	/**
+	 * Referenced elements which are not contained in the application.
+	 */
+	private final Set<MUIElement> detachedRefs = new HashSet<>();
+
+	/**
+	 * Returns the index of the given application, creating it on first use.
+	 *
+	 * @param application the application
+	 * @return the index of the application's elements
+	 */
+	static ModelElementIndex get(MApplication application) {
+		EObject eApplication = (EObject) application;
+		Adapter adapter = EcoreUtil.getExistingAdapter(eApplication, ModelElementIndex.class);
+		if (adapter instanceof ModelElementIndex) {
+			return (ModelElementIndex) adapter;
+		}
+		ModelElementIndex index = new ModelElementIndex();
+		eApplication.eAdapters().add(index);
+		return index;
+	}
+
+	/**
+	 * @param id the element id
+	 * @return the elements of the application with the given id, in no
+	 *         particular order
+	 */
+	List<MApplicationElement> getElements(String id) {
+		List<MApplicationElement> elements = elementsById.get(id);
+		return elements == null ? Collections.emptyList() : elements;
+	}
+
+	/**
+	 * @param ref the referenced element
+	 * @return the placeholders of the application referencing the element
+	 */
+	List<MPlaceholder> getPlaceholders(MUIElement ref) {
+		List<MPlaceholder> placeholders = placeholdersByRef.get(ref);
+		return placeholders == null ? Collections.emptyList() : placeholders;
+	}
+
+	/**
+	 * @return <code>true</code> if a placeholder references an element outside
+	 *         of the application, which a search may reach without it being
+	 *         indexed
+	 */
+	boolean hasDetachedReferences() {
+		return !detachedRefs.isEmpty();
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == ModelElementIndex.class;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch()) {
+			return;
+		}
+		Object feature = notification.getFeature();
+		if (feature == ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__ELEMENT_ID) {
+			MApplicationElement element = (MApplicationElement) notification.getNotifier();
+			removeId(element, notification.getOldStringValue());
+			addId(element, notification.getNewStringValue());
+		} else if (feature == AdvancedPackageImpl.Literals.PLACEHOLDER__REF) {
+			MPlaceholder placeholder = (MPlaceholder) notification.getNotifier();
+			removeRef(placeholder, (MUIElement) notification.getOldValue());
+			addRef(placeholder, (MUIElement) notification.getNewValue());
+		}
+	}
+
+	@Override
+	protected void setTarget(EObject target) {
+		super.setTarget(target);
+		if (target instanceof MApplicationElement) {
+			addId((MApplicationElement) target, ((MApplicationElement) target).getElementId());
+		}
+		if (target instanceof MPlaceholder) {
+			addRef((MPlaceholder) target, ((MPlaceholder) target).getRef());
+		}
+		detachedRefs.remove(target);
+	}
+
+	@Override
+	protected void unsetTarget(EObject target) {
+		super.unsetTarget(target);
+		if (target instanceof MApplicationElement) {
+			removeId((MApplicationElement) target, ((MApplicationElement) target).getElementId());
+		}
+		if (target instanceof MPlaceholder) {
+			removeRef((MPlaceholder) target, ((MPlaceholder) target).getRef());
+		}
+		if (placeholdersByRef.containsKey(target)) {
+			detachedRefs.add((MUIElement) target);
+		}
+	}
+
+	private void addId(MApplicationElement element, String id) {
+		if (id != null) {
+			elementsById.computeIfAbsent(id, k -> new ArrayList<>(1)).add(element);
+		}
+	}
+
+	private void removeId(MApplicationElement element, String id) {
+		List<MApplicationElement> elements = id == null ? null : elementsById.get(id);
+		if (elements != null && elements.remove(element) && elements.isEmpty()) {
+			elementsById.remove(id);
+		}
+	}
+
+	private void addRef(MPlaceholder placeholder, MUIElement ref) {
+		if (ref == null) {
+			return;
+		}
+		placeholdersByRef.computeIfAbsent(ref, k -> new ArrayList<>(1)).add(placeholder);
+		if (!((EObject) ref).eAdapters().contains(this)) {
+			detachedRefs.add(ref);
+		}
+	}
+
+	private void removeRef(MPlaceholder placeholder, MUIElement ref) {
+		List<MPlaceholder> placeholders = ref == null ? null : placeholdersByRef.get(ref);
+		if (placeholders != null && placeholders.remove(placeholder) && placeholders.isEmpty()) {
+			placeholdersByRef.remove(ref);
+			detachedRefs.remove(ref);
+		}
+	}
+}
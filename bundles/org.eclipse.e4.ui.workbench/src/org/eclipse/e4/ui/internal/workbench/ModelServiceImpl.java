@@ -51,6 +51,7 @@ import org.eclipse.e4.ui.model.application.ui.advanced.MArea;
 import org.eclipse.e4.ui.model.application.ui.advanced.MPerspective;
 import org.eclipse.e4.ui.model.application.ui.advanced.MPerspectiveStack;
 import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
+import org.eclipse.e4.ui.model.application.ui.advanced.impl.AdvancedPackageImpl;
 import org.eclipse.e4.ui.model.application.ui.basic.MBasicFactory;
 import org.eclipse.e4.ui.model.application.ui.basic.MPart;
 import org.eclipse.e4.ui.model.application.ui.basic.MPartSashContainer;
@@ -62,6 +63,8 @@ import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
 import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
 import org.eclipse.e4.ui.model.application.ui.basic.MWindowElement;
 import org.eclipse.e4.ui.model.application.ui.basic.impl.BasicFactoryImpl;
+import org.eclipse.e4.ui.model.application.ui.basic.impl.BasicPackageImpl;
+import org.eclipse.e4.ui.model.application.ui.impl.UiPackageImpl;
 import org.eclipse.e4.ui.model.application.ui.menu.MMenu;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolControl;
@@ -75,6 +78,7 @@ import org.eclipse.e4.ui.workbench.modeling.EPlaceholderResolver;
 import org.eclipse.e4.ui.workbench.modeling.ElementMatcher;
 import org.eclipse.emf.common.util.ECollections;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
@@ -415,8 +419,7 @@ public class ModelServiceImpl implements EModelService {
 
 	@Override
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz, List<String> tagsToMatch) {
-		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		return findElements(searchRoot, clazz, ANYWHERE, matcher);
+		return findElements(searchRoot, id, clazz, tagsToMatch, ANYWHERE);
 	}
 
 	@Override
@@ -428,9 +431,157 @@ public class ModelServiceImpl implements EModelService {
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz,
 			List<String> tagsToMatch, int searchFlags) {
 		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
+		if (id != null && isIndexedSearch(searchRoot, clazz, searchFlags)) {
+			List<T> elements = findIndexedElements(searchRoot, id, clazz, matcher, searchFlags);
+			if (elements != null) {
+				return elements;
+			}
+		}
 		return findElements(searchRoot, clazz, searchFlags, matcher);
 	}
 
+	/**
+	 * Looks up the elements with the given id in the index of the search
+	 * root's application.
+	 *
+	 * @return the matching elements, or <code>null</code> if the search has to
+	 *         walk the model
+	 */
+	private <T> List<T> findIndexedElements(MUIElement searchRoot, String id, Class<T> clazz,
+			Selector matcher, int searchFlags) {
+		ModelElementIndex index = ModelElementIndex
+				.get((MApplication) EcoreUtil.getRootContainer((EObject) searchRoot));
+		if (index.hasDetachedReferences()) {
+			return null;
+		}
+		List<T> elements = new ArrayList<>(1);
+		for (MApplicationElement candidate : index.getElements(id)) {
+			if ((clazz == null || clazz.isInstance(candidate)) && matcher.select(candidate)
+					&& isSearched(candidate, searchRoot, searchFlags, index)) {
+				if (!elements.isEmpty()) {
+					// several matches, let the walk determine their order
+					return null;
+				}
+				@SuppressWarnings("unchecked")
+				T element = (T) candidate;
+				elements.add(element);
+			}
+		}
+		return elements;
+	}
+
+	/**
+	 * Whether a search can be answered by looking up candidates by id in the
+	 * {@link ModelElementIndex} of the search root's application and checking
+	 * which of them {@link #findElementsRecursive} would reach. Searches for
+	 * the elements only reached through the application's or a part's special
+	 * lists, searches from binding tables and binding contexts, searches of the
+	 * shared areas only, and searches outside of an application are left to
+	 * the walk.
+	 */
+	private boolean isIndexedSearch(MUIElement searchRoot, Class<?> clazz, int searchFlags) {
+		if (!(searchRoot instanceof EObject) || searchFlags == 0) {
+			return false;
+		}
+		if (searchRoot instanceof MBindingTable || searchRoot instanceof MBindingContext) {
+			// the walk descends into their bindings and child contexts, which
+			// isSearched does not follow
+			return false;
+		}
+		if (clazz != null && (clazz.equals(MHandler.class) || clazz.equals(MCommand.class)
+				|| clazz.equals(MBindingContext.class) || clazz.equals(MBindingTable.class)
+				|| clazz.equals(MKeyBinding.class) || clazz.equals(MAddon.class))) {
+			return false;
+		}
+		if ((searchFlags & (IN_ANY_PERSPECTIVE | IN_ACTIVE_PERSPECTIVE)) == 0
+				&& (searchFlags & IN_SHARED_AREA) != 0) {
+			return false;
+		}
+		return EcoreUtil.getRootContainer((EObject) searchRoot) instanceof MApplication;
+	}
+
+	/**
+	 * Determines whether {@link #findElementsRecursive} would visit the given
+	 * element when searching from the search root with the given flags, by
+	 * following the model upwards through containers and placeholders.
+	 */
+	private boolean isSearched(MApplicationElement element, MUIElement searchRoot, int searchFlags,
+			ModelElementIndex index) {
+		if (element == searchRoot) {
+			return true;
+		}
+		EObject eElement = (EObject) element;
+		EObject container = eElement.eContainer();
+		if (container instanceof MApplicationElement && isSearchedChild((MApplicationElement) container,
+				eElement.eContainmentFeature(), element, searchRoot, searchFlags, index)) {
+			return true;
+		}
+		if (element instanceof MUIElement && (!(element instanceof MArea) || (searchFlags & IN_SHARED_AREA) != 0)) {
+			for (MPlaceholder placeholder : index.getPlaceholders((MUIElement) element)) {
+				if (isSearched(placeholder, searchRoot, searchFlags, index)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean isSearchedChild(MApplicationElement container, EStructuralFeature feature,
+			MApplicationElement child, MUIElement searchRoot, int searchFlags, ModelElementIndex index) {
+		if (feature == UiPackageImpl.Literals.ELEMENT_CONTAINER__CHILDREN) {
+			if (container instanceof MPerspectiveStack) {
+				MPerspectiveStack stack = (MPerspectiveStack) container;
+				if ((searchFlags & IN_ANY_PERSPECTIVE) == 0 && ((searchFlags & IN_ACTIVE_PERSPECTIVE) == 0
+						|| stack.getSelectedElement() != child)) {
+					return false;
+				}
+				return isSearched(stack, searchRoot, searchFlags, index)
+						|| isSearchedPrimaryPerspectiveStack(stack, searchRoot, searchFlags, index);
+			}
+			if (container instanceof MWindow && (searchFlags & OUTSIDE_PERSPECTIVE) == 0
+					&& getPrimaryPerspectiveStack((MWindow) container) != null) {
+				return false;
+			}
+			return isSearched(container, searchRoot, searchFlags, index);
+		}
+		if (feature == BasicPackageImpl.Literals.WINDOW__SHARED_ELEMENTS) {
+			return (searchFlags & IN_SHARED_ELEMENTS) != 0 && isSearched(container, searchRoot, searchFlags, index);
+		}
+		if (feature == BasicPackageImpl.Literals.TRIMMED_WINDOW__TRIM_BARS) {
+			return (searchFlags & IN_TRIM) != 0 && isSearched(container, searchRoot, searchFlags, index);
+		}
+		if (feature == BasicPackageImpl.Literals.WINDOW__MAIN_MENU) {
+			return (searchFlags & IN_MAIN_MENU) != 0 && isSearched(container, searchRoot, searchFlags, index);
+		}
+		if (feature == BasicPackageImpl.Literals.PART__MENUS || feature == BasicPackageImpl.Literals.PART__TOOLBAR) {
+			return (searchFlags & IN_PART) != 0 && isSearched(container, searchRoot, searchFlags, index);
+		}
+		if (feature == BasicPackageImpl.Literals.WINDOW__WINDOWS
+				|| feature == AdvancedPackageImpl.Literals.PERSPECTIVE__WINDOWS) {
+			return isSearched(container, searchRoot, searchFlags, index);
+		}
+		return false;
+	}
+
+	/**
+	 * A window's primary perspective stack is searched in place of the window's
+	 * children unless {@link #OUTSIDE_PERSPECTIVE} is given.
+	 *
+	 * @see #getPrimaryPerspectiveStack(MWindow)
+	 */
+	private boolean isSearchedPrimaryPerspectiveStack(MPerspectiveStack stack, MUIElement searchRoot,
+			int searchFlags, ModelElementIndex index) {
+		if ((searchFlags & OUTSIDE_PERSPECTIVE) != 0) {
+			return false;
+		}
+		EObject parent = ((EObject) stack).eContainer();
+		if (parent instanceof MPartSashContainer) {
+			parent = parent.eContainer();
+		}
+		return parent instanceof MWindow && getPrimaryPerspectiveStack((MWindow) parent) == stack
+				&& isSearched((MWindow) parent, searchRoot, searchFlags, index);
+	}
+
 	@Override
 	public <T> List<T> findElements(MApplicationElement searchRoot, Class<T> clazz,
 			int searchFlags, Selector matcher) {
@@ -0,0 +1,291 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+
+/**
+ * Stores the persisted application model in the EMF binary resource format,
+ * which is considerably faster to read and write than XMI.
+ * <p>
+ * The snapshot file starts with a header holding a CRC32 checksum of its
+ * content, so that a damaged snapshot is detected before it is loaded. The
+ * XML ids of the model objects are stored along with the model, as fragments
+ * are merged by id. Elements which are not persisted to XMI are left out of
+ * the snapshot as well.
+ * </p>
+ * <p>
+ * Changes to the tracked model are recorded, so that saving a model which has
+ * not changed since it was last loaded or saved does not write anything.
+ * </p>
+ */
+final class ModelSnapshot {
+
+	private static final int MAGIC = 0x45345742; // "E4WB"
+
+	private static final int VERSION = 1;
+
+	private static final String FILE_EXTENSION = "bin"; //$NON-NLS-1$
+
+	/**
+	 * Records whether a non-transient feature of the model changed.
+	 */
+	private static final class ChangeTracker extends EContentAdapter {
+		private volatile boolean changed = true;
+
+		@Override
+		public void notifyChanged(Notification notification) {
+			super.notifyChanged(notification);
+			if (notification.isTouch() || notification.getEventType() == Notification.REMOVING_ADAPTER) {
+				return;
+			}
+			Object feature = notification.getFeature();
+			if (feature instanceof EStructuralFeature && ((EStructuralFeature) feature).isTransient()) {
+				return;
+			}
+			changed = true;
+		}
+	}
+
+	/**
+	 * Copies the persisted part of a model.
+	 */
+	private static final class PersistedCopier extends EcoreUtil.Copier {
+		private static final long serialVersionUID = 1L;
+
+		PersistedCopier() {
+			// references to elements which are left out are dropped
+			super(true, false);
+		}
+
+		@Override
+		public EObject copy(EObject eObject) {
+			return E4XMISave.isPersisted(eObject) ? super.copy(eObject) : null;
+		}
+
+		@Override
+		public <T> Collection<T> copyAll(Collection<? extends T> eObjects) {
+			Collection<T> result = new ArrayList<>(eObjects.size());
+			for (T object : eObjects) {
+				@SuppressWarnings("unchecked")
+				T copy = (T) copy((EObject) object);
+				if (copy != null) {
+					result.add(copy);
+				}
+			}
+			return result;
+		}
+	}
+
+	private final ChangeTracker tracker = new ChangeTracker();
+
+	private Resource tracked;
+
+	/**
+	 * @param modelFile the XMI file of the persisted model
+	 * @return the snapshot file stored next to the XMI file
+	 */
+	static File getSnapshotFile(File modelFile) {
+		String name = modelFile.getName();
+		int extension = name.lastIndexOf('.');
+		if (extension != -1) {
+			name = name.substring(0, extension);
+		}
+		return new File(modelFile.getParentFile(), name + '.' + FILE_EXTENSION);
+	}
+
+	/**
+	 * Starts recording the changes to the given model resource.
+	 *
+	 * @param resource the model resource
+	 * @param changed  <code>true</code> if the model differs from the snapshot
+	 *                 on disk
+	 */
+	void track(Resource resource, boolean changed) {
+		if (tracked != resource) {
+			if (tracked != null) {
+				tracked.eAdapters().remove(tracker);
+			}
+			resource.eAdapters().add(tracker);
+			tracked = resource;
+		}
+		tracker.changed = changed;
+	}
+
+	/**
+	 * @param resource the model resource
+	 * @return <code>true</code> if the resource changed since it was last
+	 *         loaded or saved, or is not tracked
+	 */
+	boolean isChanged(Resource resource) {
+		return tracked != resource || tracker.changed;
+	}
+
+	/**
+	 * Writes the model to the snapshot file, unless it has not changed since
+	 * the file was written.
+	 *
+	 * @param resource the model resource
+	 * @param file     the snapshot file
+	 * @return <code>false</code> if the file was up to date
+	 * @throws IOException if the file could not be written
+	 */
+	boolean save(XMLResource resource, File file) throws IOException {
+		if (file.exists() && !isChanged(resource)) {
+			return false;
+		}
+		boolean track = tracked == resource;
+		if (track) {
+			// changes made while writing are written next time
+			tracker.changed = false;
+		}
+		try {
+			writeFile(file, write(resource, file));
+		} catch (IOException | RuntimeException e) {
+			if (track) {
+				tracker.changed = true;
+			}
+			throw e;
+		}
+		return true;
+	}
+
+	/**
+	 * Loads the snapshot file into an empty model resource.
+	 *
+	 * @param resource    the model resource to fill
+	 * @param resourceSet the resource set used to look up the model packages
+	 * @param file        the snapshot file
+	 * @throws IOException if the file could not be read or is damaged
+	 */
+	void load(XMLResource resource, ResourceSet resourceSet, File file) throws IOException {
+		byte[] content = readFile(file);
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+		int modelLength = in.readInt();
+		Resource binary = new BinaryResourceImpl(URI.createFileURI(file.getAbsolutePath()));
+		resourceSet.getResources().add(binary);
+		try {
+			binary.load(new ByteArrayInputStream(content, Integer.BYTES, modelLength), null);
+			in.skipBytes(modelLength);
+			List<EObject> contents = new ArrayList<>(binary.getContents());
+			resource.getContents().addAll(contents);
+			for (TreeIterator<EObject> it = EcoreUtil.getAllContents(contents); it.hasNext();) {
+				EObject object = it.next();
+				if (in.readBoolean()) {
+					resource.setID(object, in.readUTF());
+				}
+			}
+		} finally {
+			resourceSet.getResources().remove(binary);
+		}
+	}
+
+	private static byte[] write(XMLResource resource, File file) throws IOException {
+		PersistedCopier copier = new PersistedCopier();
+		Collection<EObject> copies = copier.copyAll(resource.getContents());
+		copier.copyReferences();
+
+		Resource binary = new BinaryResourceImpl(URI.createFileURI(file.getAbsolutePath()));
+		binary.getContents().addAll(copies);
+		ByteArrayOutputStream model = new ByteArrayOutputStream();
+		binary.save(model, null);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(model.size() + copier.size() * 24);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(model.size());
+		model.writeTo(out);
+		// the ids, in the order in which the copies are visited when loading
+		Map<EObject, String> ids = new IdentityHashMap<>(copier.size());
+		copier.forEach((original, copy) -> ids.put(copy, resource.getID(original)));
+		for (TreeIterator<EObject> it = binary.getAllContents(); it.hasNext();) {
+			String id = ids.get(it.next());
+			out.writeBoolean(id != null);
+			if (id != null) {
+				out.writeUTF(id);
+			}
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	private static void writeFile(File file, byte[] content) throws IOException {
+		CRC32 checksum = new CRC32();
+		checksum.update(content);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length + 20);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeLong(checksum.getValue());
+		out.writeInt(content.length);
+		out.write(content);
+		out.flush();
+
+		// replace the snapshot in one step, so that it is never left half written
+		file.getParentFile().mkdirs();
+		Path target = file.toPath();
+		Path temp = target.resolveSibling(file.getName() + ".tmp"); //$NON-NLS-1$
+		Files.write(temp, bytes.toByteArray());
+		try {
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static byte[] readFile(File file) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())));
+		if (in.available() < 20 || in.readInt() != MAGIC || in.readInt() != VERSION) {
+			throw new IOException("Not a workbench model snapshot: " + file); //$NON-NLS-1$
+		}
+		long checksum = in.readLong();
+		int length = in.readInt();
+		if (length < 0 || length != in.available()) {
+			throw new IOException("Truncated workbench model snapshot: " + file); //$NON-NLS-1$
+		}
+		byte[] content = new byte[length];
+		in.readFully(content);
+		CRC32 actual = new CRC32();
+		actual.update(content);
+		if (actual.getValue() != checksum) {
+			throw new IOException("Checksum mismatch in workbench model snapshot: " + file); //$NON-NLS-1$
+		}
+		return content;
+	}
+}
@@ -28,6 +28,8 @@ public class Policy {
 	public static final String DEBUG_CONTEXTS_VERBOSE_FLAG = "/trace/eclipse.context.verbose"; //$NON-NLS-1$
 	public static final String DEBUG_WORKBENCH_FLAG = "/trace/workbench"; //$NON-NLS-1$
 	public static final String DEBUG_RENDERER_FLAG = "/trace/renderer"; //$NON-NLS-1$
+	public static final String DEBUG_STARTUP_FLAG = "/trace/startup"; //$NON-NLS-1$
+	public static final String DEBUG_STARTUP_FILE_OPTION = "/trace/startup/file"; //$NON-NLS-1$
 
 	/***/
 	public static boolean DEBUG;
@@ -47,4 +49,6 @@ public class Policy {
 	public static boolean DEBUG_WORKBENCH;
 	/***/
 	public static boolean DEBUG_RENDERER;
+	/***/
+	public static boolean DEBUG_STARTUP;
 }
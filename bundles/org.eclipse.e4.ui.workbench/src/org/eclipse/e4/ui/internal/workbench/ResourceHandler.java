@@ -54,6 +54,7 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.osgi.service.datalocation.Location;
 import org.osgi.framework.Bundle;
 
@@ -62,9 +63,18 @@ import org.osgi.framework.Bundle;
  */
 public class ResourceHandler implements IModelResourceHandler {
 
+	/**
+	 * System property which, when set to <code>true</code>, persists the model
+	 * as a binary snapshot next to workbench.xmi. The snapshot is preferred on
+	 * startup unless it is older than workbench.xmi or damaged.
+	 */
+	public static final String BINARY_MODEL_PROPERTY = "org.eclipse.e4.ui.workbench.binaryModel"; //$NON-NLS-1$
+
 	private ResourceSet resourceSet;
 	private Resource resource;
 
+	private ModelSnapshot snapshot;
+
 	@Inject
 	private Logger logger;
 
@@ -101,6 +111,9 @@ public class ResourceHandler implements IModelResourceHandler {
 			@Named(IWorkbench.CLEAR_PERSISTED_STATE) boolean clearPersistedState) {
 		this.saveAndRestore = saveAndRestore;
 		this.clearPersistedState = clearPersistedState;
+		if (Boolean.getBoolean(BINARY_MODEL_PROPERTY)) {
+			snapshot = new ModelSnapshot();
+		}
 	}
 
 	@PostConstruct
@@ -142,6 +155,7 @@ public class ResourceHandler implements IModelResourceHandler {
 
 	@Override
 	public Resource loadMostRecentModel() {
+		StartupTimeline.Span loadSpan = StartupTimeline.begin("Load model", StartupTimeline.MODEL); //$NON-NLS-1$
 		File workbenchData = null;
 		URI restoreLocation = null;
 
@@ -150,8 +164,11 @@ public class ResourceHandler implements IModelResourceHandler {
 			restoreLocation = URI.createFileURI(workbenchData.getAbsolutePath());
 		}
 
-		if (clearPersistedState && workbenchData != null && workbenchData.exists()) {
-			workbenchData.delete();
+		if (clearPersistedState && workbenchData != null) {
+			if (workbenchData.exists()) {
+				workbenchData.delete();
+			}
+			ModelSnapshot.getSnapshotFile(workbenchData).delete();
 		}
 
 		// last stored time-stamp
@@ -165,8 +182,16 @@ public class ResourceHandler implements IModelResourceHandler {
 		boolean initialModel;
 
 		resource = null;
+		boolean fromSnapshot = false;
+		if (snapshot != null && saveAndRestore) {
+			resource = loadSnapshot(workbenchData, restoreLastModified);
+			fromSnapshot = resource != null;
+			restore |= fromSnapshot;
+		}
 		if (restore && saveAndRestore) {
-			resource = loadResource(restoreLocation);
+			if (resource == null) {
+				resource = loadResource(restoreLocation);
+			}
 			// If the saved model does not have any top-level windows, Eclipse will exit
 			// immediately, so throw out the persisted state and reinitialize with the defaults.
 			if (!hasTopLevelWindows(resource)) {
@@ -175,6 +200,7 @@ public class ResourceHandler implements IModelResourceHandler {
 							"The persisted application model has no top-level window. Reinitializing with the default application model."); //$NON-NLS-1$
 				}
 				resource = null;
+				fromSnapshot = false;
 			}
 		}
 		if (resource == null) {
@@ -187,6 +213,12 @@ public class ResourceHandler implements IModelResourceHandler {
 			initialModel = false;
 		}
 
+		if (snapshot != null && saveAndRestore) {
+			snapshot.track(resource, !fromSnapshot);
+		}
+
+		loadSpan.arg("source", fromSnapshot ? "snapshot" : initialModel ? "application" : "persisted").close(); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
 		// Add model items described in the model extension point
 		// This has to be done before commands are put into the context
 		MApplication appElement = (MApplication) resource.getContents().get(0);
@@ -215,12 +247,62 @@ public class ResourceHandler implements IModelResourceHandler {
 	@Override
 	public void save() throws IOException {
 		if (saveAndRestore) {
+			if (snapshot != null && saveSnapshot()) {
+				return;
+			}
 			Map<String, Object> options = new HashMap<>();
 			options.put(E4XMIResource.OPTION_FILTER_PERSIST_STATE, Boolean.TRUE);
 			resource.save(options);
 		}
 	}
 
+	/**
+	 * Loads the binary snapshot of the model, if it is at least as recent as
+	 * workbench.xmi.
+	 *
+	 * @return the model resource, or <code>null</code> if workbench.xmi has to
+	 *         be loaded instead
+	 */
+	private Resource loadSnapshot(File workbenchData, long xmiLastModified) {
+		File snapshotFile = ModelSnapshot.getSnapshotFile(workbenchData);
+		long lastModified = snapshotFile.lastModified();
+		if (lastModified == 0L || lastModified < xmiLastModified) {
+			// workbench.xmi was written without snapshots
+			return null;
+		}
+		Resource snapshotResource = resourceSet.createResource(URI.createFileURI(workbenchData.getAbsolutePath()));
+		try {
+			snapshot.load((XMLResource) snapshotResource, resourceSet, snapshotFile);
+			return snapshotResource;
+		} catch (Exception e) {
+			logger.warn(e, "Unable to load the model snapshot " + snapshotFile + ", loading " + workbenchData //$NON-NLS-1$ //$NON-NLS-2$
+					+ " instead"); //$NON-NLS-1$
+			resourceSet.getResources().remove(snapshotResource);
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the binary snapshot of the model, if it changed since it was last
+	 * written.
+	 *
+	 * @return <code>false</code> if the model has to be saved as XMI instead
+	 */
+	private boolean saveSnapshot() {
+		URI uri = resource.getURI();
+		if (!uri.isFile() || !(resource instanceof XMLResource)) {
+			return false;
+		}
+		File snapshotFile = ModelSnapshot.getSnapshotFile(new File(uri.toFileString()));
+		try {
+			snapshot.save((XMLResource) resource, snapshotFile);
+			return true;
+		} catch (Exception e) {
+			logger.error(e, "Unable to save the model snapshot " + snapshotFile + ", saving " + uri + " instead"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return false;
+		}
+	}
+
 	/**
 	 * Creates a resource with an app Model, used for saving copies of the main app model.
 	 *
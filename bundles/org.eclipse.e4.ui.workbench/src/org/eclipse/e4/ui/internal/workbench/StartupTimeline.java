@@ -0,0 +1,354 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records named spans for the phases of the workbench startup and writes them
+ * to a timeline file in the Chrome trace event format once startup completes.
+ * The file can be opened in <code>chrome://tracing</code> or any other viewer
+ * understanding that format.
+ * <p>
+ * Recording is enabled by setting the {@link #FILE_PROPERTY} system property to
+ * the path of the timeline file, or by the
+ * <code>org.eclipse.e4.ui.workbench/trace/startup</code> debug option, along
+ * with <code>org.eclipse.e4.ui.workbench/trace/startup/file</code>. When it is
+ * not enabled, {@link #begin(String, String)} returns a shared span which does
+ * nothing.
+ * </p>
+ * <p>
+ * Spans are used with a try-with-resources statement and may be begun and
+ * ended on any thread:
+ * </p>
+ *
+ * <pre>
+ * try (StartupTimeline.Span span = StartupTimeline.begin("Load model", StartupTimeline.MODEL)) {
+ * 	...
+ * }
+ * </pre>
+ */
+public final class StartupTimeline {
+
+	/**
+	 * The system property holding the path of the timeline file. Setting it
+	 * enables the recording.
+	 */
+	public static final String FILE_PROPERTY = "org.eclipse.e4.ui.workbench.startupTimeline"; //$NON-NLS-1$
+
+	/** Category of the spans of the workbench life cycle. */
+	public static final String WORKBENCH = "workbench"; //$NON-NLS-1$
+
+	/** Category of the spans loading and assembling the application model. */
+	public static final String MODEL = "model"; //$NON-NLS-1$
+
+	/** Category of the spans creating widgets. */
+	public static final String RENDERER = "renderer"; //$NON-NLS-1$
+
+	/** Category of the spans setting up the theme and styling. */
+	public static final String THEME = "theme"; //$NON-NLS-1$
+
+	private static final String DEFAULT_FILE_NAME = "startup-timeline.json"; //$NON-NLS-1$
+
+	/**
+	 * Upper bound of the recorded spans, so that a startup which never
+	 * completes does not keep growing the timeline.
+	 */
+	private static final int MAX_EVENTS = 100_000;
+
+	/**
+	 * A span of the timeline, which is recorded when it is closed.
+	 */
+	public static final class Span implements AutoCloseable {
+
+		private final String name;
+		private final String category;
+		private final long start;
+		private Map<String, String> args;
+
+		Span(String name, String category, long start) {
+			this.name = name;
+			this.category = category;
+			this.start = start;
+		}
+
+		/**
+		 * Adds an argument shown along with the span.
+		 *
+		 * @param key   the argument name
+		 * @param value the argument value, may be <code>null</code>
+		 * @return this span
+		 */
+		public Span arg(String key, Object value) {
+			if (this != NONE) {
+				if (args == null) {
+					args = new HashMap<>(4);
+				}
+				args.put(key, String.valueOf(value));
+			}
+			return this;
+		}
+
+		/**
+		 * Ends the span and records it.
+		 */
+		@Override
+		public void close() {
+			if (this != NONE) {
+				long end = System.nanoTime();
+				Thread thread = Thread.currentThread();
+				record(new Event(name, category, 'X', start, end - start, thread, args));
+			}
+		}
+	}
+
+	private static final class Event {
+		final String name;
+		final String category;
+		final char phase;
+		final long start;
+		final long duration;
+		final long threadId;
+		final String threadName;
+		final Map<String, String> args;
+
+		Event(String name, String category, char phase, long start, long duration, Thread thread,
+				Map<String, String> args) {
+			this.name = name;
+			this.category = category;
+			this.phase = phase;
+			this.start = start;
+			this.duration = duration;
+			this.threadId = thread.getId();
+			this.threadName = thread.getName();
+			this.args = args;
+		}
+	}
+
+	private static final Span NONE = new Span(null, null, 0);
+
+	/**
+	 * The time stamps of the events are relative to the start of the process,
+	 * so that the time spent before the workbench was reached shows up as well.
+	 */
+	private static final long ORIGIN_NANOS = System.nanoTime();
+
+	private static final long ORIGIN_MICROS = getProcessUptimeMicros();
+
+	private static final Queue<Event> events = new ConcurrentLinkedQueue<>();
+
+	private static final AtomicInteger eventCount = new AtomicInteger();
+
+	private static volatile File file;
+
+	static {
+		String path = System.getProperty(FILE_PROPERTY);
+		if (path != null && !path.isEmpty()) {
+			file = new File(path);
+		}
+	}
+
+	private StartupTimeline() {
+	}
+
+	/**
+	 * @return <code>true</code> if the startup is being recorded
+	 */
+	public static boolean isEnabled() {
+		return file != null;
+	}
+
+	/**
+	 * Begins a span of the timeline.
+	 *
+	 * @param name     the name of the span
+	 * @param category the category of the span, one of the constants of this
+	 *                 class or the name of the contributing bundle
+	 * @return the span, which must be closed when the phase ends
+	 */
+	public static Span begin(String name, String category) {
+		if (file == null) {
+			return NONE;
+		}
+		return new Span(name, category, System.nanoTime());
+	}
+
+	/**
+	 * Marks the completion of the workbench startup, writes the timeline file
+	 * and stops recording.
+	 *
+	 * @throws IOException if the file could not be written
+	 */
+	public static void complete() throws IOException {
+		File target;
+		synchronized (StartupTimeline.class) {
+			target = file;
+			if (target == null) {
+				return;
+			}
+			file = null;
+		}
+		events.add(new Event("Startup complete", WORKBENCH, 'i', System.nanoTime(), 0, Thread.currentThread(), //$NON-NLS-1$
+				null));
+		List<Event> recorded = new ArrayList<>(events);
+		events.clear();
+		eventCount.set(0);
+		write(target, recorded);
+	}
+
+	/**
+	 * Called when the debug options change.
+	 *
+	 * @param enabled whether the debug option is set
+	 * @param path    the path of the timeline file, or <code>null</code> to
+	 *                write it to the working directory
+	 */
+	static synchronized void setDebugOption(boolean enabled, String path) {
+		if (System.getProperty(FILE_PROPERTY) != null) {
+			// the system property takes precedence
+			return;
+		}
+		if (!enabled) {
+			file = null;
+		} else if (file == null) {
+			file = path == null || path.trim().isEmpty() ? new File(DEFAULT_FILE_NAME) : new File(path.trim());
+		}
+	}
+
+	private static void record(Event event) {
+		if (file != null && eventCount.incrementAndGet() <= MAX_EVENTS) {
+			events.add(event);
+		}
+	}
+
+	private static long getProcessUptimeMicros() {
+		Instant processStart = ProcessHandle.current().info().startInstant().orElse(null);
+		if (processStart == null) {
+			return 0;
+		}
+		Instant now = Instant.now();
+		long uptime = (now.getEpochSecond() - processStart.getEpochSecond()) * 1_000_000L
+				+ (now.getNano() - processStart.getNano()) / 1000;
+		return Math.max(uptime, 0);
+	}
+
+	private static long toMicros(long nanos) {
+		return ORIGIN_MICROS + (nanos - ORIGIN_NANOS) / 1000;
+	}
+
+	private static void write(File target, List<Event> recorded) throws IOException {
+		File parent = target.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		long pid = ProcessHandle.current().pid();
+		Map<Long, String> threads = new HashMap<>();
+		try (Writer out = Files.newBufferedWriter(target.toPath(), StandardCharsets.UTF_8)) {
+			out.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n"); //$NON-NLS-1$
+			boolean first = true;
+			for (Event event : recorded) {
+				threads.putIfAbsent(Long.valueOf(event.threadId), event.threadName);
+				if (!first) {
+					out.write(",\n"); //$NON-NLS-1$
+				}
+				first = false;
+				out.write("{\"name\":"); //$NON-NLS-1$
+				writeString(out, event.name);
+				out.write(",\"cat\":"); //$NON-NLS-1$
+				writeString(out, event.category);
+				out.write(",\"ph\":\"" + event.phase + '"'); //$NON-NLS-1$
+				out.write(",\"ts\":" + toMicros(event.start)); //$NON-NLS-1$
+				if (event.phase == 'X') {
+					out.write(",\"dur\":" + event.duration / 1000); //$NON-NLS-1$
+				} else {
+					out.write(",\"s\":\"g\""); //$NON-NLS-1$
+				}
+				out.write(",\"pid\":" + pid + ",\"tid\":" + event.threadId); //$NON-NLS-1$ //$NON-NLS-2$
+				if (event.args != null) {
+					out.write(",\"args\":{"); //$NON-NLS-1$
+					boolean firstArg = true;
+					for (Map.Entry<String, String> arg : event.args.entrySet()) {
+						if (!firstArg) {
+							out.write(',');
+						}
+						firstArg = false;
+						writeString(out, arg.getKey());
+						out.write(':');
+						writeString(out, arg.getValue());
+					}
+					out.write('}');
+				}
+				out.write('}');
+			}
+			for (Map.Entry<Long, String> thread : threads.entrySet()) {
+				if (!first) {
+					out.write(",\n"); //$NON-NLS-1$
+				}
+				first = false;
+				out.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":" + pid + ",\"tid\":" + thread.getKey() //$NON-NLS-1$ //$NON-NLS-2$
+						+ ",\"args\":{\"name\":"); //$NON-NLS-1$
+				writeString(out, thread.getValue());
+				out.write("}}"); //$NON-NLS-1$
+			}
+			out.write("\n]}\n"); //$NON-NLS-1$
+		}
+	}
+
+	private static void writeString(Writer out, String value) throws IOException {
+		if (value == null) {
+			out.write("null"); //$NON-NLS-1$
+			return;
+		}
+		out.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"':
+				out.write("\\\""); //$NON-NLS-1$
+				break;
+			case '\\':
+				out.write("\\\\"); //$NON-NLS-1$
+				break;
+			case '\n':
+				out.write("\\n"); //$NON-NLS-1$
+				break;
+			case '\r':
+				out.write("\\r"); //$NON-NLS-1$
+				break;
+			case '\t':
+				out.write("\\t"); //$NON-NLS-1$
+				break;
+			default:
+				if (c < 0x20) {
+					out.write(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+				} else {
+					out.write(c);
+				}
+			}
+		}
+		out.write('"');
+	}
+}
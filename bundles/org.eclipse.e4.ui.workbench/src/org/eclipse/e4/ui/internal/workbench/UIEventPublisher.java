@@ -16,6 +16,8 @@ package org.eclipse.e4.ui.internal.workbench;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.services.events.IEventBroker;
@@ -36,8 +38,24 @@ import org.eclipse.emf.ecore.util.EContentAdapter;
  */
 public class UIEventPublisher extends EContentAdapter {
 
+	/**
+	 * The number of event types with a topic, {@link Notification#SET} to
+	 * {@link Notification#MOVE}.
+	 */
+	private static final int EVENT_TYPES = Notification.MOVE + 1;
+
+	/**
+	 * The topics of the events, per feature or map attribute name and indexed
+	 * by event type.
+	 */
+	private static final Map<Object, String[]> topics = new ConcurrentHashMap<>();
+
 	private IEclipseContext context;
 
+	private final LongAdder publishedEvents = new LongAdder();
+
+	private final LongAdder suppressedEvents = new LongAdder();
+
 	/**
 	 * @param e4Context
 	 */
@@ -53,15 +71,93 @@ public class UIEventPublisher extends EContentAdapter {
 		if (notification.isTouch())
 			return;
 
+		// Don't bother creating events nobody listens to
+		String topic = getTopic(notification);
+		if (topic == null) {
+			return;
+		}
+		Activator activator = Activator.getDefault();
+		EventHandlerTopics handlerTopics = activator == null ? null : activator.getEventHandlerTopics();
+		if (handlerTopics != null && !handlerTopics.hasHandler(topic)) {
+			suppressedEvents.increment();
+			return;
+		}
+
 		// Format the EMF event as an E4 UIEvent
 		Map<String, Object> argMap = new HashMap<>();
 
-		String topic = formatData(notification, argMap);
+		topic = formatData(notification, argMap);
 
 		if (topic != null) {
 			IEventBroker eventManager = context.get(IEventBroker.class);
 			eventManager.send(topic, argMap);
+			publishedEvents.increment();
+		}
+	}
+
+	/**
+	 * @return the number of events sent through the event broker
+	 */
+	public long getPublishedEventCount() {
+		return publishedEvents.sum();
+	}
+
+	/**
+	 * @return the number of events not sent as no event handler subscribes to
+	 *         their topic
+	 */
+	public long getSuppressedEventCount() {
+		return suppressedEvents.sum();
+	}
+
+	/**
+	 * @return the number of model changes seen, whether or not an event was
+	 *         sent for them
+	 */
+	public long getModelChangeCount() {
+		return publishedEvents.sum() + suppressedEvents.sum();
+	}
+
+	/**
+	 * @return the topic of the event for the notification, or <code>null</code>
+	 *         if no event is sent for the notification
+	 */
+	private String getTopic(Notification notification) {
+		Object notifier = notification.getNotifier();
+		if (notifier instanceof MApplicationElement) {
+			Object feature = notification.getFeature();
+			return feature instanceof EStructuralFeature ? getTopic(feature, notification.getEventType()) : null;
+		} else if (notifier instanceof StringToObjectMapImpl) {
+			return getTopic(UIEvents.ApplicationElement.TRANSIENTDATA, notification.getEventType());
+		} else if (notifier instanceof StringToStringMapImpl) {
+			return getTopic(UIEvents.ApplicationElement.PERSISTEDSTATE, notification.getEventType());
 		}
+		return null;
+	}
+
+	/**
+	 * @param key
+	 *            the {@link EStructuralFeature} or the attribute name of a map
+	 * @return the shared topic string
+	 */
+	private String getTopic(Object key, int eventType) {
+		if (eventType < 0 || eventType >= EVENT_TYPES) {
+			return createTopic(key, getEventType(eventType));
+		}
+		String[] keyTopics = topics.computeIfAbsent(key, k -> new String[EVENT_TYPES]);
+		String topic = keyTopics[eventType];
+		if (topic == null) {
+			topic = createTopic(key, getEventType(eventType));
+			keyTopics[eventType] = topic;
+		}
+		return topic;
+	}
+
+	private String createTopic(Object key, String type) {
+		if (key instanceof EStructuralFeature) {
+			return getTopic((EStructuralFeature) key, type);
+		}
+		return getTopic((String) key, type);
 	}
 
 	/**
@@ -118,7 +214,7 @@ public class UIEventPublisher extends EContentAdapter {
 			appElement = (MApplicationElement) notifier;
 			feature = (EStructuralFeature) notification.getFeature();
 			attributeName = feature.getName();
-			topic = getTopic(feature, getEventType(notification));
+			topic = getTopic(feature, notification.getEventType());
 			switch (notification.getEventType()) {
 			case Notification.MOVE:
 				// for MOVE, oldValue is actually the source position
@@ -168,7 +264,7 @@ public class UIEventPublisher extends EContentAdapter {
 			}
 
 			attributeName = UIEvents.ApplicationElement.TRANSIENTDATA;
-			topic = getTopic(attributeName, getEventType(notification));
+			topic = getTopic(attributeName, notification.getEventType());
 
 			// We need to send MapEntries for the old and new values.
 			oldValue = createMapEntry(key, notification.getOldValue());
@@ -191,7 +287,7 @@ public class UIEventPublisher extends EContentAdapter {
 			}
 
 			attributeName = UIEvents.ApplicationElement.PERSISTEDSTATE;
-			topic = getTopic(attributeName, getEventType(notification));
+			topic = getTopic(attributeName, notification.getEventType());
 			oldValue = createMapEntry(key, notification.getOldValue());
 			newValue = createMapEntry(key, notification.getNewValue());
 		} else {
@@ -229,7 +325,11 @@ public class UIEventPublisher extends EContentAdapter {
 	}
 
 	private String getEventType(Notification notification) {
-		switch (notification.getEventType()) {
+		return getEventType(notification.getEventType());
+	}
+
+	private String getEventType(int eventType) {
+		switch (eventType) {
 		case Notification.ADD:
 			return EventTypes.ADD;
 
@@ -14,13 +14,23 @@
 package org.eclipse.jface.resource;
 
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+
 /**
  * Abstract implementation of ResourceManager. Maintains reference counts for all previously
  * allocated SWT resources. Delegates to the abstract method allocate(...) the first time a resource
  * is referenced and delegates to the abstract method deallocate(...) the last time a reference is
  * removed.
+ * <p>
+ * Optionally, images whose descriptor {@link DeviceResourceDescriptor#shouldBeCached() should be
+ * cached} are kept after their last reference is removed, up to a budget of bytes. When the budget
+ * is exceeded, the least recently used unreferenced images are deallocated.
+ * </p>
  *
  * @since 3.1
  */
@@ -31,12 +41,36 @@ abstract class AbstractResourceManager extends ResourceManager {
 	 */
 	private Map<DeviceResourceDescriptor<?>, RefCount<?>> map = null;
 
+	/**
+	 * Unreferenced resources kept for reuse, in access order. Subset of map. (null when the
+	 * cache is disabled)
+	 */
+	private LinkedHashMap<DeviceResourceDescriptor<?>, RefCount<?>> unreferenced = null;
+
+	/**
+	 * Maximum estimated size in bytes of the unreferenced resources, 0 if disabled
+	 */
+	private long cacheBudget = 0;
+
+	/**
+	 * Estimated size in bytes of the unreferenced resources
+	 */
+	private long cachedBytes = 0;
+
+	private long hits = 0;
+
+	private long misses = 0;
+
+	private long evictions = 0;
+
 	/**
 	 * Holds a reference count for a previously-allocated resource
 	 */
 	private static class RefCount<R> {
 		final R resource;
 		int count = 1;
+		/** estimated size in bytes, only computed while unreferenced */
+		long size = 0;
 
 		RefCount(R resource) {
 			this.resource = resource;
@@ -84,11 +118,18 @@ abstract class AbstractResourceManager extends ResourceManager {
 		if (count != null) {
 			// If this resource already exists, increment the reference count and return
 			// the existing resource.
+			if (count.count == 0) {
+				// reuse a cached, unreferenced resource
+				unreferenced.remove(descriptor);
+				cachedBytes -= count.size;
+			}
 			count.count++;
+			hits++;
 			return count.resource;
 		}
 
 		// Allocate and return a new resource (with ref count = 1)
+		misses++;
 		R resource = allocate(descriptor);
 
 		count = new RefCount<>(resource);
@@ -106,10 +147,19 @@ abstract class AbstractResourceManager extends ResourceManager {
 
 		// Find the existing resource
 		RefCount<R> count = getRefCount(descriptor);
-		if (count != null) {
+		// Resources kept in the cache are not referenced anymore
+		if (count != null && count.count > 0) {
 			// If the resource exists, decrement the reference count.
 			count.count--;
 			if (count.count == 0) {
+				if (shouldBeCached(descriptor, count.resource)) {
+					// Keep it for reuse until the budget is exceeded
+					count.size = estimateSize(count.resource);
+					unreferenced.put(descriptor, count);
+					cachedBytes += count.size;
+					evict(cacheBudget);
+					return;
+				}
 				// If this was the last reference, deallocate it.
 				deallocate(count.resource, descriptor);
 				map.remove(descriptor);
@@ -137,6 +187,10 @@ abstract class AbstractResourceManager extends ResourceManager {
 		}
 		map.forEach((key, val) -> deallocate(val.resource, key));
 		map = null;
+		if (unreferenced != null) {
+			unreferenced.clear();
+		}
+		cachedBytes = 0;
 	}
 
 	@Override
@@ -145,9 +199,92 @@ abstract class AbstractResourceManager extends ResourceManager {
 			return null;
 		}
 		RefCount<R> refCount = getRefCount(descriptor);
-		if (refCount == null) {
+		if (refCount == null || refCount.count == 0) {
 			return null;
 		}
 		return refCount.resource;
 	}
+
+	/**
+	 * Sets the maximum estimated size of the images that are kept after their
+	 * last reference was removed. Setting a budget of 0 disables the cache and
+	 * deallocates all unreferenced images.
+	 *
+	 * @param bytes the budget in bytes, 0 to disable caching
+	 */
+	void setCacheBudget(long bytes) {
+		if (bytes < 0) {
+			throw new IllegalArgumentException("Negative cache budget: " + bytes); //$NON-NLS-1$
+		}
+		cacheBudget = bytes;
+		if (bytes > 0 && unreferenced == null) {
+			unreferenced = new LinkedHashMap<>(16, 0.75f, true);
+		}
+		if (unreferenced != null) {
+			evict(bytes);
+			if (bytes == 0) {
+				unreferenced = null;
+			}
+		}
+	}
+
+	/**
+	 * Returns the budget set by {@link #setCacheBudget(long)}.
+	 *
+	 * @return the budget in bytes, 0 if caching is disabled
+	 */
+	long getCacheBudget() {
+		return cacheBudget;
+	}
+
+	/**
+	 * Returns a snapshot of the usage counters of this manager.
+	 *
+	 * @return the current counters
+	 */
+	ResourceCacheStatistics getCacheStatistics() {
+		int allocated = map == null ? 0 : map.size();
+		int cached = unreferenced == null ? 0 : unreferenced.size();
+		return new ResourceCacheStatistics(hits, misses, evictions, allocated, cached, cachedBytes);
+	}
+
+	private boolean shouldBeCached(DeviceResourceDescriptor<?> descriptor, Object resource) {
+		return unreferenced != null && descriptor.shouldBeCached() && resource instanceof Image image
+				&& !image.isDisposed();
+	}
+
+	/**
+	 * Deallocates least recently used unreferenced resources until their size is
+	 * within the given budget.
+	 *
+	 * @param budget size in bytes
+	 */
+	private void evict(long budget) {
+		Iterator<Map.Entry<DeviceResourceDescriptor<?>, RefCount<?>>> iterator = unreferenced.entrySet()
+				.iterator();
+		while (cachedBytes > budget && iterator.hasNext()) {
+			Map.Entry<DeviceResourceDescriptor<?>, RefCount<?>> eldest = iterator.next();
+			iterator.remove();
+			RefCount<?> count = eldest.getValue();
+			cachedBytes -= count.size;
+			evictions++;
+			deallocate(count.resource, eldest.getKey());
+			map.remove(eldest.getKey());
+		}
+		if (map != null && map.isEmpty()) {
+			map = null;
+		}
+	}
+
+	/**
+	 * Estimates the native memory used by the given image, assuming 32 bits per
+	 * pixel.
+	 *
+	 * @param resource an image
+	 * @return estimated size in bytes
+	 */
+	private static long estimateSize(Object resource) {
+		Rectangle bounds = ((Image) resource).getBounds();
+		return 4L * bounds.width * bounds.height;
+	}
 }
@@ -16,6 +16,7 @@ package org.eclipse.jface.resource;
 
 import java.net.URL;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.IAdaptable;
@@ -76,6 +77,17 @@ final class DeferredImageDescriptor extends ImageDescriptor implements IAdaptabl
 		return ImageDescriptor.createFromURL(url).getImageData(zoom);
 	}
 
+	@Override
+	public CompletableFuture<ImageData> getImageDataAsync(int zoom) {
+		// Resolve the URL in the calling thread, the supplier may not be thread safe
+		URL url = getURL();
+		if (url == null) {
+			return useMissingImage ? ImageDescriptor.getMissingImageDescriptor().getImageDataAsync(zoom)
+					: CompletableFuture.completedFuture(null);
+		}
+		return ImageDescriptor.createFromURL(url).getImageDataAsync(zoom);
+	}
+
 	@Override
 	public Image createImage(boolean returnMissingImageOnError, Device device) {
 		URL url = getURL();
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -114,6 +115,11 @@ class FileImageDescriptor extends ImageDescriptor implements IAdaptable {
 		return Objects.equals(location, other.location) && Objects.equals(name, other.name);
 	}
 
+	@Override
+	public CompletableFuture<ImageData> getImageDataAsync(int zoom) {
+		return ImageDataLoader.load(this, zoom);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * <p>
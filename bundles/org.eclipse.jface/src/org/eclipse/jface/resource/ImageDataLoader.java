@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.resource;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.graphics.ImageData;
+
+/**
+ * Decodes image data of image descriptors on a bounded pool of worker threads.
+ * Only used for the descriptors whose {@link ImageDescriptor#getImageData(int)}
+ * may be called from any thread.
+ * <p>
+ * Concurrent requests for the same descriptor and zoom level are decoded only
+ * once. For descriptors that are expensive to create, the decoded data of the
+ * most recently requested ones is kept, so that a later
+ * {@link ImageDescriptor#createImage(boolean, org.eclipse.swt.graphics.Device)}
+ * in the UI thread does not need to decode it again. Every caller gets its own
+ * copy of the data.
+ * </p>
+ *
+ * @see ImageDescriptor#getImageDataAsync(int)
+ */
+final class ImageDataLoader {
+
+	/**
+	 * Maximum number of decoded image data kept
+	 */
+	private static final int MAX_LOADED = 256;
+
+	private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+	private static final ExecutorService POOL;
+
+	static {
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(THREADS, THREADS, 5, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "JFace Image Decoder"); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				});
+		pool.allowCoreThreadTimeOut(true);
+		POOL = pool;
+	}
+
+	private static final class Key {
+		final ImageDescriptor descriptor;
+		final int zoom;
+
+		Key(ImageDescriptor descriptor, int zoom) {
+			this.descriptor = descriptor;
+			this.zoom = zoom;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return zoom == other.zoom && descriptor.equals(other.descriptor);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(descriptor, Integer.valueOf(zoom));
+		}
+	}
+
+	/**
+	 * Pending and completed loads. Read without locking, modified only while
+	 * synchronized on {@link #ORDER}.
+	 */
+	private static final Map<Key, CompletableFuture<ImageData>> LOADS = new ConcurrentHashMap<>();
+
+	/**
+	 * The keys of {@link #LOADS} in the order they were requested, the oldest
+	 * first. Must synchronize on the deque.
+	 */
+	private static final ArrayDeque<Key> ORDER = new ArrayDeque<>();
+
+	private ImageDataLoader() {
+		// not instantiated
+	}
+
+	/**
+	 * Decodes the image data of the given descriptor in a worker thread.
+	 *
+	 * @param descriptor image descriptor
+	 * @param zoom       zoom level in %
+	 * @return the future image data, completed with <code>null</code> if there is
+	 *         no data for the zoom level
+	 */
+	static CompletableFuture<ImageData> load(ImageDescriptor descriptor, int zoom) {
+		if (!descriptor.shouldBeCached()) {
+			return CompletableFuture.supplyAsync(() -> descriptor.getImageData(zoom), POOL);
+		}
+		Key key = new Key(descriptor, zoom);
+		CompletableFuture<ImageData> future;
+		synchronized (ORDER) {
+			future = LOADS.get(key);
+			if (future == null) {
+				future = CompletableFuture.supplyAsync(() -> descriptor.getImageData(zoom), POOL);
+				LOADS.put(key, future);
+				ORDER.add(key);
+				if (ORDER.size() > MAX_LOADED) {
+					LOADS.remove(ORDER.remove());
+				}
+				CompletableFuture<ImageData> loading = future;
+				future.whenComplete((data, error) -> {
+					if (error != null) {
+						// don't remember failures, the next request tries again
+						synchronized (ORDER) {
+							if (LOADS.remove(key, loading)) {
+								ORDER.remove(key);
+							}
+						}
+					}
+				});
+			}
+		}
+		return future.thenApply(ImageDataLoader::copy);
+	}
+
+	/**
+	 * Returns a copy of the image data already decoded by {@link #load}, if any.
+	 *
+	 * @param descriptor image descriptor
+	 * @param zoom       zoom level in %
+	 * @return the decoded image data or <code>null</code> if it has not been
+	 *         decoded or is not available any more
+	 */
+	static ImageData getLoaded(ImageDescriptor descriptor, int zoom) {
+		return copy(peekLoaded(descriptor, zoom));
+	}
+
+	/**
+	 * Returns whether the image data of the given descriptor has already been
+	 * decoded by {@link #load}, without copying it.
+	 *
+	 * @param descriptor image descriptor
+	 * @param zoom       zoom level in %
+	 * @return whether {@link #getLoaded} would return image data
+	 */
+	static boolean isLoaded(ImageDescriptor descriptor, int zoom) {
+		return peekLoaded(descriptor, zoom) != null;
+	}
+
+	private static ImageData peekLoaded(ImageDescriptor descriptor, int zoom) {
+		if (LOADS.isEmpty()) {
+			return null;
+		}
+		CompletableFuture<ImageData> future = LOADS.get(new Key(descriptor, zoom));
+		if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+			return null;
+		}
+		return future.join();
+	}
+
+	private static ImageData copy(ImageData data) {
+		return data == null ? null : (ImageData) data.clone();
+	}
+}
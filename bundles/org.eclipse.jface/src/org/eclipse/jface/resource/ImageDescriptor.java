@@ -16,6 +16,7 @@ package org.eclipse.jface.resource;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import org.eclipse.swt.SWTException;
@@ -388,6 +389,31 @@ public abstract class ImageDescriptor extends DeviceResourceDescriptor<Image> {
 		return null;
 	}
 
+	/**
+	 * Creates a new SWT <code>ImageData</code> object for this image descriptor,
+	 * possibly in a background thread. This allows callers in the UI thread to
+	 * show a placeholder and to swap in the real image once it has been decoded,
+	 * instead of blocking on I/O and decoding.
+	 * <p>
+	 * The default implementation calls {@link #getImageData(int)} in the calling
+	 * thread and returns a completed future, as subclasses may not allow that
+	 * method to be called from other threads. Images loaded from files and URLs
+	 * are decoded on a bounded pool of worker threads. For these, concurrent
+	 * requests are decoded only once, and the decoded data of recent requests is
+	 * reused by {@link #createImage(boolean, Device)}. Each caller gets its own
+	 * image data object.
+	 * </p>
+	 *
+	 * @param zoom The zoom level in % of the standard resolution
+	 * @return the future image data, completed with <code>null</code> if the
+	 *         image data could not be created or if no image data is available
+	 *         for the given zoom level
+	 * @since 3.32
+	 */
+	public CompletableFuture<ImageData> getImageDataAsync(int zoom) {
+		return CompletableFuture.completedFuture(getImageData(zoom));
+	}
+
 	/**
 	 * Creates and returns a new SWT <code>ImageData</code> object
 	 * for this image descriptor.
@@ -29,6 +29,13 @@ import org.eclipse.swt.widgets.Control;
  * A nested registry can be used to manage the resources for, say, a dialog
  * box.
  * </p>
+ * <p>
+ * By default, a resource is released to the global registry as soon as its
+ * last reference is removed. A cache budget can be set with
+ * {@link #setCacheBudget(long)} to keep unreferenced images that are expensive
+ * to create for reuse. They are released least recently used first when the
+ * budget is exceeded, and recreated from their descriptor on the next request.
+ * </p>
  * @since 3.1
  */
 public final class LocalResourceManager extends AbstractResourceManager {
@@ -80,4 +87,44 @@ public final class LocalResourceManager extends AbstractResourceManager {
 	protected Image getDefaultImage() {
 		return parentRegistry.getDefaultImage();
 	}
+
+	/**
+	 * Sets the maximum estimated size of the images this manager keeps after
+	 * their last reference was removed. Only images whose descriptor is marked
+	 * as expensive to create (such as images loaded from files or URLs) are kept.
+	 * When the budget is exceeded, the least recently used of them are released.
+	 * A budget of 0, the default, releases every resource as soon as it is no
+	 * longer referenced.
+	 *
+	 * @param bytes the budget in bytes, 0 to disable caching
+	 * @throws IllegalArgumentException if the budget is negative
+	 * @since 3.32
+	 */
+	@Override
+	public void setCacheBudget(long bytes) {
+		super.setCacheBudget(bytes);
+	}
+
+	/**
+	 * Returns the budget set by {@link #setCacheBudget(long)}.
+	 *
+	 * @return the budget in bytes, 0 if caching is disabled
+	 * @since 3.32
+	 */
+	@Override
+	public long getCacheBudget() {
+		return super.getCacheBudget();
+	}
+
+	/**
+	 * Returns a snapshot of the hits, misses, evictions and allocated resources
+	 * of this manager.
+	 *
+	 * @return the current counters
+	 * @since 3.32
+	 */
+	@Override
+	public ResourceCacheStatistics getCacheStatistics() {
+		return super.getCacheStatistics();
+	}
 }
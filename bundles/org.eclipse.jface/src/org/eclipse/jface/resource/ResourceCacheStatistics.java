@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.resource;
+
+/**
+ * Snapshot of the usage counters of a resource manager.
+ *
+ * @see LocalResourceManager#getCacheStatistics()
+ * @since 3.32
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ */
+public final class ResourceCacheStatistics {
+
+	private final long hits;
+	private final long misses;
+	private final long evictions;
+	private final int allocatedCount;
+	private final int cachedCount;
+	private final long cachedBytes;
+
+	ResourceCacheStatistics(long hits, long misses, long evictions, int allocatedCount, int cachedCount,
+			long cachedBytes) {
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+		this.allocatedCount = allocatedCount;
+		this.cachedCount = cachedCount;
+		this.cachedBytes = cachedBytes;
+	}
+
+	/**
+	 * Returns the number of requests that were served with an already allocated
+	 * resource, either still referenced or kept in the cache.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of requests that required a new resource to be
+	 * allocated.
+	 *
+	 * @return the number of misses
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of unreferenced resources that were deallocated because
+	 * the cache budget was exceeded.
+	 *
+	 * @return the number of evictions
+	 */
+	public long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the number of resources currently allocated through the manager,
+	 * including the cached unreferenced ones. Each of them holds a native
+	 * handle.
+	 *
+	 * @return the number of allocated resources
+	 */
+	public int getAllocatedCount() {
+		return allocatedCount;
+	}
+
+	/**
+	 * Returns the number of unreferenced resources currently kept in the cache.
+	 *
+	 * @return the number of cached resources
+	 */
+	public int getCachedCount() {
+		return cachedCount;
+	}
+
+	/**
+	 * Returns the estimated size of the unreferenced resources currently kept in
+	 * the cache.
+	 *
+	 * @return the size in bytes
+	 */
+	public long getCachedBytes() {
+		return cachedBytes;
+	}
+
+	@Override
+	public String toString() {
+		return "ResourceCacheStatistics [hits=" + hits + ", misses=" + misses + ", evictions=" + evictions //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ", allocated=" + allocatedCount + ", cached=" + cachedCount + ", cachedBytes=" + cachedBytes + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
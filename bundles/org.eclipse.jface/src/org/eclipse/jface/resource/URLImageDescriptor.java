@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IAdaptable;
@@ -85,12 +86,29 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 
 		private final String url;
 
+		/**
+		 * Descriptor whose data decoded in the background may be used, or
+		 * <code>null</code>
+		 */
+		private final URLImageDescriptor descriptor;
+
 		public URLImageDataProvider(String url) {
+			this(url, null);
+		}
+
+		URLImageDataProvider(String url, URLImageDescriptor descriptor) {
 			this.url = url;
+			this.descriptor = descriptor;
 		}
 
 		@Override
 		public ImageData getImageData(int zoom) {
+			if (descriptor != null) {
+				ImageData loaded = ImageDataLoader.getLoaded(descriptor, zoom);
+				if (loaded != null) {
+					return loaded;
+				}
+			}
 			return URLImageDescriptor.getImageData(url, zoom);
 		}
 
@@ -115,6 +133,11 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 		this.url = url.toExternalForm();
 	}
 
+	@Override
+	public CompletableFuture<ImageData> getImageDataAsync(int zoom) {
+		return ImageDataLoader.load(this, zoom);
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (!(o instanceof URLImageDescriptor)) {
@@ -291,6 +314,14 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 			start = System.nanoTime();
 		}
 		try {
+			if (ImageDataLoader.isLoaded(this, 100)) {
+				// Already decoded by getImageDataAsync(int), avoid reading the file again
+				try {
+					return new Image(device, new URLImageDataProvider(url, this));
+				} catch (SWTException | IllegalArgumentException exception) {
+					// fall back to the regular loading
+				}
+			}
 			if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x) {
 				if (!InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY) {
 					try {
@@ -144,6 +144,30 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 			doSetItemCount(requiredCount);
 		}
 
+		/**
+		 * Non visible elements have been added in bulk. Each element is
+		 * inserted before the cached element at the corresponding position,
+		 * positions being non-decreasing and relative to the current cache.
+		 *
+		 * @param elements
+		 * @param positions
+		 */
+		public void merge(Object[] elements, int[] positions) {
+			Object[] newCache = new Object[cachedElements.length
+					+ elements.length];
+			int from = 0;
+			for (int i = 0; i < elements.length; i++) {
+				int length = positions[i] - from;
+				System.arraycopy(cachedElements, from, newCache, from + i,
+						length);
+				newCache[positions[i] + i] = elements[i];
+				from = positions[i];
+			}
+			System.arraycopy(cachedElements, from, newCache,
+					from + elements.length, cachedElements.length - from);
+			cachedElements = newCache;
+		}
+
 		/**
 		 * The elements with the given indices need to be removed from the
 		 * cache.
@@ -271,6 +295,11 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		Object[] filtered = filter(elements);
 
 		final int itemsLimit = getItemsLimit();
+		if (filtered.length > 1 && itemsLimit <= 0
+				&& !OVERRIDES_INDEX_FOR_ELEMENT.get(getClass()).booleanValue()) {
+			addAll(filtered == elements ? filtered.clone() : filtered);
+			return;
+		}
 		for (Object element : filtered) {
 			int index = indexForElement(element);
 			// 1. Cost is negligible if you don't set limit.
@@ -289,6 +318,122 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Whether a viewer class overrides {@link #indexForElement(Object)}, in
+	 * which case the elements are inserted where it says one at a time rather
+	 * than by {@link #addAll(Object[])}.
+	 */
+	private static final ClassValue<Boolean> OVERRIDES_INDEX_FOR_ELEMENT = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			for (Class<?> c = type; c != AbstractTableViewer.class && c != null; c = c.getSuperclass()) {
+				try {
+					c.getDeclaredMethod("indexForElement", Object.class); //$NON-NLS-1$
+					return Boolean.TRUE;
+				} catch (NoSuchMethodException e) {
+					// look in the superclass
+				} catch (SecurityException e) {
+					return Boolean.TRUE;
+				}
+			}
+			return Boolean.FALSE;
+		}
+	};
+
+	/**
+	 * Adds a batch of elements at once. The batch is sorted a single time with
+	 * the viewer's comparator and then merged with the existing items in one
+	 * pass, rather than searching for the insertion point of each element
+	 * separately. Redraw is suspended while the items are created.
+	 *
+	 * @param elements
+	 *            the filtered elements to add, may be reordered
+	 */
+	private void addAll(Object[] elements) {
+		ViewerComparator comparator = getComparator();
+		if (comparator != null) {
+			comparator.sort(this, elements);
+		}
+		int count = doGetItemCount();
+		if (virtualManager != null
+				&& virtualManager.cachedElements.length != count) {
+			// the cache does not reflect the table, e.g. for a lazy content
+			// provider, so fall back to adding the elements one at a time
+			for (Object element : elements) {
+				createItem(element, indexForElement(element));
+			}
+			return;
+		}
+
+		// positions relative to the existing items are non-decreasing since
+		// the batch is sorted, so each search can start where the last ended
+		int[] positions = new int[elements.length];
+		int position = comparator == null ? count : 0;
+		for (int i = 0; i < elements.length; i++) {
+			if (comparator != null) {
+				position = indexForElement(comparator, elements[i], position,
+						count);
+			}
+			positions[i] = position;
+		}
+
+		Control control = getControl();
+		control.setRedraw(false);
+		try {
+			if (virtualManager == null) {
+				for (int i = 0; i < elements.length; i++) {
+					updateItem(internalCreateNewRowPart(SWT.NONE,
+							positions[i] + i).getItem(), elements[i]);
+				}
+			} else {
+				virtualManager.merge(elements, positions);
+				doSetItemCount(count + elements.length);
+				// items at or after the first insertion point now show other
+				// elements, let the SetData callback resolve them again
+				for (int i = positions[0]; i < count; i++) {
+					doClear(i);
+				}
+			}
+		} finally {
+			control.setRedraw(true);
+		}
+	}
+
+	/**
+	 * Returns the element shown at the given index, taking it from the cache
+	 * of a virtual table so that no item gets materialized.
+	 *
+	 * @param index
+	 *            the index of the item
+	 * @return the element at index, may be <code>null</code>
+	 */
+	private Object getSortedElement(int index) {
+		if (virtualManager != null) {
+			return virtualManager.cachedElements[index];
+		}
+		return doGetItem(index).getData();
+	}
+
+	/**
+	 * Searches the existing items between <code>min</code> (inclusive) and
+	 * <code>count</code> (exclusive) for the insertion point of element.
+	 *
+	 * @return the index of the first item sorted after element
+	 */
+	private int indexForElement(ViewerComparator comparator, Object element,
+			int min, int count) {
+		int max = count - 1;
+		while (min <= max) {
+			int mid = (min + max) >>> 1;
+			if (comparator.compare(this, getSortedElement(mid), element) <= 0) {
+				min = mid + 1;
+			} else {
+				max = mid - 1;
+			}
+		}
+		return min;
+	}
+
 	/**
 	 * Create a new TableItem at index if required.
 	 *
@@ -780,17 +925,21 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		// to allow SWT to optimize multiple removals
 		int[] indices = new int[elements.length];
 		int count = 0;
-		for (Object element : elements) {
-			Widget w = findItem(element);
-			if (w == null && virtualManager != null) {
-				int index = virtualManager.find(element);
-				if (index != -1) {
-					indices[count++] = index;
+		if (elements.length > 1 && !usingElementMap()) {
+			count = indicesOf(elements, indices);
+		} else {
+			for (Object element : elements) {
+				Widget w = findItem(element);
+				if (w == null && virtualManager != null) {
+					int index = virtualManager.find(element);
+					if (index != -1) {
+						indices[count++] = index;
+					}
+				} else if (w instanceof Item) {
+					Item item = (Item) w;
+					disassociate(item);
+					indices[count++] = doIndexOf(item);
 				}
-			} else if (w instanceof Item) {
-				Item item = (Item) w;
-				disassociate(item);
-				indices[count++] = doIndexOf(item);
 			}
 		}
 		if (count < indices.length) {
@@ -799,7 +948,17 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		if (virtualManager != null) {
 			virtualManager.removeIndices(indices);
 		}
-		doRemove(indices);
+		if (count > 1) {
+			Control control = getControl();
+			control.setRedraw(false);
+			try {
+				doRemove(indices);
+			} finally {
+				control.setRedraw(true);
+			}
+		} else {
+			doRemove(indices);
+		}
 
 		// Workaround for 1GDGN4Q: ITPUI:WIN2000 - TableViewer icons get
 		// scrunched
@@ -808,6 +967,43 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Collects the indices of the given elements in a single pass over the
+	 * items, and over the cache of a virtual table for elements that have no
+	 * item yet, instead of searching the items once per element. Items found
+	 * are disassociated.
+	 *
+	 * @param elements
+	 *            the elements to look up
+	 * @param indices
+	 *            the array receiving the indices
+	 * @return the number of indices found
+	 */
+	private int indicesOf(Object[] elements, int[] indices) {
+		CustomHashtable remaining = newHashtable(elements.length * 2);
+		for (Object element : elements) {
+			remaining.put(element, element);
+		}
+		int count = 0;
+		Item[] items = doGetItems();
+		for (int i = 0; i < items.length && remaining.size() > 0; i++) {
+			Object data = items[i].getData();
+			if (data != null && remaining.remove(data) != null) {
+				disassociate(items[i]);
+				indices[count++] = i;
+			}
+		}
+		if (virtualManager != null) {
+			Object[] cached = virtualManager.cachedElements;
+			for (int i = 0; i < cached.length && remaining.size() > 0; i++) {
+				if (cached[i] != null && remaining.remove(cached[i]) != null) {
+					indices[count++] = i;
+				}
+			}
+		}
+		return count;
+	}
+
 	/**
 	 * Returns the data of the last item on the viewer.
 	 *
@@ -16,6 +16,8 @@
 
 package org.eclipse.jface.viewers;
 
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
 
@@ -48,6 +50,29 @@ import org.eclipse.jface.util.Policy;
  */
 public class ViewerComparator {
 
+	/**
+	 * Minimum number of elements for which the precomputed sort keys are sorted
+	 * with {@link Arrays#parallelSort(Object[], Comparator)}.
+	 */
+	private static final int PARALLEL_SORT_THRESHOLD = 10000;
+
+	/**
+	 * Remembers per class whether {@link #compare(Viewer, Object, Object)} is
+	 * the default implementation, in which case the sort keys of the elements
+	 * can be computed once per sort instead of once per comparison.
+	 */
+	private static final ClassValue<Boolean> USES_DEFAULT_COMPARE = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return Boolean.valueOf(type.getMethod("compare", Viewer.class, Object.class, Object.class) //$NON-NLS-1$
+						.getDeclaringClass() == ViewerComparator.class);
+			} catch (NoSuchMethodException | SecurityException e) {
+				return Boolean.FALSE;
+			}
+		}
+	};
+
 	/**
 	 * The comparator to use to sort a viewer's contents.
 	 */
@@ -192,7 +217,11 @@ public class ViewerComparator {
 	 * The default implementation of this method uses the
 	 * {@link java.util.Arrays#sort(Object[], Comparator)} algorithm on the
 	 * given array, calling {@link #compare(Viewer, Object, Object)} to compare
-	 * elements.
+	 * elements. If <code>compare</code> is not overridden, the category and the
+	 * label of each element are computed only once per sort, strings are compared
+	 * via their {@link CollationKey} when the comparator is a {@link Collator},
+	 * and large arrays are sorted in parallel. The result is the same as sorting
+	 * with <code>compare</code>.
 	 * </p>
 	 * <p>
 	 * Subclasses may reimplement this method to provide a more optimized implementation.
@@ -203,7 +232,11 @@ public class ViewerComparator {
 	 */
 	public void sort(final Viewer viewer, Object[] elements) {
 		try {
-			Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			if (elements.length > 1 && USES_DEFAULT_COMPARE.get(getClass()).booleanValue()) {
+				sortByKeys(viewer, elements);
+			} else {
+				Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			}
 		} catch (IllegalArgumentException e) {
 			String msg = e
 					+ "\nWorkaround for comparator violation:\n\tSet system property -Djava.util.Arrays.useLegacyMergeSort=true" //$NON-NLS-1$
@@ -228,4 +261,69 @@ public class ViewerComparator {
 			throw e;
 		}
 	}
+
+	/**
+	 * Sorts the given elements exactly like the default
+	 * {@link #compare(Viewer, Object, Object)} would, but computes the category,
+	 * the label and (for a {@link Collator}) the collation key of every element
+	 * only once. Label providers are only called from the calling thread; large
+	 * arrays of collation keys are then sorted in parallel. Both sort algorithms
+	 * are stable, so the result is identical to the sequential sort.
+	 *
+	 * @param viewer   the viewer
+	 * @param elements the elements to sort
+	 */
+	private void sortByKeys(Viewer viewer, Object[] elements) {
+		Comparator<? super String> stringComparator = getComparator();
+		Collator collator = stringComparator instanceof Collator ? (Collator) stringComparator : null;
+		SortKey[] keys = new SortKey[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			Object element = elements[i];
+			String label = getLabel(viewer, element);
+			keys[i] = new SortKey(element, category(element),
+					collator != null ? collator.getCollationKey(label) : label);
+		}
+
+		if (collator != null) {
+			Comparator<SortKey> keyComparator = (a, b) -> {
+				if (a.category != b.category) {
+					return a.category - b.category;
+				}
+				return ((CollationKey) a.key).compareTo((CollationKey) b.key);
+			};
+			if (keys.length >= PARALLEL_SORT_THRESHOLD) {
+				Arrays.parallelSort(keys, keyComparator);
+			} else {
+				Arrays.sort(keys, keyComparator);
+			}
+		} else {
+			// arbitrary string comparators are not known to be thread safe
+			Arrays.sort(keys, (a, b) -> {
+				if (a.category != b.category) {
+					return a.category - b.category;
+				}
+				return stringComparator.compare((String) a.key, (String) b.key);
+			});
+		}
+
+		for (int i = 0; i < keys.length; i++) {
+			elements[i] = keys[i].element;
+		}
+	}
+
+	/**
+	 * The precomputed sort criteria of a single element.
+	 */
+	private static final class SortKey {
+		final Object element;
+		final int category;
+		/** the label {@link String} or its {@link CollationKey} */
+		final Object key;
+
+		SortKey(Object element, int category, Object key) {
+			this.element = element;
+			this.category = category;
+			this.key = key;
+		}
+	}
 }
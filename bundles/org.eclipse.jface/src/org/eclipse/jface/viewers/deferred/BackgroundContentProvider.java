@@ -14,6 +14,7 @@
 package org.eclipse.jface.viewers.deferred;
 
 import java.util.Comparator;
+import java.util.concurrent.Executor;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -124,6 +125,12 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 	private IProgressMonitor sortingProgressMonitor = new NullProgressMonitor();
 	private Thread sortThread = null;
 
+	/**
+	 * Executor running the sorts, <code>null</code> to sort in a thread of this
+	 * content provider
+	 */
+	private final Executor sortExecutor;
+
 	private volatile FastProgressReporter sortMon = new FastProgressReporter();
 
 	private volatile Range range = new Range(0,0);
@@ -137,10 +144,26 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 	 */
 	public BackgroundContentProvider(AbstractVirtualTable table,
 			IConcurrentModel model, Comparator sortOrder) {
+		this(table, model, sortOrder, null);
+	}
+
+	/**
+	 * Creates a new background content provider which sorts using the given
+	 * executor, which may be shared with other content providers.
+	 *
+	 * @param table table that will receive updates
+	 * @param model data source
+	 * @param sortOrder initial sort order
+	 * @param sortExecutor executor running the sorts, or <code>null</code> to
+	 *            sort in a thread of this content provider
+	 */
+	public BackgroundContentProvider(AbstractVirtualTable table,
+			IConcurrentModel model, Comparator sortOrder, Executor sortExecutor) {
 
 		updator = new ConcurrentTableUpdator(table);
 		this.model = model;
 		this.sortOrder = sortOrder;
+		this.sortExecutor = sortExecutor;
 		model.addListener(listener);
 	}
 
@@ -452,23 +475,30 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 
 		@Override
 		public void run() {
-			loop: while (true) {
-				synchronized (lock) {
-					sortScheduled = false;
-				}
-				try {
-					// this is the main work
-					doSort(sortingProgressMonitor);
-				} catch (Exception ex) {
-					// ignore
-				}
-				synchronized (lock) {
-					if (sortScheduled) {
-						continue loop;
-					}
-					sortThreadStarted = false;
-					break loop;
+			runSorts();
+		}
+	}
+
+	/**
+	 * Sorts until no further sort has been requested.
+	 */
+	private void runSorts() {
+		loop: while (true) {
+			synchronized (lock) {
+				sortScheduled = false;
+			}
+			try {
+				// this is the main work
+				doSort(sortingProgressMonitor);
+			} catch (Exception ex) {
+				// ignore
+			}
+			synchronized (lock) {
+				if (sortScheduled) {
+					continue loop;
 				}
+				sortThreadStarted = false;
+				break loop;
 			}
 		}
 	}
@@ -484,10 +514,14 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 			sortScheduled = true;
 			if (!sortThreadStarted) {
 				sortThreadStarted = true;
-				sortThread = new SortThread(SORTING);
-				sortThread.setDaemon(true);
-				sortThread.setPriority(Thread.NORM_PRIORITY - 1);
-				sortThread.start();
+				if (sortExecutor != null) {
+					sortExecutor.execute(this::runSorts);
+				} else {
+					sortThread = new SortThread(SORTING);
+					sortThread.setDaemon(true);
+					sortThread.setPriority(Thread.NORM_PRIORITY - 1);
+					sortThread.start();
+				}
 			}
 		}
 	}
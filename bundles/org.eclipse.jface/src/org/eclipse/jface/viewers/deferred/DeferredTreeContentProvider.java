@@ -0,0 +1,541 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers.deferred;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.viewers.AcceptAllFilter;
+import org.eclipse.jface.viewers.IFilter;
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
+import org.eclipse.jface.viewers.ITreeViewerListener;
+import org.eclipse.jface.viewers.TreeExpansionEvent;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+
+/**
+ * Content provider that performs sorting and filtering of the children of
+ * every expanded node in a background thread. Requires a
+ * <code>TreeViewer</code> created with the <code>SWT.VIRTUAL</code> flag and an
+ * <code>IConcurrentTreeModel</code> as input.
+ * <p>
+ * This is the tree counterpart of <code>DeferredContentProvider</code>. The
+ * children of each expanded node are streamed from the
+ * <code>IConcurrentModel</code> returned by
+ * {@link IConcurrentTreeModel#getChildren(Object)} and only the visible range
+ * of them is sorted, using the same algorithm as for tables. Collapsing a node
+ * releases its children, so memory use is bounded by the expanded nodes rather
+ * than by the size of the model. The viewer does not report the nodes it
+ * collapses itself, these are released once the children of another node are
+ * requested.
+ * </p>
+ * <p>
+ * The children of all nodes are sorted by a small pool of threads shared by
+ * all deferred trees, rather than by a thread per node.
+ * </p>
+ * <p>
+ * The sorter and filter must be set directly on the content provider. Any
+ * sorter or filter on the TreeViewer will be ignored.
+ * </p>
+ *
+ * @since 3.32
+ */
+public class DeferredTreeContentProvider implements ILazyTreeContentProvider {
+
+	/**
+	 * Number of threads sorting the children of the nodes of all trees
+	 */
+	private static final int SORT_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
+	/**
+	 * Pool sorting the children of the nodes of all trees. Idle threads terminate
+	 * after a few seconds.
+	 */
+	private static final ExecutorService SORT_POOL;
+
+	static {
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(SORT_THREADS, SORT_THREADS, 5, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, JFaceResources.getString("Sorting")); //$NON-NLS-1$
+					thread.setDaemon(true);
+					thread.setPriority(Thread.NORM_PRIORITY - 1);
+					return thread;
+				});
+		pool.allowCoreThreadTimeOut(true);
+		SORT_POOL = pool;
+	}
+
+	private int limit = -1;
+	private Comparator sortOrder;
+	private IFilter filter = AcceptAllFilter.getInstance();
+
+	private TreeViewer viewer;
+	private IConcurrentTreeModel model;
+
+	/**
+	 * Nodes whose children are currently provided, keyed by parent element. May
+	 * only be accessed in the UI thread.
+	 */
+	private Map<Object, TreeNode> nodes = new HashMap<>();
+
+	/**
+	 * Parents of the elements that have been sent to the viewer. May only be
+	 * accessed in the UI thread.
+	 */
+	private Map<Object, Object> parents = new HashMap<>();
+
+	/**
+	 * Remembers the tree item of a node once its children are requested, so that
+	 * rows can be cleared without searching the tree.
+	 */
+	private Listener setDataListener = event -> {
+		TreeItem parentItem = ((TreeItem) event.item).getParentItem();
+		if (parentItem != null) {
+			TreeNode node = nodes.get(parentItem.getData());
+			if (node != null) {
+				node.item = parentItem;
+			}
+		}
+	};
+
+	/**
+	 * Whether a release of the nodes which are no longer expanded has been
+	 * scheduled. May only be accessed in the UI thread.
+	 */
+	private boolean releaseScheduled;
+
+	private ITreeViewerListener expansionListener = new ITreeViewerListener() {
+		@Override
+		public void treeExpanded(TreeExpansionEvent event) {
+			getNode(event.getElement());
+		}
+
+		@Override
+		public void treeCollapsed(TreeExpansionEvent event) {
+			collapse(event.getElement());
+		}
+	};
+
+	/**
+	 * Adapts the children of one node of the tree to the algorithm of
+	 * <code>BackgroundContentProvider</code>.
+	 */
+	private final class TreeNode extends AbstractVirtualTable {
+
+		private final Object parent;
+
+		private final BackgroundContentProvider provider;
+
+		/**
+		 * Elements sent to the viewer as children of this node, keyed by their
+		 * index
+		 */
+		private final Map<Integer, Object> children = new HashMap<>();
+
+		/**
+		 * Indices of the elements sent to the viewer as children of this node
+		 */
+		private final Map<Object, Integer> indices = new HashMap<>();
+
+		/**
+		 * Number of children last set in the viewer
+		 */
+		private int childCount;
+
+		/**
+		 * The tree item of the parent, <code>null</code> for the root node or if
+		 * not yet known
+		 */
+		TreeItem item;
+
+		TreeNode(Object parent) {
+			this.parent = parent;
+			provider = new BackgroundContentProvider(this, model.getChildren(parent), sortOrder, SORT_POOL);
+			provider.setFilter(filter);
+			provider.setLimit(limit);
+		}
+
+		private boolean isRoot() {
+			return parent == viewer.getInput();
+		}
+
+		@Override
+		public void clear(int index) {
+			removeChild(index);
+			if (isRoot()) {
+				Tree tree = viewer.getTree();
+				if (index < tree.getItemCount()) {
+					tree.clear(index, false);
+				}
+			} else if (item != null && !item.isDisposed() && index < item.getItemCount()) {
+				item.clear(index, false);
+			}
+		}
+
+		@Override
+		public void replace(Object element, int itemIndex) {
+			viewer.replace(parent, itemIndex, element);
+			Integer index = Integer.valueOf(itemIndex);
+			Integer oldIndex = indices.put(element, index);
+			if (oldIndex != null && !oldIndex.equals(index) && element.equals(children.get(oldIndex))) {
+				children.remove(oldIndex);
+			}
+			Object oldElement = children.put(index, element);
+			if (oldElement != null && !oldElement.equals(element) && index.equals(indices.get(oldElement))) {
+				indices.remove(oldElement);
+				forget(oldElement);
+			}
+			parents.put(element, parent);
+			if (!nodes.containsKey(element)) {
+				viewer.setHasChildren(element, model.hasChildren(element));
+			}
+		}
+
+		@Override
+		public void setItemCount(int total) {
+			viewer.setChildCount(parent, total);
+			boolean shrunk = total < childCount;
+			childCount = total;
+			if (!shrunk) {
+				return;
+			}
+			for (Iterator<Integer> iterator = children.keySet().iterator(); iterator.hasNext();) {
+				Integer index = iterator.next();
+				if (index.intValue() >= total) {
+					Object element = children.get(index);
+					iterator.remove();
+					if (index.equals(indices.get(element))) {
+						indices.remove(element);
+						forget(element);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Forgets the element sent to the viewer at the given index, as its row was
+		 * cleared or removed.
+		 */
+		private void removeChild(int index) {
+			Object element = children.remove(Integer.valueOf(index));
+			if (element != null && Integer.valueOf(index).equals(indices.get(element))) {
+				indices.remove(element);
+				forget(element);
+			}
+		}
+
+		private void forget(Object element) {
+			if (parents.get(element) == parent) {
+				parents.remove(element);
+			}
+		}
+
+		@Override
+		public int getItemCount() {
+			if (isRoot()) {
+				return viewer.getTree().getItemCount();
+			}
+			return item != null && !item.isDisposed() ? item.getItemCount() : 0;
+		}
+
+		@Override
+		public int getTopIndex() {
+			if (!isRoot() && item == null) {
+				return 0;
+			}
+			Tree tree = viewer.getTree();
+			TreeItem top = tree.getTopItem();
+			// find the child of this node that contains the top item
+			while (top != null) {
+				TreeItem parentItem = top.getParentItem();
+				if (parentItem == item) {
+					int index = parentItem == null ? tree.indexOf(top) : parentItem.indexOf(top);
+					return Math.max(index - 1, 0);
+				}
+				top = parentItem;
+			}
+			return 0;
+		}
+
+		@Override
+		public int getVisibleItemCount() {
+			Tree tree = viewer.getTree();
+			Rectangle rect = tree.getClientArea();
+			int itemHeight = tree.getItemHeight();
+			int headerHeight = tree.getHeaderHeight();
+			return (rect.height - headerHeight + itemHeight - 1) / (itemHeight + tree.getGridLineWidth());
+		}
+
+		@Override
+		public Control getControl() {
+			return viewer.getControl();
+		}
+
+		void dispose() {
+			provider.dispose();
+			for (Object child : indices.keySet()) {
+				forget(child);
+			}
+			children.clear();
+			indices.clear();
+		}
+	}
+
+	/**
+	 * Create a DeferredTreeContentProvider with the given sort order.
+	 *
+	 * @param sortOrder a comparator that sorts the children of each node
+	 */
+	public DeferredTreeContentProvider(Comparator sortOrder) {
+		this.sortOrder = sortOrder;
+	}
+
+	@Override
+	public void dispose() {
+		setViewer(null, null);
+	}
+
+	@Override
+	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		if (newInput == null) {
+			setViewer(null, null);
+			return;
+		}
+
+		Assert.isTrue(newInput instanceof IConcurrentTreeModel);
+		Assert.isTrue(viewer instanceof TreeViewer);
+
+		setViewer((TreeViewer) viewer, (IConcurrentTreeModel) newInput);
+	}
+
+	private void setViewer(TreeViewer newViewer, IConcurrentTreeModel newModel) {
+		for (TreeNode node : nodes.values()) {
+			node.dispose();
+		}
+		nodes.clear();
+		parents.clear();
+
+		if (viewer != null && viewer != newViewer) {
+			viewer.removeTreeListener(expansionListener);
+			if (!viewer.getTree().isDisposed()) {
+				viewer.getTree().removeListener(SWT.SetData, setDataListener);
+			}
+		}
+		if (newViewer != null && newViewer != viewer) {
+			newViewer.addTreeListener(expansionListener);
+			newViewer.getTree().addListener(SWT.SetData, setDataListener);
+		}
+
+		viewer = newViewer;
+		model = newModel;
+	}
+
+	/**
+	 * Returns the node providing the children of the given parent, starting to
+	 * stream them if necessary. Starting a node schedules the release of the
+	 * nodes collapsed through the viewer in the meantime.
+	 *
+	 * @param parent the parent element or the viewer input
+	 * @return the node
+	 */
+	private TreeNode getNode(Object parent) {
+		TreeNode node = nodes.get(parent);
+		if (node == null) {
+			node = new TreeNode(parent);
+			nodes.put(parent, node);
+			scheduleRelease();
+		}
+		return node;
+	}
+
+	/**
+	 * Releases the children of the given element and of all its descendants.
+	 *
+	 * @param element collapsed element
+	 */
+	private void collapse(Object element) {
+		List<Object> toRelease = new ArrayList<>();
+		for (Object parent : nodes.keySet()) {
+			for (Object ancestor = parent; ancestor != null; ancestor = parents.get(ancestor)) {
+				if (ancestor.equals(element)) {
+					toRelease.add(parent);
+					break;
+				}
+			}
+		}
+		release(toRelease);
+	}
+
+	/**
+	 * Schedules the release of the nodes which are no longer expanded in the
+	 * tree, unless it is already scheduled.
+	 */
+	private void scheduleRelease() {
+		if (releaseScheduled || viewer == null || nodes.size() <= 1) {
+			return;
+		}
+		releaseScheduled = true;
+		TreeViewer treeViewer = viewer;
+		treeViewer.getControl().getDisplay().asyncExec(() -> {
+			releaseScheduled = false;
+			if (viewer == treeViewer && !treeViewer.getControl().isDisposed()) {
+				releaseCollapsedNodes();
+			}
+		});
+	}
+
+	/**
+	 * Releases the nodes whose parent, or one of its ancestors, is not expanded
+	 * in the tree.
+	 */
+	private void releaseCollapsedNodes() {
+		Object input = viewer.getInput();
+		List<Object> toRelease = new ArrayList<>();
+		for (Object parent : nodes.keySet()) {
+			for (Object ancestor = parent; ancestor != input; ancestor = parents.get(ancestor)) {
+				if (ancestor == null || !viewer.getExpandedState(ancestor)) {
+					toRelease.add(parent);
+					break;
+				}
+			}
+		}
+		release(toRelease);
+	}
+
+	/**
+	 * Releases the children of the given parents. The tree items of the children
+	 * are dropped once the collapse has been processed, so that they are
+	 * streamed again on the next expansion.
+	 *
+	 * @param toRelease parents whose nodes are released
+	 */
+	private void release(List<Object> toRelease) {
+		if (toRelease.isEmpty()) {
+			return;
+		}
+		for (Object parent : toRelease) {
+			nodes.remove(parent).dispose();
+		}
+
+		TreeViewer treeViewer = viewer;
+		treeViewer.getControl().getDisplay().asyncExec(() -> {
+			if (viewer != treeViewer || treeViewer.getControl().isDisposed()) {
+				return;
+			}
+			for (Object parent : toRelease) {
+				if (!nodes.containsKey(parent) && !treeViewer.getExpandedState(parent)) {
+					treeViewer.setHasChildren(parent, model.hasChildren(parent));
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets the sort order for this content provider. This sort order takes
+	 * priority over anything that was supplied to the <code>TreeViewer</code>.
+	 *
+	 * @param sortOrder new sort order. The comparator must be able to support
+	 *                  being used in a background thread.
+	 */
+	public void setSortOrder(Comparator sortOrder) {
+		Assert.isNotNull(sortOrder);
+		this.sortOrder = sortOrder;
+		for (TreeNode node : nodes.values()) {
+			node.provider.setSortOrder(sortOrder);
+		}
+	}
+
+	/**
+	 * Sets the filter for this content provider. This filter takes priority over
+	 * anything that was supplied to the <code>TreeViewer</code>. The filter must
+	 * be capable of being used in a background thread.
+	 *
+	 * @param toSet filter to set
+	 */
+	public void setFilter(IFilter toSet) {
+		this.filter = toSet;
+		for (TreeNode node : nodes.values()) {
+			node.provider.setFilter(toSet);
+		}
+	}
+
+	/**
+	 * Sets the maximum number of children shown for each node. If a node has
+	 * more than this number of children, only the top elements will be shown
+	 * based on the current sort order.
+	 *
+	 * @param limit maximum number of children to show or -1 if unbounded
+	 */
+	public void setLimit(int limit) {
+		this.limit = limit;
+		for (TreeNode node : nodes.values()) {
+			node.provider.setLimit(limit);
+		}
+	}
+
+	/**
+	 * Returns the current maximum number of children per node or -1 if
+	 * unbounded
+	 *
+	 * @return the current maximum number of children per node or -1 if
+	 *         unbounded
+	 */
+	public int getLimit() {
+		return limit;
+	}
+
+	@Override
+	public void updateElement(Object parent, int index) {
+		if (viewer != null) {
+			getNode(parent).provider.checkVisibleRange(index);
+		}
+	}
+
+	@Override
+	public void updateChildCount(Object element, int currentChildCount) {
+		if (viewer == null || nodes.containsKey(element)) {
+			// the child count is updated as the children arrive
+			return;
+		}
+		if (element == viewer.getInput()) {
+			getNode(element);
+			return;
+		}
+		boolean hasChildren = model.hasChildren(element);
+		if (hasChildren != currentChildCount > 0) {
+			viewer.setChildCount(element, hasChildren ? 1 : 0);
+		}
+	}
+
+	@Override
+	public Object getParent(Object element) {
+		return parents.get(element);
+	}
+}
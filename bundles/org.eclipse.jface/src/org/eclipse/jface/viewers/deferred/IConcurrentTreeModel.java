@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers.deferred;
+
+/**
+ * Source of the children of a tree whose contents are computed asynchronously.
+ * For each node, the children are provided by an {@link IConcurrentModel}, so
+ * they can be streamed to the viewer from any thread in any order.
+ *
+ * <p>
+ * This is the input of a <code>DeferredTreeContentProvider</code>.
+ * </p>
+ *
+ * @see DeferredTreeContentProvider
+ * @since 3.32
+ */
+public interface IConcurrentTreeModel {
+
+	/**
+	 * Returns the model providing the children of the given element. This is
+	 * only called once a node is expanded. The returned model may be shared or
+	 * cached by the receiver; the caller removes its listener from the model
+	 * once the node is collapsed or the viewer input changes.
+	 *
+	 * @param parent the parent element, or the tree model itself for the root
+	 *               elements
+	 * @return the model providing the children of the given element, never
+	 *         <code>null</code>
+	 */
+	public IConcurrentModel getChildren(Object parent);
+
+	/**
+	 * Returns whether the given element has or may have children. This is
+	 * called in the UI thread for every element that becomes visible and must
+	 * therefore be fast. Returning <code>true</code> for an element without
+	 * children is allowed; the node will show no children once expanded.
+	 *
+	 * @param element the element
+	 * @return <code>true</code> if the element may have children
+	 */
+	public boolean hasChildren(Object element);
+}
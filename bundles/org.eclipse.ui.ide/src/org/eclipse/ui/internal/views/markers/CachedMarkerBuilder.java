@@ -15,8 +15,10 @@
 package org.eclipse.ui.internal.views.markers;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.jobs.Job;
@@ -130,11 +132,7 @@ public class CachedMarkerBuilder {
 			PlatformUI.getWorkbench().getWorkingSetManager().removePropertyChangeListener(getWorkingSetListener());
 		}
 
-		if (isIncremental()) {
-			if (incrementJob != null) {
-				incrementJob.clearEntries();
-			}
-		}
+		requestFullUpdate();
 	}
 
 	/**
@@ -297,6 +295,7 @@ public class CachedMarkerBuilder {
 	 *
 	 */
 	void scheduleUpdate() {
+		requestFullUpdate();
 		if (active) {
 			scheduler.scheduleUpdate(MarkerUpdateScheduler.SHORT_DELAY,true);
 		}
@@ -307,6 +306,7 @@ public class CachedMarkerBuilder {
 	 *
 	 */
 	void scheduleUpdate(long delay) {
+		requestFullUpdate();
 		if (active) {
 			scheduler.scheduleUpdate(delay,true);
 		}
@@ -451,11 +451,7 @@ public class CachedMarkerBuilder {
 				// ensure cancellation before calling the method
 				// updateJob.cancel();
 			} else {
-				/*
-				 * updateJob = isIncremental() ? new IncrementUpdateJob(this):
-				 * new MarkerUpdateJob(this);
-				 */
-				updateJob = new MarkerUpdateJob(this);
+				updateJob = new IncrementUpdateJob(this);
 				updateJob.setPriority(Job.LONG);
 				updateJob.setSystem(true);
 			}
@@ -597,21 +593,18 @@ public class CachedMarkerBuilder {
 	}
 
 ///////	<Incremental update code>///////
-		private IncrementUpdateJob incrementJob;
 	/**
-	 * Checks whether the builder should perform incrementally Note : Incremental
-	 * updating method is NOT used and tested yet but left out for further
-	 * investigation(*).
-	 *
-	 * @return Returns true if we should collect markers incrementally.
+	 * The marker changes received since the last update, guarded by the
+	 * scheduling lock.
 	 */
-	boolean isIncremental() {
-		/*
-		 * We do not update incrementally. We have
-		 * code for further investigation(*) for this anyway.
-		 */
-		return false;
-	}
+	private final List<MarkerUpdate> pendingUpdates = new ArrayList<>();
+
+	/**
+	 * Whether the next update has to gather all markers again, as the filters,
+	 * the grouping or the resources in scope changed. Guarded by the scheduling
+	 * lock.
+	 */
+	private boolean fullUpdateRequired = true;
 
 	/**
 	 * @return Returns the changeFlags {added,removed,changed}.
@@ -644,12 +637,53 @@ public class CachedMarkerBuilder {
 	 */
 	void incrementalUpdate(MarkerUpdate update) {
 		synchronized (getUpdateScheduler().getSchedulingLock()) {
-			if (incrementJob == null) {
-				scheduleUpdateJob(MarkerUpdateScheduler.SHORT_DELAY, true);
+			if (!fullUpdateRequired) {
+				pendingUpdates.add(update);
+			}
+		}
+	}
+
+	/**
+	 * Request the next update to gather all markers again instead of applying
+	 * the marker changes received since the last one.
+	 */
+	void requestFullUpdate() {
+		synchronized (getUpdateScheduler().getSchedulingLock()) {
+			fullUpdateRequired = true;
+			pendingUpdates.clear();
+		}
+	}
+
+	/**
+	 * Takes the marker changes to apply with the next update.
+	 *
+	 * @return the changes in the order they were received, or
+	 *         <code>null</code> if all markers have to be gathered again
+	 */
+	List<MarkerUpdate> takePendingUpdates() {
+		synchronized (getUpdateScheduler().getSchedulingLock()) {
+			if (fullUpdateRequired) {
+				fullUpdateRequired = false;
+				pendingUpdates.clear();
+				return null;
 			}
+			List<MarkerUpdate> updates = new ArrayList<>(pendingUpdates);
+			pendingUpdates.clear();
+			return updates;
 		}
-		if (incrementJob != null) {
-			incrementJob.addUpdate(update);
+	}
+
+	/**
+	 * Puts back marker changes which were taken but could not be applied, ahead
+	 * of the ones received since.
+	 *
+	 * @param updates
+	 */
+	void requeueUpdates(List<MarkerUpdate> updates) {
+		synchronized (getUpdateScheduler().getSchedulingLock()) {
+			if (!fullUpdateRequired) {
+				pendingUpdates.addAll(0, updates);
+			}
 		}
 	}
 ///////	</Incremental update code>///////
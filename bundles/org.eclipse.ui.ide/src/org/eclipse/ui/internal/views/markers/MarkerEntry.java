@@ -85,6 +85,10 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 	private String markerType;
 	/** cached value **/
 	private String markerTypeName;
+	/** the snapshot holding the attributes of the entry while sorting **/
+	private MarkerEntryColumns columns;
+	/** the row of the entry in columns **/
+	private int row;
 
 	/**
 	 * Important: access to these fields must be via methods, they must be in sync
@@ -353,6 +357,26 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 		category = markerCategory;
 	}
 
+	/**
+	 * Set the row holding the attributes of the receiver in a snapshot.
+	 *
+	 * @param markerColumns
+	 * @param markerRow
+	 */
+	void setRow(MarkerEntryColumns markerColumns, int markerRow) {
+		columns = markerColumns;
+		row = markerRow;
+	}
+
+	/**
+	 * @param markerColumns
+	 * @return the row of the receiver in the snapshot, or -1 if it is not
+	 *         part of it
+	 */
+	int getRow(MarkerEntryColumns markerColumns) {
+		return columns == markerColumns ? row : -1;
+	}
+
 	protected Object getCachedValueOrCompute(String key, Supplier<Object> supplier) {
 		Object cached = cache.computeIfAbsent(key, k -> {
 			Object value = supplier.get();
@@ -0,0 +1,295 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.internal.views.markers;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.ui.views.markers.MarkerField;
+import org.eclipse.ui.views.markers.MarkerItem;
+
+/**
+ * A columnar snapshot of the marker attributes the built in fields sort by:
+ * severity, description, path, location, line and type. The attributes of all
+ * entries are gathered in one pass, each marker with a single attribute lookup,
+ * and kept in arrays indexed by the row of the entry. Equal strings and their
+ * collation keys are shared between the rows.
+ * <p>
+ * The snapshot compares entries the way the fields of its
+ * {@link MarkerComparator} do, over the arrays. Fields contributed by others,
+ * and entries which are not part of the snapshot, are compared by the fields
+ * themselves.
+ * </p>
+ */
+class MarkerEntryColumns implements Comparator<MarkerItem> {
+
+	private static final String[] ATTRIBUTES = { IMarker.SEVERITY, IMarker.MESSAGE, IMarker.LOCATION,
+			IMarker.LINE_NUMBER };
+
+	private static final int GENERIC = 0;
+	private static final int SEVERITY = 1;
+	private static final int DESCRIPTION = 2;
+	private static final int SEVERITY_AND_DESCRIPTION = 3;
+	private static final int PATH = 4;
+	private static final int LOCATION = 5;
+	private static final int TYPE = 6;
+
+	private final MarkerComparator markerComparator;
+	private final boolean compareCategory;
+	private final MarkerField[] fields;
+	private final int[] kinds;
+	private final boolean[] descending;
+
+	private int[] severities;
+	private CollationKey[] descriptions;
+	private String[] paths;
+	private String[] locations;
+	private int[] lines;
+	private String[] typeIds;
+	private String[] typeNames;
+
+	/**
+	 * Gather the attributes of the entries in the given range.
+	 *
+	 * @param entries
+	 * @param from
+	 * @param to
+	 * @param markerComparator
+	 *            the comparator which fields are compared
+	 * @param compareCategory
+	 *            whether to compare the category before the fields
+	 */
+	MarkerEntryColumns(MarkerEntry[] entries, int from, int to, MarkerComparator markerComparator,
+			boolean compareCategory) {
+		this.markerComparator = markerComparator;
+		this.compareCategory = compareCategory && markerComparator.getCategory() != null;
+		fields = markerComparator.getFields();
+		kinds = new int[fields.length];
+		descending = new boolean[fields.length];
+		boolean attributes = false;
+		boolean path = false;
+		boolean type = false;
+		for (int i = 0; i < fields.length; i++) {
+			kinds[i] = getKind(fields[i]);
+			descending[i] = markerComparator.descendingFields.contains(fields[i]);
+			attributes |= kinds[i] == SEVERITY || kinds[i] == DESCRIPTION || kinds[i] == SEVERITY_AND_DESCRIPTION
+					|| kinds[i] == LOCATION;
+			path |= kinds[i] == PATH;
+			type |= kinds[i] == TYPE;
+		}
+		int size = Math.max(to - from + 1, 0);
+		if (attributes) {
+			severities = new int[size];
+			descriptions = new CollationKey[size];
+			locations = new String[size];
+			lines = new int[size];
+		}
+		if (path) {
+			paths = new String[size];
+		}
+		typeIds = new String[size];
+		if (type) {
+			typeNames = new String[size];
+		}
+		gather(entries, from, size);
+	}
+
+	private static int getKind(MarkerField field) {
+		// subclasses may compare differently
+		Class<?> fieldClass = field.getClass();
+		if (fieldClass == MarkerSeverityField.class) {
+			return SEVERITY;
+		}
+		if (fieldClass == MarkerDescriptionField.class) {
+			return DESCRIPTION;
+		}
+		if (fieldClass == MarkerProblemSeverityAndMessageField.class) {
+			return SEVERITY_AND_DESCRIPTION;
+		}
+		if (fieldClass == MarkerPathField.class) {
+			return PATH;
+		}
+		if (fieldClass == MarkerLocationField.class) {
+			return LOCATION;
+		}
+		if (fieldClass == MarkerTypeField.class) {
+			return TYPE;
+		}
+		return GENERIC;
+	}
+
+	private void gather(MarkerEntry[] entries, int from, int size) {
+		Collator collator = Collator.getInstance();
+		Map<String, String> strings = new HashMap<>();
+		Map<String, CollationKey> keys = new HashMap<>();
+		Object[] values = new Object[ATTRIBUTES.length];
+		for (int row = 0; row < size; row++) {
+			MarkerEntry entry = entries[from + row];
+			entry.setRow(this, row);
+			if (entry.getMarker() == null) {
+				// nothing to gather, compared by the fields
+				continue;
+			}
+			try {
+				typeIds[row] = intern(strings, entry.getMarker().getType());
+			} catch (CoreException e) {
+				entry.checkIfMarkerStale();
+			}
+			if (severities != null) {
+				readAttributes(entry, values);
+				severities[row] = values[0] instanceof Integer ? ((Integer) values[0]).intValue() : -1;
+				String description = values[1] == null ? MarkerSupportInternalUtilities.UNKNOWN_ATRRIBTE_VALUE_STRING
+						: values[1].toString();
+				descriptions[row] = description.isEmpty() ? MarkerSupportInternalUtilities.EMPTY_COLLATION_KEY
+						: keys.computeIfAbsent(description, collator::getCollationKey);
+				locations[row] = values[2] == null ? MarkerItemDefaults.LOCATION_DEFAULT
+						: intern(strings, values[2].toString());
+				lines[row] = values[3] instanceof Integer ? ((Integer) values[3]).intValue() : -1;
+			}
+			if (paths != null) {
+				paths[row] = intern(strings, entry.getPath());
+			}
+			if (typeNames != null) {
+				typeNames[row] = intern(strings, entry.getMarkerTypeName());
+			}
+			entry.clearCache();
+		}
+	}
+
+	/**
+	 * Read the attributes of the entry, with a single lookup for plain
+	 * entries.
+	 */
+	private static void readAttributes(MarkerEntry entry, Object[] values) {
+		IMarker marker = entry.getMarker();
+		if (entry.getClass() == MarkerEntry.class && !entry.getStaleState()) {
+			try {
+				System.arraycopy(marker.getAttributes(ATTRIBUTES), 0, values, 0, values.length);
+				return;
+			} catch (CoreException e) {
+				entry.checkIfMarkerStale();
+			}
+		}
+		for (int i = 0; i < ATTRIBUTES.length; i++) {
+			values[i] = entry.getAttributeValue(ATTRIBUTES[i]);
+		}
+	}
+
+	private static String intern(Map<String, String> strings, String value) {
+		if (value == null) {
+			return null;
+		}
+		String existing = strings.putIfAbsent(value, value);
+		return existing == null ? value : existing;
+	}
+
+	/**
+	 * Detach the entries in the given range from the receiver, so that the
+	 * gathered attributes can be collected.
+	 *
+	 * @param entries
+	 * @param from
+	 * @param to
+	 */
+	void release(MarkerEntry[] entries, int from, int to) {
+		for (int i = Math.max(from, 0); i <= to && i < entries.length; i++) {
+			if (entries[i].getRow(this) >= 0) {
+				entries[i].setRow(null, 0);
+			}
+		}
+	}
+
+	/**
+	 * @param entry
+	 * @return the type of the marker of the entry
+	 * @throws CoreException
+	 *             if the marker does not exist
+	 */
+	String getMarkerType(MarkerEntry entry) throws CoreException {
+		int row = entry.getRow(this);
+		if (row >= 0 && typeIds[row] != null) {
+			return typeIds[row];
+		}
+		return entry.getMarker().getType();
+	}
+
+	@Override
+	public int compare(MarkerItem item1, MarkerItem item2) {
+		if (compareCategory) {
+			int value = markerComparator.compareCategory(item1, item2);
+			if (value != 0) {
+				return value;
+			}
+		}
+		int row1 = getRow(item1);
+		int row2 = getRow(item2);
+		if (row1 < 0 || row2 < 0) {
+			return markerComparator.compareFields(item1, item2);
+		}
+		for (int i = 0; i < fields.length; i++) {
+			int value = compare(i, row1, row2, item1, item2);
+			if (value != 0) {
+				return descending[i] ? -value : value;
+			}
+		}
+		return 0;
+	}
+
+	private int compare(int field, int row1, int row2, MarkerItem item1, MarkerItem item2) {
+		switch (kinds[field]) {
+		case SEVERITY:
+			return severities[row2] - severities[row1];
+		case DESCRIPTION:
+			return descriptions[row1].compareTo(descriptions[row2]);
+		case SEVERITY_AND_DESCRIPTION:
+			if (severities[row1] == severities[row2]) {
+				return descriptions[row1].compareTo(descriptions[row2]);
+			}
+			return severities[row2] - severities[row1];
+		case PATH:
+			if (paths[row1] == null && paths[row2] == null) {
+				return 0;
+			}
+			if (paths[row1] == null) {
+				return 1;
+			}
+			if (paths[row2] == null) {
+				return -1;
+			}
+			return paths[row1].compareTo(paths[row2]);
+		case LOCATION:
+			if (locations[row1].isEmpty() || locations[row2].isEmpty()) {
+				return lines[row1] - lines[row2];
+			}
+			return locations[row1].compareTo(locations[row2]);
+		case TYPE:
+			return typeNames[row1].compareTo(typeNames[row2]);
+		default:
+			return fields[field].compare(item1, item2);
+		}
+	}
+
+	private int getRow(MarkerItem item) {
+		if (!(item instanceof MarkerEntry) || item.getMarker() == null) {
+			return -1;
+		}
+		return ((MarkerEntry) item).getRow(this);
+	}
+}
@@ -59,11 +59,12 @@ class MarkerUpdateJob extends Job {
 	 * gather all markers needed by the view.
 	 *
 	 * @param monitor
+	 * @return <code>true</code> if the markers were gathered
 	 */
-	void buildMarkers(IProgressMonitor monitor) {
+	boolean buildMarkers(IProgressMonitor monitor) {
 		//check for cancellation before we start
 		if (monitor.isCanceled()) {
-			return;
+			return false;
 		}
 		// builder.getUpdateScheduler().cancelQueuedUIUpdates();
 		// builder.getUpdateScheduler().indicateStatus(
@@ -73,24 +74,25 @@ class MarkerUpdateJob extends Job {
 		//this is not incremental clean every time
 		clean = !clean(markerEntries, monitor);
 		if (monitor.isCanceled()) {
-			return;
+			return false;
 		}
 		// builder.getUpdateScheduler().indicateStatus(
 		// MarkerMessages.MarkerView_processUpdates, false);
 
 		monitor.setTaskName(MarkerMessages.MarkerView_processUpdates);
 		if (!processMarkerEntries(markerEntries, monitor)) {
-			return;
+			return false;
 		}
 		if (monitor.isCanceled()) {
-			return;
+			return false;
 		}
 		builder.getUpdateScheduler().scheduleUIUpdate(MarkerUpdateScheduler.SHORT_DELAY);
 		if (monitor.isCanceled()) {
-			return;
+			return false;
 		}
 		builder.setBuilding(false);
 		updateDone();
+		return true;
 	}
 
 	/**
@@ -25,7 +25,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.runtime.CoreException;
@@ -52,6 +54,13 @@ class Markers {
 	private volatile MarkerEntry[] markerEntryArray = EMPTY_ENTRY_ARRAY;
 	// the categories
 	private volatile MarkerCategory[] categories = EMPTY_CATEGORY_ARRAY;
+	// the grouping entries of the categories, null if not grouped
+	private MarkerGroupingEntry[] categoryKeys;
+	// the number of leading entries of each category, or of all entries if
+	// not grouped, which are sorted and precede the others, null if unknown
+	private int[] sortedLengths;
+	// the comparator the entries were sorted with
+	private MarkerComparator sortedBy;
 
 	private CachedMarkerBuilder builder;
 
@@ -85,6 +94,8 @@ class Markers {
 				markerToEntryMap = null;
 			}
 			markerCounts = null;
+			categoryKeys = null;
+			sortedLengths = null;
 			if (markerEntries.isEmpty()) {
 				categories = EMPTY_CATEGORY_ARRAY;
 				markerEntryArray = EMPTY_ENTRY_ARRAY;
@@ -114,6 +125,290 @@ class Markers {
 		}
 	}
 
+	/**
+	 * Apply changes of markers to the contained marker entries. Only the
+	 * categories gaining or losing entries are sorted again, the entries of the
+	 * other categories are kept in place. Within these, only the added entries
+	 * are sorted and merged into the retained ones, which are still sorted.
+	 *
+	 * @param removed
+	 *            the markers to remove
+	 * @param updated
+	 *            the entries of the added or changed markers which pass the
+	 *            filters, these replace the current entries of their markers
+	 * @param monitor
+	 * @return <code>false</code> if cancelled or the entries could not be
+	 *         sorted, the marker entries are left unchanged then
+	 */
+	synchronized boolean updateWithMarkerChanges(Set<IMarker> removed, Map<IMarker, MarkerEntry> updated,
+			IProgressMonitor monitor) {
+		boolean initialVal = inChange;
+		try {
+			inChange = true;
+			MarkerEntry[] oldEntries = markerEntryArray;
+			boolean hierarchy = builder.isShowingHierarchy();
+			if (hierarchy && categoryKeys == null && oldEntries.length > 0) {
+				// not grouped yet, group all the entries
+				List<MarkerEntry> entries = new ArrayList<>(oldEntries.length + updated.size());
+				retainEntries(oldEntries, 0, oldEntries.length - 1, 0, removed, updated, entries);
+				entries.addAll(updated.values());
+				return updateWithNewMarkers(entries, true, monitor);
+			}
+			if (monitor.isCanceled()) {
+				return false;
+			}
+			boolean done = hierarchy ? updateCategories(oldEntries, removed, updated, monitor)
+					: updateEntries(oldEntries, removed, updated, monitor);
+			if (done) {
+				if (markerToEntryMap != null) {
+					markerToEntryMap.clear();
+					markerToEntryMap = null;
+				}
+				markerCounts = null;
+			}
+			return done;
+		} finally {
+			inChange = initialVal;
+		}
+	}
+
+	private boolean updateEntries(MarkerEntry[] oldEntries, Set<IMarker> removed, Map<IMarker, MarkerEntry> updated,
+			IProgressMonitor monitor) {
+		int oldSorted = categoryKeys == null && categories.length == 0 ? getSortedLength(0, 1) : 0;
+		List<MarkerEntry> entries = new ArrayList<>(oldEntries.length + updated.size());
+		int sorted = retainEntries(oldEntries, 0, oldEntries.length - 1, oldSorted, removed, updated, entries);
+		entries.addAll(updated.values());
+		MarkerEntry[] newEntries = entries.toArray(new MarkerEntry[entries.size()]);
+		int newSorted = sortAdded(newEntries, 0, newEntries.length - 1, sorted, updated.size(), monitor);
+		if (newSorted < 0) {
+			return false;
+		}
+		markerEntryArray = newEntries;
+		categories = EMPTY_CATEGORY_ARRAY;
+		categoryKeys = null;
+		setSortedLengths(new int[] { newSorted });
+		return true;
+	}
+
+	private boolean updateCategories(MarkerEntry[] oldEntries, Set<IMarker> removed,
+			Map<IMarker, MarkerEntry> updated, IProgressMonitor monitor) {
+		MarkerGroup group = builder.getCategoryGroup();
+		Comparator<MarkerGroupingEntry> keyComparator = group.getEntriesComparator();
+		MarkerCategory[] oldCategories = categories;
+		MarkerGroupingEntry[] oldKeys = categoryKeys == null ? new MarkerGroupingEntry[0] : categoryKeys;
+
+		// group the new entries
+		TreeMap<MarkerGroupingEntry, List<MarkerEntry>> added = new TreeMap<>(keyComparator);
+		for (MarkerEntry entry : updated.values()) {
+			IMarker marker = entry.getMarker();
+			try {
+				added.computeIfAbsent(group.findGroupValue(marker.getType(), marker), k -> new ArrayList<>())
+						.add(entry);
+			} catch (CoreException e) {
+				entry.checkIfMarkerStale();
+			}
+		}
+		TreeMap<MarkerGroupingEntry, Integer> oldIndices = new TreeMap<>(keyComparator);
+		for (int i = 0; i < oldKeys.length; i++) {
+			oldIndices.put(oldKeys[i], i);
+		}
+		TreeSet<MarkerGroupingEntry> keys = new TreeSet<>(keyComparator);
+		keys.addAll(oldIndices.keySet());
+		keys.addAll(added.keySet());
+
+		List<MarkerEntry> entries = new ArrayList<>(oldEntries.length + updated.size());
+		List<MarkerGroupingEntry> newKeys = new ArrayList<>(keys.size());
+		List<MarkerCategory> newCategories = new ArrayList<>(keys.size());
+		// the sorted and the added entries of each new category, the added
+		// count is negative for the categories which did not change
+		int[] sortedCounts = new int[keys.size()];
+		int[] addedCounts = new int[keys.size()];
+		for (MarkerGroupingEntry key : keys) {
+			if (monitor.isCanceled()) {
+				return false;
+			}
+			int start = entries.size();
+			boolean changed = false;
+			int sorted = 0;
+			String name = null;
+			Integer oldIndex = oldIndices.get(key);
+			if (oldIndex != null) {
+				MarkerCategory oldCategory = oldCategories[oldIndex.intValue()];
+				name = oldCategory.getName();
+				sorted = retainEntries(oldEntries, oldCategory.start, oldCategory.end,
+						getSortedLength(oldIndex.intValue(), oldCategories.length), removed, updated, entries);
+				changed = entries.size() - start != oldCategory.end - oldCategory.start + 1;
+			}
+			List<MarkerEntry> addedEntries = added.get(key);
+			int addedCount = 0;
+			if (addedEntries != null) {
+				entries.addAll(addedEntries);
+				addedCount = addedEntries.size();
+				changed = true;
+			}
+			int end = entries.size() - 1;
+			if (end < start) {
+				// all entries of the category were removed
+				continue;
+			}
+			if (name == null) {
+				name = group.getMarkerField().getValue(entries.get(start));
+			}
+			MarkerCategory category = new MarkerCategory(this, start, end, name);
+			sortedCounts[newCategories.size()] = sorted;
+			addedCounts[newCategories.size()] = changed ? addedCount : -1;
+			newKeys.add(key);
+			newCategories.add(category);
+		}
+
+		MarkerEntry[] newEntries = entries.toArray(new MarkerEntry[entries.size()]);
+		int[] newSortedLengths = new int[newCategories.size()];
+		for (int i = 0; i < newSortedLengths.length; i++) {
+			MarkerCategory category = newCategories.get(i);
+			if (addedCounts[i] < 0) {
+				newSortedLengths[i] = sortedCounts[i];
+				continue;
+			}
+			newSortedLengths[i] = sortAdded(newEntries, category.start, category.end, sortedCounts[i],
+					addedCounts[i], monitor);
+			if (newSortedLengths[i] < 0) {
+				return false;
+			}
+		}
+		markerEntryArray = newEntries;
+		categories = newCategories.toArray(new MarkerCategory[newCategories.size()]);
+		categoryKeys = newKeys.toArray(new MarkerGroupingEntry[newKeys.size()]);
+		setSortedLengths(newSortedLengths);
+		return true;
+	}
+
+	/**
+	 * Add the entries in the given range which are neither removed nor
+	 * replaced by an updated entry to the list, in their order.
+	 *
+	 * @param sorted
+	 *            the number of leading entries of the range which are sorted
+	 * @return the number of added entries which were among the sorted ones
+	 */
+	private static int retainEntries(MarkerEntry[] entries, int start, int end, int sorted, Set<IMarker> removed,
+			Map<IMarker, MarkerEntry> updated, List<MarkerEntry> result) {
+		int retainedSorted = 0;
+		for (int i = start; i <= end; i++) {
+			IMarker marker = entries[i].getMarker();
+			if (!removed.contains(marker) && !updated.containsKey(marker)) {
+				result.add(entries[i]);
+				if (i - start < sorted) {
+					retainedSorted++;
+				}
+			}
+		}
+		return retainedSorted;
+	}
+
+	/**
+	 * @return the number of leading entries of the category at the given index,
+	 *         or of all entries if not grouped, which are known to be sorted
+	 */
+	private int getSortedLength(int index, int count) {
+		int[] lengths = sortedLengths;
+		if (lengths == null || lengths.length != count || sortedBy != builder.getComparator()) {
+			return 0;
+		}
+		return lengths[index];
+	}
+
+	private void setSortedLengths(int[] lengths) {
+		sortedLengths = lengths;
+		sortedBy = builder.getComparator();
+	}
+
+	/**
+	 * Sort the entries in the given range after some of its entries were
+	 * replaced. The range starts with the retained entries, in their previous
+	 * order, followed by the added entries. Only the added entries are sorted,
+	 * and merged into the retained entries which were sorted before. The
+	 * remaining retained entries did not compare lower than these, so the merged
+	 * entries are sorted up to the last of them. The range is sorted from scratch
+	 * if fewer than shown entries are known to be sorted then.
+	 *
+	 * @param sorted
+	 *            the number of leading entries of the range which are sorted
+	 * @param added
+	 *            the number of added entries at the end of the range
+	 * @return the number of leading entries of the range which are sorted, or
+	 *         <code>-1</code> if cancelled or the comparator is broken
+	 */
+	private int sortAdded(MarkerEntry[] entries, int start, int end, int sorted, int added,
+			IProgressMonitor monitor) {
+		int size = end - start + 1;
+		int limit = getShowingLimit(size);
+		int unsorted = size - sorted - added;
+		if (unsorted > 0 && sorted < limit) {
+			return sortRange(entries, start, end, monitor) ? limit : -1;
+		}
+		MarkerEntry[] merging = new MarkerEntry[sorted + added];
+		System.arraycopy(entries, start, merging, 0, sorted);
+		System.arraycopy(entries, end - added + 1, merging, sorted, added);
+		MarkerEntry[] merged = new MarkerEntry[merging.length];
+		int mergedSorted = unsorted > 0 ? 0 : merged.length;
+		MarkerEntryColumns columns = createColumns(merging, 0, merging.length - 1);
+		try {
+			Arrays.sort(merging, sorted, merging.length, columns);
+			int i = 0;
+			int j = sorted;
+			int k = 0;
+			while (i < sorted) {
+				if (j < merging.length && columns.compare(merging[j], merging[i]) < 0) {
+					merged[k++] = merging[j++];
+				} else {
+					merged[k++] = merging[i++];
+				}
+			}
+			if (unsorted > 0) {
+				mergedSorted = k;
+			}
+			System.arraycopy(merging, j, merged, k, merging.length - j);
+		} catch (IllegalArgumentException e) {
+			IDEWorkbenchPlugin.log("Bug 371586: broken comparator. fields: " //$NON-NLS-1$
+					+ Arrays.toString(builder.getComparator().getFields()), e);
+			return -1;
+		} finally {
+			columns.release(merging, 0, merging.length - 1);
+		}
+		if (mergedSorted < limit) {
+			return sortRange(entries, start, end, monitor) ? limit : -1;
+		}
+		MarkerEntry[] unsortedEntries = Arrays.copyOfRange(entries, start + sorted, start + sorted + unsorted);
+		System.arraycopy(merged, 0, entries, start, mergedSorted);
+		System.arraycopy(unsortedEntries, 0, entries, start + mergedSorted, unsorted);
+		System.arraycopy(merged, mergedSorted, entries, start + mergedSorted + unsorted,
+				merged.length - mergedSorted);
+		return monitor.isCanceled() ? -1 : mergedSorted;
+	}
+
+	/**
+	 * Sort the entries in the given range, as far as they are shown.
+	 *
+	 * @return <code>false</code> if cancelled or the comparator is broken
+	 */
+	private boolean sortRange(MarkerEntry[] entries, int start, int end, IProgressMonitor monitor) {
+		if (end <= start) {
+			return !monitor.isCanceled();
+		}
+		MarkerEntryColumns columns = createColumns(entries, start, end);
+		try {
+			MarkerSortUtil.sortStartingKElement(entries, columns, start, end, getShowingLimit(end - start + 1),
+					monitor);
+		} catch (IllegalArgumentException e) {
+			IDEWorkbenchPlugin.log("Bug 371586: broken comparator. fields: " //$NON-NLS-1$
+					+ Arrays.toString(builder.getComparator().getFields()), e);
+			return false;
+		} finally {
+			columns.release(entries, start, end);
+		}
+		return !monitor.isCanceled();
+	}
+
 	/**
 	 * Sort the contained marker entries and build categories if required.
 	 *
@@ -121,14 +416,17 @@ class Markers {
 	 */
 	private synchronized boolean sortAndMakeCategories(IProgressMonitor monitor) {
 		boolean initialVal = inChange;
+		MarkerEntry[] entries = markerEntryArray;
+		MarkerEntryColumns columns = createColumns(entries, 0, entries.length - 1);
 		try {
 			inChange = true;
 			// Sort by Category first
 			if (builder.isShowingHierarchy()) {
-				MarkerCategory[] markerCategories = groupIntoCategories(monitor, markerEntryArray);
+				MarkerCategory[] markerCategories = groupIntoCategories(monitor, entries, columns);
 				categories = markerCategories;
 			} else {
 				categories = EMPTY_CATEGORY_ARRAY;
+				categoryKeys = null;
 			}
 
 			if (monitor.isCanceled()) {
@@ -136,8 +434,9 @@ class Markers {
 			}
 			monitor.subTask(MarkerMessages.MarkerView_processUpdates);
 
-			return sortMarkerEntries(monitor);
+			return sortMarkerEntries(columns, monitor);
 		} finally {
+			columns.release(entries, 0, entries.length - 1);
 			inChange = initialVal;
 		}
 	}
@@ -146,6 +445,27 @@ class Markers {
 	 * @param monitor
 	 */
 	synchronized boolean sortMarkerEntries(IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			return false;
+		}
+		MarkerEntry[] entries = markerEntryArray;
+		MarkerEntryColumns columns = createColumns(entries, 0, entries.length - 1);
+		try {
+			return sortMarkerEntries(columns, monitor);
+		} finally {
+			columns.release(entries, 0, entries.length - 1);
+		}
+	}
+
+	/**
+	 * Gather the attributes the entries in the given range are sorted and
+	 * grouped by.
+	 */
+	private MarkerEntryColumns createColumns(MarkerEntry[] entries, int from, int to) {
+		return new MarkerEntryColumns(entries, from, to, builder.getComparator(), !builder.isShowingHierarchy());
+	}
+
+	private boolean sortMarkerEntries(MarkerEntryColumns columns, IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return false;
 		}
@@ -154,9 +474,12 @@ class Markers {
 		MarkerCategory lastCategory = null;
 		try {
 			inChange = true;
+			sortedLengths = null;
+			int[] lengths;
 			if (builder.isShowingHierarchy()) {
-				Comparator<MarkerItem> comparator = markerComparator.getFieldsComparator();
-				for (MarkerCategory category : categories) {
+				lengths = new int[categories.length];
+				for (int i = 0; i < categories.length; i++) {
+					MarkerCategory category = categories[i];
 					if (monitor.isCanceled()) {
 						return false;
 					}
@@ -166,8 +489,9 @@ class Markers {
 					int avaliable = category.end - category.start + 1;
 					int effLimit = getShowingLimit(avaliable);
 					MarkerSortUtil.sortStartingKElement(markerEntryArray,
-							comparator, category.start, category.end, effLimit,
+							columns, category.start, category.end, effLimit,
 							monitor);
+					lengths[i] = effLimit;
 				}
 			} else {
 				if (monitor.isCanceled()) {
@@ -176,11 +500,13 @@ class Markers {
 				int avaialble = markerEntryArray.length - 1;
 				int effLimit = getShowingLimit(avaialble);
 				MarkerSortUtil.sortStartingKElement(markerEntryArray,
-						markerComparator, effLimit, monitor);
+						columns, effLimit, monitor);
+				lengths = new int[] { effLimit };
 			}
 			if (monitor.isCanceled()) {
 				return false;
 			}
+			setSortedLengths(lengths);
 			monitor.worked(50);
 			return true;
 		} catch (IllegalArgumentException e) {
@@ -223,22 +549,28 @@ class Markers {
 	 *
 	 * @param monitor
 	 * @param newMarkers
+	 * @param columns
+	 *            the attributes of the markers
 	 * @return MarkerCategory
 	 */
-	private MarkerCategory[] groupIntoCategories(IProgressMonitor monitor, MarkerEntry[] newMarkers) {
+	private MarkerCategory[] groupIntoCategories(IProgressMonitor monitor, MarkerEntry[] newMarkers,
+			MarkerEntryColumns columns) {
 		Map<MarkerGroupingEntry, Integer> boundaryInfoMap = groupMarkerEntries(newMarkers,
-				builder.getCategoryGroup(), newMarkers.length - 1, monitor);
+				builder.getCategoryGroup(), newMarkers.length - 1, columns, monitor);
 		int start = 0;
 		MarkerCategory[] markerCategories = new MarkerCategory[boundaryInfoMap.size()];
+		MarkerGroupingEntry[] keys = new MarkerGroupingEntry[boundaryInfoMap.size()];
 		int i = 0;
 		int end = 0;
 		for (Entry<MarkerGroupingEntry, Integer> entry : boundaryInfoMap.entrySet()) {
 			end = entry.getValue();
+			keys[i] = entry.getKey();
 			markerCategories[i++] = new MarkerCategory(this, start, end,
 					builder.getCategoryGroup().getMarkerField()
 							.getValue(newMarkers[start]));
 			start = end + 1;
 		}
+		categoryKeys = keys;
 		return markerCategories;
 	}
 
@@ -251,11 +583,12 @@ class Markers {
 	 * @param entries
 	 * @param group
 	 * @param k
+	 * @param columns
 	 * @return {@link Map}
 	 *
 	 */
 	private Map<MarkerGroupingEntry, Integer> groupMarkerEntries(MarkerEntry[] entries, MarkerGroup group,
-			int k, IProgressMonitor monitor) {
+			int k, MarkerEntryColumns columns, IProgressMonitor monitor) {
 		TreeMap<MarkerGroupingEntry, List<MarkerEntry>> map = new TreeMap<>(
 				group.getEntriesComparator());
 		for (int i = 0; i <= k; i++) {
@@ -267,7 +600,7 @@ class Markers {
 				return Collections.emptyMap();
 			}
 			try {
-				MarkerGroupingEntry groupingEntry = group.findGroupValue(marker.getType(), marker);
+				MarkerGroupingEntry groupingEntry = group.findGroupValue(columns.getMarkerType(entries[i]), marker);
 				List<MarkerEntry> list = map.get(groupingEntry);
 				if (list == null) {
 					list = new ArrayList<>();
@@ -128,6 +128,11 @@ class MarkersChangeListener implements IResourceChangeListener {
 				builder.getUpdateScheduler().speedUpPendingUpdates();
 				return;
 			}
+			if (hasProjectChanges(event.getDelta())) {
+				// markers of closed projects go away without marker deltas
+				handleMarkerChange(event);
+				return;
+			}
 			if(!hasApplicableTypes(event)){
 				return;
 			}
@@ -135,10 +140,6 @@ class MarkersChangeListener implements IResourceChangeListener {
 			// return;
 			// }
 
-			if (!builder.isIncremental()) {
-				handleMarkerChange(event);
-				return;
-			}
 			handleIncrementalChange(event);
 		} finally {
 			setReceivingChange(false);
@@ -165,6 +166,7 @@ class MarkersChangeListener implements IResourceChangeListener {
 	 * @param event
 	 */
 	private void handleMarkerChange(IResourceChangeEvent event) {
+		builder.requestFullUpdate();
 		builder.getUpdateScheduler().scheduleUpdate();
 	}
 
@@ -176,15 +178,8 @@ class MarkersChangeListener implements IResourceChangeListener {
 	}
 
 	/**
-	 * Handle changes incrementally.
-	 * The following performs incremental updation
-	 * of the markers that were gathered initially, and keeps them synched at
-	 * any point with the markers of interest in Workspace. Unfortunately marker
-	 * operations cannot be locked so locking between gathering of markers and
-	 * marker deltas is not possible.
-	 *
-	 * Note : this method of updating is NOT used and tested yet and has holes
-	 * but left out SOLELY for further investigation(*).
+	 * Handle changes incrementally. The marker deltas are queued with the
+	 * builder, which applies them to the markers gathered before.
 	 *
 	 * @param event
 	 */
@@ -235,6 +230,25 @@ class MarkersChangeListener implements IResourceChangeListener {
 		return;
 	}
 
+	/**
+	 * @param delta
+	 *            the delta of the workspace root, may be <code>null</code>
+	 * @return true if a project was added, removed, opened or closed
+	 */
+	private boolean hasProjectChanges(IResourceDelta delta) {
+		if (delta == null) {
+			return false;
+		}
+		for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+			int kind = projectDelta.getKind();
+			if (kind == IResourceDelta.ADDED || kind == IResourceDelta.REMOVED
+					|| (projectDelta.getFlags() & IResourceDelta.OPEN) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * @param event
 	 * @return true if the marker delta has a change in an applicable marker
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.swt.SWT;
+
+/**
+ * The latencies of the events dispatched by the UI thread, in one {@link LatencyHistogram} per
+ * SWT event type. The runnables passed to {@code Display.asyncExec}, {@code Display.syncExec} and
+ * {@code Display.timerExec} are dispatched as events of type {@link SWT#None}.
+ * <p>
+ * The histograms are recorded by the UI thread and can be read by any thread.
+ * </p>
+ */
+public class EventLatencyHistograms {
+	/** Event types not smaller than this one share a single histogram. */
+	private static final int MAX_EVENT_TYPE = 64;
+	/** The percentiles reported by {@link #toString()}. */
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+	/**
+	 * The histogram of one event type.
+	 */
+	public static class Entry {
+		private final int eventType;
+		private final LatencyHistogram histogram;
+
+		Entry(int eventType, LatencyHistogram histogram) {
+			this.eventType = eventType;
+			this.histogram = histogram;
+		}
+
+		/** Returns the SWT type of the events, or -1 for the events of unknown types. */
+		public int getEventType() {
+			return eventType;
+		}
+
+		/** Returns a readable name of the event type. */
+		public String getEventTypeName() {
+			return EventLatencyHistograms.getEventTypeName(eventType);
+		}
+
+		/** Returns the histogram of the latencies of the events. */
+		public LatencyHistogram getHistogram() {
+			return histogram;
+		}
+	}
+
+	private final AtomicReferenceArray<LatencyHistogram> histograms =
+			new AtomicReferenceArray<>(MAX_EVENT_TYPE + 1);
+
+	/**
+	 * Records the latency of an event.
+	 *
+	 * @param eventType the SWT type of the event
+	 * @param nanos the time the event took to dispatch in nanoseconds
+	 */
+	public void record(int eventType, long nanos) {
+		int index = eventType >= 0 && eventType < MAX_EVENT_TYPE ? eventType : MAX_EVENT_TYPE;
+		LatencyHistogram histogram = histograms.get(index);
+		if (histogram == null) {
+			histograms.compareAndSet(index, null, new LatencyHistogram());
+			histogram = histograms.get(index);
+		}
+		histogram.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+	}
+
+	/**
+	 * Returns the histograms of the event types with recorded latencies, the most frequent event
+	 * types first.
+	 */
+	public List<Entry> getEntries() {
+		List<Entry> entries = new ArrayList<>();
+		for (int i = 0; i <= MAX_EVENT_TYPE; i++) {
+			LatencyHistogram histogram = histograms.get(i);
+			if (histogram != null && histogram.getCount() != 0) {
+				entries.add(new Entry(i == MAX_EVENT_TYPE ? -1 : i, histogram));
+			}
+		}
+		entries.sort((e1, e2) -> Long.compare(e2.getHistogram().getCount(),
+				e1.getHistogram().getCount()));
+		return entries;
+	}
+
+	/**
+	 * Forgets all recorded latencies.
+	 */
+	public void reset() {
+		for (int i = 0; i <= MAX_EVENT_TYPE; i++) {
+			LatencyHistogram histogram = histograms.get(i);
+			if (histogram != null) {
+				histogram.reset();
+			}
+		}
+	}
+
+	/**
+	 * Returns the recorded latencies of every event type on its own line, with the count, the
+	 * percentiles and the maximum of the latencies in milliseconds.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder buf = new StringBuilder();
+		for (Entry entry : getEntries()) {
+			LatencyHistogram histogram = entry.getHistogram();
+			buf.append(entry.getEventTypeName());
+			buf.append(": count="); //$NON-NLS-1$
+			buf.append(histogram.getCount());
+			for (double percentile : PERCENTILES) {
+				buf.append(" p"); //$NON-NLS-1$
+				buf.append(percentile == (int) percentile ? Integer.toString((int) percentile) :
+						Double.toString(percentile));
+				buf.append('=');
+				buf.append(formatMillis(histogram.getValueAtPercentile(percentile)));
+			}
+			buf.append(" max="); //$NON-NLS-1$
+			buf.append(formatMillis(histogram.getMax()));
+			buf.append('\n');
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Formats a latency in microseconds as milliseconds with three decimals.
+	 */
+	public static String formatMillis(long micros) {
+		return String.format("%d.%03dms", micros / 1000, micros % 1000); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns a readable name of an SWT event type.
+	 *
+	 * @param eventType the SWT event type, or -1 for the events of unknown types
+	 */
+	public static String getEventTypeName(int eventType) {
+		switch (eventType) {
+		case -1: return "Other"; //$NON-NLS-1$
+		case SWT.None: return "Runnable"; //$NON-NLS-1$
+		case SWT.KeyDown: return "KeyDown"; //$NON-NLS-1$
+		case SWT.KeyUp: return "KeyUp"; //$NON-NLS-1$
+		case SWT.MouseDown: return "MouseDown"; //$NON-NLS-1$
+		case SWT.MouseUp: return "MouseUp"; //$NON-NLS-1$
+		case SWT.MouseMove: return "MouseMove"; //$NON-NLS-1$
+		case SWT.MouseEnter: return "MouseEnter"; //$NON-NLS-1$
+		case SWT.MouseExit: return "MouseExit"; //$NON-NLS-1$
+		case SWT.MouseDoubleClick: return "MouseDoubleClick"; //$NON-NLS-1$
+		case SWT.Paint: return "Paint"; //$NON-NLS-1$
+		case SWT.Move: return "Move"; //$NON-NLS-1$
+		case SWT.Resize: return "Resize"; //$NON-NLS-1$
+		case SWT.Dispose: return "Dispose"; //$NON-NLS-1$
+		case SWT.Selection: return "Selection"; //$NON-NLS-1$
+		case SWT.DefaultSelection: return "DefaultSelection"; //$NON-NLS-1$
+		case SWT.FocusIn: return "FocusIn"; //$NON-NLS-1$
+		case SWT.FocusOut: return "FocusOut"; //$NON-NLS-1$
+		case SWT.Expand: return "Expand"; //$NON-NLS-1$
+		case SWT.Collapse: return "Collapse"; //$NON-NLS-1$
+		case SWT.Iconify: return "Iconify"; //$NON-NLS-1$
+		case SWT.Deiconify: return "Deiconify"; //$NON-NLS-1$
+		case SWT.Close: return "Close"; //$NON-NLS-1$
+		case SWT.Show: return "Show"; //$NON-NLS-1$
+		case SWT.Hide: return "Hide"; //$NON-NLS-1$
+		case SWT.Modify: return "Modify"; //$NON-NLS-1$
+		case SWT.Verify: return "Verify"; //$NON-NLS-1$
+		case SWT.Activate: return "Activate"; //$NON-NLS-1$
+		case SWT.Deactivate: return "Deactivate"; //$NON-NLS-1$
+		case SWT.Help: return "Help"; //$NON-NLS-1$
+		case SWT.DragDetect: return "DragDetect"; //$NON-NLS-1$
+		case SWT.Arm: return "Arm"; //$NON-NLS-1$
+		case SWT.Traverse: return "Traverse"; //$NON-NLS-1$
+		case SWT.MouseHover: return "MouseHover"; //$NON-NLS-1$
+		case SWT.HardKeyDown: return "HardKeyDown"; //$NON-NLS-1$
+		case SWT.HardKeyUp: return "HardKeyUp"; //$NON-NLS-1$
+		case SWT.MenuDetect: return "MenuDetect"; //$NON-NLS-1$
+		case SWT.SetData: return "SetData"; //$NON-NLS-1$
+		case SWT.MouseVerticalWheel: return "MouseVerticalWheel"; //$NON-NLS-1$
+		case SWT.MouseHorizontalWheel: return "MouseHorizontalWheel"; //$NON-NLS-1$
+		case SWT.Settings: return "Settings"; //$NON-NLS-1$
+		case SWT.EraseItem: return "EraseItem"; //$NON-NLS-1$
+		case SWT.MeasureItem: return "MeasureItem"; //$NON-NLS-1$
+		case SWT.PaintItem: return "PaintItem"; //$NON-NLS-1$
+		case SWT.ImeComposition: return "ImeComposition"; //$NON-NLS-1$
+		case SWT.OrientationChange: return "OrientationChange"; //$NON-NLS-1$
+		case SWT.Skin: return "Skin"; //$NON-NLS-1$
+		case SWT.OpenDocument: return "OpenDocument"; //$NON-NLS-1$
+		case SWT.Touch: return "Touch"; //$NON-NLS-1$
+		case SWT.Gesture: return "Gesture"; //$NON-NLS-1$
+		case SWT.Segments: return "Segments"; //$NON-NLS-1$
+		default: return "Event " + eventType; //$NON-NLS-1$
+		}
+	}
+}
@@ -15,9 +15,15 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.monitoring;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -45,7 +51,9 @@ import org.eclipse.ui.monitoring.UiFreezeEvent;
 /**
  * Event loop monitoring thread. Detects events that take long time to process, collects stack
  * traces of the UI thread during processing of those events, and logs the long events to the error
- * log.
+ * log. Optionally also samples the UI thread at a low rate regardless of the duration of the
+ * events, and aggregates the samples into {@link StackProfile}s showing where the UI thread spends
+ * its time, and records the latencies of all events in {@link EventLatencyHistograms}.
  */
 public class EventLoopMonitorThread extends Thread {
 	private static final int EVENT_HISTORY_SIZE = 100;
@@ -80,6 +88,27 @@ public class EventLoopMonitorThread extends Thread {
 		public String uiThreadFilter;
 		/** @see org.eclipse.ui.monitoring.PreferenceConstants#NONINTERESTING_THREAD_FILTER */
 		public String noninterestingThreadFilter;
+		/** If true, continuously sample the UI thread and aggregate the samples into profiles. */
+		public boolean profilerEnabled;
+		/** The interval between two samples of the UI thread taken by the profiler. */
+		public int profilerSampleInterval;
+		/** The duration of the time window each profile aggregates the samples of. */
+		public int profilerWindow;
+		/**
+		 * The file each profile is written to in the collapsed stack format when its time window
+		 * ends, or {@code null} to keep the profiles in memory only.
+		 */
+		public Path profileFile;
+		/**
+		 * The histograms the latencies of the events dispatched by the UI thread are recorded in,
+		 * or {@code null} to not record the latencies.
+		 */
+		public EventLatencyHistograms latencyHistograms;
+		/**
+		 * The interval between two dumps of {@link #latencyHistograms} to the Eclipse error log,
+		 * or 0 to not dump them.
+		 */
+		public int latencyLogInterval;
 
 		/**
 		 * Checks if the values of parameters for UI responsiveness monitoring are valid.
@@ -107,6 +136,17 @@ public class EventLoopMonitorThread extends Thread {
 						NLS.bind(Messages.EventLoopMonitorThread_deadlock_threshold_too_low_error_2,
 								deadlockThreshold, longEventErrorThreshold));
 			}
+			if (profilerEnabled) {
+				if (profilerSampleInterval <= 0) {
+					problems.append(NEW_LINE_AND_BULLET +
+							NLS.bind(Messages.EventLoopMonitorThread_profiler_sample_interval_error_1,
+									profilerSampleInterval));
+				} else if (profilerWindow < profilerSampleInterval) {
+					problems.append(NEW_LINE_AND_BULLET +
+							NLS.bind(Messages.EventLoopMonitorThread_profiler_window_too_low_error_2,
+									profilerWindow, profilerSampleInterval));
+				}
+			}
 
 			if (problems.length() != 0) {
 				throw new IllegalArgumentException(
@@ -135,6 +175,21 @@ public class EventLoopMonitorThread extends Thread {
 		private int[] nestingLevelStack = new int[64];
 		private int nestingLevelStackSize;
 
+		/**
+		 * The times in nanoseconds the {@link SWT#PreExternalEventDispatch
+		 * PreExternalEventDispatch} events matching the entries of {@link #nestingLevelStack}
+		 * were received at.
+		 */
+		private final long[] externalDispatchStartStack = new long[nestingLevelStack.length];
+
+		/**
+		 * The types and start times in nanoseconds of the events being dispatched, the innermost
+		 * event last. Only maintained when the latencies of the events are recorded.
+		 */
+		private int[] eventTypeStack = new int[16];
+		private long[] eventStartStack = new long[16];
+		private int eventStackSize;
+
 		@Override
 		public void handleEvent(Event event) {
 			/*
@@ -170,6 +225,9 @@ public class EventLoopMonitorThread extends Thread {
 				if (eventHistory != null) {
 					eventHistory.recordEvent(event.type, event.detail, nestingLevel);
 				}
+				if (latencyHistograms != null) {
+					pushEvent(event.detail);
+				}
 				// Log a long interval, start the timer.
 				handleEventTransition(true, true);
 				break;
@@ -185,6 +243,9 @@ public class EventLoopMonitorThread extends Thread {
 				if (eventHistory != null) {
 					eventHistory.recordEvent(event.type, event.detail, nestingLevel);
 				}
+				if (latencyHistograms != null) {
+					popEvent(event.detail);
+				}
 				// Log a long interval, start the timer if inside another event.
 				handleEventTransition(true, nestingLevel > 0);
 				break;
@@ -225,8 +286,38 @@ public class EventLoopMonitorThread extends Thread {
 			}
 		}
 
+		/**
+		 * Records the start of the dispatch of an event of the given type.
+		 */
+		private void pushEvent(int eventType) {
+			if (eventStackSize == eventTypeStack.length) {
+				eventTypeStack = Arrays.copyOf(eventTypeStack, eventStackSize * 2);
+				eventStartStack = Arrays.copyOf(eventStartStack, eventStackSize * 2);
+			}
+			eventTypeStack[eventStackSize] = eventType;
+			eventStartStack[eventStackSize++] = System.nanoTime();
+		}
+
+		/**
+		 * Records the latency of the event of the given type whose dispatch has ended. The latency
+		 * includes the events dispatched while dispatching the event, but not the time spent in
+		 * external event loops.
+		 */
+		private void popEvent(int eventType) {
+			if (eventStackSize == 0) {
+				// The event started before we started listening to SWT events.
+				return;
+			}
+			long start = eventStartStack[--eventStackSize];
+			if (eventTypeStack[eventStackSize] == eventType) {
+				latencyHistograms.record(eventType, System.nanoTime() - start);
+			}
+		}
+
 		private void saveAndResetNestingLevel() {
 			if (nestingLevelStackSize < nestingLevelStack.length) {
+				externalDispatchStartStack[nestingLevelStackSize] =
+						latencyHistograms != null ? System.nanoTime() : 0;
 				nestingLevelStack[nestingLevelStackSize++] = nestingLevel;
 				nestingLevel = 0;
 			} else {
@@ -240,6 +331,14 @@ public class EventLoopMonitorThread extends Thread {
 		private void restoreNestingLevel() {
 			if (nestingLevelStackSize > 0) {
 				nestingLevel = nestingLevelStack[--nestingLevelStackSize];
+				if (latencyHistograms != null) {
+					// The events being dispatched were waiting for the external event loop.
+					long externalDispatchTime =
+							System.nanoTime() - externalDispatchStartStack[nestingLevelStackSize];
+					for (int i = 0; i < eventStackSize; i++) {
+						eventStartStack[i] += externalDispatchTime;
+					}
+				}
 			} else {
 				// This may happen if some PreExternalEventDispatch events had occurred before we
 				// started listening to SWT events.
@@ -338,6 +437,7 @@ public class EventLoopMonitorThread extends Thread {
 
 	// Accessed by both the UI and monitoring threads.
 	private final int longEventWarningThreshold;
+	private final EventLatencyHistograms latencyHistograms;
 	private final AtomicBoolean cancelled = new AtomicBoolean(false);
 	private final AtomicReference<LongEventInfo> eventToPublish =
 			new AtomicReference<>(null);
@@ -358,12 +458,21 @@ public class EventLoopMonitorThread extends Thread {
 	private final long uiThreadId;
 	private final Object sleepMonitor;
 	private final boolean logToErrorLog;
+	private final long profilerSampleInterval;
+	private final long profilerWindow;
+	private final Path profileFile;
+	private final long latencyLogInterval;
+	private StackProfile profile;
+	private long grabProfileSampleAt;
 	private EventHistory eventHistory;
 	private ThreadMXBean threadMXBean;
 	private boolean dumpLockedMonitors;
 	private boolean dumpLockedSynchronizers;
 	private long monitoringThreadId;
 
+	// Accessed by both the monitoring thread and the clients of the profiles.
+	private volatile StackProfile lastProfile;
+
 	/**
 	 * Initializes the static state of the monitoring thread.
 	 *
@@ -395,6 +504,11 @@ public class EventLoopMonitorThread extends Thread {
 		logToErrorLog = args.logToErrorLog;
 		uiThreadFilter = new FilterHandler(args.uiThreadFilter);
 		noninterestingThreadFilter = new FilterHandler(args.noninterestingThreadFilter);
+		profilerSampleInterval = args.profilerEnabled ? args.profilerSampleInterval : 0;
+		profilerWindow = args.profilerWindow;
+		profileFile = args.profileFile;
+		latencyHistograms = args.latencyHistograms;
+		latencyLogInterval = latencyHistograms != null ? Math.max(args.latencyLogInterval, 0) : 0;
 		sleepMonitor = new Object();
 	}
 
@@ -454,7 +568,7 @@ public class EventLoopMonitorThread extends Thread {
 
 		loadLoggerExtensions();
 
-		if (!logToErrorLog && externalLoggers.isEmpty()) {
+		if (!logToErrorLog && externalLoggers.isEmpty() && profilerSampleInterval == 0) {
 			MonitoringPlugin.logWarning(Messages.EventLoopMonitorThread_logging_disabled_error);
 		}
 
@@ -493,6 +607,12 @@ public class EventLoopMonitorThread extends Thread {
 
 		long currTime = getTimestamp();
 
+		if (profilerSampleInterval > 0) {
+			profile = new StackProfile(uiThreadFilter, currTime);
+			grabProfileSampleAt = currTime + profilerSampleInterval;
+		}
+		long logLatenciesAt = currTime + latencyLogInterval;
+
 		while (!cancelled.get()) {
 			long sleepFor;
 			if (resetStalledEventState) {
@@ -520,6 +640,9 @@ public class EventLoopMonitorThread extends Thread {
 			} else {
 				sleepFor = Math.min(pollingNyquistDelay, Math.max(1, grabStackSampleAt - currTime));
 			}
+			if (profile != null) {
+				sleepFor = Math.min(sleepFor, Math.max(1, grabProfileSampleAt - currTime));
+			}
 
 			// Allow the discarded stack samples to be garbage collected.
 			for (int i = numSamples; i < stackSamples.length && stackSamples[i] != null; i++) {
@@ -550,6 +673,15 @@ public class EventLoopMonitorThread extends Thread {
 			}
 			boolean starved = starvedAsleepCurrentCycle || starvedAwakeCurrentCycle;
 
+			if (profile != null && currTime >= grabProfileSampleAt) {
+				sampleProfile(currTime, currEventStartOrResumeTime != 0);
+			}
+
+			if (latencyLogInterval > 0 && currTime >= logLatenciesAt) {
+				logLatencies();
+				logLatenciesAt = currTime + latencyLogInterval;
+			}
+
 			/*
 			 * If after sleeping we see that a new event has been dispatched, mark that we should
 			 * update the stalled event state. Otherwise, check if we have surpassed our threshold
@@ -643,6 +775,89 @@ public class EventLoopMonitorThread extends Thread {
 
 			lastEventStartOrResumeTime = currEventStartOrResumeTime;
 		}
+
+		if (profile != null && !profile.isEmpty()) {
+			publishProfile(profile);
+			profile = null;
+		}
+	}
+
+	/**
+	 * Adds a sample of the UI thread to the current profile, and publishes the profile once its
+	 * time window has ended.
+	 *
+	 * @param currTime the current time
+	 * @param busy whether the UI thread is processing an event
+	 */
+	private void sampleProfile(long currTime, boolean busy) {
+		if (busy) {
+			ThreadInfo thread = threadMXBean.getThreadInfo(uiThreadId, Integer.MAX_VALUE);
+			if (thread != null) {
+				profile.addSample(thread.getStackTrace(), currTime);
+			}
+		} else {
+			profile.addIdleSample(currTime);
+		}
+		grabProfileSampleAt += profilerSampleInterval;
+		if (grabProfileSampleAt <= currTime) {
+			// Don't make up for the samples missed while the monitoring thread was starved.
+			grabProfileSampleAt = currTime + profilerSampleInterval;
+		}
+
+		if (currTime >= profile.getStartTime() + profilerWindow) {
+			publishProfile(profile);
+			profile = new StackProfile(uiThreadFilter, currTime);
+		}
+	}
+
+	/**
+	 * Makes the profile available through {@link #getLastProfile()} and writes it to the profile
+	 * file, replacing the previous profile.
+	 */
+	private void publishProfile(StackProfile finishedProfile) {
+		lastProfile = finishedProfile;
+		if (tracer != null) {
+			tracer.trace(String.format(
+					"Profile of %d busy and %d idle samples with %d distinct stacks, %d samples filtered out", //$NON-NLS-1$
+					finishedProfile.getBusySampleCount(), finishedProfile.getIdleSampleCount(),
+					finishedProfile.getDistinctStackCount(), finishedProfile.getFilteredSampleCount()));
+		}
+		if (profileFile == null) {
+			return;
+		}
+		Path temporaryFile = profileFile.resolveSibling(profileFile.getFileName() + ".tmp"); //$NON-NLS-1$
+		try {
+			Files.createDirectories(temporaryFile.getParent());
+			try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+				finishedProfile.writeFolded(writer);
+			}
+			Files.move(temporaryFile, profileFile, StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			MonitoringPlugin.logError(
+					NLS.bind(Messages.EventLoopMonitorThread_profile_write_error_1, profileFile), e);
+		}
+	}
+
+	/**
+	 * Writes the latencies of the events dispatched by the UI thread to the error log.
+	 */
+	private void logLatencies() {
+		String latencies = latencyHistograms.toString();
+		if (!latencies.isEmpty()) {
+			MonitoringPlugin.logInfo(
+					NLS.bind(Messages.EventLoopMonitorThread_event_latencies_1, latencies));
+		}
+	}
+
+	/**
+	 * Returns the last profile of the UI thread whose time window has ended.
+	 *
+	 * @return the profile, or {@code null} if profiling is disabled or no time window has ended
+	 *     yet
+	 */
+	public StackProfile getLastProfile() {
+		return lastProfile;
 	}
 
 	private ThreadInfo[] captureThreadStacks(boolean dumpAllThreads) {
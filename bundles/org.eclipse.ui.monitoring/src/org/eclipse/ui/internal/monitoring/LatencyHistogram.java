@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies in microseconds with a bounded relative error, in the style of
+ * HdrHistogram. Latencies below {@link #SUB_BUCKET_COUNT} microseconds are counted exactly.
+ * Larger latencies are counted in buckets whose width doubles with every power of two, each
+ * power of two being split into {@link #SUB_BUCKET_COUNT} buckets, so that the values reported
+ * for a bucket are within {@code 1 / SUB_BUCKET_COUNT} of the recorded ones. Latencies above
+ * {@link #MAX_VALUE} are counted as {@code MAX_VALUE}.
+ * <p>
+ * Recording does not lock and can be done by one thread while others read the histogram. The
+ * values read while a latency is being recorded may not reflect it yet.
+ * </p>
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 4;
+	/** The number of buckets each power of two is split into. */
+	public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	/** The largest latency in microseconds the histogram distinguishes, about 19 hours. */
+	public static final long MAX_VALUE = (1L << 36) - 1;
+	private static final int BUCKET_COUNT = getBucket(MAX_VALUE) + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong totalCount = new AtomicLong();
+	private final AtomicLong totalMicros = new AtomicLong();
+	private final AtomicLong maxMicros = new AtomicLong();
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param micros the latency in microseconds
+	 */
+	public void record(long micros) {
+		long value = Math.min(Math.max(micros, 0), MAX_VALUE);
+		counts.incrementAndGet(getBucket(value));
+		totalMicros.addAndGet(value);
+		maxMicros.accumulateAndGet(value, Math::max);
+		// Incremented last, so that readers never see more latencies than the buckets hold.
+		totalCount.incrementAndGet();
+	}
+
+	/**
+	 * Forgets all recorded latencies.
+	 */
+	public void reset() {
+		totalCount.set(0);
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts.set(i, 0);
+		}
+		totalMicros.set(0);
+		maxMicros.set(0);
+	}
+
+	/** Returns the number of recorded latencies. */
+	public long getCount() {
+		return totalCount.get();
+	}
+
+	/** Returns the largest recorded latency in microseconds, or 0 if there are none. */
+	public long getMax() {
+		return maxMicros.get();
+	}
+
+	/** Returns the mean of the recorded latencies in microseconds, or 0 if there are none. */
+	public long getMean() {
+		long count = totalCount.get();
+		return count == 0 ? 0 : totalMicros.get() / count;
+	}
+
+	/**
+	 * Returns the latency in microseconds which the given percentage of the recorded latencies
+	 * do not exceed, with the precision of the buckets.
+	 *
+	 * @param percentile the percentage, between 0 and 100
+	 * @return the highest latency of the bucket containing the percentile, or 0 if there are no
+	 *     recorded latencies
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long count = totalCount.get();
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+		long cumulative = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			cumulative += counts.get(i);
+			if (cumulative >= rank) {
+				return Math.min(getHighestValue(i), maxMicros.get());
+			}
+		}
+		return maxMicros.get();
+	}
+
+	/**
+	 * Returns the index of the bucket counting the given latency.
+	 */
+	static int getBucket(long micros) {
+		if (micros < SUB_BUCKET_COUNT) {
+			return (int) micros;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+		return ((shift + 1) << SUB_BUCKET_BITS) + (int) (micros >>> shift) - SUB_BUCKET_COUNT;
+	}
+
+	/**
+	 * Returns the highest latency counted by the bucket with the given index.
+	 */
+	static long getHighestValue(int bucket) {
+		if (bucket < SUB_BUCKET_COUNT) {
+			return bucket;
+		}
+		int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+		long subBucket = (bucket & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
@@ -33,12 +33,16 @@ final class Messages extends NLS {
 	public static String EventLoopMonitorThread_deadlock_threshold_too_low_error_2;
 	public static String EventLoopMonitorThread_display_was_null;
 	public static String EventLoopMonitorThread_error_threshold_too_low_error_2;
+	public static String EventLoopMonitorThread_event_latencies_1;
 	public static String EventLoopMonitorThread_external_exception_error_1;
 	public static String EventLoopMonitorThread_invalid_argument_error_1;
 	public static String EventLoopMonitorThread_invalid_logger_type_error_4;
 	public static String EventLoopMonitorThread_logging_disabled_error;
 	public static String EventLoopMonitorThread_warning_threshold_error_1;
 	public static String EventLoopMonitorThread_max_event_loop_depth_exceeded_1;
+	public static String EventLoopMonitorThread_profile_write_error_1;
+	public static String EventLoopMonitorThread_profiler_sample_interval_error_1;
+	public static String EventLoopMonitorThread_profiler_window_too_low_error_2;
 	public static String FilterHandler_missing_thread_error;
 	public static String MonitoringStartup_initialization_error;
 
@@ -30,6 +30,7 @@ public class MonitoringPlugin {
 
 	private static ILog logger = ILog.of(MonitoringPlugin.class);
 	private static IPreferenceStore store;
+	private static final EventLatencyHistograms latencyHistograms = new EventLatencyHistograms();
 
 	public static void logError(String message, Throwable e) {
 		logger.log(new Status(IStatus.ERROR, PreferenceConstants.PLUGIN_ID, message, e));
@@ -39,6 +40,18 @@ public class MonitoringPlugin {
 		logger.log(new Status(IStatus.WARNING, PreferenceConstants.PLUGIN_ID, message));
 	}
 
+	public static void logInfo(String message) {
+		logger.log(new Status(IStatus.INFO, PreferenceConstants.PLUGIN_ID, message));
+	}
+
+	/**
+	 * Returns the latencies of the events dispatched by the UI thread, which are kept across
+	 * restarts of the monitoring thread.
+	 */
+	public static EventLatencyHistograms getLatencyHistograms() {
+		return latencyHistograms;
+	}
+
 
 
 	public static IPreferenceStore getPreferenceStore() {
@@ -23,11 +23,15 @@ import org.eclipse.ui.IStartup;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.monitoring.preferences.MonitoringPreferenceListener;
 import org.eclipse.ui.monitoring.PreferenceConstants;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * Starts the event loop monitoring thread. Initializes preferences from {@link IPreferenceStore}.
  */
 public class MonitoringStartup implements IStartup {
+	/** The name of the file in the state location the profiles of the UI thread are written to. */
+	private static final String PROFILE_FILE_NAME = "ui_thread_profile.folded"; //$NON-NLS-1$
+
 	private EventLoopMonitorThread monitoringThread;
 
 	@Override
@@ -85,6 +89,17 @@ public class MonitoringStartup implements IStartup {
 		args.noninterestingThreadFilter =
 				preferences.getString(PreferenceConstants.NONINTERESTING_THREAD_FILTER);
 		args.logToErrorLog = preferences.getBoolean(PreferenceConstants.LOG_TO_ERROR_LOG);
+		args.latencyHistograms = MonitoringPlugin.getLatencyHistograms();
+		args.latencyLogInterval =
+				preferences.getInt(PreferenceConstants.LATENCY_LOG_INTERVAL_MILLIS);
+		args.profilerEnabled = preferences.getBoolean(PreferenceConstants.PROFILER_ENABLED);
+		args.profilerSampleInterval =
+				preferences.getInt(PreferenceConstants.PROFILER_SAMPLE_INTERVAL_MILLIS);
+		args.profilerWindow = preferences.getInt(PreferenceConstants.PROFILER_WINDOW_MILLIS);
+		if (args.profilerEnabled) {
+			args.profileFile = Platform.getStateLocation(FrameworkUtil.getBundle(MonitoringStartup.class))
+					.append(PROFILE_FILE_NAME).toFile().toPath();
+		}
 
 		return args;
 	}
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Aggregates stack samples of the UI thread taken over a time window into a histogram of
+ * folded stacks. The histogram can be written in the collapsed stack format read by flame graph
+ * tools: one line per distinct stack, with the frames from the outermost to the innermost one
+ * separated by semicolons, followed by the number of samples of the stack.
+ * <p>
+ * Samples taken while the UI thread was idle are counted under a single {@link #IDLE_FRAME}
+ * frame, so that the flame graph also shows how busy the UI thread was.
+ * </p>
+ * <p>
+ * <strong>This class is not thread safe.</strong>
+ * </p>
+ */
+public class StackProfile {
+	/** The frame the samples taken while the UI thread was idle are counted under. */
+	public static final String IDLE_FRAME = "[idle]"; //$NON-NLS-1$
+
+	/**
+	 * A frame of the aggregated stacks. Line numbers are not part of the frame, so that all
+	 * samples of a method are counted together.
+	 */
+	private static class Frame {
+		final String className;
+		final String methodName;
+		private final int hash;
+
+		Frame(String className, String methodName) {
+			this.className = className;
+			this.methodName = methodName;
+			this.hash = className.hashCode() * 31 + methodName.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Frame)) {
+				return false;
+			}
+			Frame other = (Frame) obj;
+			return hash == other.hash && methodName.equals(other.methodName)
+					&& className.equals(other.className);
+		}
+
+		@Override
+		public String toString() {
+			return className.isEmpty() ? methodName : className + '.' + methodName;
+		}
+	}
+
+	/**
+	 * A node of the tree of aggregated stacks.
+	 */
+	private static class Node {
+		/** Children in the order they were first sampled, so that the output is stable. */
+		final Map<Frame, Node> children = new LinkedHashMap<>();
+		/** Number of samples whose innermost frame is this node. */
+		long count;
+
+		Node getChild(Frame frame) {
+			return children.computeIfAbsent(frame, f -> new Node());
+		}
+	}
+
+	private static final Frame IDLE = new Frame("", IDLE_FRAME); //$NON-NLS-1$
+
+	private final FilterHandler filter;
+	private final long startTime;
+	private final Node root = new Node();
+	private long endTime;
+	private long busySamples;
+	private long idleSamples;
+	private long filteredSamples;
+	private int distinctStacks;
+
+	/**
+	 * Creates an empty profile.
+	 *
+	 * @param filter the filter of the samples to leave out of the profile, or {@code null} to
+	 *     keep all samples. A sample is left out if any of its frames matches the filter.
+	 * @param startTime the start of the time window of the profile in milliseconds
+	 */
+	public StackProfile(FilterHandler filter, long startTime) {
+		this.filter = filter;
+		this.startTime = startTime;
+		this.endTime = startTime;
+	}
+
+	/**
+	 * Adds a sample taken while the UI thread was processing an event.
+	 *
+	 * @param stackTrace the stack trace of the UI thread, innermost frame first
+	 * @param timestamp the time the sample was taken in milliseconds
+	 */
+	public void addSample(StackTraceElement[] stackTrace, long timestamp) {
+		endTime = Math.max(endTime, timestamp);
+		if (filter != null) {
+			for (StackTraceElement element : stackTrace) {
+				if (filter.matchesFilter(element)) {
+					filteredSamples++;
+					return;
+				}
+			}
+		}
+		Node node = root;
+		for (int i = stackTrace.length; --i >= 0;) {
+			node = node.getChild(new Frame(stackTrace[i].getClassName(), stackTrace[i].getMethodName()));
+		}
+		if (node.count++ == 0) {
+			distinctStacks++;
+		}
+		busySamples++;
+	}
+
+	/**
+	 * Adds a sample taken while the UI thread was idle.
+	 *
+	 * @param timestamp the time the sample was taken in milliseconds
+	 */
+	public void addIdleSample(long timestamp) {
+		endTime = Math.max(endTime, timestamp);
+		Node node = root.getChild(IDLE);
+		if (node.count++ == 0) {
+			distinctStacks++;
+		}
+		idleSamples++;
+	}
+
+	/**
+	 * Returns the number of samples of the given folded stack. Intended for testing.
+	 *
+	 * @param foldedStack the frames of the stack from the outermost to the innermost one,
+	 *     separated by semicolons
+	 */
+	long getCount(String foldedStack) {
+		Node node = root;
+		for (String name : foldedStack.split(";")) { //$NON-NLS-1$
+			int lastDot = name.lastIndexOf('.');
+			Frame frame = name.equals(IDLE_FRAME) ? IDLE :
+					new Frame(lastDot >= 0 ? name.substring(0, lastDot) : "", name.substring(lastDot + 1)); //$NON-NLS-1$
+			node = node.children.get(frame);
+			if (node == null) {
+				return 0;
+			}
+		}
+		return node.count;
+	}
+
+	/**
+	 * Writes the profile in the collapsed stack format.
+	 *
+	 * @param out the destination of the profile
+	 * @throws IOException if writing to {@code out} fails
+	 */
+	public void writeFolded(Appendable out) throws IOException {
+		StringBuilder path = new StringBuilder();
+		for (Map.Entry<Frame, Node> entry : root.children.entrySet()) {
+			writeFolded(entry.getKey(), entry.getValue(), path, out);
+		}
+	}
+
+	private static void writeFolded(Frame frame, Node node, StringBuilder path, Appendable out)
+			throws IOException {
+		int length = path.length();
+		if (length != 0) {
+			path.append(';');
+		}
+		path.append(frame);
+		if (node.count != 0) {
+			out.append(path).append(' ').append(Long.toString(node.count)).append('\n');
+		}
+		for (Map.Entry<Frame, Node> entry : node.children.entrySet()) {
+			writeFolded(entry.getKey(), entry.getValue(), path, out);
+		}
+		path.setLength(length);
+	}
+
+	/** Returns the start of the time window of the profile in milliseconds. */
+	public long getStartTime() {
+		return startTime;
+	}
+
+	/** Returns the time of the last sample of the profile in milliseconds. */
+	public long getEndTime() {
+		return endTime;
+	}
+
+	/** Returns the number of samples taken while the UI thread was processing an event. */
+	public long getBusySampleCount() {
+		return busySamples;
+	}
+
+	/** Returns the number of samples taken while the UI thread was idle. */
+	public long getIdleSampleCount() {
+		return idleSamples;
+	}
+
+	/** Returns the number of samples left out because they matched the filter. */
+	public long getFilteredSampleCount() {
+		return filteredSamples;
+	}
+
+	/** Returns the number of distinct stacks in the profile. */
+	public int getDistinctStackCount() {
+		return distinctStacks;
+	}
+
+	/** Returns {@code true} if the profile does not contain any samples. */
+	public boolean isEmpty() {
+		return busySamples == 0 && idleSamples == 0;
+	}
+}
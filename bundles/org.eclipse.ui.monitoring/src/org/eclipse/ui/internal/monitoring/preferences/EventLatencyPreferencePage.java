@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring.preferences;
+
+import java.util.function.Function;
+
+import org.eclipse.jface.layout.GridDataFactory;
+import org.eclipse.jface.layout.GridLayoutFactory;
+import org.eclipse.jface.layout.LayoutConstants;
+import org.eclipse.jface.layout.PixelConverter;
+import org.eclipse.jface.preference.PreferencePage;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.ui.IWorkbench;
+import org.eclipse.ui.IWorkbenchPreferencePage;
+import org.eclipse.ui.internal.monitoring.EventLatencyHistograms;
+import org.eclipse.ui.internal.monitoring.LatencyHistogram;
+import org.eclipse.ui.internal.monitoring.MonitoringPlugin;
+import org.eclipse.ui.monitoring.PreferenceConstants;
+
+/**
+ * Preference page showing the distribution of the latencies of the events dispatched by the UI
+ * thread, per event type.
+ */
+public class EventLatencyPreferencePage extends PreferencePage implements IWorkbenchPreferencePage {
+	private TableViewer viewer;
+
+	public EventLatencyPreferencePage() {
+		noDefaultAndApplyButton();
+	}
+
+	@Override
+	public void init(IWorkbench workbench) {
+		setPreferenceStore(MonitoringPlugin.getPreferenceStore());
+	}
+
+	@Override
+	protected Control createContents(Composite parent) {
+		PixelConverter pixelConverter = new PixelConverter(parent);
+		Composite container = new Composite(parent, SWT.NONE);
+
+		Label description = new Label(container, SWT.WRAP);
+		description.setText(getPreferenceStore().getBoolean(PreferenceConstants.MONITORING_ENABLED) ?
+				Messages.EventLatencyPreferencePage_description :
+				Messages.EventLatencyPreferencePage_monitoring_disabled);
+		GridDataFactory.fillDefaults().span(2, 1).grab(true, false)
+				.hint(pixelConverter.convertWidthInCharsToPixels(80), SWT.DEFAULT).applyTo(description);
+
+		viewer = new TableViewer(container, SWT.BORDER | SWT.FULL_SELECTION | SWT.V_SCROLL);
+		Table table = viewer.getTable();
+		table.setHeaderVisible(true);
+		table.setLinesVisible(true);
+		viewer.setContentProvider(ArrayContentProvider.getInstance());
+		createColumn(Messages.EventLatencyPreferencePage_event_column, SWT.LEFT, 20, pixelConverter,
+				EventLatencyHistograms.Entry::getEventTypeName);
+		createColumn(Messages.EventLatencyPreferencePage_count_column, SWT.RIGHT, 10, pixelConverter,
+				entry -> Long.toString(entry.getHistogram().getCount()));
+		createColumn(Messages.EventLatencyPreferencePage_mean_column, SWT.RIGHT, 10, pixelConverter,
+				entry -> EventLatencyHistograms.formatMillis(entry.getHistogram().getMean()));
+		createPercentileColumn(Messages.EventLatencyPreferencePage_p50_column, 50, pixelConverter);
+		createPercentileColumn(Messages.EventLatencyPreferencePage_p90_column, 90, pixelConverter);
+		createPercentileColumn(Messages.EventLatencyPreferencePage_p99_column, 99, pixelConverter);
+		createColumn(Messages.EventLatencyPreferencePage_max_column, SWT.RIGHT, 10, pixelConverter,
+				entry -> EventLatencyHistograms.formatMillis(entry.getHistogram().getMax()));
+		GridDataFactory.fillDefaults().grab(true, true).span(1, 2)
+				.hint(SWT.DEFAULT, pixelConverter.convertHeightInCharsToPixels(15)).applyTo(table);
+
+		Button refreshButton = new Button(container, SWT.PUSH);
+		refreshButton.setText(Messages.EventLatencyPreferencePage_refresh_button_label);
+		refreshButton.addListener(SWT.Selection, event -> refresh());
+		GridDataFactory.fillDefaults().align(SWT.FILL, SWT.BEGINNING).applyTo(refreshButton);
+
+		Button resetButton = new Button(container, SWT.PUSH);
+		resetButton.setText(Messages.EventLatencyPreferencePage_reset_button_label);
+		resetButton.addListener(SWT.Selection, event -> {
+			MonitoringPlugin.getLatencyHistograms().reset();
+			refresh();
+		});
+		GridDataFactory.fillDefaults().align(SWT.FILL, SWT.BEGINNING).applyTo(resetButton);
+
+		GridLayoutFactory.fillDefaults()
+				.numColumns(2)
+				.spacing(LayoutConstants.getSpacing())
+				.applyTo(container);
+
+		refresh();
+		return container;
+	}
+
+	private void createPercentileColumn(String title, double percentile, PixelConverter pixelConverter) {
+		createColumn(title, SWT.RIGHT, 10, pixelConverter, entry -> {
+			LatencyHistogram histogram = entry.getHistogram();
+			return EventLatencyHistograms.formatMillis(histogram.getValueAtPercentile(percentile));
+		});
+	}
+
+	private void createColumn(String title, int style, int widthInChars, PixelConverter pixelConverter,
+			Function<EventLatencyHistograms.Entry, String> text) {
+		TableViewerColumn column = new TableViewerColumn(viewer, style);
+		column.getColumn().setText(title);
+		column.getColumn().setWidth(pixelConverter.convertWidthInCharsToPixels(widthInChars));
+		column.setLabelProvider(new ColumnLabelProvider() {
+			@Override
+			public String getText(Object element) {
+				return text.apply((EventLatencyHistograms.Entry) element);
+			}
+		});
+	}
+
+	private void refresh() {
+		viewer.setInput(MonitoringPlugin.getLatencyHistograms().getEntries());
+	}
+}
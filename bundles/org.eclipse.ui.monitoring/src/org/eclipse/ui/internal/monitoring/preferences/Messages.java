@@ -17,6 +17,17 @@ package org.eclipse.ui.internal.monitoring.preferences;
 import org.eclipse.osgi.util.NLS;
 
 public final class Messages extends NLS {
+	public static String EventLatencyPreferencePage_count_column;
+	public static String EventLatencyPreferencePage_description;
+	public static String EventLatencyPreferencePage_event_column;
+	public static String EventLatencyPreferencePage_max_column;
+	public static String EventLatencyPreferencePage_mean_column;
+	public static String EventLatencyPreferencePage_monitoring_disabled;
+	public static String EventLatencyPreferencePage_p50_column;
+	public static String EventLatencyPreferencePage_p90_column;
+	public static String EventLatencyPreferencePage_p99_column;
+	public static String EventLatencyPreferencePage_refresh_button_label;
+	public static String EventLatencyPreferencePage_reset_button_label;
 	public static String FilterInputDialog_filter_input_label;
 	public static String FilterInputDialog_header;
 	public static String FilterInputDialog_invalid_method_name;
@@ -33,9 +44,13 @@ public final class Messages extends NLS {
 	public static String MonitoringPreferencePage_enable_monitoring_label;
 	public static String MonitoringPreferencePage_error_threshold_label;
 	public static String MonitoringPreferencePage_error_threshold_too_low_error;
+	public static String MonitoringPreferencePage_latency_log_interval_label;
 	public static String MonitoringPreferencePage_log_freeze_events_label;
 	public static String MonitoringPreferencePage_max_stack_samples_label;
 	public static String MonitoringPreferencePage_noninteresting_thread_filter_label;
+	public static String MonitoringPreferencePage_profiler_enabled_label;
+	public static String MonitoringPreferencePage_profiler_sample_interval_label;
+	public static String MonitoringPreferencePage_profiler_window_label;
 	public static String MonitoringPreferencePage_remove_ui_thread_filter_button_label;
 	public static String MonitoringPreferencePage_remove_noninteresting_thread_filter_button_label;
 	public static String MonitoringPreferencePage_ui_thread_filter_label;
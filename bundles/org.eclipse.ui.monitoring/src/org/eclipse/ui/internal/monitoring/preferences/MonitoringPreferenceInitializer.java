@@ -36,6 +36,10 @@ public class MonitoringPreferenceInitializer extends AbstractPreferenceInitializ
 				5 * 60 * 1000); // 5 min
 		store.setDefault(PreferenceConstants.LOG_TO_ERROR_LOG, true);
 		store.setDefault(PreferenceConstants.UI_THREAD_FILTER, ""); //$NON-NLS-1$
+		store.setDefault(PreferenceConstants.LATENCY_LOG_INTERVAL_MILLIS, 0); // disabled
+		store.setDefault(PreferenceConstants.PROFILER_ENABLED, false);
+		store.setDefault(PreferenceConstants.PROFILER_SAMPLE_INTERVAL_MILLIS, 50);
+		store.setDefault(PreferenceConstants.PROFILER_WINDOW_MILLIS, 5 * 60 * 1000); // 5 min
 		store.setDefault(PreferenceConstants.NONINTERESTING_THREAD_FILTER,
 				"java.*" //$NON-NLS-1$
 				+ ",sun.*" //$NON-NLS-1$
@@ -146,6 +146,19 @@ public class MonitoringPreferencePage extends FieldEditorPreferencePage
 		createIntegerEditor(
 				PreferenceConstants.MAX_STACK_SAMPLES,
 				Messages.MonitoringPreferencePage_max_stack_samples_label, block, 0, 100);
+		createIntegerEditor(
+				PreferenceConstants.LATENCY_LOG_INTERVAL_MILLIS,
+				Messages.MonitoringPreferencePage_latency_log_interval_label, block,
+				0, 24 * HOUR_IN_MS);
+		createBooleanEditor(PreferenceConstants.PROFILER_ENABLED,
+				Messages.MonitoringPreferencePage_profiler_enabled_label, block);
+		createIntegerEditor(
+				PreferenceConstants.PROFILER_SAMPLE_INTERVAL_MILLIS,
+				Messages.MonitoringPreferencePage_profiler_sample_interval_label, block, 1, 60000);
+		createIntegerEditor(
+				PreferenceConstants.PROFILER_WINDOW_MILLIS,
+				Messages.MonitoringPreferencePage_profiler_window_label, block,
+				1000, 24 * HOUR_IN_MS);
 		GridLayoutFactory.fillDefaults()
 				.numColumns(2)
 				.spacing(LayoutConstants.getSpacing())
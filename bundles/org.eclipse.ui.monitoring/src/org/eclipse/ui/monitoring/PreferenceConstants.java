@@ -58,6 +58,25 @@ public class PreferenceConstants {
 	 * message if all stack frames of the thread match the filter.
 	 */
 	public static final String NONINTERESTING_THREAD_FILTER = "noninteresting_thread_filter"; //$NON-NLS-1$
+	/**
+	 * The interval in milliseconds between two dumps of the latencies of the events dispatched by
+	 * the UI thread to the Eclipse error log, or 0 to not dump them.
+	 */
+	public static final String LATENCY_LOG_INTERVAL_MILLIS = "latency_log_interval"; //$NON-NLS-1$
+	/**
+	 * If true, the UI thread is continuously sampled at a low rate and the samples are aggregated
+	 * into a profile written in the collapsed stack format read by flame graph tools. Samples of
+	 * the UI thread matching {@link #UI_THREAD_FILTER} are left out of the profile.
+	 */
+	public static final String PROFILER_ENABLED = "profiler_enabled"; //$NON-NLS-1$
+	/**
+	 * The interval in milliseconds between two samples of the UI thread taken by the profiler.
+	 */
+	public static final String PROFILER_SAMPLE_INTERVAL_MILLIS = "profiler_sample_interval"; //$NON-NLS-1$
+	/**
+	 * The duration in milliseconds of the time window each profile aggregates the samples of.
+	 */
+	public static final String PROFILER_WINDOW_MILLIS = "profiler_window"; //$NON-NLS-1$
 
 	private PreferenceConstants() {}
 }
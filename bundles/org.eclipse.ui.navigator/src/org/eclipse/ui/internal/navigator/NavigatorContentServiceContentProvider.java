@@ -19,18 +19,30 @@ package org.eclipse.ui.internal.navigator;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.SafeRunner;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.ITreePathContentProvider;
 import org.eclipse.jface.viewers.TreePath;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.internal.navigator.extensions.NavigatorContentDescriptor;
 import org.eclipse.ui.internal.navigator.extensions.NavigatorContentExtension;
 import org.eclipse.ui.internal.navigator.extensions.NavigatorViewerDescriptor;
@@ -40,6 +52,7 @@ import org.eclipse.ui.navigator.INavigatorContentDescriptor;
 import org.eclipse.ui.navigator.INavigatorViewerDescriptor;
 import org.eclipse.ui.navigator.IPipelinedTreeContentProvider;
 import org.eclipse.ui.navigator.OverridePolicy;
+import org.eclipse.ui.progress.PendingUpdateAdapter;
 
 /**
  * <p>
@@ -67,6 +80,18 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 
 	private static final Object[] NO_CHILDREN = new Object[0];
 
+	/**
+	 * How long the UI thread waits for the children computed in parallel before
+	 * showing a pending node, in milliseconds.
+	 */
+	private static final long PENDING_DELAY = 100;
+
+	private static final int RUNNING = 0;
+
+	private static final int PENDING = 1;
+
+	private static final int DONE = 2;
+
 	private final NavigatorContentService contentService;
 
 	private boolean disposeContentService;
@@ -75,6 +100,13 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 
 	private Viewer viewer;
 
+	private final boolean parallelChildren;
+
+	/**
+	 * The children being computed in parallel, by parent element or path.
+	 */
+	private final Map<Object, ChildrenRequest> childrenRequests = new HashMap<>();
+
 	/**
 	 * <p>
 	 * Creates a cached {@link NavigatorContentService}&nbsp;from the given
@@ -105,11 +137,13 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 		contentService = aContentService;
 		INavigatorViewerDescriptor vDesc = contentService.getViewerDescriptor();
 		enforceHasChildren = vDesc.getBooleanConfigProperty(NavigatorViewerDescriptor.PROP_ENFORCE_HAS_CHILDREN);
+		parallelChildren = vDesc.getBooleanConfigProperty(NavigatorViewerDescriptor.PROP_PARALLEL_CHILDREN);
 	}
 
 	@Override
 	public void inputChanged(Viewer aViewer, Object anOldInput, Object aNewInput) {
 		viewer = aViewer;
+		cancelChildrenRequests();
 		contentService.updateService(aViewer, anOldInput, aNewInput);
 	}
 
@@ -139,6 +173,13 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 		if (enabledExtensions.isEmpty()) {
 			return NO_CHILDREN;
 		}
+		if (parallelChildren && enabledExtensions.size() > 1) {
+			Object[] children = internalGetChildrenInParallel(aParentElement, aParentElementOrPath, enabledExtensions,
+					elements);
+			if (children != null) {
+				return children;
+			}
+		}
 		final Set finalSet = new LinkedHashSet();
 		final ContributorTrackingSet localSet = new ContributorTrackingSet(contentService);
 
@@ -185,6 +226,309 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 		return finalSet.toArray();
 	}
 
+	/**
+	 * Computes the children contributed by each of the first class extensions
+	 * concurrently, and merges them in the order of the extensions, as
+	 * {@link #internalGetChildren(Object, Object, Set, boolean)} does. Only
+	 * the content providers of the first class extensions are called
+	 * concurrently; the pipelines run on the calling thread.
+	 * <p>
+	 * The UI thread of a tree viewer only waits a little for the children. When
+	 * some of the extensions are not done by then, the children found so far
+	 * are returned along with a pending node, and the parent is refreshed once
+	 * all of them are done. Asking for the children again before that, as a
+	 * refresh of the parent does, computes them again.
+	 * </p>
+	 *
+	 * @return the children, or <code>null</code> if there is a single first
+	 *         class extension
+	 */
+	private Object[] internalGetChildrenInParallel(Object aParentElement, Object aParentElementOrPath,
+			Set enabledExtensions, boolean elements) {
+		ChildrenRequest request;
+		synchronized (childrenRequests) {
+			request = childrenRequests.get(aParentElementOrPath);
+			if (request != null && request.isOutdated()) {
+				// the parent is refreshed while a pending node is shown, the
+				// children have to reflect the changes made since the request
+				childrenRequests.remove(aParentElementOrPath);
+				request.cancel();
+				request = null;
+			}
+		}
+		if (request == null) {
+			List<NavigatorContentExtension> firstClassExtensions = new ArrayList<>();
+			for (Iterator itr = enabledExtensions.iterator(); itr.hasNext();) {
+				NavigatorContentExtension extension = (NavigatorContentExtension) itr.next();
+				if (!isOverridingExtensionInSet(extension.getDescriptor(), enabledExtensions)) {
+					firstClassExtensions.add(extension);
+				}
+			}
+			if (firstClassExtensions.size() < 2) {
+				return null;
+			}
+			request = new ChildrenRequest(aParentElement, aParentElementOrPath, firstClassExtensions, elements);
+			synchronized (childrenRequests) {
+				childrenRequests.put(aParentElementOrPath, request);
+			}
+			request.schedule();
+		}
+
+		Display display = Display.getCurrent();
+		boolean showPending = display != null && viewer instanceof AbstractTreeViewer
+				&& display == viewer.getControl().getDisplay();
+		if (!request.await(showPending) && request.setPending(display)) {
+			Object[] children = mergeChildren(request);
+			Object[] childrenAndPending = new Object[children.length + 1];
+			System.arraycopy(children, 0, childrenAndPending, 0, children.length);
+			childrenAndPending[children.length] = request.pendingNode;
+			return childrenAndPending;
+		}
+		synchronized (childrenRequests) {
+			childrenRequests.remove(aParentElementOrPath, request);
+		}
+		return mergeChildren(request);
+	}
+
+	/**
+	 * Pipes the children computed so far for the request through the pipeline
+	 * of their extensions, in the order of the extensions.
+	 */
+	private Object[] mergeChildren(final ChildrenRequest request) {
+		final Set finalSet = new LinkedHashSet();
+		final ContributorTrackingSet localSet = new ContributorTrackingSet(contentService);
+
+		for (int i = 0; i < request.extensions.length; i++) {
+			final NavigatorContentExtension foundExtension = request.extensions[i];
+			final Object[] contributedChildren = request.children.get(i);
+			if (contributedChildren == null) {
+				continue;
+			}
+			SafeRunner.run(new NavigatorSafeRunnable() {
+				@Override
+				public void run() throws Exception {
+					NavigatorContentExtension[] overridingExtensions = foundExtension
+							.getOverridingExtensionsForTriggerPoint(request.parentElement);
+					INavigatorContentDescriptor foundDescriptor = foundExtension.getDescriptor();
+					localSet.setContributor(foundDescriptor, foundDescriptor);
+					localSet.setContents(contributedChildren);
+
+					if (overridingExtensions.length > 0) {
+						pipelineChildren(request.parentElement, overridingExtensions, foundDescriptor, localSet,
+								request.elements);
+					}
+					finalSet.addAll(localSet);
+				}
+
+				@Override
+				public void handleException(Throwable e) {
+					NavigatorPlugin.logError(0, NLS.bind(
+							CommonNavigatorMessages.Exception_Invoking_Extension, new Object[] {
+									foundExtension.getDescriptor().getId(), request.parentElement }), e);
+				}
+			});
+		}
+		return finalSet.toArray();
+	}
+
+	private void cancelChildrenRequests() {
+		synchronized (childrenRequests) {
+			for (ChildrenRequest request : childrenRequests.values()) {
+				request.cancel();
+			}
+			childrenRequests.clear();
+		}
+	}
+
+	/**
+	 * The children of a parent being computed by several content extensions
+	 * at once, one job per extension.
+	 */
+	private final class ChildrenRequest {
+
+		final Object parentElement;
+
+		final Object parentElementOrPath;
+
+		final NavigatorContentExtension[] extensions;
+
+		final boolean elements;
+
+		/**
+		 * The children contributed by each extension, <code>null</code> until
+		 * it is done.
+		 */
+		final AtomicReferenceArray<Object[]> children;
+
+		final Object pendingNode = new PendingUpdateAdapter();
+
+		private final SafeDelegateTreeContentProvider[] contentProviders;
+
+		private final Job[] jobs;
+
+		private final AtomicInteger remaining;
+
+		private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+		private final CountDownLatch done = new CountDownLatch(1);
+
+		private volatile Display display;
+
+		ChildrenRequest(Object aParentElement, Object aParentElementOrPath,
+				List<NavigatorContentExtension> theExtensions, boolean elements) {
+			parentElement = aParentElement;
+			parentElementOrPath = aParentElementOrPath;
+			extensions = theExtensions.toArray(new NavigatorContentExtension[theExtensions.size()]);
+			this.elements = elements;
+			children = new AtomicReferenceArray<>(extensions.length);
+			remaining = new AtomicInteger(extensions.length);
+			// the content providers are created and initialized on the calling thread
+			contentProviders = new SafeDelegateTreeContentProvider[extensions.length];
+			for (int i = 0; i < extensions.length; i++) {
+				contentProviders[i] = extensions[i].internalGetContentProvider();
+			}
+			jobs = new Job[extensions.length];
+		}
+
+		void schedule() {
+			for (int i = 0; i < extensions.length; i++) {
+				final int index = i;
+				jobs[i] = new Job(NLS.bind(CommonNavigatorMessages.NavigatorContentServiceContentProvider_Computing_children,
+						extensions[i].getDescriptor().getName())) {
+					@Override
+					protected IStatus run(IProgressMonitor monitor) {
+						try {
+							if (!monitor.isCanceled()) {
+								computeChildren(index);
+							}
+						} finally {
+							if (children.get(index) == null) {
+								children.set(index, NO_CHILDREN);
+							}
+							if (remaining.decrementAndGet() == 0) {
+								done();
+							}
+						}
+						return Status.OK_STATUS;
+					}
+
+					@Override
+					public boolean belongsTo(Object family) {
+						return family == NavigatorContentServiceContentProvider.this;
+					}
+				};
+				jobs[i].setSystem(true);
+				jobs[i].schedule();
+			}
+		}
+
+		private void computeChildren(final int index) {
+			SafeRunner.run(new NavigatorSafeRunnable() {
+				@Override
+				public void run() throws Exception {
+					Object[] contributedChildren = elements ? contentProviders[index].getElements(parentElementOrPath)
+							: contentProviders[index].getChildren(parentElementOrPath);
+					children.set(index, contributedChildren == null ? NO_CHILDREN : contributedChildren);
+				}
+
+				@Override
+				public void handleException(Throwable e) {
+					NavigatorPlugin.logError(0, NLS.bind(
+							CommonNavigatorMessages.Exception_Invoking_Extension, new Object[] {
+									extensions[index].getDescriptor().getId(), parentElement }), e);
+				}
+			});
+		}
+
+		/**
+		 * Waits for all extensions to be done.
+		 *
+		 * @param showPending
+		 *            whether to only wait a little, as a pending node can be
+		 *            shown
+		 * @return whether all extensions are done
+		 */
+		boolean await(boolean showPending) {
+			try {
+				if (showPending) {
+					return done.await(PENDING_DELAY, TimeUnit.MILLISECONDS);
+				}
+				done.await();
+				return true;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return done.getCount() == 0;
+			}
+		}
+
+		/**
+		 * Records that a pending node was shown for the parent.
+		 *
+		 * @param aDisplay
+		 *            the display of the viewer
+		 * @return <code>false</code> if all extensions are done meanwhile
+		 */
+		boolean setPending(Display aDisplay) {
+			display = aDisplay;
+			return state.compareAndSet(RUNNING, PENDING) || state.get() == PENDING;
+		}
+
+		/**
+		 * @return whether a pending node was shown for the parent and some
+		 *         extensions are still computing children, so that a new call
+		 *         for the children comes from a refresh of the parent
+		 */
+		boolean isOutdated() {
+			return state.get() == PENDING && done.getCount() != 0;
+		}
+
+		private void done() {
+			done.countDown();
+			if (!state.compareAndSet(RUNNING, DONE) && state.get() == PENDING) {
+				// the viewer shows a pending node, replace it with the children
+				Display aDisplay = display;
+				if (aDisplay != null && !aDisplay.isDisposed()) {
+					aDisplay.asyncExec(this::refreshParent);
+				} else {
+					forget();
+				}
+			}
+		}
+
+		private void refreshParent() {
+			try {
+				boolean current;
+				synchronized (childrenRequests) {
+					current = childrenRequests.get(parentElementOrPath) == this;
+				}
+				if (current && viewer instanceof AbstractTreeViewer && !viewer.getControl().isDisposed()) {
+					((AbstractTreeViewer) viewer).refresh(parentElement);
+				}
+			} finally {
+				// the refresh does not ask for the children of a parent which
+				// was removed or collapsed meanwhile
+				forget();
+			}
+		}
+
+		private void forget() {
+			synchronized (childrenRequests) {
+				childrenRequests.remove(parentElementOrPath, this);
+			}
+		}
+
+		void cancel() {
+			state.set(DONE);
+			for (Job job : jobs) {
+				if (job != null) {
+					job.cancel();
+				}
+			}
+			// the jobs which did not start yet never finish
+			done.countDown();
+		}
+	}
+
 	/**
 	 * Query each of <code>theOverridingExtensions</code> for children, and then
 	 * pipe them through the Pipeline content provider.
@@ -482,6 +826,7 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 	 */
 	@Override
 	public void dispose() {
+		cancelChildrenRequests();
 		if (disposeContentService) {
 			contentService.dispose();
 		}
@@ -17,8 +17,9 @@ package org.eclipse.ui.internal.navigator.extensions;
 
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.eclipse.ui.internal.navigator.VisibilityAssistant;
 import org.eclipse.ui.internal.navigator.VisibilityAssistant.VisibilityListener;
@@ -27,11 +28,13 @@ import org.eclipse.ui.internal.navigator.VisibilityAssistant.VisibilityListener;
  * A cache for evaluated {@link NavigatorContentDescriptor}.
  */
 public class EvaluationCache implements VisibilityListener {
-	// TODO Have an LRU cache with max size as well as SoftReferences, to help
-	// prevent pathological GC performance that can happen where there are a
-	// large number of softly reachable objects, as well as helping to reduce
-	// dependence on the GC from keeping this cache's size in line in the first
-	// place.
+	/**
+	 * The maximum number of elements cached for each of the overrides and not
+	 * overrides cases. The least recently used elements are evicted first, so
+	 * that a large tree does not rely on the GC to keep the cache's size in line
+	 * with a large number of softly reachable objects.
+	 */
+	public static final int MAX_ELEMENTS = 10000;
 
 	// TODO Counters for cache hits, misses, replacements, etc.
 
@@ -40,8 +43,13 @@ public class EvaluationCache implements VisibilityListener {
 	// instead of two maps) OR not bother tracking "overrides or not" state here
 	// and instead let users of this class handle it with two instances of this
 	// class.
-	private final Map<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> evaluations = new HashMap<>();
-	private final Map<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> evaluationsWithOverrides = new HashMap<>();
+	private final Map<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> evaluations = createEvaluationMap();
+	private final Map<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> evaluationsWithOverrides = createEvaluationMap();
+
+	// The descriptors of the types for which they do not depend on the element
+	// itself. Weak, so that the types of uninstalled bundles can be collected.
+	private final Map<Class<?>, NavigatorContentDescriptor[]> typeEvaluations = new WeakHashMap<>();
+	private final Map<Class<?>, NavigatorContentDescriptor[]> typeEvaluationsWithOverrides = new WeakHashMap<>();
 
 	private final ReferenceQueue<Object> evaluationsQueue = new ReferenceQueue<>();
 	private final ReferenceQueue<Object> evaluationsWithOverridesQueue = new ReferenceQueue<>();
@@ -53,6 +61,26 @@ public class EvaluationCache implements VisibilityListener {
 		anAssistant.addListener(this);
 	}
 
+	private static Map<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> createEvaluationMap() {
+		// Access ordered, so that the eldest entry is the least recently used.
+		return new LinkedHashMap<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>>(
+				256, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> eldest) {
+				if (size() > MAX_ELEMENTS) {
+					// Clear the key from the value so we don't try to remove
+					// any potential new mapping upon cleanUpStaleEntries()
+					eldest.getValue().clear();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
 	private void cleanUpStaleEntries() {
 		// TODO Only clean up to a certain number of entries per call when merely accessing or setting?
 		// TODO Periodic task to run this every now and then, ala org.eclipse.core.runtime.jobs.Job?
@@ -173,6 +201,46 @@ public class EvaluationCache implements VisibilityListener {
 		}
 	}
 
+	/**
+	 * Finds the cached descriptors for all elements of the given type, or
+	 * returns {@code null} if not currently in the cache.
+	 *
+	 * @param aType
+	 *            the type of the element to lookup
+	 * @param toComputeOverrides
+	 *            whether overrides are to be considered
+	 * @return the cached descriptors for the given type, or {@code null} if
+	 *         not currently in the cache
+	 */
+	public final NavigatorContentDescriptor[] getDescriptorsForType(Class<?> aType, boolean toComputeOverrides) {
+		if (toComputeOverrides) {
+			return typeEvaluationsWithOverrides.get(aType);
+		}
+		return typeEvaluations.get(aType);
+	}
+
+	/**
+	 * Caches the given descriptors for all elements of the given type. Only
+	 * valid if the descriptors were found without evaluating anything but the
+	 * type of the element.
+	 *
+	 * @param aType
+	 *            the type to associate with the given descriptors
+	 * @param theDescriptors
+	 *            the descriptors to cache against the given type
+	 * @param toComputeOverrides
+	 *            whether overrides were considered in the computation of the
+	 *            given descriptors
+	 */
+	public final void setDescriptorsForType(Class<?> aType, NavigatorContentDescriptor[] theDescriptors,
+			boolean toComputeOverrides) {
+		if (toComputeOverrides) {
+			typeEvaluationsWithOverrides.put(aType, theDescriptors);
+		} else {
+			typeEvaluations.put(aType, theDescriptors);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -203,5 +271,7 @@ public class EvaluationCache implements VisibilityListener {
 		}
 		evaluations.clear();
 		evaluationsWithOverrides.clear();
+		typeEvaluations.clear();
+		typeEvaluationsWithOverrides.clear();
 	}
 }
\ No newline at end of file
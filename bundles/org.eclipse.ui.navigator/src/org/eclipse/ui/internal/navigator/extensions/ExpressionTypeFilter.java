@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.navigator.extensions;
+
+import java.util.Optional;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+
+/**
+ * The part of a core expression which only depends on the type of the element,
+ * compiled from the configuration element the expression was created from.
+ * <p>
+ * The filter is made of the <code>instanceof</code>, <code>and</code>,
+ * <code>or</code> and <code>not</code> elements testing the element itself.
+ * Any other element, like <code>test</code> or <code>adapt</code>, depends on
+ * the element or on the state of the workbench and is left to the expression.
+ * When the expression is made of type tests only, the filter gives its result
+ * for any element of a type; otherwise it gives the types for which the
+ * expression is false regardless of the element. The results are computed once
+ * per type.
+ * </p>
+ */
+public final class ExpressionTypeFilter {
+
+	private static final String TAG_INSTANCEOF = "instanceof"; //$NON-NLS-1$
+
+	private static final String TAG_AND = "and"; //$NON-NLS-1$
+
+	private static final String TAG_OR = "or"; //$NON-NLS-1$
+
+	private static final String TAG_NOT = "not"; //$NON-NLS-1$
+
+	private static final String ATT_VALUE = "value"; //$NON-NLS-1$
+
+	/**
+	 * A compiled element of the expression.
+	 */
+	private abstract static class Node {
+
+		/**
+		 * Whether the node gives the result of its element, rather than a
+		 * condition which must hold for it to be true.
+		 */
+		final boolean exact;
+
+		Node(boolean exact) {
+			this.exact = exact;
+		}
+
+		abstract boolean matches(Class<?> type);
+	}
+
+	/**
+	 * An element the filter cannot tell anything about.
+	 */
+	private static final Node ANY = new Node(false) {
+		@Override
+		boolean matches(Class<?> type) {
+			return true;
+		}
+	};
+
+	private static final class InstanceOf extends Node {
+		private final String typeName;
+
+		InstanceOf(String typeName) {
+			super(true);
+			this.typeName = typeName;
+		}
+
+		@Override
+		boolean matches(Class<?> type) {
+			return isSubtype(type, typeName);
+		}
+	}
+
+	private static final class And extends Node {
+		private final Node[] children;
+
+		And(Node[] children, boolean exact) {
+			super(exact);
+			this.children = children;
+		}
+
+		@Override
+		boolean matches(Class<?> type) {
+			for (Node child : children) {
+				if (!child.matches(type)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static final class Or extends Node {
+		private final Node[] children;
+
+		Or(Node[] children) {
+			super(true);
+			this.children = children;
+		}
+
+		@Override
+		boolean matches(Class<?> type) {
+			for (Node child : children) {
+				if (child.matches(type)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static final class Not extends Node {
+		private final Node child;
+
+		Not(Node child) {
+			super(true);
+			this.child = child;
+		}
+
+		@Override
+		boolean matches(Class<?> type) {
+			return !child.matches(type);
+		}
+	}
+
+	private final Node root;
+
+	private final ClassValue<Optional<Boolean>> results = new ClassValue<Optional<Boolean>>() {
+		@Override
+		protected Optional<Boolean> computeValue(Class<?> type) {
+			boolean matches = root.matches(type);
+			if (root.exact || !matches) {
+				return Optional.of(Boolean.valueOf(matches));
+			}
+			return Optional.empty();
+		}
+	};
+
+	/**
+	 * Compiles the filter of an expression whose children are combined with
+	 * boolean AND semantics, like <code>enablement</code>,
+	 * <code>triggerPoints</code> or <code>possibleChildren</code>.
+	 *
+	 * @param element
+	 *            the configuration element of the expression
+	 */
+	public ExpressionTypeFilter(IConfigurationElement element) {
+		root = compileAnd(element.getChildren());
+	}
+
+	/**
+	 * Returns the result of the expression for the given element if it only
+	 * depends on the type of the element.
+	 *
+	 * @param anElement
+	 *            a non-null element
+	 * @return {@link Boolean#TRUE} or {@link Boolean#FALSE} if all elements of
+	 *         the type evaluate to it, or <code>null</code> if the expression
+	 *         has to be evaluated
+	 */
+	public Boolean evaluate(Object anElement) {
+		return results.get(anElement.getClass()).orElse(null);
+	}
+
+	private static Node compile(IConfigurationElement element) {
+		String name = element.getName();
+		if (TAG_INSTANCEOF.equals(name)) {
+			String value = element.getAttribute(ATT_VALUE);
+			return value == null ? ANY : new InstanceOf(value);
+		}
+		if (TAG_AND.equals(name)) {
+			return compileAnd(element.getChildren());
+		}
+		if (TAG_OR.equals(name)) {
+			IConfigurationElement[] children = element.getChildren();
+			Node[] nodes = new Node[children.length];
+			for (int i = 0; i < children.length; i++) {
+				nodes[i] = compile(children[i]);
+				// a branch which may be true makes the whole expression so
+				if (!nodes[i].exact) {
+					return ANY;
+				}
+			}
+			return new Or(nodes);
+		}
+		if (TAG_NOT.equals(name)) {
+			IConfigurationElement[] children = element.getChildren();
+			if (children.length == 1) {
+				Node child = compile(children[0]);
+				if (child.exact) {
+					return new Not(child);
+				}
+			}
+			return ANY;
+		}
+		return ANY;
+	}
+
+	private static Node compileAnd(IConfigurationElement[] children) {
+		Node[] nodes = new Node[children.length];
+		boolean exact = true;
+		int count = 0;
+		for (IConfigurationElement child : children) {
+			Node node = compile(child);
+			exact &= node.exact;
+			if (node != ANY) {
+				nodes[count++] = node;
+			}
+		}
+		if (count < nodes.length) {
+			Node[] compacted = new Node[count];
+			System.arraycopy(nodes, 0, compacted, 0, count);
+			nodes = compacted;
+		}
+		return new And(nodes, exact);
+	}
+
+	/**
+	 * Mirrors the <code>instanceof</code> expression, which compares the names
+	 * of the types as the type may not be visible to the contributor.
+	 */
+	private static boolean isSubtype(Class<?> type, String typeName) {
+		if (type == null) {
+			return false;
+		}
+		if (type.getName().equals(typeName)) {
+			return true;
+		}
+		if (isSubtype(type.getSuperclass(), typeName)) {
+			return true;
+		}
+		for (Class<?> interfaceType : type.getInterfaces()) {
+			if (isSubtype(interfaceType, typeName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -74,6 +74,10 @@ public final class NavigatorContentDescriptor implements
 
 	private Expression possibleChildren;
 
+	private ExpressionTypeFilter enablementFilter;
+
+	private ExpressionTypeFilter possibleChildrenFilter;
+
 	private Expression initialActivation;
 
 	private String icon;
@@ -252,6 +256,7 @@ public final class NavigatorContentDescriptor implements
 			children = configElement.getChildren(TAG_TRIGGER_POINTS);
 			if (children.length == 1) {
 				enablement = new CustomAndExpression(children[0]);
+				enablementFilter = new ExpressionTypeFilter(children[0]);
 			} else {
 				throw new WorkbenchException(NLS.bind(
 						CommonNavigatorMessages.Attribute_Missing_Warning,
@@ -265,6 +270,7 @@ public final class NavigatorContentDescriptor implements
 			children = configElement.getChildren(TAG_POSSIBLE_CHILDREN);
 			if (children.length == 1) {
 				possibleChildren = new CustomAndExpression(children[0]);
+				possibleChildrenFilter = new ExpressionTypeFilter(children[0]);
 			} else if(children.length > 1){
 				throw new WorkbenchException(NLS.bind(
 						CommonNavigatorMessages.Attribute_Missing_Warning,
@@ -278,6 +284,7 @@ public final class NavigatorContentDescriptor implements
 			try {
 				enablement = ElementHandler.getDefault().create(
 						ExpressionConverter.getDefault(), children[0]);
+				enablementFilter = new ExpressionTypeFilter(children[0]);
 			} catch (CoreException e) {
 				NavigatorPlugin.log(IStatus.ERROR, 0, e.getMessage(), e);
 			}
@@ -409,6 +416,13 @@ public final class NavigatorContentDescriptor implements
 			return false;
 		}
 
+		if (enablementFilter != null) {
+			Boolean result = enablementFilter.evaluate(anElement);
+			if (result != null) {
+				return result.booleanValue();
+			}
+		}
+
 		IEvaluationContext context = NavigatorPlugin.getEvalContext(anElement);
 		return NavigatorPlugin.safeEvaluate(enablement, context) == EvaluationResult.TRUE;
 	}
@@ -437,6 +451,14 @@ public final class NavigatorContentDescriptor implements
 			return arePossibleChildren((IStructuredSelection) anElement);
 		}
 
+		ExpressionTypeFilter filter = possibleChildren != null ? possibleChildrenFilter : enablementFilter;
+		if (filter != null) {
+			Boolean result = filter.evaluate(anElement);
+			if (result != null) {
+				return result.booleanValue();
+			}
+		}
+
 		IEvaluationContext context = NavigatorPlugin.getEvalContext(anElement);
 		if (possibleChildren != null) {
 			return NavigatorPlugin.safeEvaluate(possibleChildren, context) == EvaluationResult.TRUE;
@@ -446,6 +468,36 @@ public final class NavigatorContentDescriptor implements
 		return false;
 	}
 
+	/**
+	 * Returns whether this content extension enables for the given element, if
+	 * the answer is the same for all elements of its type.
+	 *
+	 * @param anElement
+	 *            The element that should be used for the evaluation.
+	 * @param possibleChild
+	 *            whether to answer {@link #isPossibleChild(Object)} rather than
+	 *            {@link #isTriggerPoint(Object)}
+	 * @return {@link Boolean#TRUE} or {@link Boolean#FALSE}, or
+	 *         <code>null</code> if the answer depends on the element itself
+	 */
+	Boolean evaluateForType(Object anElement, boolean possibleChild) {
+		if (anElement == null) {
+			return Boolean.FALSE;
+		}
+		if (possibleChild) {
+			if (anElement instanceof IStructuredSelection) {
+				return null;
+			}
+			if (possibleChildren != null) {
+				return possibleChildrenFilter == null ? null : possibleChildrenFilter.evaluate(anElement);
+			}
+		}
+		if (enablement == null) {
+			return Boolean.FALSE;
+		}
+		return enablementFilter == null ? null : enablementFilter.evaluate(anElement);
+	}
+
 	/**
 	 * A convenience method to check all elements in a selection.
 	 *
@@ -167,6 +167,16 @@ public class NavigatorContentDescriptorManager {
 			return descriptors;
 		}
 
+		if (anElement != null
+				&& (cachedDescriptors = cache.getDescriptorsForType(anElement.getClass(), considerOverrides)) != null) {
+			descriptors.addAll(Arrays.asList(cachedDescriptors));
+			if (Policy.DEBUG_RESOLUTION) {
+				System.out.println("Find descriptors for : " + Policy.getObjectString(anElement) + //$NON-NLS-1$
+						(considerOverrides ? " (with overrides)" : "") + " (cached by type): " + descriptors); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			return descriptors;
+		}
+
 		if (considerOverrides) {
 			addDescriptorsConsideringOverrides(anElement, firstClassDescriptorsSet, aVisibilityAssistant, descriptors, possibleChild);
 		} else {
@@ -183,7 +193,14 @@ public class NavigatorContentDescriptorManager {
 			System.out.println("Find descriptors for: " + Policy.getObjectString(anElement) + //$NON-NLS-1$
 					(considerOverrides ? " (with overrides)" : "") + ": " + descriptors); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		}
-		cache.setDescriptors(anElement, descriptors.toArray(new NavigatorContentDescriptor[descriptors.size()]), considerOverrides);
+		NavigatorContentDescriptor[] foundDescriptors = descriptors.toArray(new NavigatorContentDescriptor[descriptors.size()]);
+		if (anElement != null && isDeterminedByType(anElement, firstClassDescriptorsSet, aVisibilityAssistant,
+				considerOverrides, possibleChild)) {
+			// any element of the type finds the same descriptors
+			cache.setDescriptorsForType(anElement.getClass(), foundDescriptors, considerOverrides);
+		} else {
+			cache.setDescriptors(anElement, foundDescriptors, considerOverrides);
+		}
 
 		return descriptors;
 	}
@@ -197,6 +214,26 @@ public class NavigatorContentDescriptorManager {
 		return c;
 	}
 
+	/**
+	 * Returns whether the descriptors enabling for the element only depend on
+	 * its type, that is whether the expressions of all the descriptors which
+	 * were consulted only tested the type of the element.
+	 */
+	private boolean isDeterminedByType(Object anElement, Set<NavigatorContentDescriptor> theDescriptors,
+			VisibilityAssistant aVisibilityAssistant, boolean considerOverrides, boolean possibleChild) {
+		for (NavigatorContentDescriptor descriptor : theDescriptors) {
+			if (aVisibilityAssistant.isActive(descriptor) && aVisibilityAssistant.isVisible(descriptor)
+					&& descriptor.evaluateForType(anElement, possibleChild) == null) {
+				return false;
+			}
+			if (considerOverrides && descriptor.hasOverridingExtensions() && !isDeterminedByType(anElement,
+					descriptor.getOverriddingExtensions(), aVisibilityAssistant, considerOverrides, possibleChild)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private boolean addDescriptorsConsideringOverrides(Object anElement,
 			Set<NavigatorContentDescriptor> theChildDescriptors, VisibilityAssistant aVisibilityAssistant,
 			Set<NavigatorContentDescriptor> theFoundDescriptors, boolean possibleChild) {
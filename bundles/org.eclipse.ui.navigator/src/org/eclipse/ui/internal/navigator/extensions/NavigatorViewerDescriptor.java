@@ -42,6 +42,15 @@ public final class NavigatorViewerDescriptor implements
 	 */
 	public static final String PROP_ENFORCE_HAS_CHILDREN = "org.eclipse.ui.navigator.enforceHasChildren"; //$NON-NLS-1$
 
+	/**
+	 * {@value} (boolean): True indicates the children contributed by several
+	 * content extensions to the same parent should be computed concurrently,
+	 * off the UI thread; a pending node is shown while they are computed
+	 * (default <b>false</b>). Only suitable for viewers whose content providers
+	 * may be called from any thread.
+	 */
+	public static final String PROP_PARALLEL_CHILDREN = "org.eclipse.ui.navigator.parallelChildren"; //$NON-NLS-1$
+
 	static final String TAG_INCLUDES = "includes"; //$NON-NLS-1$
 
 	static final String TAG_EXCLUDES = "excludes"; //$NON-NLS-1$
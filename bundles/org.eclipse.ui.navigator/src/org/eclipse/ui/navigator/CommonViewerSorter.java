@@ -26,6 +26,7 @@ import org.eclipse.ui.internal.navigator.NavigatorContentService;
 import org.eclipse.ui.internal.navigator.NavigatorContentServiceContentProvider;
 import org.eclipse.ui.internal.navigator.NavigatorPlugin;
 import org.eclipse.ui.internal.navigator.Policy;
+import org.eclipse.ui.progress.PendingUpdateAdapter;
 
 /**
  *
@@ -81,6 +82,10 @@ public final class CommonViewerSorter extends TreePathViewerSorter {
 	public int compare(Viewer viewer, TreePath parentPath, Object e1, Object e2) {
 		if (contentService == null)
 			return -1;
+		if (e1 instanceof PendingUpdateAdapter || e2 instanceof PendingUpdateAdapter) {
+			// the pending node of children still being computed goes last
+			return (e1 instanceof PendingUpdateAdapter ? 1 : 0) - (e2 instanceof PendingUpdateAdapter ? 1 : 0);
+		}
 		INavigatorContentDescriptor sourceOfLvalue = getSource(e1);
 		INavigatorContentDescriptor sourceOfRvalue = getSource(e2);
 
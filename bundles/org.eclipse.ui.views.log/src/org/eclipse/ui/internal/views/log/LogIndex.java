@@ -0,0 +1,563 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.CRC32;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * An index of the byte offsets of the entries and sessions of a log file, so
+ * that only the entries to be shown need to be read and parsed.
+ * <p>
+ * The file is split into records, each starting with an <code>!ENTRY</code> or
+ * a <code>!SESSION</code> line and ending where the next record starts. The
+ * sub-entries, message and stack of an entry belong to its record. For each
+ * record the index holds its offset and either the severity of the entry or
+ * the date of the session.
+ * </p>
+ * <p>
+ * Only the records starting within the tail of the file the view reads are
+ * indexed, so that indexing a large file costs no more than reading its tail.
+ * Log files are only ever appended to, so the index is updated by scanning the
+ * bytes added since it was last updated, and the records which fell out of
+ * the tail are dropped. A file which was replaced or truncated is indexed
+ * again. The index is stored in the state location of the plug-in, so that the
+ * tail need not be scanned again when the view is opened the next time. Only
+ * the indexes of the last few files read are kept in memory.
+ * </p>
+ */
+class LogIndex {
+
+	private static final int MAGIC = 0x4C4F4749; // "LOGI"
+	private static final int VERSION = 3;
+	private static final int HEADER_LENGTH = 1024;
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/** Severity value marking the records of sessions. */
+	static final byte SESSION = -1;
+
+	private static final byte[] ENTRY_PREFIX = "!ENTRY".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+	private static final byte[] SESSION_PREFIX = LogSession.SESSION.getBytes(StandardCharsets.US_ASCII);
+
+	/** The number of indexes kept in memory. */
+	private static final int MAX_INDEXES = 4;
+
+	/** Access ordered, so that the index of the least recently read file is dropped. */
+	private static final Map<File, LogIndex> indexes = new LinkedHashMap<>(8, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<File, LogIndex> eldest) {
+			return size() > MAX_INDEXES;
+		}
+	};
+
+	private final File file;
+
+	private long[] offsets = new long[1024];
+	private byte[] severities = new byte[1024];
+	private int count;
+
+	private long[] sessionRecords = new long[16];
+	private long[] sessionDates = new long[16];
+	private int sessionCount;
+
+	/** The offset the index starts at, the records before are not indexed. */
+	private long startOffset;
+
+	/** The length of the file up to the last complete line scanned. */
+	private long indexedLength;
+
+	/** The number of first bytes of the file the checksum covers. */
+	private long checksumLength;
+
+	/** The checksum of the first bytes of the file, to detect a replaced file. */
+	private long headerChecksum;
+
+	private boolean changed;
+
+	private LogIndex(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Returns the index of the given file, updated to its current length and
+	 * holding the records starting at or after the given offset.
+	 *
+	 * @param file  the log file
+	 * @param start the offset of the tail of the file to index
+	 * @return the index
+	 * @throws IOException if the file could not be read
+	 */
+	static LogIndex getIndex(File file, long start) throws IOException {
+		File key = file.getAbsoluteFile();
+		LogIndex index;
+		synchronized (indexes) {
+			index = indexes.get(key);
+			if (index == null) {
+				index = new LogIndex(key);
+				index.load();
+				indexes.put(key, index);
+			}
+		}
+		synchronized (index) {
+			index.update(start);
+			if (index.changed) {
+				index.save();
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * @return the number of records
+	 */
+	synchronized int getRecordCount() {
+		return count;
+	}
+
+	/**
+	 * @param record the index of the record
+	 * @return the offset of the record in the file
+	 */
+	synchronized long getOffset(int record) {
+		return offsets[record];
+	}
+
+	/**
+	 * @param record the index of the record
+	 * @param length the length of the file to assume for the last record
+	 * @return the offset where the record ends
+	 */
+	synchronized long getEnd(int record, long length) {
+		return record + 1 < count ? offsets[record + 1] : Math.max(length, offsets[record]);
+	}
+
+	/**
+	 * @param record the index of the record
+	 * @return <code>true</code> if the record is a session
+	 */
+	synchronized boolean isSession(int record) {
+		return severities[record] == SESSION;
+	}
+
+	/**
+	 * @param record the index of an entry record
+	 * @return the severity of the entry
+	 */
+	synchronized int getSeverity(int record) {
+		return severities[record];
+	}
+
+	/**
+	 * Returns the record of the most recent session, the one with the latest
+	 * date. Sessions without a date are considered most recent when they are
+	 * found, like {@link LogReader} does.
+	 *
+	 * @return the index of the record, or <code>-1</code> if there is no session
+	 */
+	synchronized int getCurrentSessionRecord() {
+		int current = -1;
+		long currentDate = 0;
+		for (int i = 0; i < sessionCount; i++) {
+			long date = sessionDates[i];
+			if (current == -1 || (currentDate == Long.MIN_VALUE) != (date == Long.MIN_VALUE)
+					|| (date != Long.MIN_VALUE && date > currentDate)) {
+				current = (int) sessionRecords[i];
+				currentDate = date;
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Returns the record of the session the given record belongs to.
+	 *
+	 * @param record the index of a record
+	 * @return the index of the session record, or <code>-1</code> if the record
+	 *         precedes all sessions
+	 */
+	synchronized int getSessionRecord(int record) {
+		int low = 0;
+		int high = sessionCount - 1;
+		int result = -1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (sessionRecords[middle] <= record) {
+				result = (int) sessionRecords[middle];
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Opens a stream reading the given byte ranges of the file one after the
+	 * other.
+	 *
+	 * @param ranges the start and end offsets of the ranges, in ascending order
+	 * @return the stream
+	 * @throws IOException if the file could not be opened
+	 */
+	InputStream openRanges(long[] ranges) throws IOException {
+		return new RangeInputStream(file, ranges);
+	}
+
+	private void update(long start) throws IOException {
+		long length = file.length();
+		if (length < indexedLength || (checksumLength > 0 && readHeaderChecksum(checksumLength) != headerChecksum)) {
+			// replaced or truncated, e.g. when the log was rotated
+			clear(start);
+		} else if (start < startOffset || start > indexedLength) {
+			// the tail grew beyond the index, or moved past all of it
+			clear(start);
+		} else if (start > startOffset) {
+			prune(start);
+		}
+		if (length > indexedLength) {
+			try (RandomAccessFile raf = new RandomAccessFile(file, "r")) { //$NON-NLS-1$
+				scan(raf, length);
+			}
+			changed = true;
+		}
+		if (checksumLength < HEADER_LENGTH && checksumLength < length) {
+			// the checksum of a small file covers the bytes appended to it
+			checksumLength = Math.min(HEADER_LENGTH, length);
+			headerChecksum = readHeaderChecksum(checksumLength);
+			changed = true;
+		}
+	}
+
+	/**
+	 * Drops the records starting before the given offset.
+	 */
+	private void prune(long start) {
+		int dropped = 0;
+		while (dropped < count && offsets[dropped] < start) {
+			dropped++;
+		}
+		System.arraycopy(offsets, dropped, offsets, 0, count - dropped);
+		System.arraycopy(severities, dropped, severities, 0, count - dropped);
+		count -= dropped;
+		int droppedSessions = 0;
+		while (droppedSessions < sessionCount && sessionRecords[droppedSessions] < dropped) {
+			droppedSessions++;
+		}
+		for (int i = droppedSessions; i < sessionCount; i++) {
+			sessionRecords[i - droppedSessions] = sessionRecords[i] - dropped;
+			sessionDates[i - droppedSessions] = sessionDates[i];
+		}
+		sessionCount -= droppedSessions;
+		startOffset = start;
+		changed = true;
+	}
+
+	private void scan(RandomAccessFile raf, long length) throws IOException {
+		// the tail may start within a line, which is not a record
+		boolean skipLine = false;
+		if (indexedLength == startOffset && startOffset > 0) {
+			raf.seek(startOffset - 1);
+			int previous = raf.read();
+			skipLine = previous != '\n' && previous != '\r';
+		}
+		raf.seek(indexedLength);
+		byte[] buffer = new byte[BUFFER_SIZE];
+		ByteArrayOutputStream header = new ByteArrayOutputStream();
+		long lineStart = indexedLength;
+		long position = indexedLength;
+		// the bytes of the current line still needed to classify it
+		byte[] lineHead = new byte[128];
+		int lineHeadLength = 0;
+		boolean headerLine = false;
+		boolean classified = false;
+		int read;
+		while (position < length && (read = raf.read(buffer, 0, (int) Math.min(buffer.length, length - position))) > 0) {
+			for (int i = 0; i < read; i++) {
+				byte b = buffer[i];
+				if (b == '\n' || b == '\r') {
+					skipLine = false;
+					if (headerLine) {
+						addRecord(lineStart, header.toString(StandardCharsets.UTF_8));
+					}
+					header.reset();
+					lineStart = position + i + 1;
+					indexedLength = lineStart;
+					lineHeadLength = 0;
+					headerLine = false;
+					classified = false;
+					continue;
+				}
+				if (skipLine) {
+					continue;
+				}
+				if (!classified) {
+					if (lineHeadLength == 0 && (b == ' ' || b == '\t')) {
+						continue;
+					}
+					if (lineHeadLength < lineHead.length) {
+						lineHead[lineHeadLength++] = b;
+					}
+					int kind = classify(lineHead, lineHeadLength);
+					if (kind != 0) {
+						classified = true;
+						headerLine = kind > 0;
+						if (headerLine) {
+							header.write(lineHead, 0, lineHeadLength);
+						}
+					}
+				} else if (headerLine) {
+					header.write(b);
+				}
+			}
+			position += read;
+		}
+		// a trailing line without a line delimiter is scanned again next time
+	}
+
+	/**
+	 * @return <code>1</code> if the line starts a record, <code>-1</code> if it
+	 *         does not and <code>0</code> if more bytes are needed
+	 */
+	private static int classify(byte[] head, int length) {
+		int entry = matches(head, length, ENTRY_PREFIX);
+		int session = matches(head, length, SESSION_PREFIX);
+		if (entry > 0 || session > 0) {
+			return 1;
+		}
+		return entry < 0 && session < 0 ? -1 : 0;
+	}
+
+	private static int matches(byte[] head, int length, byte[] prefix) {
+		for (int i = 0; i < Math.min(length, prefix.length); i++) {
+			if (head[i] != prefix[i]) {
+				return -1;
+			}
+		}
+		return length >= prefix.length ? 1 : 0;
+	}
+
+	private void addRecord(long offset, String line) {
+		if (count == offsets.length) {
+			offsets = Arrays.copyOf(offsets, count * 2);
+			severities = Arrays.copyOf(severities, count * 2);
+		}
+		offsets[count] = offset;
+		if (line.startsWith(LogSession.SESSION)) {
+			severities[count] = SESSION;
+			LogSession session = new LogSession();
+			session.processLogLine(line);
+			Date date = session.getDate();
+			if (sessionCount == sessionRecords.length) {
+				sessionRecords = Arrays.copyOf(sessionRecords, sessionCount * 2);
+				sessionDates = Arrays.copyOf(sessionDates, sessionCount * 2);
+			}
+			sessionRecords[sessionCount] = count;
+			sessionDates[sessionCount] = date == null ? Long.MIN_VALUE : date.getTime();
+			sessionCount++;
+		} else {
+			severities[count] = (byte) parseSeverity(line);
+		}
+		count++;
+	}
+
+	/**
+	 * Parses the severity of an entry line the way
+	 * {@link LogEntry#processEntry(String)} does.
+	 */
+	private static int parseSeverity(String line) {
+		StringTokenizer stok = new StringTokenizer(line, LogEntry.SPACE);
+		for (int i = 0; stok.hasMoreTokens(); i++) {
+			String token = stok.nextToken();
+			if (i == 2) {
+				try {
+					return Integer.parseInt(token);
+				} catch (NumberFormatException e) {
+					return 0;
+				}
+			}
+		}
+		return 0;
+	}
+
+	private long readHeaderChecksum(long length) throws IOException {
+		try (InputStream in = new FileInputStream(file)) {
+			CRC32 checksum = new CRC32();
+			checksum.update(in.readNBytes((int) Math.min(HEADER_LENGTH, length)));
+			return checksum.getValue();
+		}
+	}
+
+	private void clear(long start) {
+		count = 0;
+		sessionCount = 0;
+		startOffset = start;
+		indexedLength = start;
+		checksumLength = 0;
+		headerChecksum = 0;
+		changed = true;
+	}
+
+	private static File getIndexFile(File file) {
+		Activator activator = Activator.getDefault();
+		if (activator == null) {
+			return null;
+		}
+		try {
+			IPath location = activator.getStateLocation();
+			String name = "index-" + Integer.toHexString(file.getPath().hashCode()) + ".bin"; //$NON-NLS-1$ //$NON-NLS-2$
+			return location.append(name).toFile();
+		} catch (IllegalStateException e) {
+			// no instance location
+			return null;
+		}
+	}
+
+	private void load() {
+		File indexFile = getIndexFile(file);
+		if (indexFile == null || !indexFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readUTF().equals(file.getPath()))
+				return;
+			long start = in.readLong();
+			long length = in.readLong();
+			long checkedLength = in.readLong();
+			long checksum = in.readLong();
+			int records = in.readInt();
+			int sessions = in.readInt();
+			long[] loadedOffsets = new long[Math.max(records, 16)];
+			byte[] loadedSeverities = new byte[loadedOffsets.length];
+			for (int i = 0; i < records; i++) {
+				loadedOffsets[i] = in.readLong();
+				loadedSeverities[i] = in.readByte();
+			}
+			long[] loadedSessionRecords = new long[Math.max(sessions, 16)];
+			long[] loadedSessionDates = new long[loadedSessionRecords.length];
+			for (int i = 0; i < sessions; i++) {
+				loadedSessionRecords[i] = in.readLong();
+				loadedSessionDates[i] = in.readLong();
+			}
+			offsets = loadedOffsets;
+			severities = loadedSeverities;
+			count = records;
+			sessionRecords = loadedSessionRecords;
+			sessionDates = loadedSessionDates;
+			sessionCount = sessions;
+			startOffset = start;
+			indexedLength = length;
+			checksumLength = checkedLength;
+			headerChecksum = checksum;
+		} catch (IOException e) {
+			// index again
+			clear(0);
+		}
+	}
+
+	private void save() {
+		File indexFile = getIndexFile(file);
+		if (indexFile == null) {
+			return;
+		}
+		File temp = new File(indexFile.getPath() + ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeUTF(file.getPath());
+			out.writeLong(startOffset);
+			out.writeLong(indexedLength);
+			out.writeLong(checksumLength);
+			out.writeLong(headerChecksum);
+			out.writeInt(count);
+			out.writeInt(sessionCount);
+			for (int i = 0; i < count; i++) {
+				out.writeLong(offsets[i]);
+				out.writeByte(severities[i]);
+			}
+			for (int i = 0; i < sessionCount; i++) {
+				out.writeLong(sessionRecords[i]);
+				out.writeLong(sessionDates[i]);
+			}
+		} catch (IOException e) {
+			temp.delete();
+			return;
+		}
+		if (!temp.renameTo(indexFile)) {
+			indexFile.delete();
+			temp.renameTo(indexFile);
+		}
+		changed = false;
+	}
+
+	/**
+	 * Reads byte ranges of a file one after the other.
+	 */
+	private static class RangeInputStream extends InputStream {
+
+		private final RandomAccessFile raf;
+		private final long[] ranges;
+		private int range;
+		private long position;
+
+		RangeInputStream(File file, long[] ranges) throws IOException {
+			this.raf = new RandomAccessFile(file, "r"); //$NON-NLS-1$
+			this.ranges = ranges;
+			this.position = ranges.length > 0 ? ranges[0] : 0;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			int len = read(b, 0, 1);
+			if (len < 0) {
+				return len;
+			}
+			return b[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			while (range < ranges.length && position >= ranges[range + 1]) {
+				range += 2;
+				if (range < ranges.length) {
+					position = ranges[range];
+				}
+			}
+			if (range >= ranges.length) {
+				return -1;
+			}
+			if (raf.getFilePointer() != position) {
+				raf.seek(position);
+			}
+			int read = raf.read(b, off, (int) Math.min(len, ranges[range + 1] - position));
+			if (read < 0) {
+				// the file was truncated meanwhile
+				range = ranges.length;
+				return -1;
+			}
+			position += read;
+			return read;
+		}
+
+		@Override
+		public void close() throws IOException {
+			raf.close();
+		}
+	}
+}
@@ -45,6 +45,21 @@ class LogReader {
 				&& memento.getInteger(LogView.P_LOG_LIMIT).intValue() == 0)
 			return null;
 
+		long maxTailSizeInBytes = maxLogTailSizeInMegaByte > 0 ? maxLogTailSizeInMegaByte * ONE_MEGA_BYTE_IN_BYTES
+				: ONE_MEGA_BYTE_IN_BYTES;
+		LogIndex index;
+		long[] ranges;
+		boolean[] truncated = new boolean[1];
+		try {
+			long length = file.length();
+			index = LogIndex.getIndex(file, Math.max(length - maxTailSizeInBytes, 0));
+			synchronized (index) {
+				ranges = selectRanges(index, length, maxTailSizeInBytes, memento, truncated);
+			}
+		} catch (IOException e) {
+			return null;
+		}
+
 		ArrayList<LogEntry> parents = new ArrayList<>();
 		LogEntry current = null;
 		LogSession session = null;
@@ -53,10 +68,8 @@ class LogReader {
 		PrintWriter writer = null;
 		int state = UNKNOWN_STATE;
 		LogSession currentSession = null;
-		long maxTailSizeInBytes = maxLogTailSizeInMegaByte > 0 ? maxLogTailSizeInMegaByte * ONE_MEGA_BYTE_IN_BYTES
-				: ONE_MEGA_BYTE_IN_BYTES;
 		try (BufferedReader reader = new BufferedReader(
-				new InputStreamReader(new TailInputStream(file, maxTailSizeInBytes), StandardCharsets.UTF_8))) {
+				new InputStreamReader(index.openRanges(ranges), StandardCharsets.UTF_8))) {
 			for (;;) {
 				String line0 = reader.readLine();
 				if (line0 == null)
@@ -161,7 +174,7 @@ class LogReader {
 			}
 		} catch (IOException e) { // do nothing
 		} finally {
-			if (file.length() > maxLogTailSizeInMegaByte && entries.isEmpty()) {
+			if (truncated[0] && entries.isEmpty()) {
 				LogEntry entry = new LogEntry(new Status(IStatus.WARNING, Activator.PLUGIN_ID, NLS.bind(
 						Messages.LogReader_warn_noEntryWithinMaxLogTailSize, Long.valueOf(maxLogTailSizeInMegaByte))));
 				entry.setSession(currentSession == null ? new LogSession() : currentSession);
@@ -180,6 +193,62 @@ class LogReader {
 		return parseLogFile(file, ONE_MEGA_BYTE_IN_BYTES, entries, memento);
 	}
 
+	/**
+	 * Selects the entries to read using the index of the file, so that neither
+	 * the entries filtered out nor the ones beyond the count limit are read.
+	 * The entries are selected from the end of the file among the ones starting
+	 * within its last maximum tail size bytes, the entries a reader of the tail
+	 * of the file would see, and the sessions within the tail they belong to are
+	 * added.
+	 *
+	 * @param truncated set to <code>true</code> if the file is larger than the
+	 *                  maximum tail size
+	 * @return the start and end offsets of the ranges to read
+	 */
+	static long[] selectRanges(LogIndex index, long length, long maxTailSizeInBytes, IMemento memento,
+			boolean[] truncated) {
+		int count = index.getRecordCount();
+		int currentSession = index.getCurrentSessionRecord();
+		boolean showAll = memento.getString(LogView.P_SHOW_ALL_SESSIONS).equals("true"); //$NON-NLS-1$
+		int limit = Integer.MAX_VALUE;
+		if (memento.getString(LogView.P_USE_LIMIT).equals("true")) //$NON-NLS-1$
+			limit = memento.getInteger(LogView.P_LOG_LIMIT).intValue();
+
+		// the entries of older sessions are dropped unless all sessions are shown
+		int first = showAll ? 0 : Math.max(currentSession, 0);
+		long tailStart = Math.max(length - maxTailSizeInBytes, 0);
+		truncated[0] = tailStart > 0;
+		TreeSet<Integer> records = new TreeSet<>();
+		if (currentSession != -1)
+			records.add(Integer.valueOf(currentSession));
+		int selected = 0;
+		for (int i = count - 1; i >= first && selected < limit && index.getOffset(i) >= tailStart; i--) {
+			if (index.isSession(i) || !isLogged(index.getSeverity(i), memento))
+				continue;
+			selected++;
+			records.add(Integer.valueOf(i));
+			int session = index.getSessionRecord(i);
+			if (session != -1)
+				records.add(Integer.valueOf(session));
+		}
+
+		// merge adjacent records into one range
+		long[] ranges = new long[records.size() * 2];
+		int rangeCount = 0;
+		int previous = -2;
+		for (Integer record : records) {
+			int i = record.intValue();
+			if (i == previous + 1) {
+				ranges[rangeCount - 1] = index.getEnd(i, length);
+			} else {
+				ranges[rangeCount++] = index.getOffset(i);
+				ranges[rangeCount++] = index.getEnd(i, length);
+			}
+			previous = i;
+		}
+		return Arrays.copyOf(ranges, rangeCount);
+	}
+
 	/**
 	 * Assigns data from writer to appropriate field of current Log Entry or Session,
 	 * depending on writer state.
@@ -239,7 +308,14 @@ class LogReader {
 	 * @return is entry logged or filtered
 	 */
 	public static boolean isLogged(LogEntry entry, IMemento memento) {
-		int severity = entry.getSeverity();
+		return isLogged(entry.getSeverity(), memento);
+	}
+
+	/**
+	 * Returns whether entries of the given severity are logged (true) or filtered (false).
+	 * @return is the severity logged or filtered
+	 */
+	static boolean isLogged(int severity, IMemento memento) {
 		switch (severity) {
 			case IStatus.INFO :
 				return memento.getString(LogView.P_LOG_INFO).equals("true"); //$NON-NLS-1$
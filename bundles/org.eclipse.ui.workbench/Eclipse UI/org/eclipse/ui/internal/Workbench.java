@@ -86,6 +86,8 @@ import org.eclipse.e4.core.di.InjectionException;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.E4Workbench;
 import org.eclipse.e4.ui.internal.workbench.E4XMIResource;
+import org.eclipse.e4.ui.internal.workbench.StartupTimeline;
+import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
 import org.eclipse.e4.ui.internal.workbench.renderers.swt.IUpdateService;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.internal.workbench.swt.IEventLoopAdvisor;
@@ -440,8 +442,9 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 	private String id;
 	private ServiceRegistration<?> e4WorkbenchService;
 
-	// flag used to identify if the application model needs to be saved
-	private boolean applicationModelChanged = false;
+	// model change count at the last save, used to identify if the
+	// application model needs to be saved
+	private long persistedModelChangeCount;
 
 	private IWorkbenchWindow windowWhileInit;
 
@@ -1903,6 +1906,15 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 		return isClosing;
 	}
 
+	/**
+	 * @return the number of changes to the application model seen by the
+	 *         {@link UIEventPublisher}
+	 */
+	private long getModelChangeCount() {
+		UIEventPublisher publisher = e4Context.get(UIEventPublisher.class);
+		return publisher == null ? 0 : publisher.getModelChangeCount();
+	}
+
 	private void initializeE4Services() {
 		eventBroker.subscribe(UIEvents.ElementContainer.TOPIC_CHILDREN, event -> {
 			if (application == event.getProperty(UIEvents.EventTags.ELEMENT)) {
@@ -1976,9 +1988,10 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 			}
 		});
 
-		eventBroker.subscribe(UIEvents.UIModelTopicBase + "/*", event -> { // //$NON-NLS-1$
-			applicationModelChanged = true;
-		});
+		// count model changes through the publisher rather than subscribing to
+		// all model events, which would have them sent even if no one else
+		// is interested
+		persistedModelChangeCount = getModelChangeCount();
 
 		boolean found = false;
 		List<MPartDescriptor> currentDescriptors = application.getDescriptors();
@@ -2826,7 +2839,9 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 			final boolean[] initOK = new boolean[1];
 
 			// initialize workbench and restore or open one window
-			initOK[0] = init();
+			try (StartupTimeline.Span span = StartupTimeline.begin("Workbench.init", StartupTimeline.WORKBENCH)) { //$NON-NLS-1$
+				initOK[0] = init();
+			}
 
 			if (initOK[0] && runEventLoop) {
 				// Same registration as in E4Workbench
@@ -2858,10 +2873,11 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 							}
 							final int nextDelay = getAutoSaveJobTime();
 							try {
-								if (applicationModelChanged) {
+								if (getModelChangeCount() != persistedModelChangeCount) {
 									persist(false);
-									applicationModelChanged = false;
-
+									// persisting writes the editor and view states
+									// into the model, those changes are saved too
+									persistedModelChangeCount = getModelChangeCount();
 								}
 								monitor.done();
 							} finally {
@@ -0,0 +1,390 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.decorators;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.viewers.IDecorationContext;
+
+/**
+ * The DecorationResultCache holds the decoration results computed by the
+ * {@link DecorationScheduler} until the viewers pick them up.
+ * <p>
+ * Results are keyed by the element, the properties of the decoration context
+ * and the set of enabled decorators. Decorators only see a context through its
+ * properties, so contexts with equal properties, like the ones of most
+ * viewers, share their results. Equal results of different elements are shared
+ * as well, as most elements carry the same few decorations.
+ * </p>
+ * <p>
+ * The cache is bounded both in the number of results and in their estimated
+ * memory use, and evicts the least recently used results first. Results which
+ * were not asked for since they were computed are pending: they only count
+ * against the memory bound, and are only evicted once no other result is left,
+ * so that a burst of decorations does not evict the results waiting for their
+ * label updates. An evicted result is computed again when it is asked for. The
+ * cache is thread safe.
+ * </p>
+ */
+public class DecorationResultCache {
+
+	/** The default maximum number of cached results. */
+	static final int DEFAULT_MAX_ENTRIES = 50_000;
+
+	/** The default maximum estimated memory use of the cached results. */
+	static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+	/** Estimated size of a cache entry along with its key. */
+	private static final int ENTRY_BYTES = 112;
+
+	/** Estimated size of a shared result without its strings and overlays. */
+	private static final int RESULT_BYTES = 144;
+
+	private static final Map<String, Object> NO_PROPERTIES = Collections.emptyMap();
+
+	/**
+	 * The key of a cached result.
+	 */
+	private static final class Key {
+		final Object element;
+
+		final Map<String, Object> properties;
+
+		final Set<String> decorators;
+
+		private final int hash;
+
+		Key(Object element, Map<String, Object> properties, Set<String> decorators) {
+			this.element = element;
+			this.properties = properties;
+			this.decorators = decorators;
+			hash = (element.hashCode() * 31 + properties.hashCode()) * 31 + System.identityHashCode(decorators);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			// the enabled decorators are snapshots, compare them by identity
+			return hash == other.hash && decorators == other.decorators && element.equals(other.element)
+					&& (properties == other.properties || properties.equals(other.properties));
+		}
+	}
+
+	/**
+	 * A result shared by all the entries which have an equal one.
+	 */
+	private static final class SharedResult {
+		final DecorationResult result;
+
+		final long bytes;
+
+		private final int hash;
+
+		int references;
+
+		SharedResult(DecorationResult result) {
+			this.result = result;
+			hash = Objects.hash(result.getPrefixes(), result.getSuffixes(), Integer.valueOf(
+					Arrays.hashCode(result.getDescriptors())), result.getForegroundColor(),
+					result.getBackgroundColor(), result.getFont());
+			bytes = estimateSize(result);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof SharedResult)) {
+				return false;
+			}
+			DecorationResult other = ((SharedResult) obj).result;
+			return hash == obj.hashCode() && Objects.equals(result.getPrefixes(), other.getPrefixes())
+					&& Objects.equals(result.getSuffixes(), other.getSuffixes())
+					&& Arrays.equals(result.getDescriptors(), other.getDescriptors())
+					&& Objects.equals(result.getForegroundColor(), other.getForegroundColor())
+					&& Objects.equals(result.getBackgroundColor(), other.getBackgroundColor())
+					&& Objects.equals(result.getFont(), other.getFont());
+		}
+	}
+
+	private final int maxEntries;
+
+	private final long maxBytes;
+
+	/**
+	 * The results asked for since they were computed. Access ordered, so that the
+	 * eldest entry is the least recently used.
+	 */
+	private final LinkedHashMap<Key, SharedResult> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+	/** The results not asked for since they were computed, eldest first. */
+	private final LinkedHashMap<Key, SharedResult> pending = new LinkedHashMap<>();
+
+	/** The last snapshot of the properties of each context. */
+	private final Map<IDecorationContext, Map<String, Object>> contextProperties = new WeakHashMap<>();
+
+	private final Map<SharedResult, SharedResult> sharedResults = new HashMap<>();
+
+	private long bytes;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	/**
+	 * Create a new instance of the receiver with the default bounds.
+	 */
+	public DecorationResultCache() {
+		this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+	}
+
+	/**
+	 * Create a new instance of the receiver.
+	 *
+	 * @param maxEntries the maximum number of cached results
+	 * @param maxBytes   the maximum estimated memory use of the cached results
+	 */
+	public DecorationResultCache(int maxEntries, long maxBytes) {
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Return the cached result.
+	 *
+	 * @param element    the decorated element
+	 * @param context    the decoration context
+	 * @param decorators the ids of the enabled decorators
+	 * @return DecorationResult or <code>null</code> if there is none
+	 */
+	public synchronized DecorationResult get(Object element, IDecorationContext context, Set<String> decorators) {
+		Key key = new Key(element, getProperties(context), decorators);
+		SharedResult shared = entries.get(key);
+		if (shared == null) {
+			shared = pending.remove(key);
+			if (shared == null) {
+				misses++;
+				return null;
+			}
+			entries.put(key, shared);
+			evict();
+		}
+		hits++;
+		return shared.result;
+	}
+
+	/**
+	 * Cache the result, evicting the least recently used results if the cache
+	 * is full.
+	 *
+	 * @param element    the decorated element
+	 * @param context    the decoration context
+	 * @param decorators the ids of the enabled decorators the result was
+	 *                   computed with
+	 * @param result     the decoration result
+	 */
+	public synchronized void put(Object element, IDecorationContext context, Set<String> decorators,
+			DecorationResult result) {
+		SharedResult shared = share(result);
+		Key key = new Key(element, getProperties(context), decorators);
+		SharedResult previous = entries.remove(key);
+		if (previous == null) {
+			previous = pending.remove(key);
+		}
+		pending.put(key, shared);
+		if (previous != null) {
+			release(previous);
+		} else {
+			bytes += ENTRY_BYTES;
+		}
+		evict();
+	}
+
+	/**
+	 * Remove all cached results.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		pending.clear();
+		sharedResults.clear();
+		contextProperties.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * @return the number of cached results
+	 */
+	public synchronized int size() {
+		return entries.size() + pending.size();
+	}
+
+	/**
+	 * @return the number of cached results not asked for since they were
+	 *         computed
+	 */
+	public synchronized int getPendingSize() {
+		return pending.size();
+	}
+
+	/**
+	 * @return the number of distinct cached results
+	 */
+	public synchronized int getSharedSize() {
+		return sharedResults.size();
+	}
+
+	/**
+	 * @return the estimated memory use of the cached results in bytes
+	 */
+	public synchronized long getEstimatedBytes() {
+		return bytes;
+	}
+
+	/**
+	 * @return the number of lookups which found a result
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return the number of lookups which found no result
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return the number of results evicted because the cache was full
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Evict the least recently used results until the cache is within its
+	 * bounds, pending results last. The most recent result is always kept.
+	 */
+	private void evict() {
+		while (entries.size() > maxEntries) {
+			evictEldest(entries);
+		}
+		while (bytes > maxBytes && size() > 1) {
+			evictEldest(entries.isEmpty() ? pending : entries);
+		}
+	}
+
+	private void evictEldest(Map<Key, SharedResult> results) {
+		Iterator<SharedResult> eldest = results.values().iterator();
+		release(eldest.next());
+		eldest.remove();
+		bytes -= ENTRY_BYTES;
+		evictions++;
+	}
+
+	private SharedResult share(DecorationResult result) {
+		SharedResult candidate = new SharedResult(result);
+		SharedResult shared = sharedResults.putIfAbsent(candidate, candidate);
+		if (shared == null) {
+			shared = candidate;
+			bytes += shared.bytes;
+		}
+		shared.references++;
+		return shared;
+	}
+
+	private void release(SharedResult shared) {
+		if (--shared.references == 0) {
+			sharedResults.remove(shared);
+			bytes -= shared.bytes;
+		}
+	}
+
+	/**
+	 * Return a snapshot of the properties of the context, as contexts may be
+	 * modified after their results are cached. The snapshot is taken once and
+	 * only taken again when the properties of the context have changed.
+	 */
+	private Map<String, Object> getProperties(IDecorationContext context) {
+		String[] names = context.getProperties();
+		Map<String, Object> properties = contextProperties.get(context);
+		if (properties != null && properties.size() == names.length) {
+			boolean changed = false;
+			for (String name : names) {
+				if (properties.get(name) != context.getProperty(name) || !properties.containsKey(name)) {
+					changed = true;
+					break;
+				}
+			}
+			if (!changed) {
+				return properties;
+			}
+		}
+		properties = NO_PROPERTIES;
+		if (names.length != 0) {
+			properties = new HashMap<>(names.length * 2);
+			for (String name : names) {
+				properties.put(name, context.getProperty(name));
+			}
+		}
+		contextProperties.put(context, properties);
+		return properties;
+	}
+
+	private static long estimateSize(DecorationResult result) {
+		long size = RESULT_BYTES + estimateSize(result.getPrefixes()) + estimateSize(result.getSuffixes());
+		ImageDescriptor[] descriptors = result.getDescriptors();
+		if (descriptors != null) {
+			// the descriptors are usually shared by the decorators
+			size += 16 + 8L * descriptors.length;
+		}
+		return size;
+	}
+
+	private static long estimateSize(List<?> strings) {
+		long size = 40;
+		for (Object string : strings) {
+			size += 48 + 2L * String.valueOf(string).length();
+		}
+		return size;
+	}
+}
@@ -16,6 +16,7 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.decorators;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -25,7 +26,6 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -60,22 +60,34 @@ import org.eclipse.ui.progress.WorkbenchJob;
  * needs an element decorated, it calls <code>queueForDecoration</code>.</li>
  *
  * <li><code>queueForDecoration</code> inserts (or, if already present, updates)
- * the <code>element</code> into <code>awaitingDecoration</code> and an
- * associated <code>DecorationReference</code> into
- * <code>awaitingDecorationValues</code> and schedules the
- * <code>decorationJob</code> to be executed asynchonously.</li>
+ * the <code>element</code> and an associated <code>DecorationReference</code>
+ * into <code>awaitingDecoration</code>, or into
+ * <code>awaitingBackgroundDecoration</code> if the element was not requested by
+ * a viewer, and schedules the <code>decorationJobs</code> to be executed
+ * asynchonously.</li>
  *
- * <li>The <code>decorationJob</code> processes the list of elements in
- * <code>awaitingDecoration</code> one by one. For each element, it calls
- * <code>ensureResultCached</code>, which in turn calls the actual lightweight
- * decorator(s) for the element and stores the decoration result in the
- * <code>resultCache</code> and adds the element to the
+ * <li>The <code>decorationJobs</code> are a bounded pool of workers which
+ * process the elements in <code>awaitingDecoration</code>, and then the ones in
+ * <code>awaitingBackgroundDecoration</code>, one by one. For each element, a
+ * worker calls the lightweight decorator(s) for the element and stores the
+ * decoration result in the <code>resultCache</code> and adds the element to the
  * <code>pendingUpdate</code> collection to remember that it needs to be updated
  * in the UI.</li>
  *
- * <li>When the <code>decorationJob</code> has finished processing all elements
- * in <code>awaitingDecoration</code>, it finally schedules the
- * <code>updateJob</code>.</li>
+ * <li>Decorators which are known to be slow are not called by these workers.
+ * The elements they apply to are queued in
+ * <code>awaitingSlowDecoration</code> instead, and decorated with all
+ * decorators by the <code>slowDecorationJob</code>, so that a slow decorator
+ * does not delay the other elements. The workers publish no result for these
+ * elements, so that their labels do not change twice.</li>
+ *
+ * <li>An element is decorated by one worker at a time. Elements queued again
+ * while they are being decorated stay in the queue until the running
+ * decoration is done, so that an outdated result never replaces a newer
+ * one.</li>
+ *
+ * <li>When a worker has finished processing all elements, it finally schedules
+ * the <code>updateJob</code>.</li>
  *
  * <li>
  * <p>
@@ -105,7 +117,7 @@ import org.eclipse.ui.progress.WorkbenchJob;
  * </ol>
  *
  * So, in summary, a decoration is first enqueued, then calculated
- * asynchronously by the <code>decorationJob</code> and enqueued for UI-update,
+ * asynchronously by the <code>decorationJobs</code> and enqueued for UI-update,
  * and finally, the <code>updateJob</code> fires events which cause the viewers
  * to update the UI using the now available decoration results.
  */
@@ -115,7 +127,7 @@ public class DecorationScheduler {
 
 	// When decorations are computed they are added to this cache via
 	// scheduleUpdateJob() method
-	private final Map<IDecorationContext, Map<Object, DecorationResult>> resultCache = new ConcurrentHashMap<>();
+	private final DecorationResultCache resultCache = new DecorationResultCache();
 
 	/**
 	 * Objects that are awaiting a label update. manually synchronized on
@@ -126,12 +138,32 @@ public class DecorationScheduler {
 	/** manually synchronized on DecorationScheduler.this **/
 	private final LinkedHashMap<Object, DecorationReference> awaitingDecoration = new LinkedHashMap<>();
 
+	/**
+	 * Elements which are not known to be visible, decorated after the ones in
+	 * awaitingDecoration. manually synchronized on DecorationScheduler.this
+	 **/
+	private final LinkedHashMap<Object, DecorationReference> awaitingBackgroundDecoration = new LinkedHashMap<>();
+
+	/**
+	 * Elements which still need the decorators known to be slow. manually
+	 * synchronized on DecorationScheduler.this
+	 **/
+	private final LinkedHashMap<Object, DecorationReference> awaitingSlowDecoration = new LinkedHashMap<>();
+
+	/**
+	 * Elements which are being decorated by a worker. manually synchronized on
+	 * DecorationScheduler.this
+	 **/
+	private final Set<Object> decorating = new HashSet<>();
+
 	/** manually synchronized on DecorationScheduler.this **/
 	private boolean shutdown = false;
 
 	private final DecoratorManager decoratorManager;
 
-	private final Job decorationJob;
+	private final Job[] decorationJobs;
+
+	private final Job slowDecorationJob;
 
 	// Notifies about updateJob or clearJob finishing
 	private final class JobChangeListener extends JobChangeAdapter {
@@ -169,6 +201,9 @@ public class DecorationScheduler {
 	/** Amount of time to delay the update notification when max reached. */
 	private static final int UPDATE_DELAY = 100;
 
+	/** The number of workers calling the decorators which are not slow. */
+	private static final int WORKER_COUNT = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
 	/**
 	 * Flag which is used to indicate that the update job is running in the UI
 	 * thread
@@ -183,7 +218,11 @@ public class DecorationScheduler {
 	 */
 	DecorationScheduler(DecoratorManager manager) {
 		decoratorManager = manager;
-		decorationJob = createDecorationJob();
+		decorationJobs = new Job[WORKER_COUNT];
+		for (int i = 0; i < decorationJobs.length; i++) {
+			decorationJobs[i] = createDecorationJob(false);
+		}
+		slowDecorationJob = createDecorationJob(true);
 	}
 
 	/**
@@ -220,11 +259,37 @@ public class DecorationScheduler {
 	 * @param context         The decoration context
 	 */
 
+	void queueForDecoration(Object element, Object adaptedElement, boolean forceUpdate, String undecoratedText,
+			IDecorationContext context) {
+		queueForDecoration(element, adaptedElement, forceUpdate, undecoratedText, context, true);
+	}
+
+	/**
+	 * Queue the element and its adapted value if it has not been already.
+	 *
+	 * @param element
+	 * @param adaptedElement  The adapted value of element. May be null.
+	 * @param forceUpdate     If true then a labelProviderChanged is fired whether
+	 *                        decoration occurred or not.
+	 * @param undecoratedText The original text for the element if it is known.
+	 * @param context         The decoration context
+	 * @param visible         <code>true</code> if a viewer asked for the
+	 *                        decoration, so that the element is decorated before
+	 *                        the ones which are not known to be shown.
+	 */
 	synchronized void queueForDecoration(Object element, Object adaptedElement, boolean forceUpdate,
-			String undecoratedText, IDecorationContext context) {
+			String undecoratedText, IDecorationContext context, boolean visible) {
 
 		Assert.isNotNull(context);
 		DecorationReference reference = awaitingDecoration.get(element);
+		if (reference == null) {
+			reference = awaitingBackgroundDecoration.get(element);
+			if (reference != null && visible) {
+				// it is shown now, decorate it with the visible ones
+				awaitingBackgroundDecoration.remove(element);
+				awaitingDecoration.put(element, reference);
+			}
+		}
 		if (reference != null) {
 			if (forceUpdate) {// Make sure we don't loose a force
 				reference.setForceUpdate(forceUpdate);
@@ -234,7 +299,11 @@ public class DecorationScheduler {
 			reference = new DecorationReference(element, adaptedElement, context);
 			reference.setForceUpdate(forceUpdate);
 			reference.setUndecoratedText(undecoratedText);
-			awaitingDecoration.put(element, reference);
+			if (visible) {
+				awaitingDecoration.put(element, reference);
+			} else {
+				awaitingBackgroundDecoration.put(element, reference);
+			}
 			if (shutdown) {
 				return;
 			}
@@ -243,12 +312,46 @@ public class DecorationScheduler {
 
 	}
 
+	/**
+	 * Queue the contexts of the reference for the decorators known to be slow.
+	 *
+	 * @param reference the reference decorated without the slow decorators
+	 * @param contexts  the contexts a slow decorator was skipped in
+	 */
+	private synchronized void queueForSlowDecoration(DecorationReference reference,
+			Collection<IDecorationContext> contexts) {
+		Object element = reference.getElement();
+		DecorationReference slowReference = awaitingSlowDecoration.get(element);
+		if (slowReference == null) {
+			slowReference = new DecorationReference(element, reference.getAdaptedElement(),
+					contexts.iterator().next());
+			awaitingSlowDecoration.put(element, slowReference);
+		}
+		for (IDecorationContext context : contexts) {
+			slowReference.addContext(context);
+		}
+		if (reference.shouldForceUpdate()) {
+			slowReference.setForceUpdate(true);
+		}
+		if (!shutdown) {
+			slowDecorationJob.schedule();
+		}
+	}
+
 	/*
 	 * should not be called before constructor finished. Would leak reference to
 	 * incomplete constructed DecorationScheduler.this
 	 */
 	void schedule() {
-		decorationJob.schedule();
+		int awaiting;
+		synchronized (this) {
+			awaiting = awaitingDecoration.size() + awaitingBackgroundDecoration.size();
+		}
+		// no need to wake up more workers than there are elements
+		int workers = Math.max(1, Math.min(decorationJobs.length, awaiting));
+		for (int i = 0; i < workers; i++) {
+			decorationJobs[i].schedule();
+		}
 	}
 
 	/**
@@ -301,16 +404,12 @@ public class DecorationScheduler {
 	}
 
 	private DecorationResult internalGetResult(Object element, IDecorationContext context) {
-		Map<Object, DecorationResult> results = resultCache.get(context);
-		if (results != null) {
-			return results.get(element);
-		}
-		return null;
+		return resultCache.get(element, context, decoratorManager.getLightweightManager().getEnabledDecoratorIds());
 	}
 
-	protected void internalPutResult(Object element, IDecorationContext context, DecorationResult result) {
-		Map<Object, DecorationResult> results = resultCache.computeIfAbsent(context, ctx -> new ConcurrentHashMap<>());
-		results.put(element, result);
+	protected void internalPutResult(Object element, IDecorationContext context, Set<String> decorators,
+			DecorationResult result) {
+		resultCache.put(element, context, decorators, result);
 	}
 
 	/**
@@ -345,20 +444,78 @@ public class DecorationScheduler {
 	 * @return IResource
 	 */
 	synchronized DecorationReference removeNextReference() {
-		Iterator<Entry<Object, DecorationReference>> iterator = awaitingDecoration.entrySet().iterator();
-		if (shutdown || !iterator.hasNext()) {
+		if (awaitingDecoration.isEmpty()) {
+			return removeNextReference(awaitingBackgroundDecoration);
+		}
+		return removeNextReference(awaitingDecoration);
+	}
+
+	/**
+	 * Get the next resource to be decorated by the decorators known to be slow.
+	 *
+	 * @return DecorationReference
+	 */
+	synchronized DecorationReference removeNextSlowReference() {
+		return removeNextReference(awaitingSlowDecoration);
+	}
+
+	private DecorationReference removeNextReference(Map<Object, DecorationReference> awaiting) {
+		if (shutdown) {
 			return null;
 		}
-		Entry<Object, DecorationReference> entry = iterator.next();
-		iterator.remove();
-		DecorationReference reference = entry.getValue();
-		return reference;
+		Iterator<Entry<Object, DecorationReference>> iterator = awaiting.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Entry<Object, DecorationReference> entry = iterator.next();
+			// leave elements which are being decorated to the worker done with them
+			if (decorating.add(entry.getKey())) {
+				iterator.remove();
+				return entry.getValue();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Mark the decoration of the element as done, and wake up a worker if it
+	 * was queued again in the meantime.
+	 *
+	 * @param element the element returned by one of the
+	 *                <code>removeNext...</code> methods
+	 */
+	private synchronized void decorationDone(Object element) {
+		decorating.remove(element);
+		if (shutdown) {
+			return;
+		}
+		if (awaitingDecoration.containsKey(element) || awaitingBackgroundDecoration.containsKey(element)) {
+			schedule();
+		}
+		if (awaitingSlowDecoration.containsKey(element)) {
+			slowDecorationJob.schedule();
+		}
 	}
 
 	/**
-	 * Create the Thread used for running decoration.
+	 * Return the number of elements waiting to be decorated.
+	 *
+	 * @param slow <code>true</code> for the elements waiting for the slow
+	 *             decorators
+	 * @return int
 	 */
-	private Job createDecorationJob() {
+	private synchronized int getAwaitingCount(boolean slow) {
+		if (slow) {
+			return awaitingSlowDecoration.size();
+		}
+		return awaitingDecoration.size() + awaitingBackgroundDecoration.size();
+	}
+
+	/**
+	 * Create a worker used for running decoration.
+	 *
+	 * @param slow <code>true</code> for the worker calling all decorators on the
+	 *             elements waiting for the slow ones
+	 */
+	private Job createDecorationJob(boolean slow) {
 		Job decorationJob = new Job(WorkbenchMessages.DecorationScheduler_CalculationJobName) {
 			@Override
 			public IStatus run(IProgressMonitor monitor) {
@@ -381,22 +538,43 @@ public class DecorationScheduler {
 				}
 
 				SubMonitor subMonitor = SubMonitor.convert(monitor,
-						WorkbenchMessages.DecorationScheduler_CalculatingTask, awaitingDecoration.size() + 1);
+						WorkbenchMessages.DecorationScheduler_CalculatingTask, getAwaitingCount(slow) + 1);
 				// will block if there are no resources to be decorated
 				DecorationReference reference;
 
 				boolean queued = false;
-				// for each in awaitingDecorationValues, but not locking the map during the whole iteration:
-				while ((reference = removeNextReference()) != null) {
+				// for each awaiting reference, but not locking the maps during the whole iteration:
+				while ((reference = slow ? removeNextSlowReference() : removeNextReference()) != null) {
 					subMonitor.split(1);
 					queued = true;
 					Object element = reference.getElement();
-					boolean force = reference.shouldForceUpdate();
-					Collection<IDecorationContext> contexts = reference.getContexts();
-					for (IDecorationContext context : contexts) {
-						queued |= queue(element, force, context);
+					try {
+						boolean force = reference.shouldForceUpdate();
+						Collection<IDecorationContext> contexts = reference.getContexts();
+						Collection<IDecorationContext> skipped = null;
+						// the results are only valid for the decorators enabled now
+						Set<String> decorators = decoratorManager.getLightweightManager().getEnabledDecoratorIds();
+						for (IDecorationContext context : contexts) {
+							DecorationBuilder cacheResult = new DecorationBuilder(context);
+							// Calculate the decoration
+							if (decoratorManager.getLightweightManager().getDecorations(element, cacheResult, slow)) {
+								// don't publish a partial result, the slow worker
+								// publishes the complete one
+								if (skipped == null) {
+									skipped = new ArrayList<>(contexts.size());
+								}
+								skipped.add(context);
+							} else {
+								queued |= queue(element, force, context, decorators, cacheResult);
+							}
+						}
+						if (skipped != null) {
+							queueForSlowDecoration(reference, skipped);
+						}
+					} finally {
+						decorationDone(element);
 					}
-					subMonitor.setWorkRemaining(awaitingDecoration.size() + 1); // may grow asynchronously
+					subMonitor.setWorkRemaining(getAwaitingCount(slow) + 1); // may grow asynchronously
 					// Only notify listeners when we have exhausted the
 					// queue of decoration requests.
 				}
@@ -409,15 +587,15 @@ public class DecorationScheduler {
 			/**
 			 * Ensure that a result is cached for the given element and context
 			 *
-			 * @param element the elements
-			 * @param force   whether an update should be forced
-			 * @param context the decoration context
+			 * @param element     the elements
+			 * @param force       whether an update should be forced
+			 * @param context     the decoration context
+			 * @param decorators  the ids of the decorators enabled when
+			 *                    calculating
+			 * @param cacheResult the calculated decoration
 			 */
-			private boolean queue(Object element, boolean force, IDecorationContext context) {
-				DecorationBuilder cacheResult = new DecorationBuilder(context);
-				// Calculate the decoration
-				decoratorManager.getLightweightManager().getDecorations(element, cacheResult);
-
+			private boolean queue(Object element, boolean force, IDecorationContext context, Set<String> decorators,
+					DecorationBuilder cacheResult) {
 				// If we should update regardless then put a result
 				// anyways
 				if (cacheResult.hasValue() || force) {
@@ -432,7 +610,7 @@ public class DecorationScheduler {
 					// order to indicate that the decoration is
 					// ready
 
-					internalPutResult(element, context, cacheResult.createResult());
+					internalPutResult(element, context, decorators, cacheResult.createResult());
 
 					// Add an update for only the original element
 					// to
@@ -588,17 +766,12 @@ public class DecorationScheduler {
 			}
 
 			/**
-			 * Clear any cached information.
+			 * Clear the state of the update. The results are kept, they are only
+			 * cleared when decorators or label providers change.
 			 */
 			private void resetState() {
 				currentIndex = NEEDS_INIT;// Reset
 				removedListeners.clear();
-				// Other decoration requests may have occurred due to
-				// updates or we may have timed out updating listeners.
-				// Only clear the results if there are none pending.
-				if (awaitingDecoration.isEmpty()) {
-					resultCache.clear();
-				}
 			}
 
 			private void setUpUpdates() {
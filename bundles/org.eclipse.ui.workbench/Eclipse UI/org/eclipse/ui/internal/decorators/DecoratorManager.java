@@ -626,7 +626,7 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 	 * occur due to changes in enablement.
 	 */
 	public void clearCaches() {
-		getLightweightManager().reset();
+		getLightweightManager().enablementChanged();
 		fullTextRunnable.clearReferences();
 		fullImageRunnable.clearReferences();
 	}
@@ -671,8 +671,9 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 			for (Object element : elements) {
 				Object adapted = getResourceAdapter(element);
 				// Force an update in case full decorators are the only ones
-				// enabled
-				scheduler.queueForDecoration(element, adapted, true, null, DecorationContext.DEFAULT_CONTEXT);
+				// enabled. The elements may not be shown, so decorate the
+				// ones requested by the viewers first.
+				scheduler.queueForDecoration(element, adapted, true, null, DecorationContext.DEFAULT_CONTEXT, false);
 			}
 		}
 	}
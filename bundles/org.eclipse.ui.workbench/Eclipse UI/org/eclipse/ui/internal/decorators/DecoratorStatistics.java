@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.decorators;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The DecoratorStatistics records how often a lightweight decorator was called
+ * and how long the calls took. The latencies are kept in a histogram of
+ * buckets growing by powers of two: bucket <code>0</code> counts the calls
+ * that took less than one millisecond, bucket <code>i</code> the calls that
+ * took less than <code>2^i</code> milliseconds and the last bucket all the
+ * longer calls.
+ */
+public class DecoratorStatistics {
+
+	/**
+	 * The number of buckets of the histogram.
+	 */
+	public static final int BUCKET_COUNT = 16;
+
+	/**
+	 * A decorator is considered slow when its calls take longer than this on
+	 * average.
+	 */
+	private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+	/**
+	 * The number of calls needed before a decorator may be considered slow, so
+	 * that the first calls loading its classes do not count.
+	 */
+	private static final int SLOW_MIN_CALLS = 5;
+
+	private final String decoratorId;
+
+	private final AtomicLong callCount = new AtomicLong();
+
+	private final AtomicLong totalNanos = new AtomicLong();
+
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	private final AtomicLongArray histogram = new AtomicLongArray(BUCKET_COUNT);
+
+	/**
+	 * Create a new instance of the receiver for the decorator with the given id.
+	 *
+	 * @param decoratorId the id of the decorator
+	 */
+	DecoratorStatistics(String decoratorId) {
+		this.decoratorId = decoratorId;
+	}
+
+	/**
+	 * Record a call of the decorator.
+	 *
+	 * @param nanos the time the call took in nanoseconds
+	 */
+	void record(long nanos) {
+		callCount.incrementAndGet();
+		totalNanos.addAndGet(nanos);
+		maxNanos.accumulateAndGet(nanos, Math::max);
+		histogram.incrementAndGet(getBucket(nanos));
+	}
+
+	private static int getBucket(long nanos) {
+		long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+		if (millis == 0) {
+			return 0;
+		}
+		return Math.min(64 - Long.numberOfLeadingZeros(millis), BUCKET_COUNT - 1);
+	}
+
+	/**
+	 * Return whether the decorator takes long enough that it should not delay
+	 * the other decorators.
+	 *
+	 * @return boolean
+	 */
+	boolean isSlow() {
+		long calls = callCount.get();
+		return calls >= SLOW_MIN_CALLS && totalNanos.get() / calls > SLOW_NANOS;
+	}
+
+	/**
+	 * Forget all recorded calls.
+	 */
+	public void reset() {
+		callCount.set(0);
+		totalNanos.set(0);
+		maxNanos.set(0);
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			histogram.set(i, 0);
+		}
+	}
+
+	/**
+	 * @return the id of the decorator
+	 */
+	public String getDecoratorId() {
+		return decoratorId;
+	}
+
+	/**
+	 * @return the number of calls of the decorator
+	 */
+	public long getCallCount() {
+		return callCount.get();
+	}
+
+	/**
+	 * @return the time all calls took in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return totalNanos.get();
+	}
+
+	/**
+	 * @return the time the longest call took in nanoseconds
+	 */
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	/**
+	 * @return the average time of a call in nanoseconds, or <code>0</code> if
+	 *         there were none
+	 */
+	public long getAverageNanos() {
+		long calls = callCount.get();
+		return calls == 0 ? 0 : totalNanos.get() / calls;
+	}
+
+	/**
+	 * Return a copy of the latency histogram.
+	 *
+	 * @return the number of calls per bucket, see the class comment
+	 */
+	public long[] getHistogram() {
+		long[] result = new long[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			result[i] = histogram.get(i);
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder(decoratorId);
+		result.append(": calls=").append(getCallCount()); //$NON-NLS-1$
+		result.append(" avg=").append(TimeUnit.NANOSECONDS.toMicros(getAverageNanos())).append("us"); //$NON-NLS-1$ //$NON-NLS-2$
+		result.append(" max=").append(TimeUnit.NANOSECONDS.toMicros(getMaxNanos())).append("us"); //$NON-NLS-1$ //$NON-NLS-2$
+		result.append(" histogram(ms)="); //$NON-NLS-1$
+		long[] buckets = getHistogram();
+		for (int i = 0; i < buckets.length; i++) {
+			if (buckets[i] != 0) {
+				result.append(i == buckets.length - 1 ? ">=" : "<").append(1L << (i == buckets.length - 1 ? i - 1 : i)) //$NON-NLS-1$ //$NON-NLS-2$
+						.append(':').append(buckets[i]).append(' ');
+			}
+		}
+		return result.toString().trim();
+	}
+}
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.decorators;
 
+import java.util.concurrent.locks.ReentrantLock;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.ISafeRunnable;
@@ -92,8 +93,17 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements IObj
 
 	private String[] objectClasses;
 
+	private final DecoratorStatistics statistics;
+
+	/**
+	 * Held while the decorator is called, so that the workers of the
+	 * DecorationScheduler call each decorator from one thread at a time.
+	 */
+	private final ReentrantLock decorationLock = new ReentrantLock();
+
 	LightweightDecoratorDefinition(String identifier, IConfigurationElement element) {
 		super(identifier, element);
+		statistics = new DecoratorStatistics(identifier);
 	}
 
 	/**
@@ -262,6 +272,44 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements IObj
 
 	}
 
+	/**
+	 * Decorate the element like {@link #decorate(Object, IDecoration)} does,
+	 * while no other thread is calling the decorator, and record the time the
+	 * call took.
+	 *
+	 * @param element
+	 * @param decoration
+	 */
+	void decorateExclusive(Object element, IDecoration decoration) {
+		decorationLock.lock();
+		long start = System.nanoTime();
+		try {
+			decorate(element, decoration);
+		} finally {
+			statistics.record(System.nanoTime() - start);
+			decorationLock.unlock();
+		}
+	}
+
+	/**
+	 * Return the call counts and latencies of the decorator.
+	 *
+	 * @return DecoratorStatistics
+	 */
+	DecoratorStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Return whether the decorator is known to take long enough that it should
+	 * not delay the other decorators.
+	 *
+	 * @return boolean
+	 */
+	boolean isSlow() {
+		return statistics.isSlow();
+	}
+
 	/**
 	 * Returns the lightweight decorator, or <code>null</code> if not enabled.
 	 *
@@ -15,7 +15,10 @@ package org.eclipse.ui.internal.decorators;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
@@ -43,29 +46,16 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 
 	private static class LightweightRunnable implements ISafeRunnable {
 
-		static class RunnableData {
+		private final DecorationBuilder builder;
 
-			final DecorationBuilder builder;
+		private final LightweightDecoratorDefinition decorator;
 
-			final LightweightDecoratorDefinition decorator;
+		private final Object element;
 
-			final Object element;
-
-			public RunnableData(Object object, DecorationBuilder builder, LightweightDecoratorDefinition definition) {
-				this.element = object;
-				this.builder = builder;
-				this.decorator = definition;
-			}
-
-			boolean isConsistent() {
-				return builder != null && decorator != null && element != null;
-			}
-		}
-
-		private volatile RunnableData data = new RunnableData(null, null, null);
-
-		void setValues(Object object, DecorationBuilder builder, LightweightDecoratorDefinition definition) {
-			data = new RunnableData(object, builder, definition);
+		LightweightRunnable(Object object, DecorationBuilder builder, LightweightDecoratorDefinition definition) {
+			this.element = object;
+			this.builder = builder;
+			this.decorator = definition;
 		}
 
 		/*
@@ -74,23 +64,13 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		@Override
 		public void handleException(Throwable exception) {
 			IStatus status = StatusUtil.newStatus(IStatus.ERROR, exception.getMessage(), exception);
-			LightweightDecoratorDefinition decorator = data.decorator;
-			String message;
-			if (decorator == null) {
-				message = WorkbenchMessages.DecoratorError;
-			} else {
-				String name = decorator.getName();
-				if (name == null) {
-					// decorator definition is not accessible anymore
-					name = decorator.getId();
-				}
-				message = NLS.bind(WorkbenchMessages.DecoratorWillBeDisabled, name);
-			}
-			WorkbenchPlugin.log(message, status);
-			if (decorator != null) {
-				decorator.crashDisable();
+			String name = decorator.getName();
+			if (name == null) {
+				// decorator definition is not accessible anymore
+				name = decorator.getId();
 			}
-			clearReferences();
+			WorkbenchPlugin.log(NLS.bind(WorkbenchMessages.DecoratorWillBeDisabled, name), status);
+			decorator.crashDisable();
 		}
 
 		/*
@@ -98,32 +78,20 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		 */
 		@Override
 		public void run() throws Exception {
-			// Copy to local variables, see
-			// https://bugs.eclipse.org/bugs/show_bug.cgi?id=300358
-			RunnableData data = this.data;
-			if (data.isConsistent()) {
-				data.decorator.decorate(data.element, data.builder);
-			}
-			clearReferences();
-		}
-
-		/**
-		 * Clear all of the references in the receiver.
-		 *
-		 * @since 3.1
-		 */
-		void clearReferences() {
-			data = new RunnableData(null, null, null);
+			decorator.decorateExclusive(element, builder);
 		}
 	}
 
-	private LightweightRunnable runnable = new LightweightRunnable();
-
 	// The lightweight definitions read from the registry
 	private LightweightDecoratorDefinition[] lightweightDefinitions;
 
 	private static final LightweightDecoratorDefinition[] EMPTY_LIGHTWEIGHT_DEF = new LightweightDecoratorDefinition[0];
 
+	// The ids of the enabled definitions, null if they need to be computed
+	private volatile Set<String> enabledIds;
+
+	private final Object enabledIdsLock = new Object();
+
 	LightweightDecoratorManager(LightweightDecoratorDefinition[] definitions) {
 		super();
 		lightweightDefinitions = definitions;
@@ -164,6 +132,7 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 			lightweightDefinitions = new LightweightDecoratorDefinition[lightweightDefinitions.length + 1];
 			System.arraycopy(oldDefs, 0, lightweightDefinitions, 0, oldDefs.length);
 			lightweightDefinitions[oldDefs.length] = decorator;
+			enablementChanged();
 			// no reset - handled in the DecoratorManager
 			String[] types = getTargetTypes(decorator);
 			for (String type : types) {
@@ -198,6 +167,7 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 			Util.arrayCopyWithRemoval(oldDefs,
 					lightweightDefinitions = new LightweightDecoratorDefinition[lightweightDefinitions.length - 1],
 					idx);
+			enablementChanged();
 			// no reset - handled in the DecoratorManager
 			for (String type : getTargetTypes(decorator)) {
 				unregisterContributor(decorator, type);
@@ -272,10 +242,39 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	}
 
 	/**
-	 * Reset any cached values.
+	 * Return the ids of the enabled lightweight decorators. The returned set is
+	 * the same instance until {@link #enablementChanged()} is called.
+	 *
+	 * @return an unmodifiable Set of ids
+	 */
+	public Set<String> getEnabledDecoratorIds() {
+		Set<String> ids = enabledIds;
+		if (ids == null) {
+			// computed under the lock, so that an enablement change which
+			// happens meanwhile discards the result
+			synchronized (enabledIdsLock) {
+				ids = enabledIds;
+				if (ids == null) {
+					ids = new HashSet<>();
+					for (LightweightDecoratorDefinition definition : enabledDefinitions()) {
+						ids.add(definition.getId());
+					}
+					ids = Collections.unmodifiableSet(ids);
+					enabledIds = ids;
+				}
+			}
+		}
+		return ids;
+	}
+
+	/**
+	 * The enablement of the decorators or the decorators themselves have
+	 * changed.
 	 */
-	void reset() {
-		runnable.clearReferences();
+	void enablementChanged() {
+		synchronized (enabledIdsLock) {
+			enabledIds = null;
+		}
 	}
 
 	/**
@@ -341,23 +340,55 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	 *                   true.
 	 */
 	public void getDecorations(Object element, DecorationBuilder decoration) {
+		getDecorations(element, decoration, true);
+	}
+
+	/**
+	 * Fill the decoration with the results of the decorators, optionally leaving
+	 * out the decorators known to be slow.
+	 *
+	 * @param element     The source element
+	 * @param decoration  The DecorationResult we are working on.
+	 * @param includeSlow <code>false</code> to skip the slow decorators
+	 * @return <code>true</code> if a slow decorator was skipped
+	 */
+	boolean getDecorations(Object element, DecorationBuilder decoration, boolean includeSlow) {
+		boolean skipped = false;
 		for (LightweightDecoratorDefinition decorator : getDecoratorsFor(element)) {
+			if (!includeSlow && decorator.isSlow()) {
+				skipped = true;
+				continue;
+			}
 			decoration.setCurrentDefinition(decorator);
 			decorate(element, decoration, decorator);
 		}
+		return skipped;
 	}
 
 	/**
-	 * Decorate the element receiver in a SafeRunnable.
+	 * Decorate the element receiver in a SafeRunnable. Several threads may
+	 * decorate at the same time, so each call has its own runnable.
 	 *
 	 * @param element    The Object to be decorated
 	 * @param decoration The object building decorations.
 	 * @param decorator  The decorator being applied.
 	 */
 	private void decorate(Object element, DecorationBuilder decoration, LightweightDecoratorDefinition decorator) {
+		SafeRunner.run(new LightweightRunnable(element, decoration, decorator));
+	}
 
-		runnable.setValues(element, decoration, decorator);
-		SafeRunner.run(runnable);
+	/**
+	 * Return the call counts and latencies of the lightweight decorators.
+	 *
+	 * @return DecoratorStatistics[] in the order of the definitions
+	 */
+	public DecoratorStatistics[] getStatistics() {
+		LightweightDecoratorDefinition[] definitions = lightweightDefinitions;
+		DecoratorStatistics[] result = new DecoratorStatistics[definitions.length];
+		for (int i = 0; i < definitions.length; i++) {
+			result[i] = definitions[i].getStatistics();
+		}
+		return result;
 	}
 
 	/**
@@ -24,6 +24,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -32,13 +33,16 @@ import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -141,36 +145,59 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	private Hashtable<Object, String> imageKeyTable = new Hashtable<>();
 
 	/**
-	 * Lock object for synchronizing updates of {@code pendingJobUpdates},
-	 * {@code pendingGroupUpdates}, {@code pendingJobRemoval},
-	 * {@code pendingGroupRemoval} and {@code pendingJobAddition}.
+	 * Jobs added since the last notification, along with the listeners which
+	 * displayed them at the time they were added.
 	 */
-	private final Object pendingUpdatesMutex = new Object();
+	private final Queue<PendingAddition> pendingJobAddition = new ConcurrentLinkedQueue<>();
 
 	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
+	 * Jobs updated since the last notification.
 	 */
-	private Map<JobInfo, Set<IJobProgressManagerListener>> pendingJobUpdates = new LinkedHashMap<>();
+	private final Set<JobInfo> pendingJobUpdates = ConcurrentHashMap.newKeySet();
 
 	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
+	 * Groups updated since the last notification.
 	 */
-	private Set<GroupInfo> pendingGroupUpdates = new LinkedHashSet<>();
+	private final Set<GroupInfo> pendingGroupUpdates = ConcurrentHashMap.newKeySet();
 
 	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
+	 * Jobs removed since the last notification.
 	 */
-	private Map<JobInfo, Set<IJobProgressManagerListener>> pendingJobRemoval = new LinkedHashMap<>();
+	private final Set<JobInfo> pendingJobRemoval = ConcurrentHashMap.newKeySet();
 
 	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
+	 * Groups removed since the last notification.
 	 */
-	private Set<GroupInfo> pendingGroupRemoval = new LinkedHashSet<>();
+	private final Set<GroupInfo> pendingGroupRemoval = ConcurrentHashMap.newKeySet();
 
 	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
+	 * The number of state changes of the jobs reported by the job manager.
 	 */
-	private Map<JobInfo, Set<IJobProgressManagerListener>> pendingJobAddition = new LinkedHashMap<>();
+	private final LongAdder jobStateTransitions = new LongAdder();
+
+	/**
+	 * The number of system jobs which were added and removed between two
+	 * notifications and therefore not reported to the listeners.
+	 */
+	private final LongAdder collapsedJobs = new LongAdder();
+
+	/**
+	 * The number of notifications sent to the listeners.
+	 */
+	private final LongAdder notifications = new LongAdder();
+
+	/**
+	 * A job added since the last notification.
+	 */
+	private static final class PendingAddition {
+		final JobInfo info;
+		final List<IJobProgressManagerListener> listeners;
+
+		PendingAddition(JobInfo info, List<IJobProgressManagerListener> listeners) {
+			this.info = info;
+			this.listeners = listeners;
+		}
+	}
 
 	private static final String IMAGE_KEY = "org.eclipse.ui.progress.images"; //$NON-NLS-1$
 
@@ -358,45 +385,138 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 	/**
 	 * Send pending notifications to listeners.
+	 * <p>
+	 * The changes are recorded without locking by the threads of the jobs and
+	 * sent at most every 100ms by the {@link #uiRefreshThrottler}, so that the
+	 * listeners see one snapshot per job however often it changed. Removals are
+	 * taken before the updates and those before the additions, as a job is
+	 * always added before it is updated or removed: a change recorded while the
+	 * snapshot is taken is never sent without the addition of its job. System
+	 * jobs which were added and removed again since the last notification are
+	 * not sent at all, only their groups are refreshed.
+	 * </p>
+	 * <p>
+	 * Additions are sent to the listeners registered when the job was added,
+	 * updates and removals to the listeners registered when they are sent. A
+	 * listener added after a job may therefore get its updates and removal
+	 * without its addition, and has to ask for the current jobs when it is
+	 * added, as the progress viewers do.
+	 * </p>
 	 */
 	/* Visible for testing */ public void notifyListeners() {
-		Set<GroupInfo> localPendingGroupUpdates, localPendingGroupRemoval;
-		Map<JobInfo, Set<IJobProgressManagerListener>> localPendingJobUpdates, localPendingJobAddition,
-				localPendingJobRemoval;
-		synchronized (pendingUpdatesMutex) {
-			localPendingJobUpdates = pendingJobUpdates;
-			pendingJobUpdates = new LinkedHashMap<>();
-			localPendingGroupUpdates = pendingGroupUpdates;
-			pendingGroupUpdates = new LinkedHashSet<>();
-			localPendingJobRemoval = pendingJobRemoval;
-			pendingJobRemoval = new LinkedHashMap<>();
-			localPendingGroupRemoval = pendingGroupRemoval;
-			pendingGroupRemoval = new LinkedHashSet<>();
-			localPendingJobAddition = pendingJobAddition;
-			pendingJobAddition = new LinkedHashMap<>();
+		notifications.increment();
+		Set<JobInfo> localPendingJobRemoval = drain(pendingJobRemoval);
+		Set<GroupInfo> localPendingGroupRemoval = drain(pendingGroupRemoval);
+		Set<JobInfo> localPendingJobUpdates = drain(pendingJobUpdates);
+		Set<GroupInfo> localPendingGroupUpdates = drain(pendingGroupUpdates);
+		Map<JobInfo, Set<IJobProgressManagerListener>> localPendingJobAddition = new LinkedHashMap<>();
+		PendingAddition addition;
+		while ((addition = pendingJobAddition.poll()) != null) {
+			localPendingJobAddition.computeIfAbsent(addition.info, k -> new LinkedHashSet<>())
+					.addAll(addition.listeners);
 		}
 
+		collapseShortJobs(localPendingJobAddition, localPendingJobUpdates, localPendingJobRemoval,
+				localPendingGroupUpdates);
+
 		localPendingJobAddition.entrySet().forEach(e -> e.getValue().forEach(listener -> listener.addJob(e.getKey())));
 
 		// Adds all non null JobInfo#getGroupInfo to the list of groups to
 		// be refreshed
-		localPendingJobUpdates.entrySet().stream().map(e -> e.getKey().getGroupInfo()).filter(Objects::nonNull)
+		localPendingJobUpdates.stream().map(JobInfo::getGroupInfo).filter(Objects::nonNull)
 				.forEach(localPendingGroupUpdates::add);
 
-		localPendingJobUpdates.entrySet()
-				.forEach(e -> e.getValue().forEach(listener -> listener.refreshJobInfo(e.getKey())));
+		localPendingJobUpdates.forEach(info -> listeners.forEach(listener -> {
+			if (!isNeverDisplaying(info.getJob(), listener.showsDebug())) {
+				listener.refreshJobInfo(info);
+			}
+		}));
 
 		// refresh groups
 		localPendingGroupUpdates.forEach(groupInfo -> listeners.forEach(listener -> listener.refreshGroup(groupInfo)));
 
-		localPendingJobRemoval.entrySet()
-				.forEach(e -> e.getValue().forEach(listener -> listener.removeJob(e.getKey())));
+		localPendingJobRemoval.forEach(info -> listeners.forEach(listener -> {
+			if (!isNeverDisplaying(info.getJob(), listener.showsDebug())) {
+				listener.removeJob(info);
+			}
+		}));
 
 		localPendingGroupRemoval.forEach(group -> {
 			listeners.forEach(listener -> listener.removeGroup(group));
 		});
 	}
 
+	/**
+	 * Removes the elements from the pending set. An element added again while
+	 * the set is drained is either taken now or left for the next notification.
+	 */
+	private static <T> Set<T> drain(Set<T> pending) {
+		Set<T> drained = new LinkedHashSet<>();
+		for (T element : pending) {
+			if (pending.remove(element)) {
+				drained.add(element);
+			}
+		}
+		return drained;
+	}
+
+	/**
+	 * Drops the system jobs which were added and have finished since the last
+	 * notification, like the many short jobs of the workbench itself, and
+	 * refreshes their groups instead.
+	 */
+	private void collapseShortJobs(Map<JobInfo, Set<IJobProgressManagerListener>> additions, Set<JobInfo> updates,
+			Set<JobInfo> removals, Set<GroupInfo> groupUpdates) {
+		if (additions.isEmpty() || removals.isEmpty()) {
+			return;
+		}
+		Iterator<JobInfo> iterator = removals.iterator();
+		while (iterator.hasNext()) {
+			JobInfo info = iterator.next();
+			Job job = info.getJob();
+			if (job.isSystem() && job.getState() == Job.NONE && additions.containsKey(info)
+					&& !FinishedJobs.keep(info)) {
+				additions.remove(info);
+				updates.remove(info);
+				iterator.remove();
+				GroupInfo group = info.getGroupInfo();
+				if (group != null) {
+					groupUpdates.add(group);
+				}
+				collapsedJobs.increment();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of state changes of the jobs, like being scheduled,
+	 * started or done, seen since the receiver was created.
+	 *
+	 * @return the number of job state changes
+	 */
+	public long getJobStateTransitionCount() {
+		return jobStateTransitions.sum();
+	}
+
+	/**
+	 * Returns the number of short system jobs which were not reported to the
+	 * listeners, as they were added and removed between two notifications.
+	 *
+	 * @return the number of collapsed jobs
+	 */
+	public long getCollapsedJobCount() {
+		return collapsedJobs.sum();
+	}
+
+	/**
+	 * Returns the number of notifications sent to the listeners.
+	 *
+	 * @return the number of notifications
+	 */
+	public long getNotificationCount() {
+		return notifications.sum();
+	}
+
 	private void setUpImages() {
 		URL iconsRoot = ProgressManagerUtil.getIconsRoot();
 		try {
@@ -421,6 +541,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		return new JobChangeAdapter() {
 			@Override
 			public void aboutToRun(IJobChangeEvent event) {
+				jobStateTransitions.increment();
 				JobInfo info = progressFor(event.getJob()).getJobInfo();
 				refreshJobInfo(info);
 				Iterator<IJobBusyListener> startListeners = busyListenersForJob(event.getJob()).iterator();
@@ -432,6 +553,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 			@Override
 			public void done(IJobChangeEvent event) {
+				jobStateTransitions.increment();
 				if (!PlatformUI.isWorkbenchRunning()) {
 					return;
 				}
@@ -471,6 +593,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 			@Override
 			public void scheduled(IJobChangeEvent event) {
+				jobStateTransitions.increment();
 				updateFor(event);
 				if (event.getJob().isUser()) {
 					boolean noDialog = shouldRunInBackground();
@@ -505,11 +628,13 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 			@Override
 			public void awake(IJobChangeEvent event) {
+				jobStateTransitions.increment();
 				updateFor(event);
 			}
 
 			@Override
 			public void sleeping(IJobChangeEvent event) {
+				jobStateTransitions.increment();
 				if (managedJobs.contains(event.getJob()))// Are we showing this?
 					sleepJobInfo(progressFor(event.getJob()).getJobInfo());
 			}
@@ -639,9 +764,9 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 */
 	public void refreshJobInfo(JobInfo info) {
 		checkForStaleness(info.getJob());
-		synchronized (pendingUpdatesMutex) {
-			Predicate<IJobProgressManagerListener> predicate = listener -> !isNeverDisplaying(info.getJob(), listener.showsDebug());
-			rememberListenersForJob(info, pendingJobUpdates, predicate);
+		// most updates are progress of a job which is pending already
+		if (!pendingJobUpdates.contains(info)) {
+			pendingJobUpdates.add(info);
 		}
 		uiRefreshThrottler.throttledExec();
 	}
@@ -652,9 +777,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 * @param info the updated job group
 	 */
 	public void refreshGroup(GroupInfo info) {
-		synchronized (pendingUpdatesMutex) {
-			pendingGroupUpdates.add(info);
-		}
+		pendingGroupUpdates.add(info);
 		uiRefreshThrottler.throttledExec();
 	}
 
@@ -669,10 +792,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		synchronized (runnableMonitors) {
 			info = progressFor(job).getJobInfo();
 			managedJobs.remove(job);
-			synchronized (pendingUpdatesMutex) {
-				Predicate<IJobProgressManagerListener> predicate = listener -> !isNeverDisplaying(info.getJob(), listener.showsDebug());
-				rememberListenersForJob(info, pendingJobRemoval, predicate);
-			}
+			pendingJobRemoval.add(info);
 			runnableMonitors.remove(job);
 		}
 		uiRefreshThrottler.throttledExec();
@@ -697,9 +817,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 * @param group GroupInfo
 	 */
 	public void removeGroup(GroupInfo group) {
-		synchronized (pendingUpdatesMutex) {
-			pendingGroupRemoval.add(group);
-		}
+		pendingGroupRemoval.add(group);
 		uiRefreshThrottler.throttledExec();
 	}
 
@@ -715,19 +833,17 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		}
 
 		managedJobs.add(info.getJob());
-		synchronized (pendingUpdatesMutex) {
-			Predicate<IJobProgressManagerListener> predicate = listener -> !isCurrentDisplaying(info.getJob(), listener.showsDebug());
-			rememberListenersForJob(info, pendingJobAddition, predicate);
+		// whether the job is displayed depends on its current state
+		List<IJobProgressManagerListener> displaying = new ArrayList<>(listeners.size());
+		for (IJobProgressManagerListener listener : listeners) {
+			if (!isCurrentDisplaying(info.getJob(), listener.showsDebug())) {
+				displaying.add(listener);
+			}
 		}
+		pendingJobAddition.add(new PendingAddition(info, displaying));
 		uiRefreshThrottler.throttledExec();
 	}
 
-	private void rememberListenersForJob(JobInfo info, Map<JobInfo, Set<IJobProgressManagerListener>> listenersMap, Predicate<IJobProgressManagerListener> predicate) {
-		Set<IJobProgressManagerListener> localListeners = listenersMap.computeIfAbsent(info,
-				k -> new LinkedHashSet<>());
-		listeners.stream().filter(predicate).forEach(localListeners::add);
-	}
-
 	/**
 	 * Returns whether or not this job is currently displayable.
 	 *
@@ -123,6 +123,108 @@ public class ViewCSSTest {
 		assertEquals("color: blue;", buttonStyle.getCssText());
 	}
 
+	@Test
+	void testOrderAcrossSelectorBuckets() throws Exception {
+		// Rules of the same specificity keyed by class, by element name and
+		// universal ones are interleaved; the last matching rule wins
+		String css = """
+			.primary { color: red; }
+			* { font-weight: bold; }
+			.secondary { color: blue; }
+			Button { font-weight: normal; }
+			Composite .primary { color: green; }
+			.primary { background-color: white; }
+			#ok .primary, .other { background-color: black; }
+			""";
+		ViewCSS viewCSS = createViewCss(css);
+
+		final TestElement shell = new TestElement("Shell", engine);
+		final TestElement composite = new TestElement("Composite", shell, engine);
+		final TestElement button = new TestElement("Button", composite, engine);
+		button.setClass("secondary  primary secondary");
+
+		CSSStyleDeclaration buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertNotNull(buttonStyle);
+		assertEquals("green", buttonStyle.getPropertyCSSValue("color").getCssText());
+		assertEquals("normal", buttonStyle.getPropertyCSSValue("font-weight").getCssText());
+		assertEquals("white", buttonStyle.getPropertyCSSValue("background-color").getCssText());
+
+		composite.setId("ok");
+		buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertEquals("black", buttonStyle.getPropertyCSSValue("background-color").getCssText());
+
+		CSSStyleDeclaration shellStyle = viewCSS.getComputedStyle(shell, null);
+		assertNotNull(shellStyle);
+		assertEquals(1, shellStyle.getLength());
+		assertEquals("bold", shellStyle.getPropertyCSSValue("font-weight").getCssText());
+	}
+
+	@Test
+	void testStyleSharing() throws Exception {
+		String css = """
+			Button { color: blue; }
+			Composite .toolItem { font-weight: bold; }
+			""";
+		CSSStyleSheet styleSheet = ParserTestUtil.parseCss(css);
+		DocumentCSSImpl docCss = new DocumentCSSImpl();
+		docCss.addStyleSheet(styleSheet);
+		ViewCSSImpl viewCSS = new ViewCSSImpl(docCss);
+
+		final TestElement shell = new TestElement("Shell", engine);
+		final TestElement composite = new TestElement("Composite", shell, engine);
+		final TestElement button1 = new TestElement("Button", composite, engine);
+		final TestElement button2 = new TestElement("Button", composite, engine);
+		button1.setClass("toolItem");
+		button2.setClass("toolItem");
+
+		// siblings which look the same to all selectors share the style
+		CSSStyleDeclaration style1 = viewCSS.getComputedStyle(button1, null);
+		assertEquals(2, style1.getLength());
+		assertSame(style1, viewCSS.getComputedStyle(button2, null));
+
+		// changing the class changes the style
+		button2.setClass("other");
+		CSSStyleDeclaration style2 = viewCSS.getComputedStyle(button2, null);
+		assertEquals(1, style2.getLength());
+		assertEquals("blue", style2.getPropertyCSSValue("color").getCssText());
+		button2.setClass("toolItem");
+		assertSame(style1, viewCSS.getComputedStyle(button2, null));
+
+		// so does changing the id of an ancestor
+		composite.setId("main");
+		assertNotSame(style1, viewCSS.getComputedStyle(button1, null));
+
+		// adding a stylesheet drops shared styles
+		docCss.addStyleSheet(ParserTestUtil.parseCss("#main Button { color: red; }"));
+		CSSStyleDeclaration style3 = viewCSS.getComputedStyle(button1, null);
+		assertEquals("red", style3.getPropertyCSSValue("color").getCssText());
+		assertEquals("bold", style3.getPropertyCSSValue("font-weight").getCssText());
+	}
+
+	@Test
+	void testNoStyleSharingForAttributeSelectors() throws Exception {
+		String css = """
+			Button { color: blue; }
+			Button[flat='true'] { font-weight: bold; }
+			""";
+		ViewCSS viewCSS = createViewCss(css);
+
+		final TestElement shell = new TestElement("Shell", engine);
+		final TestElement button1 = new TestElement("Button", shell, engine);
+		final TestElement button2 = new TestElement("Button", shell, engine);
+		button1.setAttribute("flat", "true");
+
+		CSSStyleDeclaration style1 = viewCSS.getComputedStyle(button1, null);
+		assertEquals(2, style1.getLength());
+		CSSStyleDeclaration style2 = viewCSS.getComputedStyle(button2, null);
+		assertEquals(1, style2.getLength());
+
+		button2.setAttribute("flat", "true");
+		style2 = viewCSS.getComputedStyle(button2, null);
+		assertEquals(2, style2.getLength());
+		assertNotSame(style1, style2);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	void testRuleCaching() throws Exception {
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.css.swt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.eclipse.e4.ui.css.swt.engine.AbstractCSSSWTEngineImpl;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.CTabFolder;
+import org.eclipse.swt.custom.CTabItem;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.TabFolder;
+import org.eclipse.swt.widgets.TabItem;
+import org.junit.jupiter.api.Test;
+
+public class DeferredStylingTest extends CSSSWTTestCase {
+
+	private static final String STYLE_SHEET = "Label { color: #FF0000; }";
+
+	private Composite outer;
+	private Composite inner;
+	private Label label;
+
+	private void createTestWidgets(boolean defer) {
+		engine = createEngine(STYLE_SHEET, display);
+		((AbstractCSSSWTEngineImpl) engine).setDeferHiddenStyling(defer);
+
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		shell.setLayout(new FillLayout());
+		outer = new Composite(shell, SWT.NONE);
+		outer.setLayout(new FillLayout());
+		inner = new Composite(outer, SWT.NONE);
+		inner.setLayout(new FillLayout());
+		label = new Label(inner, SWT.NONE);
+	}
+
+	@Test
+	void testHiddenControlStyledWithoutDeferring() {
+		createTestWidgets(false);
+		outer.setVisible(false);
+		engine.applyStyles(outer.getShell(), true);
+		assertEquals(RED, label.getForeground().getRGB());
+	}
+
+	@Test
+	void testHiddenControlStyledWhenShown() {
+		createTestWidgets(true);
+		outer.setVisible(false);
+		engine.applyStyles(outer.getShell(), true);
+		assertNotEquals(RED, label.getForeground().getRGB());
+
+		outer.setVisible(true);
+		assertEquals(RED, label.getForeground().getRGB());
+	}
+
+	@Test
+	void testHiddenParentDefersChildStyling() {
+		createTestWidgets(true);
+		outer.setVisible(false);
+		engine.applyStyles(label, false);
+		assertNotEquals(RED, label.getForeground().getRGB());
+
+		outer.setVisible(true);
+		assertEquals(RED, label.getForeground().getRGB());
+	}
+
+	@Test
+	void testNestedHiddenControls() {
+		createTestWidgets(true);
+		outer.setVisible(false);
+		inner.setVisible(false);
+		engine.applyStyles(outer.getShell(), true);
+
+		outer.setVisible(true);
+		assertNotEquals(RED, label.getForeground().getRGB());
+
+		inner.setVisible(true);
+		assertEquals(RED, label.getForeground().getRGB());
+	}
+
+	@Test
+	void testDisposedEngineStopsDeferring() {
+		createTestWidgets(true);
+		outer.setVisible(false);
+		engine.applyStyles(outer.getShell(), true);
+		engine.dispose();
+
+		outer.setVisible(true);
+		assertNotEquals(RED, label.getForeground().getRGB());
+	}
+
+	@Test
+	void testHiddenCTabContentStyled() {
+		createTestWidgets(true);
+		CTabFolder folder = new CTabFolder(outer.getShell(), SWT.NONE);
+		CTabItem selected = new CTabItem(folder, SWT.NONE);
+		selected.setControl(new Label(folder, SWT.NONE));
+		CTabItem item = new CTabItem(folder, SWT.NONE);
+		Label content = new Label(folder, SWT.NONE);
+		item.setControl(content);
+		folder.setSelection(selected);
+		content.setVisible(false);
+
+		engine.applyStyles(outer.getShell(), true);
+		assertEquals(RED, content.getForeground().getRGB());
+	}
+
+	@Test
+	void testHiddenTabContentStyled() {
+		createTestWidgets(true);
+		TabFolder folder = new TabFolder(outer.getShell(), SWT.NONE);
+		TabItem selected = new TabItem(folder, SWT.NONE);
+		selected.setControl(new Label(folder, SWT.NONE));
+		TabItem item = new TabItem(folder, SWT.NONE);
+		Composite page = new Composite(folder, SWT.NONE);
+		page.setLayout(new FillLayout());
+		Label content = new Label(page, SWT.NONE);
+		item.setControl(page);
+		folder.setSelection(selected);
+		page.setVisible(false);
+
+		engine.applyStyles(outer.getShell(), true);
+		assertEquals(RED, content.getForeground().getRGB());
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.css.swt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
+import org.eclipse.e4.ui.css.swt.internal.theme.ThemeEngine;
+import org.eclipse.e4.ui.css.swt.theme.ITheme;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.stylesheets.StyleSheet;
+
+/**
+ * Tests that the theme engine reuses parsed style sheets when a theme is
+ * activated again.
+ */
+public class ThemeStyleSheetCacheTest extends CSSSWTTestCase {
+
+	private ThemeEngine themeEngine;
+
+	private final List<File> files = new ArrayList<>();
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+		super.setUp();
+		themeEngine = new ThemeEngine(display);
+		engine = new CSSSWTEngineImpl(display);
+		themeEngine.addCSSEngine(engine);
+	}
+
+	@Override
+	@AfterEach
+	public void tearDown() {
+		for (CSSEngine cssEngine : new ArrayList<>(themeEngine.getCSSEngines())) {
+			themeEngine.removeCSSEngine(cssEngine);
+		}
+		for (File file : files) {
+			file.delete();
+		}
+		super.tearDown();
+	}
+
+	@Test
+	void testStyleSheetReusedWhenSwitchingBack() throws Exception {
+		ITheme a = registerTheme("a", "Label { color: #FF0000; }");
+		ITheme b = registerTheme("b", "Label { color: #0000FF; }");
+
+		themeEngine.setTheme(a, false);
+		StyleSheet first = getThemeStyleSheet(engine);
+		themeEngine.setTheme(b, false);
+		assertNotSame(first, getThemeStyleSheet(engine));
+		themeEngine.setTheme(a, false);
+		assertSame(first, getThemeStyleSheet(engine));
+		assertEquals(RED, styleLabel().getForeground().getRGB());
+	}
+
+	@Test
+	void testStyleSheetSharedWithAddedEngine() throws Exception {
+		ITheme a = registerTheme("a", "Label { color: #FF0000; }");
+		themeEngine.setTheme(a, false);
+		StyleSheet first = getThemeStyleSheet(engine);
+
+		CSSEngine other = new CSSSWTEngineImpl(display);
+		themeEngine.addCSSEngine(other);
+		assertSame(first, getThemeStyleSheet(engine));
+		assertSame(first, getThemeStyleSheet(other));
+	}
+
+	@Test
+	void testModifiedStyleSheetParsedAgain() throws Exception {
+		ITheme a = registerTheme("a", "Label { color: #FF0000; }");
+		themeEngine.setTheme(a, false);
+		StyleSheet first = getThemeStyleSheet(engine);
+
+		touch(files.get(0), "Label { color: #00FF00; }");
+		themeEngine.resetCurrentTheme();
+
+		assertNotSame(first, getThemeStyleSheet(engine));
+		assertEquals(GREEN, styleLabel().getForeground().getRGB());
+	}
+
+	@Test
+	void testModifiedStyleSheetParsedAgainWhenSwitchingBack() throws Exception {
+		ITheme a = registerTheme("a", "Label { color: #FF0000; }");
+		ITheme b = registerTheme("b", "Label { color: #0000FF; }");
+		themeEngine.setTheme(a, false);
+		StyleSheet first = getThemeStyleSheet(engine);
+
+		themeEngine.setTheme(b, false);
+		touch(files.get(0), "Label { color: #00FF00; }");
+		themeEngine.setTheme(a, false);
+		StyleSheet changed = getThemeStyleSheet(engine);
+		assertNotSame(first, changed);
+		assertEquals(GREEN, styleLabel().getForeground().getRGB());
+		themeEngine.setTheme(b, false);
+		themeEngine.setTheme(a, false);
+		assertSame(changed, getThemeStyleSheet(engine));
+	}
+
+	@Test
+	void testModifiedImportParsedAgain() throws Exception {
+		File imported = createFile("imported", "Label { color: #FF0000; }");
+		ITheme a = registerTheme("a", "@import url(\"" + imported.getName() + "\");");
+		themeEngine.setTheme(a, false);
+		StyleSheet first = getThemeStyleSheet(engine);
+		assertEquals(RED, styleLabel().getForeground().getRGB());
+
+		themeEngine.resetCurrentTheme();
+		assertSame(first, getThemeStyleSheet(engine));
+
+		touch(imported, "Label { color: #00FF00; }");
+		themeEngine.resetCurrentTheme();
+		assertNotSame(first, getThemeStyleSheet(engine));
+		assertEquals(GREEN, styleLabel().getForeground().getRGB());
+	}
+
+	private ITheme registerTheme(String name, String css) throws IOException {
+		File file = createFile(name, css);
+		String id = getClass().getName() + "." + name + "." + System.nanoTime();
+		return themeEngine.registerTheme(id, name, file.toURI().toURL().toString());
+	}
+
+	private File createFile(String name, String css) throws IOException {
+		File file = File.createTempFile("theme-" + name, ".css");
+		files.add(file);
+		Files.writeString(file.toPath(), css, StandardCharsets.UTF_8);
+		return file;
+	}
+
+	private static void touch(File file, String css) throws IOException {
+		long stamp = file.lastModified();
+		Files.writeString(file.toPath(), css, StandardCharsets.UTF_8);
+		// file systems may not record the change within the same second
+		file.setLastModified(stamp + 10000);
+	}
+
+	private static StyleSheet getThemeStyleSheet(CSSEngine cssEngine) {
+		// the theme's own style sheet comes before any global ones
+		return cssEngine.getDocumentCSS().getStyleSheets().item(0);
+	}
+
+	private Label styleLabel() {
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		Label label = new Label(shell, SWT.NONE);
+		engine.applyStyles(shell, true);
+		return label;
+	}
+}
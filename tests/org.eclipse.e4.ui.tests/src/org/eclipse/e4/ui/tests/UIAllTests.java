@@ -50,6 +50,7 @@ import org.eclipse.e4.ui.tests.workbench.PartOnTopManagerTest;
 import org.eclipse.e4.ui.tests.workbench.PartRenderingEngineTests;
 import org.eclipse.e4.ui.tests.workbench.SWTPartRendererTest;
 import org.eclipse.e4.ui.tests.workbench.SashRendererTest;
+import org.eclipse.e4.ui.tests.workbench.StartupTimelineTest;
 import org.eclipse.e4.ui.tests.workbench.TopoSortTests;
 import org.eclipse.e4.ui.workbench.renderers.swt.MenuManagerRendererTest;
 import org.eclipse.e4.ui.workbench.renderers.swt.StackRendererTest;
@@ -100,6 +101,7 @@ import org.junit.runners.Suite;
 		HandlerActivationTest.class,
 		ModelAssemblerTests.class,
 		ModelAssemblerFragmentOrderingTests.class,
+		StartupTimelineTest.class,
 		E4ResourceTest.class,
 		AreaRendererTest.class,
 		SWTPartRendererTest.class,
@@ -28,6 +28,7 @@ import org.eclipse.e4.ui.model.application.MAddon;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.MApplicationElement;
 import org.eclipse.e4.ui.model.application.MApplicationFactory;
+import org.eclipse.e4.ui.model.application.commands.MBindingContext;
 import org.eclipse.e4.ui.model.application.commands.MBindingTable;
 import org.eclipse.e4.ui.model.application.commands.MHandler;
 import org.eclipse.e4.ui.model.application.commands.MKeyBinding;
@@ -46,6 +47,7 @@ import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolBarElement;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolControl;
 import org.eclipse.e4.ui.workbench.modeling.EModelService;
+import org.eclipse.e4.ui.workbench.modeling.ElementMatcher;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -431,4 +433,134 @@ public class EModelServiceFindTest {
 		assertEquals(1, elements.size());
 		assertEquals(part, elements.get(0));
 	}
+
+	@Test
+	public void testFindElementsByIdAfterModelChanges() {
+		MApplication application = createApplication();
+		EModelService modelService = application.getContext().get(EModelService.class);
+
+		MPart part = modelService.createModelElement(MPart.class);
+		part.setElementId("partId");
+		MPartStack stack = modelService.findElements(application, null, MPartStack.class).get(0);
+		stack.getChildren().add(part);
+		assertSame(part, modelService.find("partId", application));
+
+		part.setElementId("renamedPartId");
+		assertNull(modelService.find("partId", application));
+		assertSame(part, modelService.find("renamedPartId", application));
+
+		MPartSashContainer psc = (MPartSashContainer) stack.getParent();
+		psc.getChildren().add(part);
+		assertSame(part, modelService.find("renamedPartId", application));
+		assertNull(modelService.find("renamedPartId", stack));
+
+		psc.getChildren().remove(part);
+		assertNull(modelService.find("renamedPartId", application));
+		assertSame(part, modelService.find("renamedPartId", part));
+	}
+
+	@Test
+	public void testFindElementsByIdMatchesWalk() {
+		MApplication application = createApplication();
+		EModelService modelService = application.getContext().get(EModelService.class);
+
+		MWindow window = modelService.createModelElement(MWindow.class);
+		application.getChildren().add(window);
+		MPerspectiveStack perspectiveStack = modelService.createModelElement(MPerspectiveStack.class);
+		window.getChildren().add(perspectiveStack);
+		MPerspective perspectiveA = modelService.createModelElement(MPerspective.class);
+		perspectiveStack.getChildren().add(perspectiveA);
+		MPerspective perspectiveB = modelService.createModelElement(MPerspective.class);
+		perspectiveStack.getChildren().add(perspectiveB);
+		perspectiveStack.setSelectedElement(perspectiveA);
+
+		MPart sharedPart = modelService.createModelElement(MPart.class);
+		sharedPart.setElementId("sharedPartId");
+		window.getSharedElements().add(sharedPart);
+		MPlaceholder placeholder = modelService.createModelElement(MPlaceholder.class);
+		placeholder.setRef(sharedPart);
+		perspectiveB.getChildren().add(placeholder);
+
+		MPart partA = modelService.createModelElement(MPart.class);
+		partA.setElementId("partAId");
+		perspectiveA.getChildren().add(partA);
+
+		MToolBar toolBar = modelService.createModelElement(MToolBar.class);
+		toolBar.setElementId("partToolBarId");
+		partA.setToolbar(toolBar);
+
+		int[] flags = { EModelService.ANYWHERE, EModelService.PRESENTATION, EModelService.IN_ACTIVE_PERSPECTIVE,
+				EModelService.IN_ANY_PERSPECTIVE, EModelService.OUTSIDE_PERSPECTIVE | EModelService.IN_ANY_PERSPECTIVE,
+				EModelService.IN_ANY_PERSPECTIVE | EModelService.IN_SHARED_ELEMENTS,
+				EModelService.ANYWHERE | EModelService.IN_PART };
+		String[] ids = { "sharedPartId", "partAId", "partToolBarId", "twoValidIds", "singleValidId" };
+		MUIElement[] roots = { application, window, perspectiveStack, perspectiveA, perspectiveB, placeholder };
+		for (MUIElement root : roots) {
+			for (String id : ids) {
+				for (int flag : flags) {
+					assertEquals(modelService.findElements(root, MUIElement.class, flag,
+							new ElementMatcher(id, MUIElement.class, (List<String>) null)),
+							modelService.findElements(root, id, MUIElement.class, null, flag));
+				}
+			}
+		}
+
+		perspectiveStack.setSelectedElement(perspectiveB);
+		assertSame(sharedPart, modelService.find("sharedPartId", window));
+		assertEquals(1, modelService.findElements(window, "sharedPartId", MPart.class, null,
+				EModelService.PRESENTATION).size());
+
+		placeholder.setRef(null);
+		assertEquals(0, modelService.findElements(window, "sharedPartId", MPart.class, null,
+				EModelService.PRESENTATION).size());
+	}
+
+	@Test
+	public void testFindBindingTableElementsByIdMatchesWalk() {
+		MApplication application = createApplication();
+		EModelService modelService = application.getContext().get(EModelService.class);
+
+		MBindingTable bindingTable = modelService.createModelElement(MBindingTable.class);
+		bindingTable.setElementId("bindingTableId");
+		MKeyBinding keyBinding = modelService.createModelElement(MKeyBinding.class);
+		keyBinding.setElementId("keyBindingId");
+		bindingTable.getBindings().add(keyBinding);
+		application.getBindingTables().add(bindingTable);
+
+		assertFindByIdMatchesWalk(modelService, application, new String[] { "bindingTableId", "keyBindingId" },
+				MApplicationElement.class, MBindingTable.class, MKeyBinding.class);
+		assertEquals(1, modelService.findElements(application, "keyBindingId", MKeyBinding.class, null).size());
+	}
+
+	@Test
+	public void testFindBindingContextElementsByIdMatchesWalk() {
+		MApplication application = createApplication();
+		EModelService modelService = application.getContext().get(EModelService.class);
+
+		MBindingContext bindingContext = modelService.createModelElement(MBindingContext.class);
+		bindingContext.setElementId("bindingContextId");
+		MBindingContext childContext = modelService.createModelElement(MBindingContext.class);
+		childContext.setElementId("childContextId");
+		bindingContext.getChildren().add(childContext);
+		application.getRootContext().add(bindingContext);
+		application.getBindingContexts().add(bindingContext);
+
+		assertFindByIdMatchesWalk(modelService, application, new String[] { "bindingContextId", "childContextId" },
+				MApplicationElement.class, MBindingContext.class);
+		assertEquals(1, modelService.findElements(application, "childContextId", MBindingContext.class, null).size());
+	}
+
+	private void assertFindByIdMatchesWalk(EModelService modelService, MUIElement root, String[] ids,
+			Class<?>... classes) {
+		int[] flags = { EModelService.ANYWHERE, EModelService.PRESENTATION, EModelService.IN_ANY_PERSPECTIVE };
+		for (Class<?> clazz : classes) {
+			for (String id : ids) {
+				for (int flag : flags) {
+					assertEquals(modelService.findElements(root, clazz, flag,
+							new ElementMatcher(id, clazz, (List<String>) null)),
+							modelService.findElements(root, id, clazz, null, flag));
+				}
+			}
+		}
+	}
 }
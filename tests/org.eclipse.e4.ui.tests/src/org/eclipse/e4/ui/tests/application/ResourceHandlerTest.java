@@ -16,9 +16,12 @@
 package org.eclipse.e4.ui.tests.application;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -45,6 +48,7 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.osgi.service.datalocation.Location;
 import org.eclipse.swt.widgets.Display;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.osgi.framework.BundleContext;
@@ -77,11 +81,15 @@ public class ResourceHandlerTest {
 	}
 
 	private ResourceHandler createHandler(URI uri) {
+		return createHandler(uri, true);
+	}
+
+	private ResourceHandler createHandler(URI uri, boolean clearPersistedState) {
 		IEclipseContext appContext = E4Application.createDefaultContext();
 		IEclipseContext localContext = appContext.createChild();
 		localContext.set(E4Workbench.INSTANCE_LOCATION, getInstanceLocation());
 		localContext.set(IWorkbench.PERSIST_STATE, Boolean.TRUE);
-		localContext.set(IWorkbench.CLEAR_PERSISTED_STATE, Boolean.TRUE);
+		localContext.set(IWorkbench.CLEAR_PERSISTED_STATE, Boolean.valueOf(clearPersistedState));
 
 		localContext.set(E4Workbench.INITIAL_WORKBENCH_MODEL_URI, uri);
 
@@ -101,6 +109,14 @@ public class ResourceHandlerTest {
 
 	}
 
+	@After
+	public void tearDown() {
+		System.clearProperty(ResourceHandler.BINARY_MODEL_PROPERTY);
+		if (resource.getURI().isFile()) {
+			getSnapshotFile(resource).delete();
+		}
+	}
+
 	@Test
 	public void testProcessedApplicationModelNotNull() {
 		assertNotNull(application);
@@ -234,4 +250,76 @@ public class ResourceHandlerTest {
 		MApplication unchangedApplication = (MApplication) verifyResource.getContents().get(0);
 		assertEquals(2, unchangedApplication.getChildren().size());
 	}
+
+	@Test
+	public void testBinaryModelSnapshot() throws IOException {
+		URI uri = URI.createPlatformPluginURI("org.eclipse.e4.ui.tests/xmi/modelprocessor/base.e4xmi", true);
+		System.setProperty(ResourceHandler.BINARY_MODEL_PROPERTY, "true");
+
+		ResourceHandler handler = createHandler(uri);
+		resource = handler.loadMostRecentModel();
+		MApplication application = (MApplication) resource.getContents().get(0);
+		MWindow window = MBasicFactory.INSTANCE.createWindow();
+		window.setLabel("Saved in the snapshot");
+		application.getChildren().add(window);
+		MWindow dynamicWindow = MBasicFactory.INSTANCE.createWindow();
+		dynamicWindow.getPersistedState().put(IWorkbench.PERSIST_STATE, "false");
+		application.getChildren().add(dynamicWindow);
+		String windowId = ((E4XMIResource) resource).getID((EObject) window);
+		handler.save();
+
+		File xmiFile = new File(resource.getURI().toFileString());
+		File snapshotFile = getSnapshotFile(resource);
+		assertTrue(snapshotFile.exists());
+		assertFalse(xmiFile.exists());
+
+		// nothing is written as long as the model does not change
+		snapshotFile.setLastModified(1000);
+		handler.save();
+		assertEquals(1000, snapshotFile.lastModified());
+		window.setLabel("Changed in the snapshot");
+		handler.save();
+		assertNotEquals(1000, snapshotFile.lastModified());
+
+		Resource restored = createHandler(uri, false).loadMostRecentModel();
+		MApplication restoredApplication = (MApplication) restored.getContents().get(0);
+		assertEquals(3, restoredApplication.getChildren().size());
+		MWindow restoredWindow = restoredApplication.getChildren().get(2);
+		assertEquals("Changed in the snapshot", restoredWindow.getLabel());
+		assertEquals(windowId, ((E4XMIResource) restored).getID((EObject) restoredWindow));
+	}
+
+	@Test
+	public void testDamagedBinaryModelSnapshot() throws IOException {
+		URI uri = URI.createPlatformPluginURI("org.eclipse.e4.ui.tests/xmi/modelprocessor/base.e4xmi", true);
+
+		// written as XMI
+		ResourceHandler handler = createHandler(uri);
+		resource = handler.loadMostRecentModel();
+		MApplication application = (MApplication) resource.getContents().get(0);
+		application.getChildren().add(MBasicFactory.INSTANCE.createWindow());
+		handler.save();
+
+		// written as snapshot
+		System.setProperty(ResourceHandler.BINARY_MODEL_PROPERTY, "true");
+		handler = createHandler(uri, false);
+		resource = handler.loadMostRecentModel();
+		application = (MApplication) resource.getContents().get(0);
+		assertEquals(3, application.getChildren().size());
+		application.getChildren().add(MBasicFactory.INSTANCE.createWindow());
+		handler.save();
+
+		File snapshotFile = getSnapshotFile(resource);
+		byte[] content = Files.readAllBytes(snapshotFile.toPath());
+		content[content.length - 1]++;
+		Files.write(snapshotFile.toPath(), content);
+
+		Resource restored = createHandler(uri, false).loadMostRecentModel();
+		MApplication restoredApplication = (MApplication) restored.getContents().get(0);
+		assertEquals(3, restoredApplication.getChildren().size());
+	}
+
+	private static File getSnapshotFile(Resource resource) {
+		return new File(resource.getURI().trimFileExtension().appendFileExtension("bin").toFileString());
+	}
 }
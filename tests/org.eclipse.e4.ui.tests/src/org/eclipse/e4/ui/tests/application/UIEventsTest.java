@@ -14,6 +14,7 @@
 
 package org.eclipse.e4.ui.tests.application;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
@@ -344,6 +345,35 @@ public class UIEventsTest extends HeadlessApplicationElementTest {
 		assertFalse(seen[0]);
 	}
 
+	@Test
+	public void testEventCounts() {
+		IEventBroker eventBroker = rule.getApplicationContext().get(IEventBroker.class);
+		MTestHarness allData = MTestFactory.eINSTANCE.createTestHarness();
+		UIEventPublisher ep = new UIEventPublisher(rule.getApplicationContext());
+		((Notifier) allData).eAdapters().add(ep);
+
+		final int[] seen = { 0 };
+		EventHandler handler = event -> seen[0]++;
+		eventBroker.subscribe(UILabel.TOPIC_TOOLTIP, handler);
+		try {
+			allData.setTooltip("tooltip");
+			assertEquals(1, seen[0]);
+			assertEquals(1, ep.getPublishedEventCount());
+			assertEquals(1, ep.getModelChangeCount());
+
+			// no-ops are not counted
+			allData.setTooltip("tooltip");
+			assertEquals(1, ep.getModelChangeCount());
+		} finally {
+			eventBroker.unsubscribe(handler);
+		}
+
+		allData.setTooltip("another tooltip");
+		assertEquals(1, seen[0]);
+		assertEquals(2, ep.getModelChangeCount());
+		assertEquals(ep.getModelChangeCount(), ep.getPublishedEventCount() + ep.getSuppressedEventCount());
+	}
+
 	/**
 	 * @param allTesters
 	 * @param tester
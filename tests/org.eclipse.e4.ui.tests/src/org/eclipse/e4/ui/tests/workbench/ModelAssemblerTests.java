@@ -17,6 +17,7 @@
 package org.eclipse.e4.ui.tests.workbench;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -394,6 +395,96 @@ public class ModelAssemblerTests {
 		assertEquals(0, logMessages.size());
 	}
 
+	/**
+	 * Tests that the fragments whose resources are loaded in parallel are merged
+	 * in the same order as when loading them one after the other.
+	 */
+	@Test
+	public void testParallelFragments_initial() throws Exception {
+		IExtensionRegistry registry = createTestExtensionRegistry();
+		assembler.setExtensionRegistry(registry);
+		registry.addContribution(getContentsAsInputStream("org.eclipse.e4.ui.tests/data/ModelAssembler/parallelFragments.xml"),
+				ContributorFactorySimple.createContributor(BUNDLE_SYMBOLIC_NAME), false, null, null, null);
+
+		assembler.processModel(true);
+
+		assertEquals(0, logMessages.size());
+		assertEquals(loadSerially("1", "initial", "2", "3"), getChildrenIds());
+	}
+
+	/**
+	 * Tests that the fragments applied initially are neither loaded nor merged
+	 * when running from a persisted state.
+	 */
+	@Test
+	public void testParallelFragments_persisted() throws Exception {
+		IExtensionRegistry registry = createTestExtensionRegistry();
+		assembler.setExtensionRegistry(registry);
+		registry.addContribution(getContentsAsInputStream("org.eclipse.e4.ui.tests/data/ModelAssembler/parallelFragments.xml"),
+				ContributorFactorySimple.createContributor(BUNDLE_SYMBOLIC_NAME), false, null, null, null);
+
+		assembler.processModel(false);
+
+		assertEquals(0, logMessages.size());
+		assertEquals(loadSerially("1", "2", "3"), getChildrenIds());
+		assertNull(resourceSet.getResource(getParallelFragmentURI("initial"), false));
+	}
+
+	/**
+	 * Tests that the fragments merged into a persisted model are not merged again
+	 * as long as the bundles contributing them are the same, and that they are
+	 * merged into a model persisted without knowing about them.
+	 */
+	@Test
+	public void testMergedFragments_persisted() throws Exception {
+		IExtensionRegistry registry = createTestExtensionRegistry();
+		assembler.setExtensionRegistry(registry);
+		registry.addContribution(getContentsAsInputStream("org.eclipse.e4.ui.tests/data/ModelAssembler/parallelFragments.xml"),
+				ContributorFactorySimple.createContributor(BUNDLE_SYMBOLIC_NAME), false, null, null, null);
+
+		assembler.processModel(false);
+		assertEquals(loadSerially("1", "2", "3"), getChildrenIds());
+
+		application.getChildren().clear();
+		assembler.processModel(false);
+		assertEquals(0, logMessages.size());
+		assertTrue(application.getChildren().isEmpty());
+
+		application.getPersistedState().clear();
+		assembler.processModel(false);
+		assertEquals(0, logMessages.size());
+		assertEquals(loadSerially("1", "2", "3"), getChildrenIds());
+	}
+
+	private List<String> getChildrenIds() {
+		List<String> ids = new ArrayList<>();
+		for (MWindow window : application.getChildren()) {
+			ids.add(window.getElementId());
+		}
+		return ids;
+	}
+
+	private List<String> loadSerially(String... names) {
+		List<String> ids = new ArrayList<>();
+		ResourceSetImpl serialSet = new ResourceSetImpl();
+		serialSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("e4xmi", factory);
+		for (String name : names) {
+			Resource resource = serialSet.getResource(getParallelFragmentURI(name), true);
+			MModelFragments fragments = (MModelFragments) resource.getContents().get(0);
+			for (MModelFragment fragment : fragments.getFragments()) {
+				for (MApplicationElement element : fragment.getElements()) {
+					ids.add(element.getElementId());
+				}
+			}
+		}
+		return ids;
+	}
+
+	private static URI getParallelFragmentURI(String name) {
+		return URI.createPlatformPluginURI(
+				BUNDLE_SYMBOLIC_NAME + "/data/ModelAssembler/parallelFragments-" + name + ".e4xmi", false);
+	}
+
 	/**
 	 * Tests that pre-processors running from a non-persisted state that are
 	 * marked as "always" are executed.
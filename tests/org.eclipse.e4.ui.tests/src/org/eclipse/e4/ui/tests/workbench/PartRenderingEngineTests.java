@@ -27,10 +27,13 @@ import static org.junit.Assume.assumeFalse;
 import java.util.function.Consumer;
 import javax.inject.Inject;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.services.statusreporter.StatusReporter;
 import org.eclipse.e4.ui.internal.workbench.swt.IEventLoopAdvisor;
+import org.eclipse.e4.ui.internal.workbench.swt.PartRenderingEngine;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.descriptor.basic.MPartDescriptor;
 import org.eclipse.e4.ui.model.application.ui.advanced.MArea;
@@ -3232,4 +3235,98 @@ public class PartRenderingEngineTests {
 		modelService.removePerspectiveModel(perspectiveB, window);
 		assertNull(part.getCurSharedRef());
 	}
+
+	@Test
+	public void testDeferHiddenRendering() {
+		IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode("org.eclipse.e4.ui.workbench.renderers.swt");
+		preferences.putBoolean(PartRenderingEngine.DEFER_HIDDEN_RENDERING_KEY, true);
+		try {
+			MWindow window = ems.createModelElement(MWindow.class);
+			application.getChildren().add(window);
+			application.setSelectedElement(window);
+
+			MPartSashContainer container = ems.createModelElement(MPartSashContainer.class);
+			window.getChildren().add(container);
+
+			MPartStack stackA = ems.createModelElement(MPartStack.class);
+			container.getChildren().add(stackA);
+			MPart partA = ems.createModelElement(MPart.class);
+			stackA.getChildren().add(partA);
+
+			MPartStack stackB = ems.createModelElement(MPartStack.class);
+			stackB.setVisible(false);
+			container.getChildren().add(stackB);
+			MPart partB = ems.createModelElement(MPart.class);
+			stackB.getChildren().add(partB);
+
+			contextRule.createAndRunWorkbench(window);
+
+			assertNotNull(stackA.getWidget());
+			assertNull(stackB.getWidget());
+			assertNull(partB.getWidget());
+
+			stackB.setVisible(true);
+			assertNotNull(stackB.getWidget());
+			assertNotNull(partB.getWidget());
+		} finally {
+			preferences.remove(PartRenderingEngine.DEFER_HIDDEN_RENDERING_KEY);
+		}
+	}
+
+	@Test
+	public void testDeferHiddenRenderingNested() {
+		IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode("org.eclipse.e4.ui.workbench.renderers.swt");
+		preferences.putBoolean(PartRenderingEngine.DEFER_HIDDEN_RENDERING_KEY, true);
+		try {
+			MWindow window = ems.createModelElement(MWindow.class);
+			application.getChildren().add(window);
+			application.setSelectedElement(window);
+
+			MPartSashContainer container = ems.createModelElement(MPartSashContainer.class);
+			window.getChildren().add(container);
+
+			MPartStack stackA = ems.createModelElement(MPartStack.class);
+			container.getChildren().add(stackA);
+			MPart partA = ems.createModelElement(MPart.class);
+			stackA.getChildren().add(partA);
+
+			MPartSashContainer hiddenContainerB = ems.createModelElement(MPartSashContainer.class);
+			hiddenContainerB.setVisible(false);
+			container.getChildren().add(hiddenContainerB);
+			MPartStack stackB = ems.createModelElement(MPartStack.class);
+			hiddenContainerB.getChildren().add(stackB);
+			MPart partB = ems.createModelElement(MPart.class);
+			stackB.getChildren().add(partB);
+
+			MPartSashContainer hiddenContainerC = ems.createModelElement(MPartSashContainer.class);
+			hiddenContainerC.setVisible(false);
+			container.getChildren().add(hiddenContainerC);
+			MPartStack stackC = ems.createModelElement(MPartStack.class);
+			hiddenContainerC.getChildren().add(stackC);
+			MPart partC = ems.createModelElement(MPart.class);
+			stackC.getChildren().add(partC);
+
+			contextRule.createAndRunWorkbench(window);
+
+			assertNull(hiddenContainerB.getWidget());
+			assertNull(stackB.getWidget());
+			assertNull(partB.getWidget());
+
+			EPartService service = window.getContext().get(EPartService.class);
+			service.showPart(partB, PartState.VISIBLE);
+			assertNotNull(hiddenContainerB.getWidget());
+			assertNotNull(stackB.getWidget());
+			assertNotNull(partB.getWidget());
+
+			// rendering a part directly renders its deferred ancestor first
+			assertNull(hiddenContainerC.getWidget());
+			IPresentationEngine engine = appContext.get(IPresentationEngine.class);
+			engine.createGui(partC);
+			assertNotNull(hiddenContainerC.getWidget());
+			assertNotNull(stackC.getWidget());
+			assertNotNull(partC.getWidget());
+		} finally {
+			preferences.remove(PartRenderingEngine.DEFER_HIDDEN_RENDERING_KEY);
+		}
+	}
 }
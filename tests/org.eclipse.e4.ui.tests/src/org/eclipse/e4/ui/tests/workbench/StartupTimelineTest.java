@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.tests.workbench;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.e4.ui.internal.workbench.StartupTimeline;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the timeline file written by {@link StartupTimeline}.
+ */
+@SuppressWarnings("nls")
+public class StartupTimelineTest {
+
+	private File file;
+
+	@Before
+	public void setUp() throws Exception {
+		file = File.createTempFile("startup-timeline", ".json");
+		file.delete();
+		setDebugOption(true, file.getPath());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		setDebugOption(false, null);
+		file.delete();
+	}
+
+	@Test
+	public void testNestedSpans() throws Exception {
+		assertTrue(StartupTimeline.isEnabled());
+		try (StartupTimeline.Span outer = StartupTimeline.begin("test outer", StartupTimeline.WORKBENCH)) {
+			outer.arg("quoted", "a \"value\"\n");
+			try (StartupTimeline.Span inner = StartupTimeline.begin("test inner", StartupTimeline.MODEL)) {
+				Thread.sleep(2);
+			}
+			try (StartupTimeline.Span second = StartupTimeline.begin("test second", StartupTimeline.RENDERER)) {
+				Thread.sleep(2);
+			}
+		}
+		StartupTimeline.complete();
+		assertFalse(StartupTimeline.isEnabled());
+
+		Map<String, Object> trace = readTrace();
+		Map<String, Map<String, Object>> events = new LinkedHashMap<>();
+		for (Object event : (List<?>) trace.get("traceEvents")) {
+			Map<String, Object> map = asMap(event);
+			String name = (String) map.get("name");
+			if (name != null && (name.startsWith("test ") || name.equals("Startup complete"))) {
+				events.put(name, map);
+			}
+		}
+		assertEquals(List.of("test inner", "test second", "test outer", "Startup complete"),
+				new ArrayList<>(events.keySet()));
+
+		Map<String, Object> outer = events.get("test outer");
+		Map<String, Object> inner = events.get("test inner");
+		Map<String, Object> second = events.get("test second");
+		Map<String, Object> complete = events.get("Startup complete");
+		assertEquals("X", outer.get("ph"));
+		assertEquals("X", inner.get("ph"));
+		assertEquals("X", second.get("ph"));
+		assertEquals("i", complete.get("ph"));
+		assertEquals(StartupTimeline.WORKBENCH, outer.get("cat"));
+		assertEquals(StartupTimeline.MODEL, inner.get("cat"));
+		assertEquals("a \"value\"\n", asMap(outer.get("args")).get("quoted"));
+
+		// the spans begin one after the other and nest, the microseconds are
+		// truncated
+		assertTrue(getLong(outer, "ts") <= getLong(inner, "ts"));
+		assertTrue(getLong(inner, "ts") + getLong(inner, "dur") <= getLong(second, "ts"));
+		assertTrue(getLong(second, "ts") + getLong(second, "dur") <= getLong(outer, "ts") + getLong(outer, "dur") + 1);
+		assertTrue(getLong(outer, "ts") + getLong(outer, "dur") <= getLong(complete, "ts"));
+		assertTrue(getLong(inner, "dur") >= 2000);
+	}
+
+	@Test
+	public void testCompleteOnce() throws Exception {
+		StartupTimeline.begin("test span", StartupTimeline.THEME).close();
+		StartupTimeline.complete();
+		assertTrue(file.delete());
+
+		// spans after the completion are not recorded and the file is not written
+		// again
+		StartupTimeline.begin("test late", StartupTimeline.THEME).close();
+		StartupTimeline.complete();
+		assertFalse(file.exists());
+	}
+
+	private static void setDebugOption(boolean enabled, String path) throws Exception {
+		Method method = StartupTimeline.class.getDeclaredMethod("setDebugOption", boolean.class, String.class);
+		method.setAccessible(true);
+		method.invoke(null, Boolean.valueOf(enabled), path);
+	}
+
+	private Map<String, Object> readTrace() throws IOException {
+		assertTrue(file.exists());
+		String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+		JsonParser parser = new JsonParser(json);
+		Map<String, Object> trace = asMap(parser.parseValue());
+		parser.skipWhitespace();
+		assertEquals("Trailing content", json.length(), parser.index);
+		assertEquals("ms", trace.get("displayTimeUnit"));
+		return trace;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> asMap(Object value) {
+		assertNotNull(value);
+		assertTrue(value instanceof Map);
+		return (Map<String, Object>) value;
+	}
+
+	private static long getLong(Map<String, Object> event, String key) {
+		Object value = event.get(key);
+		assertTrue(key + " is not a number", value instanceof Long);
+		return ((Long) value).longValue();
+	}
+
+	/**
+	 * Parses the JSON written by the timeline, failing on malformed input.
+	 */
+	private static final class JsonParser {
+		private final String json;
+		int index;
+
+		JsonParser(String json) {
+			this.json = json;
+		}
+
+		Object parseValue() {
+			skipWhitespace();
+			char c = peek();
+			switch (c) {
+			case '{':
+				return parseObject();
+			case '[':
+				return parseArray();
+			case '"':
+				return parseString();
+			case 'n':
+				expect("null");
+				return null;
+			case 't':
+				expect("true");
+				return Boolean.TRUE;
+			case 'f':
+				expect("false");
+				return Boolean.FALSE;
+			default:
+				return parseNumber();
+			}
+		}
+
+		private Map<String, Object> parseObject() {
+			Map<String, Object> object = new LinkedHashMap<>();
+			expect("{");
+			skipWhitespace();
+			if (peek() == '}') {
+				index++;
+				return object;
+			}
+			do {
+				skipWhitespace();
+				String key = parseString();
+				skipWhitespace();
+				expect(":");
+				object.put(key, parseValue());
+				skipWhitespace();
+			} while (next() == ',');
+			index--;
+			expect("}");
+			return object;
+		}
+
+		private List<Object> parseArray() {
+			List<Object> array = new ArrayList<>();
+			expect("[");
+			skipWhitespace();
+			if (peek() == ']') {
+				index++;
+				return array;
+			}
+			do {
+				array.add(parseValue());
+				skipWhitespace();
+			} while (next() == ',');
+			index--;
+			expect("]");
+			return array;
+		}
+
+		private String parseString() {
+			expect("\"");
+			StringBuilder value = new StringBuilder();
+			char c;
+			while ((c = next()) != '"') {
+				if (c == '\\') {
+					c = next();
+					switch (c) {
+					case 'n':
+						value.append('\n');
+						break;
+					case 'r':
+						value.append('\r');
+						break;
+					case 't':
+						value.append('\t');
+						break;
+					case 'u':
+						value.append((char) Integer.parseInt(json.substring(index, index + 4), 16));
+						index += 4;
+						break;
+					default:
+						value.append(c);
+					}
+				} else {
+					assertTrue("Unescaped control character", c >= 0x20);
+					value.append(c);
+				}
+			}
+			return value.toString();
+		}
+
+		private Long parseNumber() {
+			int start = index;
+			if (peek() == '-') {
+				index++;
+			}
+			while (index < json.length() && Character.isDigit(json.charAt(index))) {
+				index++;
+			}
+			assertTrue("Number expected at " + start, index > start);
+			return Long.valueOf(json.substring(start, index));
+		}
+
+		void skipWhitespace() {
+			while (index < json.length() && Character.isWhitespace(json.charAt(index))) {
+				index++;
+			}
+		}
+
+		private void expect(String token) {
+			assertTrue(token + " expected at " + index, json.startsWith(token, index));
+			index += token.length();
+		}
+
+		private char peek() {
+			assertTrue("Unexpected end", index < json.length());
+			return json.charAt(index);
+		}
+
+		private char next() {
+			char c = peek();
+			index++;
+			return c;
+		}
+	}
+}
@@ -25,6 +25,8 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.FileLocator;
@@ -33,6 +35,8 @@ import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.ImageFileNameProvider;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.FrameworkUtil;
 
@@ -255,4 +259,36 @@ public class FileImageDescriptorTest extends TestCase {
 		assertEquals(imageDataOrig200.height, imageDataURL200.height);
 	}
 
+	public void testGetImageDataAsync() throws Exception {
+		ImageDescriptor descriptor = ImageDescriptor.createFromFile(FileImageDescriptorTest.class,
+				"/icons/imagetests/zoomIn.png");
+		ImageData expected = descriptor.getImageData(100);
+		ImageData data = descriptor.getImageDataAsync(100).get(10, TimeUnit.SECONDS);
+		assertNotNull(data);
+		assertNotSame("Each caller must get its own image data", data,
+				descriptor.getImageDataAsync(100).get(10, TimeUnit.SECONDS));
+		assertEquals(expected.width, data.width);
+		assertEquals(expected.height, data.height);
+	}
+
+	/**
+	 * Descriptors which do not decode in the background get their image data in
+	 * the calling thread.
+	 */
+	public void testGetImageDataAsyncInCallingThread() {
+		ImageData imageData = new ImageData(1, 1, 1, new PaletteData(new RGB[] { new RGB(0, 0, 0) }));
+		Thread[] callingThread = new Thread[1];
+		ImageDescriptor descriptor = new ImageDescriptor() {
+			@Override
+			public ImageData getImageData(int zoom) {
+				callingThread[0] = Thread.currentThread();
+				return imageData;
+			}
+		};
+		CompletableFuture<ImageData> future = descriptor.getImageDataAsync(100);
+		assertTrue(future.isDone());
+		assertSame(Thread.currentThread(), callingThread[0]);
+		assertSame(imageData, future.join());
+	}
+
 }
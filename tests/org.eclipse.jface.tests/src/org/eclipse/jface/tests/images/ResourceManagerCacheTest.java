@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.images;
+
+import static org.junit.Assert.assertThrows;
+
+import org.eclipse.jface.resource.DeviceResourceManager;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.resource.LocalResourceManager;
+import org.eclipse.jface.resource.ResourceCacheStatistics;
+import org.eclipse.jface.resource.ResourceLocator;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the cache budget of {@link LocalResourceManager}.
+ */
+public class ResourceManagerCacheTest extends TestCase {
+
+	private DeviceResourceManager globalResourceManager;
+
+	private LocalResourceManager manager;
+
+	private static ImageDescriptor getImage(String path) {
+		return ResourceLocator.imageDescriptorFromBundle("org.eclipse.jface.tests", path).orElse(null);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		globalResourceManager = new DeviceResourceManager(Display.getCurrent());
+		manager = new LocalResourceManager(globalResourceManager);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		manager.dispose();
+		globalResourceManager.dispose();
+	}
+
+	public void testNoCacheByDefault() {
+		ImageDescriptor descriptor = getImage("icons/anything.gif");
+		Image image = manager.create(descriptor);
+		manager.destroy(descriptor);
+
+		assertTrue(image.isDisposed());
+		ResourceCacheStatistics statistics = manager.getCacheStatistics();
+		assertEquals(0, statistics.getAllocatedCount());
+		assertEquals(1, statistics.getMisses());
+		assertEquals(0, statistics.getHits());
+	}
+
+	public void testUnreferencedImageIsReused() {
+		manager.setCacheBudget(1024 * 1024);
+		ImageDescriptor descriptor = getImage("icons/anything.gif");
+		Image image = manager.create(descriptor);
+		manager.destroy(descriptor);
+
+		assertFalse(image.isDisposed());
+		ResourceCacheStatistics statistics = manager.getCacheStatistics();
+		assertEquals(1, statistics.getAllocatedCount());
+		assertEquals(1, statistics.getCachedCount());
+		assertTrue(statistics.getCachedBytes() > 0);
+		assertNull(manager.find(descriptor));
+
+		assertSame(image, manager.create(getImage("icons/anything.gif")));
+		statistics = manager.getCacheStatistics();
+		assertEquals(1, statistics.getHits());
+		assertEquals(1, statistics.getMisses());
+		assertEquals(0, statistics.getCachedCount());
+		assertEquals(0, statistics.getCachedBytes());
+		manager.destroy(descriptor);
+	}
+
+	public void testLeastRecentlyUsedIsEvicted() {
+		ImageDescriptor first = getImage("icons/anything.gif");
+		ImageDescriptor second = getImage("icons/binary_co.gif");
+		Image firstImage = manager.create(first);
+		Image secondImage = manager.create(second);
+		// room for the second image only
+		Rectangle bounds = secondImage.getBounds();
+		manager.setCacheBudget(4L * bounds.width * bounds.height);
+		manager.destroy(first);
+		manager.destroy(second);
+
+		assertTrue(firstImage.isDisposed());
+		assertFalse(secondImage.isDisposed());
+		ResourceCacheStatistics statistics = manager.getCacheStatistics();
+		assertEquals(1, statistics.getEvictions());
+		assertEquals(1, statistics.getAllocatedCount());
+
+		// a recreated image comes from the descriptor again
+		Image recreated = manager.create(first);
+		assertNotSame(firstImage, recreated);
+		assertFalse(recreated.isDisposed());
+		manager.destroy(first);
+	}
+
+	public void testDisablingCacheReleasesImages() {
+		manager.setCacheBudget(1024 * 1024);
+		ImageDescriptor descriptor = getImage("icons/anything.gif");
+		Image image = manager.create(descriptor);
+		manager.destroy(descriptor);
+		manager.setCacheBudget(0);
+
+		assertTrue(image.isDisposed());
+		assertEquals(0, manager.getCacheStatistics().getAllocatedCount());
+	}
+
+	public void testDisposeReleasesCachedImages() {
+		manager.setCacheBudget(1024 * 1024);
+		ImageDescriptor descriptor = getImage("icons/anything.gif");
+		Image image = manager.create(descriptor);
+		manager.destroy(descriptor);
+		manager.dispose();
+
+		assertTrue(image.isDisposed());
+	}
+
+	public void testNegativeBudget() {
+		assertThrows(IllegalArgumentException.class, () -> manager.setCacheBudget(-1));
+	}
+}
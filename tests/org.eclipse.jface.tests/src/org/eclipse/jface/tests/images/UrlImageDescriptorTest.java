@@ -15,9 +15,11 @@
  ******************************************************************************/
 package org.eclipse.jface.tests.images;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertNotEquals;
 
 import java.net.URL;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.IPath;
@@ -46,6 +48,34 @@ public class UrlImageDescriptorTest extends TestCase {
 		image2.dispose();
 	}
 
+	public void testGetImageDataAsync() throws Exception {
+		ImageDescriptor descriptor = ImageDescriptor
+				.createFromURL(FileImageDescriptorTest.class.getResource("/icons/imagetests/zoomIn.png"));
+		ImageData expected = descriptor.getImageData(100);
+		ImageData first = descriptor.getImageDataAsync(100).get(10, TimeUnit.SECONDS);
+		ImageData second = descriptor.getImageDataAsync(100).get(10, TimeUnit.SECONDS);
+		assertNotNull(first);
+		assertNotSame("Each caller must get its own image data", first, second);
+		assertEquals(expected.width, first.width);
+		assertEquals(expected.height, first.height);
+		assertArrayEquals(expected.data, first.data);
+
+		ImageData zoomed = descriptor.getImageDataAsync(200).get(10, TimeUnit.SECONDS);
+		assertEquals(expected.width * 2, zoomed.width);
+
+		// the image is created from the data decoded in the background
+		Image image = descriptor.createImage();
+		assertNotNull(image);
+		assertEquals(expected.width, image.getBounds().width);
+		image.dispose();
+	}
+
+	public void testGetImageDataAsyncMissingZoom() throws Exception {
+		ImageDescriptor descriptor = ImageDescriptor
+				.createFromURL(FileImageDescriptorTest.class.getResource("/icons/imagetests/anything.gif"));
+		assertNull(descriptor.getImageDataAsync(250).get(10, TimeUnit.SECONDS));
+	}
+
 	public void testGetxName() {
 		ImageDescriptor descriptor = ImageDescriptor
 				.createFromURL(FileImageDescriptorTest.class.getResource("/icons/imagetests/zoomIn.png"));
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.deferred.DeferredTreeContentProvider;
+import org.eclipse.jface.viewers.deferred.IConcurrentModel;
+import org.eclipse.jface.viewers.deferred.IConcurrentTreeModel;
+import org.eclipse.jface.viewers.deferred.SetModel;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests and stress benchmarks for {@link DeferredTreeContentProvider}.
+ */
+public class DeferredTreeContentProviderTest extends TestCase {
+
+	private static final long TIMEOUT = 30000;
+
+	private Shell shell;
+
+	private TreeViewer viewer;
+
+	/**
+	 * Tree model with <code>rootCount</code> root elements, each of which has
+	 * <code>childCount</code> children. The elements are strings, children are
+	 * named after their parent.
+	 */
+	private static class TestTreeModel implements IConcurrentTreeModel {
+
+		final SetModel roots = new SetModel();
+
+		private final int childCount;
+
+		TestTreeModel(int rootCount, int childCount) {
+			this.childCount = childCount;
+			Object[] elements = new Object[rootCount];
+			for (int i = 0; i < rootCount; i++) {
+				// reverse the natural order so that sorting is observable
+				elements[i] = String.format("r%07d", Integer.valueOf(rootCount - i - 1)); //$NON-NLS-1$
+			}
+			roots.set(elements);
+		}
+
+		@Override
+		public IConcurrentModel getChildren(Object parent) {
+			if (parent == this) {
+				return roots;
+			}
+			SetModel children = new SetModel();
+			Object[] elements = new Object[childCount];
+			for (int i = 0; i < childCount; i++) {
+				elements[i] = parent + "/c" + (childCount - i - 1); //$NON-NLS-1$
+			}
+			children.set(elements);
+			return children;
+		}
+
+		@Override
+		public boolean hasChildren(Object element) {
+			return childCount > 0 && ((String) element).indexOf('/') < 0;
+		}
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		shell = new Shell();
+		shell.setSize(400, 400);
+		shell.setLayout(new FillLayout());
+		viewer = new TreeViewer(shell, SWT.VIRTUAL);
+		viewer.setUseHashlookup(true);
+		viewer.setContentProvider(new DeferredTreeContentProvider(new TestComparator()));
+		shell.open();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		shell.dispose();
+		shell = null;
+	}
+
+	private void waitForRootItems(int count) {
+		Tree tree = viewer.getTree();
+		assertTrue("Root items not set", DisplayHelper.waitForCondition(shell.getDisplay(), TIMEOUT, //$NON-NLS-1$
+				() -> tree.getItemCount() == count && tree.getItem(0).getData() != null));
+	}
+
+	public void testRootElementsSorted() {
+		TestTreeModel model = new TestTreeModel(100, 0);
+		viewer.setInput(model);
+		waitForRootItems(100);
+
+		Tree tree = viewer.getTree();
+		assertEquals("r0000000", tree.getItem(0).getData()); //$NON-NLS-1$
+		assertEquals(model, ((DeferredTreeContentProvider) viewer.getContentProvider()).getParent("r0000000")); //$NON-NLS-1$
+	}
+
+	public void testExpandStreamsChildren() {
+		TestTreeModel model = new TestTreeModel(10, 5);
+		viewer.setInput(model);
+		waitForRootItems(10);
+
+		TreeItem first = viewer.getTree().getItem(0);
+		assertEquals(1, first.getItemCount());
+		Object element = first.getData();
+		viewer.expandToLevel(element, 1);
+		assertTrue("Children not set", DisplayHelper.waitForCondition(shell.getDisplay(), TIMEOUT, //$NON-NLS-1$
+				() -> first.getItemCount() == 5 && first.getItem(0).getData() != null));
+		assertEquals(element + "/c0", first.getItem(0).getData()); //$NON-NLS-1$
+		assertEquals(element, ((DeferredTreeContentProvider) viewer.getContentProvider()).getParent(element + "/c0")); //$NON-NLS-1$
+	}
+
+	public void testLimit() {
+		DeferredTreeContentProvider provider = (DeferredTreeContentProvider) viewer.getContentProvider();
+		provider.setLimit(50);
+		viewer.setInput(new TestTreeModel(1000, 0));
+		waitForRootItems(50);
+		assertEquals("r0000000", viewer.getTree().getItem(0).getData()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Stress benchmark: many nodes are expanded and collapsed again through the
+	 * viewer, which must release their children once the next node is expanded.
+	 */
+	public void testExpandCollapseManyNodes() {
+		TestTreeModel model = new TestTreeModel(200, 1000);
+		viewer.setInput(model);
+		waitForRootItems(200);
+
+		DeferredTreeContentProvider provider = (DeferredTreeContentProvider) viewer.getContentProvider();
+		Tree tree = viewer.getTree();
+		Object collapsed = null;
+		for (int i = 0; i < 20; i++) {
+			TreeItem item = tree.getItem(i);
+			DisplayHelper.waitForCondition(shell.getDisplay(), TIMEOUT, () -> item.getData() != null);
+			Object element = item.getData();
+			tree.setTopItem(item);
+			viewer.expandToLevel(element, 1);
+			assertTrue("Children not set", DisplayHelper.waitForCondition(shell.getDisplay(), TIMEOUT, //$NON-NLS-1$
+					() -> item.getItemCount() == 1000 && element.equals(provider.getParent(element + "/c0")))); //$NON-NLS-1$
+			if (collapsed != null) {
+				Object previous = collapsed;
+				assertTrue("Children not released", DisplayHelper.waitForCondition(shell.getDisplay(), TIMEOUT, //$NON-NLS-1$
+						() -> provider.getParent(previous + "/c0") == null)); //$NON-NLS-1$
+			}
+			viewer.collapseToLevel(element, 1);
+			collapsed = element;
+		}
+	}
+
+	/**
+	 * Collapsing a node by the user releases its children right away.
+	 */
+	public void testCollapseByUser() {
+		TestTreeModel model = new TestTreeModel(10, 100);
+		viewer.setInput(model);
+		waitForRootItems(10);
+
+		DeferredTreeContentProvider provider = (DeferredTreeContentProvider) viewer.getContentProvider();
+		TreeItem item = viewer.getTree().getItem(0);
+		Object element = item.getData();
+		viewer.expandToLevel(element, 1);
+		assertTrue("Children not set", DisplayHelper.waitForCondition(shell.getDisplay(), TIMEOUT, //$NON-NLS-1$
+				() -> item.getItemCount() == 100 && element.equals(provider.getParent(element + "/c0")))); //$NON-NLS-1$
+
+		item.setExpanded(false);
+		Event event = new Event();
+		event.item = item;
+		viewer.getTree().notifyListeners(SWT.Collapse, event);
+		assertNull(provider.getParent(element + "/c0")); //$NON-NLS-1$
+		assertEquals(model, provider.getParent(element));
+	}
+
+	/**
+	 * The parents of the elements removed from the model are forgotten.
+	 */
+	public void testRemovedElementsForgotten() {
+		TestTreeModel model = new TestTreeModel(100, 0);
+		viewer.setInput(model);
+		waitForRootItems(100);
+
+		DeferredTreeContentProvider provider = (DeferredTreeContentProvider) viewer.getContentProvider();
+		assertEquals(model, provider.getParent("r0000000")); //$NON-NLS-1$
+		model.roots.set(new Object[] { "r0000099" }); //$NON-NLS-1$
+		waitForRootItems(1);
+		assertTrue("Parent not forgotten", DisplayHelper.waitForCondition(shell.getDisplay(), TIMEOUT, //$NON-NLS-1$
+				() -> provider.getParent("r0000000") == null)); //$NON-NLS-1$
+		assertEquals(model, provider.getParent("r0000099")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Collapsing all nodes through the viewer releases the children of every
+	 * expanded node once another node is expanded.
+	 */
+	public void testCollapseAll() {
+		TestTreeModel model = new TestTreeModel(10, 100);
+		viewer.setInput(model);
+		waitForRootItems(10);
+
+		DeferredTreeContentProvider provider = (DeferredTreeContentProvider) viewer.getContentProvider();
+		Tree tree = viewer.getTree();
+		Object[] elements = new Object[3];
+		for (int i = 0; i < elements.length; i++) {
+			TreeItem item = tree.getItem(i);
+			DisplayHelper.waitForCondition(shell.getDisplay(), TIMEOUT, () -> item.getData() != null);
+			elements[i] = item.getData();
+			viewer.expandToLevel(elements[i], 1);
+			assertTrue("Children not set", DisplayHelper.waitForCondition(shell.getDisplay(), TIMEOUT, //$NON-NLS-1$
+					() -> item.getItemCount() == 100));
+		}
+
+		viewer.collapseAll();
+		TreeItem last = tree.getItem(elements.length);
+		DisplayHelper.waitForCondition(shell.getDisplay(), TIMEOUT, () -> last.getData() != null);
+		viewer.expandToLevel(last.getData(), 1);
+		assertTrue("Children not released", DisplayHelper.waitForCondition(shell.getDisplay(), TIMEOUT, () -> { //$NON-NLS-1$
+			for (Object element : elements) {
+				if (provider.getParent(element + "/c0") != null) { //$NON-NLS-1$
+					return false;
+				}
+			}
+			return true;
+		}));
+		assertEquals(model, provider.getParent(elements[0]));
+	}
+}
@@ -14,8 +14,10 @@
 
 package org.eclipse.jface.tests.viewers;
 
+import org.eclipse.jface.viewers.ArrayContentProvider;
 import org.eclipse.jface.viewers.ColumnLayoutData;
 import org.eclipse.jface.viewers.ColumnWeightData;
+import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.TableLayout;
 import org.eclipse.jface.viewers.TableViewer;
@@ -90,8 +92,56 @@ public class TableViewerComparatorTest extends ViewerComparatorTest {
 		assertSortedResult(TEAM1_SORTED_WITH_INSERT);
 	}
 
+	public void testViewerComparatorAddElements() {
+		fViewer.setComparator(new ViewerComparator());
+		getTableViewer().add(new Object[] { new TeamMember("Zoe", team1), new TeamMember("Duong", team1),
+				new TeamMember("Aaron", team1), new TeamMember("Lisa", team1) });
+		assertSortedResult(new String[] { "Aaron", "Andrea", "Boris", "Duong", "Eric", "Karice", "Kim", "Lisa",
+				"Michael", "Mike", "Paul", "Susan", "Tod", "Zoe" });
+	}
+
+	public void testAddElementsWithoutComparator() {
+		getTableViewer().add(new Object[] { new TeamMember("Zoe", team1), new TeamMember("Duong", team1) });
+		String[] expected = new String[TEAM1.length + 2];
+		System.arraycopy(TEAM1, 0, expected, 0, TEAM1.length);
+		expected[TEAM1.length] = "Zoe";
+		expected[TEAM1.length + 1] = "Duong";
+		assertSortedResult(expected);
+	}
+
+	public void testAddElementsWithOverriddenIndexForElement() {
+		TableViewer viewer = new TableViewer(fViewer.getControl().getParent()) {
+			@Override
+			protected int indexForElement(Object element) {
+				return 0;
+			}
+		};
+		try {
+			viewer.setContentProvider(ArrayContentProvider.getInstance());
+			viewer.setLabelProvider(new LabelProvider());
+			viewer.setComparator(new ViewerComparator());
+			viewer.setInput(new Object[0]);
+			viewer.add(new Object[] { "b", "a", "c" });
+			// each element is inserted where the subclass says
+			TableItem[] items = viewer.getTable().getItems();
+			assertEquals(3, items.length);
+			assertEquals("c", items[0].getText());
+			assertEquals("a", items[1].getText());
+			assertEquals("b", items[2].getText());
+		} finally {
+			viewer.getControl().dispose();
+		}
+	}
+
+	public void testViewerComparatorRemoveElements() {
+		fViewer.setComparator(new ViewerComparator());
+		getTableViewer().remove(new Object[] { team1.members[0], team1.members[3], team1.members[8] });
+		assertSortedResult(new String[] { "Andrea", "Eric", "Kim", "Michael", "Mike", "Susan", "Tod" });
+	}
+
 	private void assertSortedResult(String[] expected) {
 		TableItem[] items = getTableViewer().getTable().getItems();
+		assertEquals("Item count not expected", expected.length, items.length);
 		for (int i = 0; i < items.length; i++) {
 			TableItem item = items[i];
 			assertEquals("Item not expected.  actual=" + item.getText() + " expected=", expected[i], item.getText());
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.junit.Test;
+
+/**
+ * Checks that {@link ViewerComparator#sort(Viewer, Object[])} returns the same
+ * order as sorting with {@link ViewerComparator#compare(Viewer, Object, Object)}.
+ */
+public class ViewerComparatorSortTest {
+
+	/**
+	 * Element whose label is not unique, so that stability is observable.
+	 */
+	private static class Item {
+		final String label;
+
+		Item(String label) {
+			this.label = label;
+		}
+
+		@Override
+		public String toString() {
+			return label;
+		}
+	}
+
+	private static class CategoryComparator extends ViewerComparator {
+		CategoryComparator(Collator collator) {
+			super(collator);
+		}
+
+		@Override
+		public int category(Object element) {
+			return element.toString().length() % 3;
+		}
+	}
+
+	private static Object[] createItems(int count) {
+		Random random = new Random(4711);
+		Object[] items = new Object[count];
+		for (int i = 0; i < count; i++) {
+			StringBuilder label = new StringBuilder();
+			int length = 1 + random.nextInt(4);
+			for (int j = 0; j < length; j++) {
+				char c = (char) ('a' + random.nextInt(4));
+				label.append(random.nextBoolean() ? Character.toUpperCase(c) : c);
+			}
+			items[i] = new Item(label.toString());
+		}
+		return items;
+	}
+
+	private static void assertSortedLikeCompare(ViewerComparator comparator, int count) {
+		Object[] expected = createItems(count);
+		Object[] actual = expected.clone();
+		Arrays.sort(expected, (a, b) -> comparator.compare(null, a, b));
+		comparator.sort(null, actual);
+		assertArrayEquals(expected, actual);
+	}
+
+	@Test
+	public void testSortDefaultComparator() {
+		assertSortedLikeCompare(new ViewerComparator(), 1000);
+	}
+
+	@Test
+	public void testSortCollator() {
+		assertSortedLikeCompare(new ViewerComparator(Collator.getInstance()), 1000);
+	}
+
+	@Test
+	public void testSortCollatorParallel() {
+		assertSortedLikeCompare(new ViewerComparator(Collator.getInstance()), 50000);
+	}
+
+	@Test
+	public void testSortCategoriesParallel() {
+		assertSortedLikeCompare(new CategoryComparator(Collator.getInstance()), 50000);
+	}
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link LatencyHistogram} class.
+ */
+public class LatencyHistogramTests {
+
+	@Test
+	public void testBuckets() throws Exception {
+		int previousBucket = -1;
+		for (long value = 0; value < 1 << 16; value++) {
+			int bucket = LatencyHistogram.getBucket(value);
+			// Buckets are contiguous and cover all values.
+			assertTrue(bucket == previousBucket || bucket == previousBucket + 1);
+			long highestValue = LatencyHistogram.getHighestValue(bucket);
+			assertTrue(value <= highestValue);
+			assertTrue(highestValue - value <= value / LatencyHistogram.SUB_BUCKET_COUNT);
+			previousBucket = bucket;
+		}
+		long max = LatencyHistogram.MAX_VALUE;
+		assertEquals(max, LatencyHistogram.getHighestValue(LatencyHistogram.getBucket(max)));
+	}
+
+	@Test
+	public void testPercentiles() throws Exception {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getValueAtPercentile(50));
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i * 1000);
+		}
+		assertEquals(100, histogram.getCount());
+		assertEquals(100_000, histogram.getMax());
+		assertEquals(50_500, histogram.getMean());
+		assertEquals(50_000, histogram.getValueAtPercentile(50), 50_000 / LatencyHistogram.SUB_BUCKET_COUNT);
+		assertEquals(99_000, histogram.getValueAtPercentile(99), 99_000 / LatencyHistogram.SUB_BUCKET_COUNT);
+		assertEquals(100_000, histogram.getValueAtPercentile(100));
+
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMax());
+	}
+
+	@Test
+	public void testEventTypes() throws Exception {
+		EventLatencyHistograms histograms = new EventLatencyHistograms();
+		histograms.record(13, 2_000_000);
+		histograms.record(13, 4_000_000);
+		histograms.record(0, 1_000_000);
+		histograms.record(1000, 1_000_000);
+
+		assertEquals(3, histograms.getEntries().size());
+		EventLatencyHistograms.Entry first = histograms.getEntries().get(0);
+		assertEquals(13, first.getEventType());
+		assertEquals("Selection", first.getEventTypeName());
+		assertEquals(2, first.getHistogram().getCount());
+		assertEquals(4000, first.getHistogram().getMax());
+		assertTrue(histograms.toString().startsWith("Selection: count=2 p50="));
+
+		histograms.reset();
+		assertEquals(0, histograms.getEntries().size());
+	}
+}
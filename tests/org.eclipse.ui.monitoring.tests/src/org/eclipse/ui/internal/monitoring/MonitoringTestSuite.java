@@ -26,6 +26,8 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 	EventLoopMonitorThreadTests.class,
 	FilterHandlerTests.class,
+	StackProfileTests.class,
+	LatencyHistogramTests.class,
 	DefaultLoggerTests.class})
 public class MonitoringTestSuite {
 }
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link StackProfile} class.
+ */
+public class StackProfileTests {
+	private static StackTraceElement frame(String className, String methodName, int line) {
+		return new StackTraceElement(className, methodName, "Source.java", line);
+	}
+
+	private static StackTraceElement[] stack(StackTraceElement... innermostFirst) {
+		return innermostFirst;
+	}
+
+	@Test
+	public void testAggregation() throws Exception {
+		StackProfile profile = new StackProfile(null, 100);
+		StackTraceElement main = frame("a.Main", "main", 1);
+		StackTraceElement run = frame("a.Loop", "run", 2);
+		profile.addSample(stack(frame("a.Work", "compute", 10), run, main), 110);
+		profile.addSample(stack(frame("a.Work", "compute", 20), run, main), 120);
+		profile.addSample(stack(run, main), 130);
+		profile.addIdleSample(140);
+
+		assertEquals(3, profile.getBusySampleCount());
+		assertEquals(1, profile.getIdleSampleCount());
+		assertEquals(3, profile.getDistinctStackCount());
+		assertEquals(100, profile.getStartTime());
+		assertEquals(140, profile.getEndTime());
+		// Samples in different lines of a method are counted together.
+		assertEquals(2, profile.getCount("a.Main.main;a.Loop.run;a.Work.compute"));
+		assertEquals(1, profile.getCount("a.Main.main;a.Loop.run"));
+		assertEquals(0, profile.getCount("a.Main.main"));
+		assertEquals(1, profile.getCount(StackProfile.IDLE_FRAME));
+
+		StringBuilder folded = new StringBuilder();
+		profile.writeFolded(folded);
+		assertEquals("a.Main.main;a.Loop.run 1\n"
+				+ "a.Main.main;a.Loop.run;a.Work.compute 2\n"
+				+ StackProfile.IDLE_FRAME + " 1\n", folded.toString());
+	}
+
+	@Test
+	public void testFilter() throws Exception {
+		StackProfile profile =
+				new StackProfile(new FilterHandler("a.Filtered.*,a.Other.method"), 0);
+		StackTraceElement main = frame("a.Main", "main", 1);
+		profile.addSample(stack(frame("a.Work", "compute", 1), frame("a.Filtered", "call", 1), main), 10);
+		profile.addSample(stack(frame("a.Other", "method", 1), main), 20);
+		profile.addSample(stack(frame("a.Work", "compute", 1), main), 30);
+
+		assertEquals(1, profile.getBusySampleCount());
+		assertEquals(2, profile.getFilteredSampleCount());
+		assertEquals(1, profile.getCount("a.Main.main;a.Work.compute"));
+		assertEquals(30, profile.getEndTime());
+	}
+
+	@Test
+	public void testEmpty() throws Exception {
+		StackProfile profile = new StackProfile(null, 0);
+		assertTrue(profile.isEmpty());
+		StringBuilder folded = new StringBuilder();
+		profile.writeFolded(folded);
+		assertEquals("", folded.toString());
+	}
+}
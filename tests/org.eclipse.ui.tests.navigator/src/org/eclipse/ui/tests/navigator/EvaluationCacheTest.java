@@ -127,6 +127,44 @@ public class EvaluationCacheTest extends NavigatorTestBase {
 		Assert.assertNull(cache.getDescriptors(key, true));
 	}
 
+	@Test
+	public void testLeastRecentlyUsedEvicted() {
+		Object first = new Object();
+		Object second = new Object();
+		NavigatorContentDescriptor[] value = new NavigatorContentDescriptor[0];
+		cache.setDescriptors(first, value, false);
+		cache.setDescriptors(second, value, false);
+		for (int i = 0; i < EvaluationCache.MAX_ELEMENTS - 2; i++) {
+			cache.setDescriptors(new Object(), value, false);
+		}
+		// Using the first key makes the second one the eldest.
+		Assert.assertSame(value, cache.getDescriptors(first, false));
+		cache.setDescriptors(new Object(), value, false);
+		Assert.assertSame(value, cache.getDescriptors(first, false));
+		Assert.assertNull(cache.getDescriptors(second, false));
+	}
+
+	private void doTypeAddGet(boolean toComputeOverrides) {
+		NavigatorContentDescriptor[] value = new NavigatorContentDescriptor[0];
+		cache.setDescriptorsForType(String.class, value, toComputeOverrides);
+		Assert.assertSame(value, cache.getDescriptorsForType(String.class, toComputeOverrides));
+		// Neither the other "half" of the cache nor the elements have this.
+		Assert.assertNull(cache.getDescriptorsForType(String.class, !toComputeOverrides));
+		Assert.assertNull(cache.getDescriptors("Hi", toComputeOverrides));
+		cache.onVisibilityOrActivationChange();
+		Assert.assertNull(cache.getDescriptorsForType(String.class, toComputeOverrides));
+	}
+
+	@Test
+	public void testTypeAddGetNotOverrides() {
+		doTypeAddGet(false);
+	}
+
+	@Test
+	public void testTypeAddGetOverrides() {
+		doTypeAddGet(true);
+	}
+
 	// TODO Some way to reliably test the clearing of entries. Possibly using
 	// java.lang.ref.Reference#enqueue().
 }
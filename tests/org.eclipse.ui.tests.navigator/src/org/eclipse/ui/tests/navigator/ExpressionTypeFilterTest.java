@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.ui.tests.navigator;
+
+import java.io.StringReader;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.eclipse.core.expressions.EvaluationResult;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.ui.internal.navigator.CustomAndExpression;
+import org.eclipse.ui.internal.navigator.NavigatorPlugin;
+import org.eclipse.ui.internal.navigator.extensions.ExpressionTypeFilter;
+import org.junit.Assert;
+import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+
+/**
+ * Tests that the {@link ExpressionTypeFilter} of an expression mixing type
+ * tests with tests depending on the element only answers for the types it
+ * can, and that its answers are the ones of the full evaluation.
+ */
+public class ExpressionTypeFilterTest {
+
+	private static final String IRESOURCE = "org.eclipse.core.resources.IResource";
+	private static final String ICONTAINER = "org.eclipse.core.resources.IContainer";
+	private static final String IFILE = "org.eclipse.core.resources.IFile";
+	private static final String IFOLDER = "org.eclipse.core.resources.IFolder";
+	private static final String IPROJECT = "org.eclipse.core.resources.IProject";
+
+	private static final Boolean T = Boolean.TRUE;
+	private static final Boolean F = Boolean.FALSE;
+	private static final Boolean EVAL = null;
+
+	/** A text file, a java file, a folder, a project and a string. */
+	private final Object[] elements;
+
+	public ExpressionTypeFilterTest() {
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		elements = new Object[] { root.getFile(new Path("/p/a.txt")), root.getFile(new Path("/p/b.java")),
+				root.getFolder(new Path("/p/f")), root.getProject("p"), "element" };
+	}
+
+	@Test
+	public void testTypesOnly() throws Exception {
+		check(or(instanceOf(IFILE), instanceOf(IFOLDER)) + not(instanceOf(IPROJECT)),
+				new Boolean[] { T, T, T, F, F }, true, true, true, false, false);
+		check(not(or(instanceOf(IFILE), not(instanceOf(IRESOURCE)))),
+				new Boolean[] { F, F, T, T, F }, false, false, true, true, false);
+		check("", new Boolean[] { T, T, T, T, T }, true, true, true, true, true);
+	}
+
+	@Test
+	public void testAndWithTest() throws Exception {
+		check(instanceOf(IFILE) + nameTest("*.txt"),
+				new Boolean[] { EVAL, EVAL, F, F, F }, true, false, false, false, false);
+		check(and(instanceOf(IRESOURCE), or(instanceOf(ICONTAINER), nameTest("*.java"))),
+				new Boolean[] { EVAL, EVAL, EVAL, EVAL, F }, false, true, true, true, false);
+	}
+
+	@Test
+	public void testOrWithTest() throws Exception {
+		// a branch depending on the element may make any type match
+		check(or(instanceOf(IFOLDER), and(instanceOf(IFILE), nameTest("*.txt"))),
+				new Boolean[] { EVAL, EVAL, EVAL, EVAL, EVAL }, true, false, true, false, false);
+	}
+
+	@Test
+	public void testNotWithTest() throws Exception {
+		check(not(and(instanceOf(IFILE), nameTest("*.txt"))),
+				new Boolean[] { EVAL, EVAL, EVAL, EVAL, EVAL }, false, true, true, true, true);
+		check(not(instanceOf(IFILE)) + and(instanceOf(IRESOURCE), nameTest("*")),
+				new Boolean[] { F, F, EVAL, EVAL, F }, false, false, true, true, false);
+	}
+
+	@Test
+	public void testAdapt() throws Exception {
+		check(not(instanceOf(IFILE)) + adapt(IRESOURCE, ""),
+				new Boolean[] { F, F, EVAL, EVAL, EVAL }, false, false, true, true, false);
+		check(or(instanceOf(String.class.getName()), instanceOf(IPROJECT)) + not(adapt(IFOLDER, "")),
+				new Boolean[] { F, F, F, EVAL, EVAL }, false, false, false, true, true);
+		// the type tests within adapt test the adapted object
+		check(adapt(IRESOURCE, instanceOf(IFILE)),
+				new Boolean[] { EVAL, EVAL, EVAL, EVAL, EVAL }, true, true, false, false, false);
+		check(or(adapt(IFILE, ""), instanceOf(IPROJECT)),
+				new Boolean[] { EVAL, EVAL, EVAL, EVAL, EVAL }, true, true, false, true, false);
+	}
+
+	/**
+	 * Checks the answers of the filter of the expression for the elements, and
+	 * that they are the results of the full evaluation.
+	 */
+	private void check(String expression, Boolean[] filterResults, boolean... results) throws Exception {
+		IConfigurationElement element = parse("<triggerPoints>" + expression + "</triggerPoints>");
+		ExpressionTypeFilter filter = new ExpressionTypeFilter(element);
+		CustomAndExpression fullExpression = new CustomAndExpression(element);
+		for (int i = 0; i < elements.length; i++) {
+			String message = expression + " for " + elements[i];
+			boolean result = fullExpression.evaluate(NavigatorPlugin.getEvalContext(elements[i])) == EvaluationResult.TRUE;
+			Assert.assertEquals(message, results[i], result);
+			Assert.assertEquals(message, filterResults[i], filter.evaluate(elements[i]));
+			// computed once per type
+			Assert.assertEquals(message, filterResults[i], filter.evaluate(elements[i]));
+		}
+	}
+
+	private static String instanceOf(String type) {
+		return "<instanceof value=\"" + type + "\"/>";
+	}
+
+	private static String nameTest(String pattern) {
+		return "<test property=\"org.eclipse.core.resources.name\" value=\"" + pattern + "\"/>";
+	}
+
+	private static String adapt(String type, String children) {
+		return "<adapt type=\"" + type + "\">" + children + "</adapt>";
+	}
+
+	private static String and(String... children) {
+		return "<and>" + String.join("", children) + "</and>";
+	}
+
+	private static String or(String... children) {
+		return "<or>" + String.join("", children) + "</or>";
+	}
+
+	private static String not(String child) {
+		return "<not>" + child + "</not>";
+	}
+
+	private static IConfigurationElement parse(String xml) throws Exception {
+		Element element = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+				.parse(new InputSource(new StringReader(xml))).getDocumentElement();
+		return toConfigurationElement(element);
+	}
+
+	/**
+	 * Returns a configuration element answering the name, attributes and
+	 * children of an XML element, all the expressions need.
+	 */
+	private static IConfigurationElement toConfigurationElement(Element element) {
+		return (IConfigurationElement) Proxy.newProxyInstance(ExpressionTypeFilterTest.class.getClassLoader(),
+				new Class<?>[] { IConfigurationElement.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "getName":
+						return element.getTagName();
+					case "getAttribute":
+						String name = (String) args[0];
+						return element.hasAttribute(name) ? element.getAttribute(name) : null;
+					case "getChildren":
+						List<IConfigurationElement> children = new ArrayList<>();
+						for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+							if (child instanceof Element && (args == null || args.length == 0
+									|| ((Element) child).getTagName().equals(args[0]))) {
+								children.add(toConfigurationElement((Element) child));
+							}
+						}
+						return children.toArray(new IConfigurationElement[children.size()]);
+					case "isValid":
+						return Boolean.TRUE;
+					case "equals":
+						return Boolean.valueOf(proxy == args[0]);
+					case "hashCode":
+						return Integer.valueOf(System.identityHashCode(proxy));
+					case "toString":
+						return element.getTagName();
+					default:
+						throw new UnsupportedOperationException(method.getName());
+					}
+				});
+	}
+}
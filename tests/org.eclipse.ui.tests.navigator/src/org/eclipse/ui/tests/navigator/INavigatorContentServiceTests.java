@@ -15,22 +15,39 @@
 package org.eclipse.ui.tests.navigator;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.viewers.ILabelProvider;
 import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.ui.internal.navigator.NavigatorContentService;
+import org.eclipse.ui.internal.navigator.NavigatorContentServiceContentProvider;
+import org.eclipse.ui.navigator.CommonViewer;
 import org.eclipse.ui.navigator.INavigatorContentDescriptor;
 import org.eclipse.ui.navigator.INavigatorContentExtension;
 import org.eclipse.ui.navigator.INavigatorContentService;
 import org.eclipse.ui.navigator.NavigatorContentServiceFactory;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
 import org.eclipse.ui.tests.harness.util.EditorTestHelper;
 import org.eclipse.ui.tests.navigator.extension.TestContentProvider;
+import org.eclipse.ui.progress.PendingUpdateAdapter;
+import org.eclipse.ui.tests.navigator.extension.TestSimpleChildrenContentProvider;
+import org.eclipse.ui.tests.navigator.extension.TestSlowChildrenContentProvider;
 import org.junit.Test;
 
 public class INavigatorContentServiceTests extends NavigatorTestBase {
@@ -211,5 +228,102 @@ public class INavigatorContentServiceTests extends NavigatorTestBase {
 
 	}
 
+	@Test
+	public void testParallelChildren() {
+		String[] extensions = new String[] { TEST_SIMPLE_CHILDREN1, TEST_SIMPLE_CHILDREN2, TEST_SIMPLE_CHILDREN3 };
+
+		INavigatorContentService serialService = NavigatorContentServiceFactory.INSTANCE
+				.createContentService(TEST_VIEWER_PROGRAMMATIC);
+		serialService.bindExtensions(extensions, false);
+		serialService.getActivationService().activateExtensions(extensions, true);
+
+		INavigatorContentService parallelService = NavigatorContentServiceFactory.INSTANCE
+				.createContentService(TEST_VIEWER_PARALLEL_CHILDREN);
+		parallelService.bindExtensions(extensions, false);
+		parallelService.getActivationService().activateExtensions(extensions, true);
+
+		try {
+			Object[] serialChildren = serialService.createCommonContentProvider().getChildren(_project);
+			Object[] parallelChildren = parallelService.createCommonContentProvider().getChildren(_project);
+
+			assertEquals("All extensions should contribute children.",
+					extensions.length * TestSimpleChildrenContentProvider.NUM_ITEMS, parallelChildren.length);
+			assertEquals("The children should be in the order of the extensions.",
+					Arrays.toString(serialChildren), Arrays.toString(parallelChildren));
+		} finally {
+			serialService.dispose();
+			parallelService.dispose();
+		}
+	}
+
+	@Test
+	public void testParallelChildrenPendingNode() throws Exception {
+		String[] extensions = new String[] { TEST_SIMPLE_CHILDREN1, TEST_SLOW_CHILDREN };
+		Shell shell = new Shell();
+		CommonViewer viewer = new CommonViewer(TEST_VIEWER_PARALLEL_CHILDREN, shell, SWT.NONE);
+		INavigatorContentService service = viewer.getNavigatorContentService();
+		service.bindExtensions(extensions, false);
+		service.getActivationService().activateExtensions(extensions, true);
+		try {
+			// the children of the slow extension replace the pending node
+			TestSlowChildrenContentProvider._gate = new CountDownLatch(1);
+			viewer.setInput(_project);
+			assertTrue("The pending node should be shown.", getItemNames(viewer).contains(null));
+			assertEquals(TestSimpleChildrenContentProvider.NUM_ITEMS + 1, getItemNames(viewer).size());
+			TestSlowChildrenContentProvider._gate.countDown();
+			waitForCondition("pending node replaced", () -> getItemNames(viewer).contains("slow0"));
+			assertFalse(getItemNames(viewer).contains(null));
+			assertEquals(extensions.length * TestSimpleChildrenContentProvider.NUM_ITEMS,
+					getItemNames(viewer).size());
+
+			// a refresh while the pending node is shown computes the children again
+			TestSlowChildrenContentProvider._gate = new CountDownLatch(1);
+			TestSlowChildrenContentProvider._generation = "old";
+			viewer.refresh();
+			assertTrue(getItemNames(viewer).contains(null));
+			TestSlowChildrenContentProvider._generation = "new";
+			viewer.refresh();
+			assertTrue(getItemNames(viewer).contains(null));
+			TestSlowChildrenContentProvider._gate.countDown();
+			waitForCondition("children refreshed", () -> getItemNames(viewer).contains("new0"));
+			assertFalse(getItemNames(viewer).contains("old0"));
+
+			// changing the input while the pending node is shown drops the request
+			TestSlowChildrenContentProvider._gate = new CountDownLatch(1);
+			TestSlowChildrenContentProvider._generation = "dropped";
+			viewer.refresh();
+			assertTrue(getItemNames(viewer).contains(null));
+			TestSlowChildrenContentProvider._generation = "input";
+			viewer.setInput(_project);
+			TestSlowChildrenContentProvider._gate.countDown();
+			waitForCondition("input children shown", () -> getItemNames(viewer).contains("input0"));
+			Job.getJobManager().join(viewer.getContentProvider(), null);
+			DisplayHelper.sleep(shell.getDisplay(), 100);
+			assertFalse(getItemNames(viewer).contains("dropped0"));
+			assertFalse(getItemNames(viewer).contains(null));
+
+			Field field = NavigatorContentServiceContentProvider.class.getDeclaredField("childrenRequests");
+			field.setAccessible(true);
+			Map<?, ?> requests = (Map<?, ?>) field.get(viewer.getContentProvider());
+			synchronized (requests) {
+				assertTrue("No request should be left.", requests.isEmpty());
+			}
+		} finally {
+			TestSlowChildrenContentProvider.resetTest();
+			shell.dispose();
+		}
+	}
+
+	/**
+	 * @return the names of the top items of the viewer, <code>null</code> for
+	 *         the pending node
+	 */
+	private static List<String> getItemNames(CommonViewer viewer) {
+		List<String> names = new ArrayList<>();
+		for (TreeItem item : viewer.getTree().getItems()) {
+			names.add(item.getData() instanceof PendingUpdateAdapter ? null : String.valueOf(item.getData()));
+		}
+		return names;
+	}
 
 }
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.ui.tests.navigator;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.core.expressions.EvaluationResult;
+import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.ui.internal.navigator.NavigatorPlugin;
+import org.eclipse.ui.internal.navigator.VisibilityAssistant;
+import org.eclipse.ui.internal.navigator.extensions.EvaluationCache;
+import org.eclipse.ui.internal.navigator.extensions.NavigatorContentDescriptor;
+import org.eclipse.ui.internal.navigator.extensions.NavigatorContentDescriptorManager;
+import org.eclipse.ui.navigator.INavigatorContentService;
+import org.eclipse.ui.navigator.NavigatorContentServiceFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that the descriptors the {@link NavigatorContentDescriptorManager}
+ * finds, including the ones cached for the type of the element, are the ones
+ * the full evaluation of their expressions finds.
+ */
+public class NavigatorContentDescriptorManagerTest extends NavigatorTestBase {
+
+	private final NavigatorContentDescriptorManager manager = NavigatorContentDescriptorManager.getInstance();
+
+	public NavigatorContentDescriptorManagerTest() {
+		_navigatorInstanceId = "org.eclipse.ui.tests.navigator.OverrideTestView";
+	}
+
+	@Test
+	public void testOverrides() throws Exception {
+		_contentService.bindExtensions(new String[] { TEST_CONTENT_OVERRIDDEN1, TEST_CONTENT_OVERRIDE1 }, false);
+		_contentService.getActivationService()
+				.activateExtensions(new String[] { TEST_CONTENT_OVERRIDE1, TEST_CONTENT_OVERRIDDEN1 }, true);
+		VisibilityAssistant assistant = createAssistant(_contentService);
+		try {
+			checkDescriptors(assistant);
+
+			// the test contents only test the types of the resources
+			Assert.assertNotNull(getEvaluationCache("cachedTriggerPointEvaluations", assistant)
+					.getDescriptorsForType(_project.getClass(), true));
+			Assert.assertNotNull(getEvaluationCache("cachedTriggerPointEvaluations", assistant)
+					.getDescriptorsForType(_project.getClass(), false));
+			Set<String> ids = getIds(manager.findDescriptorsForTriggerPoint(_p1, assistant, true));
+			Assert.assertTrue(ids.toString(), ids.contains(TEST_CONTENT_OVERRIDE1));
+			Assert.assertFalse(ids.toString(), ids.contains(TEST_CONTENT_OVERRIDDEN1));
+		} finally {
+			assistant.dispose();
+		}
+	}
+
+	@Test
+	public void testMixedExpressions() throws Exception {
+		// the test content adapts its trigger points to projects
+		INavigatorContentService contentService = NavigatorContentServiceFactory.INSTANCE
+				.createContentService(TEST_VIEWER);
+		VisibilityAssistant assistant = createAssistant(contentService);
+		try {
+			checkDescriptors(assistant);
+		} finally {
+			assistant.dispose();
+			contentService.dispose();
+		}
+	}
+
+	/**
+	 * Checks the descriptors found for elements of the same types one after
+	 * the other, so that the later ones may come from the cache.
+	 */
+	private void checkDescriptors(VisibilityAssistant assistant) throws Exception {
+		Object[] elements = { ResourcesPlugin.getWorkspace().getRoot(), _project, _p1, _p2,
+				_project.getFolder("src"), _project.getFolder("bin"), _project.getFile(".project"),
+				_project.getFile(".classpath"), _project.getFile("model.properties"), "element", "other",
+				new Object() };
+		for (int pass = 0; pass < 2; pass++) {
+			for (boolean considerOverrides : new boolean[] { false, true }) {
+				for (boolean possibleChild : new boolean[] { false, true }) {
+					for (Object element : elements) {
+						Set<NavigatorContentDescriptor> found = possibleChild
+								? manager.findDescriptorsForPossibleChild(element, assistant, considerOverrides)
+								: manager.findDescriptorsForTriggerPoint(element, assistant, considerOverrides);
+						Set<NavigatorContentDescriptor> expected = new HashSet<>();
+						if (considerOverrides) {
+							addExpectedConsideringOverrides(element, getFirstClassDescriptors(), assistant, expected,
+									possibleChild);
+						} else {
+							for (NavigatorContentDescriptor descriptor : getFirstClassDescriptors()) {
+								if (assistant.isActive(descriptor) && assistant.isVisible(descriptor)
+										&& evaluate(descriptor, element, possibleChild)) {
+									expected.add(descriptor);
+								}
+							}
+						}
+						Assert.assertEquals(element + (possibleChild ? " possible child" : " trigger point")
+								+ (considerOverrides ? " with overrides" : ""), getIds(expected), getIds(found));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Mirrors the resolution of the overrides with the full evaluation of the
+	 * expressions.
+	 */
+	private boolean addExpectedConsideringOverrides(Object element, Collection<NavigatorContentDescriptor> descriptors,
+			VisibilityAssistant assistant, Set<NavigatorContentDescriptor> expected, boolean possibleChild)
+			throws Exception {
+		int initialSize = expected.size();
+		for (NavigatorContentDescriptor descriptor : descriptors) {
+			boolean isApplicable = assistant.isActive(descriptor) && assistant.isVisible(descriptor)
+					&& evaluate(descriptor, element, possibleChild);
+			if (descriptor.hasOverridingExtensions()) {
+				Set<NavigatorContentDescriptor> overriding = new HashSet<>();
+				@SuppressWarnings("unchecked")
+				Set<NavigatorContentDescriptor> overridingExtensions = descriptor.getOverriddingExtensions();
+				if (addExpectedConsideringOverrides(element, overridingExtensions, assistant, overriding,
+						possibleChild)) {
+					expected.addAll(overriding);
+				} else if (isApplicable) {
+					expected.add(descriptor);
+				}
+			} else if (isApplicable) {
+				expected.add(descriptor);
+			}
+		}
+		return initialSize < expected.size();
+	}
+
+	/**
+	 * Evaluates the expressions of the descriptor for the element without the
+	 * help of their type filters.
+	 */
+	private static boolean evaluate(NavigatorContentDescriptor descriptor, Object element, boolean possibleChild)
+			throws Exception {
+		Expression enablement = (Expression) getField(descriptor, "enablement");
+		Expression expression = enablement;
+		if (possibleChild) {
+			Expression possibleChildren = (Expression) getField(descriptor, "possibleChildren");
+			if (possibleChildren != null) {
+				expression = possibleChildren;
+			}
+		}
+		return expression != null
+				&& NavigatorPlugin.safeEvaluate(expression, NavigatorPlugin.getEvalContext(element)) == EvaluationResult.TRUE;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<NavigatorContentDescriptor> getFirstClassDescriptors() throws Exception {
+		return (Set<NavigatorContentDescriptor>) getField(manager, "firstClassDescriptorsSet");
+	}
+
+	private EvaluationCache getEvaluationCache(String name, VisibilityAssistant assistant) throws Exception {
+		Map<?, ?> caches = (Map<?, ?>) getField(manager, name);
+		return (EvaluationCache) caches.get(assistant);
+	}
+
+	private static VisibilityAssistant createAssistant(INavigatorContentService contentService) {
+		return new VisibilityAssistant(contentService.getViewerDescriptor(), contentService.getActivationService());
+	}
+
+	private static Set<String> getIds(Set<NavigatorContentDescriptor> descriptors) {
+		Set<String> ids = new TreeSet<>();
+		for (NavigatorContentDescriptor descriptor : descriptors) {
+			ids.add(descriptor.getId());
+		}
+		return ids;
+	}
+
+	private static Object getField(Object object, String name) throws Exception {
+		Field field = object.getClass().getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(object);
+	}
+}
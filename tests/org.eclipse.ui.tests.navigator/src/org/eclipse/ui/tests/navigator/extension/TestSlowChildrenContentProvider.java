@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.navigator.extension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IResource;
+
+/**
+ * Provides children named after {@link #_generation}, and waits for
+ * {@link #_gate} after reading it.
+ */
+public class TestSlowChildrenContentProvider extends TestSimpleChildrenContentProvider {
+
+	/**
+	 * The prefix of the names of the children.
+	 */
+	public static volatile String _generation = "slow";
+
+	/**
+	 * When set, the children are only returned once it is counted down.
+	 */
+	public static volatile CountDownLatch _gate;
+
+	public TestSlowChildrenContentProvider() {
+		_name = "slow";
+	}
+
+	public static void resetTest() {
+		CountDownLatch gate = _gate;
+		if (gate != null) {
+			gate.countDown();
+		}
+		_gate = null;
+		_generation = "slow";
+	}
+
+	@Override
+	public Object[] getChildren(Object parentElement) {
+		if (!(parentElement instanceof IResource)) {
+			return new Object[] {};
+		}
+		String generation = _generation;
+		Object[] children = new Object[NUM_ITEMS];
+		for (int i = 0; i < NUM_ITEMS; i++) {
+			SimpleChild child = new SimpleChild();
+			child._parent = parentElement;
+			child._name = generation + i;
+			children[i] = child;
+		}
+		CountDownLatch gate = _gate;
+		if (gate != null) {
+			try {
+				gate.await(60, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return children;
+	}
+}
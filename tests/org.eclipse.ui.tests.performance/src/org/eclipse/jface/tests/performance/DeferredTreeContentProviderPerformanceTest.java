@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.util.Comparator;
+
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.deferred.DeferredTreeContentProvider;
+import org.eclipse.jface.viewers.deferred.IConcurrentModel;
+import org.eclipse.jface.viewers.deferred.IConcurrentTreeModel;
+import org.eclipse.jface.viewers.deferred.SetModel;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.eclipse.ui.tests.performance.BasicPerformanceTest;
+
+/**
+ * Measures how long it takes to show a million root elements streamed into a
+ * virtual tree by a {@link DeferredTreeContentProvider}. The visible window is
+ * sorted first, the remaining elements afterwards.
+ */
+public class DeferredTreeContentProviderPerformanceTest extends BasicPerformanceTest {
+
+	private static final int ELEMENT_COUNT = 1000000;
+
+	private static final int ITERATIONS = 5;
+
+	private static final long TIMEOUT = 120000;
+
+	private Shell shell;
+
+	private IConcurrentTreeModel model;
+
+	/**
+	 * @param testName
+	 */
+	public DeferredTreeContentProviderPerformanceTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		SetModel roots = new SetModel();
+		Object[] elements = new Object[ELEMENT_COUNT];
+		for (int i = 0; i < ELEMENT_COUNT; i++) {
+			// reverse the natural order so that the elements must be sorted
+			elements[i] = String.format("r%07d", Integer.valueOf(ELEMENT_COUNT - i - 1)); //$NON-NLS-1$
+		}
+		roots.set(elements);
+		model = new IConcurrentTreeModel() {
+			@Override
+			public IConcurrentModel getChildren(Object parent) {
+				return parent == this ? roots : new SetModel();
+			}
+
+			@Override
+			public boolean hasChildren(Object element) {
+				return false;
+			}
+		};
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		super.doTearDown();
+		if (shell != null) {
+			shell.dispose();
+			shell = null;
+		}
+	}
+
+	/**
+	 * Test streaming a million root elements into the tree.
+	 */
+	public void testMillionRootElements() {
+		for (int i = 0; i < ITERATIONS; i++) {
+			shell = new Shell(Display.getCurrent());
+			shell.setSize(400, 400);
+			shell.setLayout(new FillLayout());
+			TreeViewer viewer = new TreeViewer(shell, SWT.VIRTUAL);
+			viewer.setUseHashlookup(true);
+			viewer.setContentProvider(new DeferredTreeContentProvider(Comparator.comparing(Object::toString)));
+			shell.open();
+
+			Tree tree = viewer.getTree();
+			startMeasuring();
+			viewer.setInput(model);
+			boolean shown = DisplayHelper.waitForCondition(shell.getDisplay(), TIMEOUT,
+					() -> tree.getItemCount() == ELEMENT_COUNT && tree.getItem(0).getData() != null);
+			stopMeasuring();
+
+			assertTrue("Root items not set", shown); //$NON-NLS-1$
+			assertEquals("r0000000", tree.getItem(0).getData()); //$NON-NLS-1$
+			shell.dispose();
+			shell = null;
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
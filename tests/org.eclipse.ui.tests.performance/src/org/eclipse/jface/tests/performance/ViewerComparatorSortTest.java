@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.text.Collator;
+
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.ui.tests.performance.BasicPerformanceTest;
+
+/**
+ * Measures {@link ViewerComparator#sort(Viewer, Object[])} on a large array of
+ * labels.
+ */
+public class ViewerComparatorSortTest extends BasicPerformanceTest {
+
+	private static final int ARRAYSIZE = 100000;
+
+	private static final int ITERATIONS = 15;
+
+	private Object[] elements;
+
+	/**
+	 * @param testName
+	 */
+	public ViewerComparatorSortTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		elements = new Object[ARRAYSIZE];
+		for (int i = 0; i < ARRAYSIZE; i++) {
+			elements[i] = TestTreeElement.generateFirstEntry() + (i * 7919 % ARRAYSIZE);
+		}
+	}
+
+	/**
+	 * Test sorting with a {@link Collator}, which is what the IDE configures.
+	 */
+	public void testSortWithCollator() {
+		sort(new ViewerComparator(Collator.getInstance()));
+	}
+
+	/**
+	 * Test sorting with the default JFace string comparator.
+	 */
+	public void testSortWithDefaultComparator() {
+		sort(new ViewerComparator());
+	}
+
+	/**
+	 * Test sorting with an overridden compare method, which disables the key
+	 * cache.
+	 */
+	public void testSortWithOverriddenCompare() {
+		sort(new ViewerComparator(Collator.getInstance()) {
+			@Override
+			public int compare(Viewer viewer, Object e1, Object e2) {
+				return super.compare(viewer, e1, e2);
+			}
+		});
+	}
+
+	private void sort(ViewerComparator comparator) {
+		for (int i = 0; i < ITERATIONS; i++) {
+			Object[] array = elements.clone();
+			startMeasuring();
+			comparator.sort(null, array);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
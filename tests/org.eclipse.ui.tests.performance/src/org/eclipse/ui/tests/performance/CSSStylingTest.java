@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.performance;
+
+import java.io.StringReader;
+
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.swt.CSSSWTConstants;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Measures styling a synthetic shell of 10,000 widgets, most of which look the
+ * same to the selectors of the style sheet.
+ */
+public class CSSStylingTest extends BasicPerformanceTest {
+
+	private static final int COMPOSITES = 100;
+
+	private static final int LABELS = 100;
+
+	private static final int ITERATIONS = 10;
+
+	private static final String STYLE_SHEET = """
+			Shell { background-color: #FFFFFF; }
+			Composite { background-color: #EEEEEE; }
+			Composite.panel Label { color: #333333; }
+			.panel > .item { font-weight: bold; }
+			#special { color: #FF0000; }
+			Label.item.selected { color: #0000FF; }
+			""";
+
+	private Shell shell;
+
+	private CSSEngine engine;
+
+	/**
+	 * @param testName
+	 */
+	public CSSStylingTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		Display display = Display.getDefault();
+		engine = new CSSSWTEngineImpl(display);
+		engine.parseStyleSheet(new StringReader(STYLE_SHEET));
+
+		shell = new Shell(display);
+		for (int i = 0; i < COMPOSITES; i++) {
+			Composite composite = new Composite(shell, SWT.NONE);
+			composite.setData(CSSSWTConstants.CSS_CLASS_NAME_KEY, "panel");
+			for (int j = 0; j < LABELS; j++) {
+				Label label = new Label(composite, SWT.NONE);
+				label.setData(CSSSWTConstants.CSS_CLASS_NAME_KEY, j % 10 == 0 ? "item selected" : "item");
+			}
+		}
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		shell.dispose();
+		engine.dispose();
+		super.doTearDown();
+	}
+
+	/**
+	 * Test styling the whole shell, as done when the theme is switched.
+	 */
+	public void testApplyStyles() {
+		for (int i = 0; i < ITERATIONS; i++) {
+			startMeasuring();
+			engine.applyStyles(shell, true);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
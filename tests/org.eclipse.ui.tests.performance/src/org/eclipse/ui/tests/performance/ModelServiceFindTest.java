@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.performance;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspective;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspectiveStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
+import org.eclipse.e4.ui.workbench.modeling.EModelService;
+import org.eclipse.e4.ui.workbench.modeling.ElementMatcher;
+import org.eclipse.ui.PlatformUI;
+
+/**
+ * Measures looking up elements by id in a model of 50,000 parts, once through
+ * the id index and once by walking the model.
+ */
+public class ModelServiceFindTest extends BasicPerformanceTest {
+
+	private static final int PERSPECTIVES = 10;
+
+	private static final int STACKS = 50;
+
+	private static final int PARTS = 100;
+
+	private static final int LOOKUPS = 1000;
+
+	private EModelService modelService;
+
+	private MApplication application;
+
+	private MWindow window;
+
+	/**
+	 * @param testName
+	 */
+	public ModelServiceFindTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		modelService = PlatformUI.getWorkbench().getService(EModelService.class);
+		application = modelService.createModelElement(MApplication.class);
+		window = modelService.createModelElement(MWindow.class);
+		application.getChildren().add(window);
+		MPerspectiveStack perspectiveStack = modelService.createModelElement(MPerspectiveStack.class);
+		window.getChildren().add(perspectiveStack);
+		for (int i = 0; i < PERSPECTIVES; i++) {
+			MPerspective perspective = modelService.createModelElement(MPerspective.class);
+			perspectiveStack.getChildren().add(perspective);
+			for (int j = 0; j < STACKS; j++) {
+				MPartStack stack = modelService.createModelElement(MPartStack.class);
+				perspective.getChildren().add(stack);
+				for (int k = 0; k < PARTS; k++) {
+					MPart part = modelService.createModelElement(MPart.class);
+					part.setElementId(getPartId(i, j, k));
+					stack.getChildren().add(part);
+				}
+			}
+		}
+		perspectiveStack.setSelectedElement(perspectiveStack.getChildren().get(0));
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		application = null;
+		window = null;
+		super.doTearDown();
+	}
+
+	private static String getPartId(int perspective, int stack, int part) {
+		return "part." + perspective + "." + stack + "." + part;
+	}
+
+	/**
+	 * Test looking up parts by id, which uses the index of the application.
+	 */
+	public void testFindById() throws CoreException {
+		exercise(() -> {
+			startMeasuring();
+			for (int i = 0; i < LOOKUPS; i++) {
+				List<MPart> parts = modelService.findElements(window, getPartId(i % PERSPECTIVES, i % STACKS, i % PARTS),
+						MPart.class, null);
+				assertEquals(1, parts.size());
+			}
+			stopMeasuring();
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test looking up parts with a selector, which walks the model. Only a tenth
+	 * of the lookups of {@link #testFindById()} are done.
+	 */
+	public void testFindBySelector() throws CoreException {
+		exercise(() -> {
+			startMeasuring();
+			for (int i = 0; i < LOOKUPS / 10; i++) {
+				List<MUIElement> parts = modelService.findElements(window, MUIElement.class, EModelService.ANYWHERE,
+						new ElementMatcher(getPartId(i % PERSPECTIVES, i % STACKS, i % PARTS), MPart.class,
+								(List<String>) null));
+				assertEquals(1, parts.size());
+			}
+			stopMeasuring();
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+}
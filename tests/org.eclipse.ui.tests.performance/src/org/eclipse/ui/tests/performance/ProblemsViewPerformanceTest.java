@@ -14,14 +14,25 @@
 
 package org.eclipse.ui.tests.performance;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
+import org.eclipse.core.runtime.jobs.IJobManager;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.test.performance.Dimension;
 import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.IWorkbenchWindow;
@@ -41,6 +52,12 @@ public class ProblemsViewPerformanceTest extends BasicPerformanceTest {
 
 	private String PROBLEMS_VIEW_ID = "org.eclipse.ui.tests.performance.problemsView";
 
+	private static final int LARGE_MARKER_COUNT = 500000;
+
+	private static final int CHANGED_MARKER_COUNT = 100;
+
+	private static final int SORTED_MARKER_COUNT = 100000;
+
 	/**
 	 * Create a new instance of the receiver.
 	 *
@@ -86,6 +103,126 @@ public class ProblemsViewPerformanceTest extends BasicPerformanceTest {
 
 	}
 
+	/**
+	 * Test updating the problems view while it holds a large number of
+	 * markers, when a build adds and removes a few of them.
+	 */
+	public void testIncrementalUpdate() throws CoreException {
+		IWorkbenchWindow window = openTestWindow(EMPTY_PERSPECTIVE_ID);
+		final IWorkbenchPage page = window.getActivePage();
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IWorkspaceRoot root = workspace.getRoot();
+
+		workspace.run((IWorkspaceRunnable) monitor -> createMarkers(root, LARGE_MARKER_COUNT, "large test "), null);
+		try {
+			PerformanceProblemsView view = (PerformanceProblemsView) page.showView(PROBLEMS_VIEW_ID);
+			waitForUpdate(view);
+
+			tagIfNecessary("UI - Problems View incremental update", Dimension.ELAPSED_PROCESS);
+
+			List<IMarker> changed = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				startMeasuring();
+				workspace.run((IWorkspaceRunnable) monitor -> {
+					workspace.deleteMarkers(changed.toArray(new IMarker[changed.size()]));
+					changed.clear();
+					changed.addAll(createMarkers(root, CHANGED_MARKER_COUNT, "this is a test "));
+				}, null);
+				// the end of the build lets the view update soon
+				workspace.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+				waitForUpdate(view);
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			workspace.run((IWorkspaceRunnable) monitor -> {
+				deleteMarkers(root, "this is a test");
+				deleteMarkers(root, "large test");
+			}, null);
+		}
+	}
+
+	/**
+	 * Test sorting the problems view while it holds a large number of markers.
+	 */
+	public void testSort() throws CoreException {
+		IWorkbenchWindow window = openTestWindow(EMPTY_PERSPECTIVE_ID);
+		final IWorkbenchPage page = window.getActivePage();
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IWorkspaceRoot root = workspace.getRoot();
+
+		workspace.run((IWorkspaceRunnable) monitor -> createMarkers(root, SORTED_MARKER_COUNT, "sort test "), null);
+		try {
+			PerformanceProblemsView view = (PerformanceProblemsView) page.showView(PROBLEMS_VIEW_ID);
+			waitForUpdate(view);
+
+			tagIfNecessary("UI - Problems View sort", Dimension.ELAPSED_PROCESS);
+
+			for (int i = 0; i < 20; i++) {
+				startMeasuring();
+				view.toggleSortDirection();
+				waitForUpdate(view);
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			workspace.run((IWorkspaceRunnable) monitor -> deleteMarkers(root, "sort test"), null);
+		}
+	}
+
+	/**
+	 * Wait until the view has processed all marker changes. The update jobs
+	 * finish on the display thread, so it keeps dispatching events, and sleeps
+	 * until one of them is done in between.
+	 */
+	private void waitForUpdate(PerformanceProblemsView view) {
+		Display display = Display.getCurrent();
+		Object family = view.MARKERSVIEW_UPDATE_JOB_FAMILY;
+		IJobManager jobManager = Job.getJobManager();
+		IJobChangeListener listener = new JobChangeAdapter() {
+			@Override
+			public void done(IJobChangeEvent event) {
+				if (event.getJob().belongsTo(family)) {
+					display.wake();
+				}
+			}
+		};
+		jobManager.addJobChangeListener(listener);
+		try {
+			processEvents();
+			while (jobManager.find(family).length > 0) {
+				if (!display.readAndDispatch()) {
+					display.sleep();
+				}
+			}
+		} finally {
+			jobManager.removeJobChangeListener(listener);
+		}
+	}
+
+	private static List<IMarker> createMarkers(IWorkspaceRoot root, int count, String messagePrefix)
+			throws CoreException {
+		List<IMarker> markers = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			IMarker marker = root.createMarker(IMarker.PROBLEM);
+			marker.setAttributes(new String[] { IMarker.SEVERITY, IMarker.MESSAGE },
+					new Object[] { Integer.valueOf(i % 3), messagePrefix + i });
+			markers.add(marker);
+		}
+		return markers;
+	}
+
+	private static void deleteMarkers(IWorkspaceRoot root, String messagePrefix) throws CoreException {
+		for (IMarker marker : root.findMarkers(IMarker.PROBLEM, false, IResource.DEPTH_ZERO)) {
+			String message = (String) marker.getAttribute(IMarker.MESSAGE);
+			if (message != null && message.startsWith(messagePrefix)) {
+				marker.delete();
+			}
+		}
+	}
+
 	/**
 	 * Remove the created markers
 	 */
@@ -14,6 +14,7 @@
 package org.eclipse.ui.tests.performance;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
@@ -25,6 +26,7 @@ import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.IPreferenceConstants;
 import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.progress.ProgressManager;
 
 /**
  * Verifies the performance of progress reporting APIs in various contexts which
@@ -62,6 +64,12 @@ public class ProgressReportingTest extends BasicPerformanceTest {
 	 * results during profiling.
 	 */
 	public static final int MAX_ITERATIONS = 100;
+
+	/**
+	 * Number of jobs scheduled by the tests of the progress reporting of many
+	 * short jobs.
+	 */
+	public static final int SHORT_JOBS = 50000;
 	private volatile boolean isDone;
 	private Display display;
 
@@ -287,6 +295,74 @@ public class ProgressReportingTest extends BasicPerformanceTest {
 		});
 	}
 
+	/**
+	 * Test the cost of reporting the progress of many short system jobs, like
+	 * the ones scheduled by the workbench itself
+	 */
+	public void testManyShortSystemJobs() throws Exception {
+		openTestWindow();
+		setRunInBackground(true);
+		runShortJobsTest(true);
+	}
+
+	/**
+	 * Test the cost of reporting the progress of many short jobs shown in the
+	 * progress view
+	 */
+	public void testManyShortJobs() throws Exception {
+		openTestWindow();
+		setRunInBackground(true);
+		runShortJobsTest(false);
+	}
+
+	/**
+	 * Runs the test of many short jobs and reports the job state transitions,
+	 * the collapsed jobs and the notifications of the progress manager per
+	 * measured run, along with the measurements.
+	 */
+	private void runShortJobsTest(boolean system) throws Exception {
+		ProgressManager manager = ProgressManager.getInstance();
+		AtomicInteger runs = new AtomicInteger();
+		long transitions = manager.getJobStateTransitionCount();
+		long collapsed = manager.getCollapsedJobCount();
+		long notifications = manager.getNotificationCount();
+		runAsyncTest(() -> {
+			runs.incrementAndGet();
+			scheduleShortJobs(system);
+		});
+		transitions = (manager.getJobStateTransitionCount() - transitions) / runs.get();
+		collapsed = (manager.getCollapsedJobCount() - collapsed) / runs.get();
+		notifications = (manager.getNotificationCount() - notifications) / runs.get();
+		System.out.println(getName() + ": " + transitions + " job state transitions, " + collapsed
+				+ " collapsed jobs, " + notifications + " notifications per run");
+		assertTrue("Listeners notified for every job state transition", notifications < transitions);
+		if (system) {
+			assertTrue("No short system job collapsed", collapsed > 0);
+		}
+	}
+
+	/**
+	 * Schedules {@link #SHORT_JOBS} jobs reporting a little progress each. The
+	 * test ends when all of them are done.
+	 */
+	private void scheduleShortJobs(boolean system) {
+		AtomicInteger remaining = new AtomicInteger(SHORT_JOBS);
+		for (int i = 0; i < SHORT_JOBS; i++) {
+			Job job = Job.create("Test Job " + i, monitor -> {
+				monitor.beginTask("Test Job", 10);
+				for (int j = 0; j < 10; j++) {
+					monitor.worked(1);
+				}
+				monitor.done();
+				if (remaining.decrementAndGet() == 0) {
+					endAsyncTest();
+				}
+			});
+			job.setSystem(system);
+			job.schedule();
+		}
+	}
+
 	/**
 	 * Test the cost of monitor.subTask in the progress service
 	 */
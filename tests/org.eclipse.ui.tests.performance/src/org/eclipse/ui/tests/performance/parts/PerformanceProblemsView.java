@@ -42,4 +42,18 @@ public class PerformanceProblemsView extends ProblemsView {
 		}
 		return null;
 	}
+
+	/**
+	 * Reverse the sort direction of the primary sort field, which sorts the
+	 * markers again.
+	 */
+	public void toggleSortDirection() {
+		try {
+			Method m = ExtendedMarkersView.class.getDeclaredMethod("toggleSortDirection");
+			m.setAccessible(true);
+			m.invoke(this);
+		} catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			e.printStackTrace();
+		}
+	}
 }
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Set;
+
+import org.eclipse.jface.viewers.DecorationContext;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.decorators.DecorationResult;
+import org.eclipse.ui.internal.decorators.DecorationResultCache;
+import org.eclipse.ui.internal.decorators.LightweightDecoratorManager;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the lookup, invalidation and eviction of the decoration results.
+ */
+public class DecorationResultCacheTest {
+
+	private LightweightDecoratorManager getLightweightManager() {
+		return WorkbenchPlugin.getDefault().getDecoratorManager().getLightweightManager();
+	}
+
+	private DecorationResult createResult(Object element) {
+		return getLightweightManager().getDecorationResult(element);
+	}
+
+	@After
+	public void doTearDown() throws Exception {
+		PlatformUI.getWorkbench().getDecoratorManager().setEnabled(TestAdaptableDecoratorContributor.ID, false);
+	}
+
+	@Test
+	public void testHit() {
+		DecorationResultCache cache = new DecorationResultCache();
+		Set<String> decorators = getLightweightManager().getEnabledDecoratorIds();
+		DecorationContext context = new DecorationContext();
+		context.putProperty("property", "value");
+		DecorationResult result = createResult("element");
+
+		assertNull(cache.get("element", context, decorators));
+		cache.put("element", context, decorators, result);
+		assertSame(result, cache.get("element", context, decorators));
+		assertSame(result, cache.get(new String("element"), context, decorators));
+		assertNull(cache.get("other", context, decorators));
+
+		// contexts with equal properties share their results
+		DecorationContext equalContext = new DecorationContext();
+		equalContext.putProperty("property", "value");
+		assertSame(result, cache.get("element", equalContext, decorators));
+		assertNull(cache.get("element", DecorationContext.DEFAULT_CONTEXT, decorators));
+
+		// a result is not served for a context whose properties changed
+		context.putProperty("property", "changed");
+		assertNull(cache.get("element", context, decorators));
+		context.putProperty("property", "value");
+		assertSame(result, cache.get("element", context, decorators));
+
+		assertEquals(4, cache.getHits());
+		assertEquals(4, cache.getMisses());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testInvalidateOnEnablementChange() {
+		DecorationResultCache cache = new DecorationResultCache();
+		Set<String> decorators = getLightweightManager().getEnabledDecoratorIds();
+		assertSame(decorators, getLightweightManager().getEnabledDecoratorIds());
+		cache.put("element", DecorationContext.DEFAULT_CONTEXT, decorators, createResult("element"));
+
+		PlatformUI.getWorkbench().getDecoratorManager().setEnabled(TestAdaptableDecoratorContributor.ID, true);
+		Set<String> enabled = getLightweightManager().getEnabledDecoratorIds();
+		assertNotSame(decorators, enabled);
+		assertNull(cache.get("element", DecorationContext.DEFAULT_CONTEXT, enabled));
+
+		PlatformUI.getWorkbench().getDecoratorManager().setEnabled(TestAdaptableDecoratorContributor.ID, false);
+		Set<String> disabled = getLightweightManager().getEnabledDecoratorIds();
+		assertEquals(decorators, disabled);
+		// even the same decorators do not get the results computed before
+		assertNull(cache.get("element", DecorationContext.DEFAULT_CONTEXT, disabled));
+	}
+
+	@Test
+	public void testEviction() {
+		DecorationResultCache cache = new DecorationResultCache(2, Long.MAX_VALUE);
+		Set<String> decorators = getLightweightManager().getEnabledDecoratorIds();
+		DecorationResult result = createResult("element");
+		for (int i = 0; i < 3; i++) {
+			cache.put("element" + i, DecorationContext.DEFAULT_CONTEXT, decorators, result);
+			assertSame(result, cache.get("element" + i, DecorationContext.DEFAULT_CONTEXT, decorators));
+		}
+		// the least recently used result is evicted
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictions());
+		assertNull(cache.get("element0", DecorationContext.DEFAULT_CONTEXT, decorators));
+		assertSame(result, cache.get("element1", DecorationContext.DEFAULT_CONTEXT, decorators));
+		assertSame(result, cache.get("element2", DecorationContext.DEFAULT_CONTEXT, decorators));
+		// equal results are stored once
+		assertEquals(1, cache.getSharedSize());
+	}
+
+	@Test
+	public void testPendingResultsNotEvicted() {
+		DecorationResultCache cache = new DecorationResultCache(2, Long.MAX_VALUE);
+		Set<String> decorators = getLightweightManager().getEnabledDecoratorIds();
+		DecorationResult result = createResult("element");
+		for (int i = 0; i < 5; i++) {
+			cache.put("element" + i, DecorationContext.DEFAULT_CONTEXT, decorators, result);
+		}
+		assertEquals(5, cache.getPendingSize());
+		assertEquals(0, cache.getEvictions());
+
+		// every pending result is picked up, the earlier ones are then evicted
+		for (int i = 0; i < 5; i++) {
+			assertSame(result, cache.get("element" + i, DecorationContext.DEFAULT_CONTEXT, decorators));
+		}
+		assertEquals(0, cache.getPendingSize());
+		assertEquals(2, cache.size());
+		assertEquals(3, cache.getEvictions());
+	}
+
+	@Test
+	public void testMemoryBound() {
+		DecorationResultCache cache = new DecorationResultCache(Integer.MAX_VALUE, 1);
+		Set<String> decorators = getLightweightManager().getEnabledDecoratorIds();
+		cache.put("element0", DecorationContext.DEFAULT_CONTEXT, decorators, createResult("element0"));
+		cache.put("element1", DecorationContext.DEFAULT_CONTEXT, decorators, createResult("element1"));
+		// the most recent result is kept even if it does not fit
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getEvictions());
+		assertNull(cache.get("element0", DecorationContext.DEFAULT_CONTEXT, decorators));
+		assertNotNull(cache.get("element1", DecorationContext.DEFAULT_CONTEXT, decorators));
+	}
+}
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jface.viewers.ILabelProviderListener;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.decorators.DecoratorManager;
+import org.eclipse.ui.internal.decorators.DecoratorStatistics;
+import org.eclipse.ui.tests.decorators.TestSlowDecoratorContributor.SlowElement;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.eclipse.ui.tests.menus.ObjectContributionClasses;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the order in which the decoration scheduler decorates elements and
+ * publishes the results.
+ */
+public class DecorationSchedulerTest {
+
+	private static final long TIMEOUT = 30000;
+
+	/** The decorated labels of the updated elements, in the order of the updates. */
+	private final Map<Object, String> updates = new LinkedHashMap<>();
+
+	private final ILabelProviderListener listener = event -> {
+		Object[] elements = event.getElements();
+		if (elements != null) {
+			for (Object element : elements) {
+				// the results are available to the listeners of the update
+				updates.put(element, getDecoratorManager().decorateText("label", element));
+			}
+		}
+	};
+
+	private DecoratorManager getDecoratorManager() {
+		return WorkbenchPlugin.getDefault().getDecoratorManager();
+	}
+
+	@Before
+	public void doSetUp() throws Exception {
+		PlatformUI.getWorkbench().getDecoratorManager().setEnabled(TestAdaptableDecoratorContributor.ID, true);
+		PlatformUI.getWorkbench().getDecoratorManager().setEnabled(TestSlowDecoratorContributor.ID, true);
+		TestSlowDecoratorContributor.delay = 0;
+		TestSlowDecoratorContributor.gate = null;
+		TestSlowDecoratorContributor.decorated.clear();
+		getSlowStatistics().reset();
+		getDecoratorManager().addListener(listener);
+	}
+
+	@After
+	public void doTearDown() throws Exception {
+		getDecoratorManager().removeListener(listener);
+		CountDownLatch gate = TestSlowDecoratorContributor.gate;
+		if (gate != null) {
+			gate.countDown();
+		}
+		TestSlowDecoratorContributor.gate = null;
+		TestSlowDecoratorContributor.delay = 0;
+		PlatformUI.getWorkbench().getDecoratorManager().setEnabled(TestAdaptableDecoratorContributor.ID, false);
+		PlatformUI.getWorkbench().getDecoratorManager().setEnabled(TestSlowDecoratorContributor.ID, false);
+		getSlowStatistics().reset();
+	}
+
+	/**
+	 * Elements a slow decorator applies to are decorated after the others, and
+	 * their labels are only updated once, with all decorations.
+	 */
+	@Test
+	public void testSlowDecoratorDoesNotBlockOthers() {
+		TestSlowDecoratorContributor.delay = 100;
+		// let the decorator be known as slow
+		for (int i = 0; i < 5; i++) {
+			getDecoratorManager().getLightweightManager().getDecorationResult(new SlowElement("warm-up" + i));
+		}
+
+		SlowElement[] slowElements = new SlowElement[10];
+		for (int i = 0; i < slowElements.length; i++) {
+			slowElements[i] = new SlowElement("slow" + i);
+			getDecoratorManager().decorateText("label", slowElements[i]);
+		}
+		Object fast = new ObjectContributionClasses.Common();
+		getDecoratorManager().decorateText("label", fast);
+
+		assertTrue("Element without slow decorator not decorated", waitForCondition(() -> updates.containsKey(fast)));
+		assertTrue(updates.get(fast).contains(TestAdaptableDecoratorContributor.SUFFIX));
+		int slowDecorated = 0;
+		for (SlowElement element : slowElements) {
+			if (updates.containsKey(element)) {
+				slowDecorated++;
+			}
+		}
+		assertTrue("Element without slow decorator waited for the slow one", slowDecorated < slowElements.length);
+
+		assertTrue("Elements with slow decorator not decorated", waitForCondition(() -> {
+			for (SlowElement element : slowElements) {
+				if (!updates.containsKey(element)) {
+					return false;
+				}
+			}
+			return true;
+		}));
+		for (SlowElement element : slowElements) {
+			String text = updates.get(element);
+			assertTrue(text, text.contains(TestSlowDecoratorContributor.SUFFIX));
+			assertTrue(text, text.contains(TestAdaptableDecoratorContributor.SUFFIX));
+		}
+	}
+
+	/**
+	 * Elements requested by viewers are decorated before the ones queued by
+	 * label provider change events.
+	 */
+	@Test
+	public void testVisibleElementsDecoratedFirst() {
+		CountDownLatch gate = new CountDownLatch(1);
+		TestSlowDecoratorContributor.gate = gate;
+		SlowElement[] background = new SlowElement[20];
+		for (int i = 0; i < background.length; i++) {
+			background[i] = new SlowElement("background" + i);
+		}
+		getDecoratorManager().labelProviderChanged(new LabelProviderChangedEvent(new LabelProvider(), background));
+		// wait until the workers are busy with the first elements
+		assertTrue(waitForCondition(() -> !TestSlowDecoratorContributor.decorated.isEmpty()));
+
+		SlowElement visible = new SlowElement("visible");
+		getDecoratorManager().decorateText("label", visible);
+		gate.countDown();
+
+		assertTrue("Elements not decorated",
+				waitForCondition(() -> TestSlowDecoratorContributor.decorated.size() > background.length));
+		int index = TestSlowDecoratorContributor.decorated.indexOf(visible);
+		// only the elements the workers had taken before may come first
+		assertTrue("Visible element decorated at " + index, index >= 0 && index <= 4);
+	}
+
+	private DecoratorStatistics getSlowStatistics() {
+		for (DecoratorStatistics statistics : getDecoratorManager().getLightweightManager().getStatistics()) {
+			if (statistics.getDecoratorId().equals(TestSlowDecoratorContributor.ID)) {
+				return statistics;
+			}
+		}
+		throw new AssertionError("No statistics for " + TestSlowDecoratorContributor.ID);
+	}
+
+	private static boolean waitForCondition(BooleanSupplier condition) {
+		return DisplayHelper.waitForCondition(Display.getCurrent(), TIMEOUT, condition);
+	}
+}
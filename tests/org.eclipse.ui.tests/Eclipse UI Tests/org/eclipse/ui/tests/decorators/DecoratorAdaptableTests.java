@@ -14,6 +14,8 @@
  *******************************************************************************/
 package org.eclipse.ui.tests.decorators;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import org.eclipse.core.resources.IProject;
@@ -24,6 +26,7 @@ import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.WorkbenchPlugin;
 import org.eclipse.ui.internal.decorators.DecorationResult;
 import org.eclipse.ui.internal.decorators.DecoratorManager;
+import org.eclipse.ui.internal.decorators.DecoratorStatistics;
 import org.eclipse.ui.internal.decorators.LightweightDecoratorManager;
 import org.eclipse.ui.tests.menus.ObjectContributionClasses;
 import org.junit.After;
@@ -174,4 +177,32 @@ public class DecoratorAdaptableTests {
 				true
 			);
 	}
+
+	/**
+	 * Test that the calls of the decorators are counted.
+	 */
+	@Test
+	public final void testStatistics() {
+		DecoratorStatistics statistics = getStatistics(TestAdaptableDecoratorContributor.ID);
+		assertNotNull("No statistics for " + TestAdaptableDecoratorContributor.ID, statistics);
+		long calls = statistics.getCallCount();
+		assertDecorated("1", new String[] { TestAdaptableDecoratorContributor.SUFFIX },
+				new Object[] { new ObjectContributionClasses.A(), new ObjectContributionClasses.B() }, true);
+		assertEquals(calls + 2, statistics.getCallCount());
+		long histogramCalls = 0;
+		for (long bucket : statistics.getHistogram()) {
+			histogramCalls += bucket;
+		}
+		assertEquals(statistics.getCallCount(), histogramCalls);
+		assertTrue(statistics.getMaxNanos() <= statistics.getTotalNanos());
+	}
+
+	private DecoratorStatistics getStatistics(String decoratorId) {
+		for (DecoratorStatistics statistics : getDecoratorManager().getLightweightManager().getStatistics()) {
+			if (statistics.getDecoratorId().equals(decoratorId)) {
+				return statistics;
+			}
+		}
+		return null;
+	}
 }
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jface.viewers.IDecoration;
+import org.eclipse.ui.tests.menus.ObjectContributionClasses;
+
+/**
+ * Decorator whose calls take as long as the tests want, recording the order
+ * of the decorated elements.
+ */
+public class TestSlowDecoratorContributor extends TestLightweightDecoratorContributor {
+
+	public static final String SUFFIX = "Slow.1";
+	public static final String ID = "org.eclipse.ui.tests.decorators.slow";
+
+	/**
+	 * The elements decorated by this decorator, also decorated by
+	 * {@link TestAdaptableDecoratorContributor}.
+	 */
+	public static class SlowElement extends ObjectContributionClasses.Common {
+		private final String name;
+
+		public SlowElement(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	/** The time each call takes in milliseconds. */
+	public static volatile long delay;
+
+	/** If set, the calls wait until it is released. */
+	public static volatile CountDownLatch gate;
+
+	/** The decorated elements in the order of the calls. */
+	public static final List<Object> decorated = Collections.synchronizedList(new ArrayList<>());
+
+	@Override
+	public void decorate(Object element, IDecoration decoration) {
+		decorated.add(element);
+		try {
+			CountDownLatch currentGate = gate;
+			if (currentGate != null) {
+				currentGate.await(30, TimeUnit.SECONDS);
+			}
+			if (delay > 0) {
+				Thread.sleep(delay);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		decoration.addSuffix(SUFFIX);
+	}
+}
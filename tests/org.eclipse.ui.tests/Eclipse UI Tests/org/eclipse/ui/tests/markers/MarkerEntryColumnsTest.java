@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.markers;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.ui.internal.views.markers.ExtendedMarkersView;
+import org.eclipse.ui.internal.views.markers.MarkerDescriptionField;
+import org.eclipse.ui.internal.views.markers.MarkerLocationField;
+import org.eclipse.ui.internal.views.markers.MarkerPathField;
+import org.eclipse.ui.internal.views.markers.MarkerProblemSeverityAndMessageField;
+import org.eclipse.ui.internal.views.markers.MarkerSeverityField;
+import org.eclipse.ui.internal.views.markers.MarkerTypeField;
+import org.eclipse.ui.tests.harness.util.UITestCase;
+import org.eclipse.ui.views.markers.MarkerField;
+import org.eclipse.ui.views.markers.MarkerItem;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests that the MarkerEntryColumns sort the markers in the order the
+ * MarkerComparator does, for the fields it gathers the attributes of and for
+ * the ones it leaves to the fields. These classes are internal to their
+ * package, so they are accessed by reflection.
+ */
+@RunWith(JUnit4.class)
+public class MarkerEntryColumnsTest extends UITestCase {
+
+	private static final int MARKER_COUNT = 60;
+
+	private IProject project;
+
+	private static final String PACKAGE = ExtendedMarkersView.class.getPackageName();
+
+	private MarkerItem[] entries;
+
+	public MarkerEntryColumnsTest() {
+		super(MarkerEntryColumnsTest.class.getSimpleName());
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(getClass().getSimpleName());
+		if (!project.exists()) {
+			project.create(null);
+		}
+		if (!project.isOpen()) {
+			project.open(null);
+		}
+		List<IFile> files = new ArrayList<>();
+		for (String folderName : new String[] { "b", "a" }) {
+			IFolder folder = project.getFolder(folderName);
+			if (!folder.exists()) {
+				folder.create(true, true, null);
+			}
+			for (String fileName : new String[] { "y.txt", "x.txt" }) {
+				IFile file = folder.getFile(fileName);
+				if (!file.exists()) {
+					file.create(new byte[0], true, null);
+				}
+				files.add(file);
+			}
+		}
+		IFile projectFile = project.getFile("z.txt");
+		if (!projectFile.exists()) {
+			projectFile.create(new byte[0], true, null);
+		}
+		files.add(projectFile);
+
+		// few distinct values, so that the later fields decide between equal
+		// earlier ones
+		String[] messages = { "alpha", "Alpha", "beta", "", null };
+		String[] locations = { null, "", "line 3", "Line 10" };
+		Random random = new Random(42);
+		Class<?> entryClass = loadClass("MarkerEntry");
+		Constructor<?> entryConstructor = entryClass.getDeclaredConstructor(IMarker.class);
+		entryConstructor.setAccessible(true);
+		entries = (MarkerItem[]) Array.newInstance(entryClass, MARKER_COUNT);
+		for (int i = 0; i < MARKER_COUNT; i++) {
+			IFile file = files.get(random.nextInt(files.size()));
+			IMarker marker = file.createMarker(random.nextInt(4) == 0 ? IMarker.TASK : IMarker.PROBLEM);
+			int severity = random.nextInt(4) - 1;
+			if (severity >= 0) {
+				marker.setAttribute(IMarker.SEVERITY, severity);
+			}
+			String message = messages[random.nextInt(messages.length)];
+			if (message != null) {
+				marker.setAttribute(IMarker.MESSAGE, message);
+			}
+			String location = locations[random.nextInt(locations.length)];
+			if (location != null) {
+				marker.setAttribute(IMarker.LOCATION, location);
+			}
+			int line = random.nextInt(4) - 1;
+			if (line >= 0) {
+				marker.setAttribute(IMarker.LINE_NUMBER, line);
+			}
+			entries[i] = (MarkerItem) entryConstructor.newInstance(marker);
+		}
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		if (project.exists()) {
+			project.delete(true, null);
+		}
+		super.doTearDown();
+	}
+
+	@Test
+	public void testSeverityFirst() throws Exception {
+		checkOrders(null, new MarkerSeverityField(), new MarkerDescriptionField(), new MarkerPathField(),
+				new MarkerLocationField(), new MarkerTypeField());
+	}
+
+	@Test
+	public void testDescriptionFirst() throws Exception {
+		checkOrders(null, new MarkerDescriptionField(), new MarkerSeverityField(), new MarkerLocationField(),
+				new MarkerPathField(), new MarkerTypeField());
+	}
+
+	@Test
+	public void testSeverityAndMessage() throws Exception {
+		checkOrders(null, new MarkerProblemSeverityAndMessageField(), new MarkerPathField(),
+				new MarkerLocationField());
+	}
+
+	@Test
+	public void testPathAndLocationFirst() throws Exception {
+		checkOrders(null, new MarkerPathField(), new MarkerLocationField(), new MarkerTypeField(),
+				new MarkerDescriptionField());
+		checkOrders(null, new MarkerLocationField(), new MarkerTypeField(), new MarkerSeverityField(),
+				new MarkerDescriptionField(), new MarkerPathField());
+	}
+
+	@Test
+	public void testTypeFirst() throws Exception {
+		checkOrders(null, new MarkerTypeField(), new MarkerPathField(), new MarkerSeverityField());
+	}
+
+	@Test
+	public void testFieldSubclasses() throws Exception {
+		// subclasses may compare differently, so they compare themselves
+		checkOrders(null, new MarkerSeverityField() {
+		}, new MarkerPathField(), new MarkerDescriptionField() {
+		}, new MarkerLocationField());
+	}
+
+	@Test
+	public void testCategory() throws Exception {
+		checkOrders(new MarkerSeverityField(), new MarkerPathField(), new MarkerDescriptionField(),
+				new MarkerLocationField());
+		checkOrders(new MarkerTypeField(), new MarkerDescriptionField(), new MarkerSeverityField());
+	}
+
+	/**
+	 * Checks the orders of the fields all ascending, each of them descending
+	 * and all of them descending.
+	 */
+	private void checkOrders(MarkerField category, MarkerField... fields) throws Exception {
+		checkOrder(category, fields, new MarkerField[0]);
+		for (MarkerField field : fields) {
+			checkOrder(category, fields, new MarkerField[] { field });
+		}
+		checkOrder(category, fields, fields);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void checkOrder(MarkerField category, MarkerField[] fields, MarkerField[] descendingFields)
+			throws Exception {
+		Class<?> comparatorClass = loadClass("MarkerComparator");
+		Constructor<?> comparatorConstructor = comparatorClass.getDeclaredConstructor(MarkerField.class,
+				MarkerField[].class);
+		comparatorConstructor.setAccessible(true);
+		Comparator<MarkerItem> comparator = (Comparator<MarkerItem>) comparatorConstructor.newInstance(category,
+				fields);
+		Method reversePriority = comparatorClass.getDeclaredMethod("reversePriority", MarkerField.class);
+		reversePriority.setAccessible(true);
+		for (MarkerField field : descendingFields) {
+			reversePriority.invoke(comparator, field);
+		}
+
+		MarkerItem[] expected = entries.clone();
+		Arrays.sort(expected, comparator);
+
+		MarkerItem[] sorted = entries.clone();
+		Class<?> columnsClass = loadClass("MarkerEntryColumns");
+		Class<?> entryArrayClass = entries.getClass();
+		Constructor<?> columnsConstructor = columnsClass.getDeclaredConstructor(entryArrayClass, int.class,
+				int.class, comparatorClass, boolean.class);
+		columnsConstructor.setAccessible(true);
+		Method release = columnsClass.getDeclaredMethod("release", entryArrayClass, int.class, int.class);
+		release.setAccessible(true);
+		Comparator<MarkerItem> columns = (Comparator<MarkerItem>) columnsConstructor.newInstance(sorted, 0,
+				sorted.length - 1, comparator, category != null);
+		try {
+			Arrays.sort(sorted, columns);
+			// the same sign for every pair, not only a compatible order
+			for (MarkerItem entry1 : entries) {
+				for (MarkerItem entry2 : entries) {
+					assertEquals(describe(fields, descendingFields) + " " + entry1 + " " + entry2,
+							Integer.signum(comparator.compare(entry1, entry2)),
+							Integer.signum(columns.compare(entry1, entry2)));
+				}
+			}
+		} finally {
+			release.invoke(columns, sorted, 0, sorted.length - 1);
+		}
+
+		// the sort is stable, so equal entries keep their order in both
+		for (int i = 0; i < expected.length; i++) {
+			assertSame(describe(fields, descendingFields) + " at " + i, expected[i].getMarker(),
+					sorted[i].getMarker());
+		}
+	}
+
+	private static Class<?> loadClass(String name) throws ClassNotFoundException {
+		return Class.forName(PACKAGE + '.' + name, true, ExtendedMarkersView.class.getClassLoader());
+	}
+
+	private static String describe(MarkerField[] fields, MarkerField[] descendingFields) {
+		StringBuilder description = new StringBuilder();
+		List<MarkerField> descending = Arrays.asList(descendingFields);
+		for (MarkerField field : fields) {
+			if (description.length() > 0) {
+				description.append(", ");
+			}
+			description.append(field.getClass().getName());
+			if (descending.contains(field)) {
+				description.append(" descending");
+			}
+		}
+		return description.toString();
+	}
+}
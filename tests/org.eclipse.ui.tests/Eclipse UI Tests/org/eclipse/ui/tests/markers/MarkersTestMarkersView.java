@@ -17,6 +17,12 @@ package org.eclipse.ui.tests.markers;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.runtime.jobs.IJobChangeListener;
@@ -26,6 +32,8 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeColumn;
 import org.eclipse.ui.internal.views.markers.ExtendedMarkersView;
+import org.eclipse.ui.internal.views.markers.MarkerContentGenerator;
+import org.eclipse.ui.views.markers.MarkerItem;
 import org.eclipse.ui.views.markers.MarkerSupportView;
 import org.eclipse.ui.views.markers.internal.MarkerSupportRegistry;
 
@@ -141,6 +149,116 @@ public class MarkersTestMarkersView extends MarkerSupportView {
 		return true;
 	}
 
+	/**
+	 * Get the markers shown by the receiver with the names of their
+	 * categories.
+	 *
+	 * @return the category name of every shown marker, <code>null</code> if
+	 *         the markers are not grouped
+	 */
+	public Map<IMarker, String> getCurrentCategories() {
+		Map<IMarker, String> categories = new HashMap<>();
+		getCurrentItems().forEach((item, category) -> categories.put(item.getMarker(), category));
+		return categories;
+	}
+
+	/**
+	 * Get the markers shown by the receiver with the messages they are shown
+	 * with.
+	 *
+	 * @return the message of every shown marker
+	 */
+	public Map<IMarker, String> getCurrentMessages() {
+		Map<IMarker, String> messages = new HashMap<>();
+		getCurrentItems().forEach((item, category) -> messages.put(item.getMarker(),
+				item.getAttributeValue(IMarker.MESSAGE, null)));
+		return messages;
+	}
+
+	/**
+	 * Get the messages of the markers shown by the receiver in the order they
+	 * are shown.
+	 *
+	 * @return the message of every shown marker
+	 */
+	public List<String> getCurrentMessageOrder() {
+		List<String> messages = new ArrayList<>();
+		getCurrentItems().keySet().forEach(item -> messages.add(item.getAttributeValue(IMarker.MESSAGE, null)));
+		return messages;
+	}
+
+	private Map<MarkerItem, String> getCurrentItems() {
+		Map<MarkerItem, String> items = new LinkedHashMap<>();
+		try {
+			Field field = ExtendedMarkersView.class.getDeclaredField("builder");
+			field.setAccessible(true);
+			Object builder = field.get(this);
+			Object markers = invoke(builder, "getMarkers");
+			Object[] categories = (Object[]) invoke(markers, "getCategories");
+			if (categories.length == 0) {
+				for (Object entry : (Object[]) invoke(markers, "getMarkerEntryArray")) {
+					items.put((MarkerItem) entry, null);
+				}
+				return items;
+			}
+			for (Object category : categories) {
+				String name = (String) invoke(category, "getName");
+				for (Object child : (Object[]) invoke(category, "getChildren")) {
+					items.put((MarkerItem) child, name);
+				}
+			}
+		} catch (ReflectiveOperationException | SecurityException e) {
+			e.printStackTrace();
+		}
+		return items;
+	}
+
+	/**
+	 * Enable or disable the filter with the given id.
+	 *
+	 * @param filterId
+	 */
+	public void toggleFilter(String filterId) {
+		MarkerContentGenerator generator = MarkerSupportViewTest.getMarkerContentGenerator(this);
+		try {
+			for (Object group : (Collection<?>) invoke(generator, "getAllFilters")) {
+				if (filterId.equals(invoke(group, "getID"))) {
+					Method m = MarkerContentGenerator.class.getDeclaredMethod("toggleFilter", group.getClass());
+					m.setAccessible(true);
+					m.invoke(generator, group);
+					return;
+				}
+			}
+		} catch (ReflectiveOperationException | SecurityException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Disable all of the filters of the receiver.
+	 */
+	public void disableAllFilters() {
+		try {
+			invoke(MarkerSupportViewTest.getMarkerContentGenerator(this), "disableAllFilters");
+		} catch (ReflectiveOperationException | SecurityException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private static Object invoke(Object target, String methodName) throws ReflectiveOperationException {
+		Class<?> type = target.getClass();
+		while (type != null) {
+			try {
+				Method m = type.getDeclaredMethod(methodName);
+				m.setAccessible(true);
+				return m.invoke(target);
+			} catch (NoSuchMethodException e) {
+				type = type.getSuperclass();
+			}
+		}
+		throw new NoSuchMethodException(methodName);
+	}
+
 	private Tree getTreeWidget() {
 		TreeViewer viewer;
 		try {
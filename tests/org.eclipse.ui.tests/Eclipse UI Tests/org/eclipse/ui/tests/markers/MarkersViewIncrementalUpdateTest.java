@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.markers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.eclipse.ui.tests.harness.util.UITestCase;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests that the markers views apply marker additions, removals and changes
+ * to the markers they show.
+ */
+@RunWith(JUnit4.class)
+public class MarkersViewIncrementalUpdateTest extends UITestCase {
+
+	private static final String VIEW_ID = "org.eclipse.ui.tests.markerTests";
+
+	private static final String ERRORS_FILTER_ID = "org.eclipse.ui.ide.errorsFilter";
+
+	private static final long TIMEOUT = 10000;
+
+	private IProject project;
+
+	private IFile file;
+
+	private MarkersTestMarkersView view;
+
+	public MarkersViewIncrementalUpdateTest() {
+		super(MarkersViewIncrementalUpdateTest.class.getSimpleName());
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(getClass().getSimpleName());
+		if (!project.exists()) {
+			project.create(null);
+		}
+		if (!project.isOpen()) {
+			project.open(null);
+		}
+		file = project.getFile("file.txt");
+		if (!file.exists()) {
+			file.create(new byte[0], true, null);
+		}
+		view = (MarkersTestMarkersView) fWorkbench.getActiveWorkbenchWindow().getActivePage().showView(VIEW_ID);
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		view.disableAllFilters();
+		if (project.exists()) {
+			project.delete(true, null);
+		}
+		super.doTearDown();
+	}
+
+	@Test
+	public void testAddRemoveAndChange() throws Exception {
+		IMarker first = createMarker(IMarker.SEVERITY_ERROR, "first");
+		IMarker second = createMarker(IMarker.SEVERITY_ERROR, "second");
+		waitFor(categories -> categories.containsKey(first) && categories.containsKey(second));
+
+		second.delete();
+		waitFor(categories -> !categories.containsKey(second));
+		assertTrue(view.getCurrentCategories().containsKey(first));
+
+		IMarker third = createMarker(IMarker.SEVERITY_ERROR, "third");
+		waitFor(categories -> categories.containsKey(third));
+		assertTrue(view.getCurrentCategories().containsKey(first));
+		assertFalse(view.getCurrentCategories().containsKey(second));
+
+		first.setAttribute(IMarker.MESSAGE, "changed");
+		assertTrue("Marker change not shown", DisplayHelper.waitForCondition(Display.getCurrent(), TIMEOUT,
+				() -> "changed".equals(view.getCurrentMessages().get(first))));
+		assertTrue(view.getCurrentCategories().containsKey(third));
+	}
+
+	@Test
+	public void testChangeMovesBetweenCategories() throws Exception {
+		IMarker error = createMarker(IMarker.SEVERITY_ERROR, "error");
+		IMarker warning = createMarker(IMarker.SEVERITY_WARNING, "warning");
+		IMarker moving = createMarker(IMarker.SEVERITY_ERROR, "moving");
+		waitFor(categories -> categories.containsKey(error) && categories.containsKey(warning)
+				&& categories.containsKey(moving));
+		Map<IMarker, String> categories = view.getCurrentCategories();
+		assertFalse("Markers not grouped by severity", Objects.equals(categories.get(error), categories.get(warning)));
+		assertEquals(categories.get(error), categories.get(moving));
+
+		moving.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+		waitFor(current -> Objects.equals(current.get(warning), current.get(moving)));
+		categories = view.getCurrentCategories();
+		assertFalse(Objects.equals(categories.get(error), categories.get(moving)));
+		assertTrue(categories.containsKey(error));
+
+		moving.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+		waitFor(current -> Objects.equals(current.get(error), current.get(moving)));
+		assertTrue(view.getCurrentCategories().containsKey(warning));
+	}
+
+	@Test
+	public void testAddedMarkersSorted() throws Exception {
+		List<IMarker> markers = new ArrayList<>();
+		for (String message : new String[] { "m2", "m6", "m4" }) {
+			markers.add(createMarker(IMarker.SEVERITY_ERROR, message));
+		}
+		waitFor(categories -> categories.keySet().containsAll(markers));
+
+		// merged into the sorted markers before, between and after them
+		for (String message : new String[] { "m5", "m1", "m7", "m3" }) {
+			markers.add(createMarker(IMarker.SEVERITY_ERROR, message));
+		}
+		waitFor(categories -> categories.keySet().containsAll(markers));
+		markers.get(1).delete();
+		waitFor(categories -> !categories.containsKey(markers.get(1)));
+
+		List<String> messages = view.getCurrentMessageOrder();
+		List<String> ascending = new ArrayList<>(messages);
+		Collections.sort(ascending);
+		List<String> descending = new ArrayList<>(ascending);
+		Collections.reverse(descending);
+		assertEquals(List.of("m1", "m2", "m3", "m4", "m5", "m7"), ascending);
+		assertTrue("Markers not sorted: " + messages, messages.equals(ascending) || messages.equals(descending));
+	}
+
+	@Test
+	public void testFilteredMarkers() throws Exception {
+		view.toggleFilter(ERRORS_FILTER_ID);
+		IMarker error = createMarker(IMarker.SEVERITY_ERROR, "error");
+		IMarker warning = createMarker(IMarker.SEVERITY_WARNING, "warning");
+		waitFor(categories -> categories.containsKey(error));
+		assertFalse("Filtered marker shown", view.getCurrentCategories().containsKey(warning));
+
+		// a change to a marker which is not shown selects it again
+		warning.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+		waitFor(categories -> categories.containsKey(warning));
+
+		// a marker which does not pass the filters anymore goes away
+		error.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+		waitFor(categories -> !categories.containsKey(error));
+		assertTrue(view.getCurrentCategories().containsKey(warning));
+
+		view.disableAllFilters();
+		waitFor(categories -> categories.containsKey(error) && categories.containsKey(warning));
+	}
+
+	private IMarker createMarker(int severity, String message) throws CoreException {
+		IMarker marker = file.createMarker(IMarker.PROBLEM);
+		marker.setAttribute(IMarker.SEVERITY, severity);
+		marker.setAttribute(IMarker.MESSAGE, message);
+		return marker;
+	}
+
+	private void waitFor(Predicate<Map<IMarker, String>> condition) {
+		assertTrue("Markers view not updated", DisplayHelper.waitForCondition(Display.getCurrent(), TIMEOUT,
+				() -> condition.test(view.getCurrentCategories())));
+	}
+}
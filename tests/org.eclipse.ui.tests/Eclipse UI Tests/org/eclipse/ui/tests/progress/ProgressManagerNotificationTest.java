@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.progress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.ui.internal.progress.FinishedJobs;
+import org.eclipse.ui.internal.progress.JobInfo;
+import org.eclipse.ui.internal.progress.ProgressManager;
+import org.eclipse.ui.progress.IProgressConstants;
+import org.eclipse.ui.tests.harness.util.TestRunLogUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+
+/**
+ * Tests the notifications the {@link ProgressManager} sends to its listeners.
+ * The tests send the notifications themselves, the UI thread does not get to
+ * send them meanwhile. The listeners are internal to the progress package, so
+ * the listener is a proxy added by reflection.
+ */
+public class ProgressManagerNotificationTest {
+	@Rule
+	public TestWatcher LOG_TESTRUN = TestRunLogUtil.LOG_TESTRUN;
+
+	private static final String ADD = "add";
+	private static final String REFRESH = "refresh";
+	private static final String REMOVE = "remove";
+
+	private static final long TIMEOUT = 60000;
+
+	/** The notifications of every job, in the order they were sent. */
+	private final Map<Job, List<String>> notifications = new ConcurrentHashMap<>();
+
+	private final InvocationHandler listenerHandler = (proxy, method, args) -> {
+		switch (method.getName()) {
+		case "addJob":
+			record((JobInfo) args[0], ADD);
+			return null;
+		case "refreshJobInfo":
+			record((JobInfo) args[0], REFRESH);
+			return null;
+		case "removeJob":
+			record((JobInfo) args[0], REMOVE);
+			return null;
+		case "showsDebug":
+			// shows the system jobs
+			return Boolean.TRUE;
+		case "equals":
+			return Boolean.valueOf(proxy == args[0]);
+		case "hashCode":
+			return Integer.valueOf(System.identityHashCode(proxy));
+		case "toString":
+			return "ProgressManagerNotificationTest listener";
+		default:
+			return null;
+		}
+	};
+
+	private Class<?> listenerClass;
+
+	private Object listener;
+
+	private void record(JobInfo info, String notification) {
+		notifications.computeIfAbsent(info.getJob(), job -> Collections.synchronizedList(new ArrayList<>()))
+				.add(notification);
+	}
+
+	/**
+	 * Schedules the job. The returned latch is released once the listeners of
+	 * the job manager, the progress manager among them, were told the job is
+	 * done, as the listeners of the job are told last.
+	 */
+	private static CountDownLatch scheduleWithDoneLatch(Job job) {
+		CountDownLatch done = new CountDownLatch(1);
+		job.addJobChangeListener(new JobChangeAdapter() {
+			@Override
+			public void done(IJobChangeEvent event) {
+				done.countDown();
+			}
+		});
+		job.schedule();
+		return done;
+	}
+
+	private ProgressManager getManager() {
+		return ProgressManager.getInstance();
+	}
+
+	private void invokeManager(String methodName) throws ReflectiveOperationException {
+		Method method = ProgressManager.class.getDeclaredMethod(methodName, listenerClass);
+		method.setAccessible(true);
+		method.invoke(getManager(), listener);
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		listenerClass = Class.forName(ProgressManager.class.getPackageName() + ".IJobProgressManagerListener", true,
+				ProgressManager.class.getClassLoader());
+		listener = Proxy.newProxyInstance(ProgressManager.class.getClassLoader(), new Class<?>[] { listenerClass },
+				listenerHandler);
+		getManager().notifyListeners();
+		invokeManager("addListener");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		invokeManager("removeListener");
+		FinishedJobs.getInstance().clearAll();
+	}
+
+	@Test
+	public void testShortSystemJobNotSent() throws Exception {
+		long collapsed = getManager().getCollapsedJobCount();
+		Job job = Job.create("testShortSystemJobNotSent", monitor -> Status.OK_STATUS);
+		job.setSystem(true);
+		CountDownLatch done = scheduleWithDoneLatch(job);
+		assertTrue(done.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+		getManager().notifyListeners();
+
+		assertNull(notifications.get(job));
+		assertEquals(collapsed + 1, getManager().getCollapsedJobCount());
+	}
+
+	@Test
+	public void testSystemJobSentWhenNotifiedWhileRunning() throws Exception {
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Job job = Job.create("testSystemJobSentWhenNotifiedWhileRunning", monitor -> {
+			running.countDown();
+			try {
+				release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return Status.OK_STATUS;
+		});
+		job.setSystem(true);
+		CountDownLatch done = scheduleWithDoneLatch(job);
+		assertTrue(running.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		getManager().notifyListeners();
+		assertEquals(ADD, notifications.get(job).get(0));
+
+		release.countDown();
+		assertTrue(done.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		getManager().notifyListeners();
+
+		List<String> sent = notifications.get(job);
+		assertEquals(REMOVE, sent.get(sent.size() - 1));
+	}
+
+	@Test
+	public void testKeptSystemJobSent() throws Exception {
+		Job job = Job.create("testKeptSystemJobSent", monitor -> Status.OK_STATUS);
+		job.setSystem(true);
+		job.setProperty(IProgressConstants.KEEP_PROPERTY, Boolean.TRUE);
+		CountDownLatch done = scheduleWithDoneLatch(job);
+		assertTrue(done.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+		getManager().notifyListeners();
+
+		List<String> sent = notifications.get(job);
+		assertEquals(ADD, sent.get(0));
+		assertEquals(REMOVE, sent.get(sent.size() - 1));
+	}
+
+	/**
+	 * Jobs are scheduled, updated and done while the notifications are sent, so
+	 * that changes arrive while the pending changes are drained. Every job is
+	 * sent as added before any of its updates and its removal.
+	 */
+	@Test
+	public void testAdditionSentBeforeUpdateAndRemoval() throws Exception {
+		int jobCount = 2000;
+		CountDownLatch remaining = new CountDownLatch(jobCount);
+		List<Job> jobs = new ArrayList<>();
+		Thread scheduler = new Thread(() -> {
+			for (int i = 0; i < jobCount; i++) {
+				Job job = Job.create("testAdditionSentBeforeUpdateAndRemoval" + i, monitor -> {
+					monitor.beginTask("", 10);
+					for (int j = 0; j < 10; j++) {
+						monitor.worked(1);
+					}
+					monitor.done();
+				});
+				synchronized (jobs) {
+					jobs.add(job);
+				}
+				job.addJobChangeListener(new JobChangeAdapter() {
+					@Override
+					public void done(IJobChangeEvent event) {
+						remaining.countDown();
+					}
+				});
+				job.schedule();
+			}
+		});
+		scheduler.start();
+		long end = System.currentTimeMillis() + TIMEOUT;
+		while (remaining.getCount() > 0 && System.currentTimeMillis() < end) {
+			getManager().notifyListeners();
+		}
+		scheduler.join(TIMEOUT);
+		getManager().notifyListeners();
+
+		assertEquals(0, remaining.getCount());
+		for (Job job : jobs) {
+			List<String> sent = notifications.get(job);
+			assertTrue(job.getName() + " not sent", sent != null);
+			assertEquals(job.getName() + " " + sent, ADD, sent.get(0));
+			assertEquals(job.getName() + " " + sent, REMOVE, sent.get(sent.size() - 1));
+			assertEquals(job.getName() + " " + sent, 1, Collections.frequency(sent, ADD));
+			assertEquals(job.getName() + " " + sent, 1, Collections.frequency(sent, REMOVE));
+		}
+	}
+}
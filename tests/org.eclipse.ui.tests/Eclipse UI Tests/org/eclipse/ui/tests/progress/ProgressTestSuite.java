@@ -32,6 +32,7 @@ import org.junit.runners.Suite;
 	JobInfoTest.class,
 	JobInfoTestOrdering.class,
 	ProgressAnimationItemTest.class,
+	ProgressManagerNotificationTest.class,
 	AccumulatingProgressMonitorTest.class
 })
 public class ProgressTestSuite {
@@ -0,0 +1,345 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     agent <agent@local> - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.internal.views.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.ui.IMemento;
+import org.eclipse.ui.XMLMemento;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the index of the log file and the selection of the entries the log
+ * view reads through it.
+ */
+public class LogIndexTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = folder.newFile("test.log");
+	}
+
+	@Test
+	public void testAppend() throws IOException {
+		String first = session("2023-01-01") + entry(IStatus.ERROR, "one");
+		write(first);
+		LogIndex index = LogIndex.getIndex(file, 0);
+		assertEquals(2, index.getRecordCount());
+		assertTrue(index.isSession(0));
+		assertEquals(IStatus.ERROR, index.getSeverity(1));
+
+		// a line without its line delimiter is not indexed yet
+		String second = entry(IStatus.WARNING, "two");
+		int split = second.indexOf(' ', 8);
+		append(second.substring(0, split));
+		assertEquals(2, LogIndex.getIndex(file, 0).getRecordCount());
+
+		append(second.substring(split));
+		index = LogIndex.getIndex(file, 0);
+		assertEquals(3, index.getRecordCount());
+		assertEquals(first.length(), index.getOffset(2));
+		assertEquals(IStatus.WARNING, index.getSeverity(2));
+		assertEquals(0, index.getSessionRecord(2));
+		assertEquals(file.length(), index.getEnd(2, file.length()));
+
+		// the index of a large file is extended as well
+		StringBuilder more = new StringBuilder();
+		while (file.length() + more.length() < 4096) {
+			more.append(entry(IStatus.INFO, "more"));
+		}
+		append(more.toString());
+		index = LogIndex.getIndex(file, 0);
+		assertEquals(IStatus.ERROR, index.getSeverity(1));
+		assertEquals(IStatus.WARNING, index.getSeverity(2));
+		assertEquals(IStatus.INFO, index.getSeverity(index.getRecordCount() - 1));
+		append(entry(IStatus.ERROR, "last"));
+		index = LogIndex.getIndex(file, 0);
+		assertEquals(IStatus.ERROR, index.getSeverity(index.getRecordCount() - 1));
+		assertEquals(IStatus.WARNING, index.getSeverity(2));
+	}
+
+	@Test
+	public void testTruncated() throws IOException {
+		write(session("2023-01-01") + entry(IStatus.ERROR, "one") + entry(IStatus.ERROR, "two"));
+		assertEquals(3, LogIndex.getIndex(file, 0).getRecordCount());
+
+		write(session("2023-01-01") + entry(IStatus.ERROR, "one"));
+		assertEquals(2, LogIndex.getIndex(file, 0).getRecordCount());
+
+		write("");
+		assertEquals(0, LogIndex.getIndex(file, 0).getRecordCount());
+		write(entry(IStatus.INFO, "new"));
+		LogIndex index = LogIndex.getIndex(file, 0);
+		assertEquals(1, index.getRecordCount());
+		assertEquals(IStatus.INFO, index.getSeverity(0));
+	}
+
+	@Test
+	public void testRotated() throws IOException {
+		write(session("2023-01-01") + entries(IStatus.ERROR, 40));
+		LogIndex index = LogIndex.getIndex(file, 0);
+		assertEquals(41, index.getRecordCount());
+		assertTrue(file.length() > 1024);
+
+		// same length, only the first bytes tell the file was replaced
+		String rotated = session("2023-01-02") + entries(IStatus.WARNING, 40);
+		assertEquals(file.length(), rotated.length());
+		write(rotated);
+		index = LogIndex.getIndex(file, 0);
+		assertEquals(41, index.getRecordCount());
+		for (int i = 1; i < 41; i++) {
+			assertEquals(IStatus.WARNING, index.getSeverity(i));
+		}
+
+		// longer
+		write(session("2023-01-03") + entries(IStatus.INFO, 50));
+		index = LogIndex.getIndex(file, 0);
+		assertEquals(51, index.getRecordCount());
+		for (int i = 1; i < 51; i++) {
+			assertEquals(IStatus.INFO, index.getSeverity(i));
+		}
+
+		// a small file replaced by one of the same length
+		write(session("2023-01-01") + entry(IStatus.ERROR, "small"));
+		assertEquals(IStatus.ERROR, LogIndex.getIndex(file, 0).getSeverity(1));
+		write(session("2023-01-01") + entry(IStatus.WARNING, "small"));
+		assertEquals(IStatus.WARNING, LogIndex.getIndex(file, 0).getSeverity(1));
+	}
+
+	@Test
+	public void testRanges() throws IOException {
+		write("0123456789abcdefghij");
+		LogIndex index = LogIndex.getIndex(file, 0);
+		assertEquals("", readRanges(index, new long[0]));
+		assertEquals("0123456789abcdefghij", readRanges(index, new long[] { 0, 20 }));
+		assertEquals("23456", readRanges(index, new long[] { 2, 5, 5, 7 }));
+		assertEquals("23cdefghij", readRanges(index, new long[] { 2, 4, 6, 6, 12, 20 }));
+		assertEquals("0j", readRanges(index, new long[] { 0, 1, 19, 20 }));
+
+		// byte by byte across the ranges
+		try (InputStream in = index.openRanges(new long[] { 1, 3, 8, 9 })) {
+			assertEquals('1', in.read());
+			assertEquals('2', in.read());
+			assertEquals('8', in.read());
+			assertEquals(-1, in.read());
+			assertEquals(-1, in.read());
+		}
+
+		// a range beyond the end of a truncated file
+		assertEquals("fghij", readRanges(index, new long[] { 15, 30, 40, 50 }));
+	}
+
+	@Test
+	public void testSelectRanges() throws IOException {
+		List<String> records = List.of(session("2023-01-01"), entry(IStatus.ERROR, "e1"),
+				entry(IStatus.WARNING, "w1"), session("2023-01-02"), entry(IStatus.ERROR, "e2"),
+				entry(IStatus.INFO, "i2"), entry(IStatus.WARNING, "w2"));
+		write(String.join("", records));
+		assertEquals(3, LogIndex.getIndex(file, 0).getCurrentSessionRecord());
+
+		IMemento memento = createMemento();
+		assertEquals(List.of("2023-01-02", "e2", "i2", "w2"), select(file.length(), memento, false));
+
+		memento.putString(LogView.P_SHOW_ALL_SESSIONS, "true");
+		assertEquals(List.of("2023-01-01", "e1", "w1", "2023-01-02", "e2", "i2", "w2"),
+				select(file.length(), memento, false));
+
+		// severities
+		memento.putString(LogView.P_LOG_INFO, "false");
+		memento.putString(LogView.P_LOG_ERROR, "false");
+		assertEquals(List.of("2023-01-01", "w1", "2023-01-02", "w2"), select(file.length(), memento, false));
+		memento.putString(LogView.P_LOG_INFO, "true");
+		memento.putString(LogView.P_LOG_ERROR, "true");
+
+		// the last entries up to the limit
+		memento.putString(LogView.P_USE_LIMIT, "true");
+		memento.putInteger(LogView.P_LOG_LIMIT, 4);
+		assertEquals(List.of("2023-01-01", "w1", "2023-01-02", "e2", "i2", "w2"),
+				select(file.length(), memento, false));
+		memento.putInteger(LogView.P_LOG_LIMIT, 2);
+		assertEquals(List.of("2023-01-02", "i2", "w2"), select(file.length(), memento, false));
+		memento.putString(LogView.P_USE_LIMIT, "false");
+
+		// the entries starting within the tail of the file, with the sessions
+		// within the tail
+		long w2 = file.length() - records.get(6).length();
+		long i2 = w2 - records.get(5).length();
+		long session2 = i2 - records.get(4).length() - records.get(3).length();
+		assertEquals(List.of("w2"), select(file.length() - w2, memento, true));
+		assertEquals(List.of("w2"), select(file.length() - w2 + 1, memento, true));
+		assertEquals(List.of("i2", "w2"), select(file.length() - i2, memento, true));
+		assertEquals(List.of(), select(file.length() - w2 - 1, memento, true));
+		assertEquals(List.of("2023-01-02", "e2", "i2", "w2"), select(file.length() - session2, memento, true));
+		assertEquals(List.of("2023-01-01", "e1", "w1", "2023-01-02", "e2", "i2", "w2"),
+				select(file.length(), memento, false));
+	}
+
+	@Test
+	public void testTail() throws IOException {
+		String first = session("2023-01-01") + entries(IStatus.ERROR, 10);
+		String second = session("2023-01-02") + entries(IStatus.WARNING, 10);
+		write(first + second);
+
+		// the tail starts within the first line of the second session
+		LogIndex index = LogIndex.getIndex(file, first.length() + 1);
+		assertEquals(10, index.getRecordCount());
+		assertEquals(first.length() + session("2023-01-02").length(), index.getOffset(0));
+		assertEquals(-1, index.getCurrentSessionRecord());
+		assertEquals(-1, index.getSessionRecord(9));
+
+		// a larger tail is indexed again
+		index = LogIndex.getIndex(file, first.length());
+		assertEquals(11, index.getRecordCount());
+		assertEquals(0, index.getCurrentSessionRecord());
+		assertEquals(0, index.getSessionRecord(10));
+
+		// the records which fell out of the tail are dropped
+		assertEquals(22, LogIndex.getIndex(file, 0).getRecordCount());
+		index = LogIndex.getIndex(file, first.length());
+		assertEquals(11, index.getRecordCount());
+		assertEquals(first.length(), index.getOffset(0));
+		assertTrue(index.isSession(0));
+		assertEquals(0, index.getCurrentSessionRecord());
+		assertEquals(0, index.getSessionRecord(10));
+		assertEquals(IStatus.WARNING, index.getSeverity(10));
+
+		// the appended records only
+		String last = entry(IStatus.INFO, "last");
+		append(last);
+		index = LogIndex.getIndex(file, file.length() - last.length());
+		assertEquals(1, index.getRecordCount());
+		assertEquals(IStatus.INFO, index.getSeverity(0));
+		assertEquals(-1, index.getSessionRecord(0));
+	}
+
+	@Test
+	public void testParseLogFile() throws IOException {
+		write(session("2023-01-01") + entry(IStatus.ERROR, "e1") + session("2023-01-02")
+				+ entry(IStatus.WARNING, "w2") + entry(IStatus.INFO, "i2"));
+		List<LogEntry> entries = new ArrayList<>();
+		IMemento memento = createMemento();
+		memento.putString(LogView.P_LOG_INFO, "false");
+		LogReader.parseLogFile(file, entries, memento);
+		assertEquals(1, entries.size());
+		assertEquals("w2", entries.get(0).getMessage());
+		assertEquals(IStatus.WARNING, entries.get(0).getSeverity());
+	}
+
+	@Test
+	public void testIndexesBounded() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			File other = folder.newFile("other" + i + ".log");
+			Files.write(other.toPath(), entry(IStatus.ERROR, "other").getBytes(StandardCharsets.US_ASCII));
+			assertEquals(1, LogIndex.getIndex(other, 0).getRecordCount());
+		}
+		Field field = LogIndex.class.getDeclaredField("indexes");
+		field.setAccessible(true);
+		Map<?, ?> indexes = (Map<?, ?>) field.get(null);
+		synchronized (indexes) {
+			assertTrue(indexes.size() < 10);
+			assertTrue(indexes.containsKey(new File(folder.getRoot(), "other9.log").getAbsoluteFile()));
+			assertFalse(indexes.containsKey(new File(folder.getRoot(), "other0.log").getAbsoluteFile()));
+		}
+
+		// a dropped index is loaded again
+		assertEquals(1, LogIndex.getIndex(new File(folder.getRoot(), "other0.log"), 0).getRecordCount());
+	}
+
+	private static IMemento createMemento() {
+		IMemento memento = XMLMemento.createWriteRoot("logView");
+		memento.putString(LogView.P_LOG_OK, "true");
+		memento.putString(LogView.P_LOG_INFO, "true");
+		memento.putString(LogView.P_LOG_WARNING, "true");
+		memento.putString(LogView.P_LOG_ERROR, "true");
+		memento.putString(LogView.P_SHOW_ALL_SESSIONS, "false");
+		memento.putString(LogView.P_USE_LIMIT, "false");
+		memento.putInteger(LogView.P_LOG_LIMIT, 50);
+		return memento;
+	}
+
+	/**
+	 * Returns the dates of the sessions and the messages of the entries
+	 * selected.
+	 */
+	private List<String> select(long maxTailSize, IMemento memento, boolean truncated) throws IOException {
+		LogIndex index = LogIndex.getIndex(file, Math.max(file.length() - maxTailSize, 0));
+		boolean[] wasTruncated = new boolean[1];
+		String text = readRanges(index,
+				LogReader.selectRanges(index, file.length(), maxTailSize, memento, wasTruncated));
+		assertEquals(Boolean.valueOf(truncated), Boolean.valueOf(wasTruncated[0]));
+		List<String> result = new ArrayList<>();
+		for (String line : text.split("\n")) {
+			if (line.startsWith("!SESSION ")) {
+				result.add(line.substring(9, 19));
+			} else if (line.startsWith("!MESSAGE ")) {
+				result.add(line.substring(9));
+			}
+		}
+		return result;
+	}
+
+	private static String readRanges(LogIndex index, long[] ranges) throws IOException {
+		try (InputStream in = index.openRanges(ranges)) {
+			return new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+		}
+	}
+
+	private static String session(String date) {
+		return "!SESSION " + date + " 10:00:00.000 -----------------------------------------------\n"
+				+ "eclipse.buildId=test\n";
+	}
+
+	private static String entry(int severity, String message) {
+		return "!ENTRY org.eclipse.ui.tests " + severity + " 0 2023-01-01 10:00:00.000\n!MESSAGE " + message + "\n";
+	}
+
+	private static String entries(int severity, int count) {
+		StringBuilder entries = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			entries.append(entry(severity, "message " + (char) ('a' + i % 26)));
+		}
+		return entries.toString();
+	}
+
+	private void write(String content) throws IOException {
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	private void append(String content) throws IOException {
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.US_ASCII), StandardOpenOption.APPEND);
+	}
+}